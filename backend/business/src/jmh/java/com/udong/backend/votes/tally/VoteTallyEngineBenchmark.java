@@ -0,0 +1,95 @@
+package com.udong.backend.votes.tally;
+
+import com.udong.backend.votes.entity.VoteTallyMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 투표지가 ballots 장 쌓인 투표에서 새 투표지 반영 + 결과 조회(증분) 와 처음부터 다시 세기(recount) 비교
+ *
+ * - 측정 한 번 = BATCH 회 호출. 엔진은 측정마다 ballots 장으로 다시 채우므로 증분 쪽도 ballots ~ ballots + BATCH 장 구간에서 잰다.
+ * - 실행: ./gradlew jmh (결과는 build/results/jmh)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = VoteTallyEngineBenchmark.BATCH)
+@Measurement(iterations = 10, batchSize = VoteTallyEngineBenchmark.BATCH)
+@Fork(1)
+public class VoteTallyEngineBenchmark {
+
+    private static final List<Integer> OPTIONS = List.of(11, 12, 13, 14, 15, 16, 17, 18);
+    static final int BATCH = 1000;
+
+    @Param({"WEIGHTED", "APPROVAL", "SCORE", "RANKED"})
+    public VoteTallyMode mode;
+
+    @Param({"10000"})
+    public int ballots;
+
+    private List<Map<Integer, Integer>> extra;
+    private VoteTallyEngine engine;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void fill() {
+        Random random = new Random(42);
+        engine = new VoteTallyEngine(mode, OPTIONS);
+        for (int i = 0; i < ballots; i++) {
+            engine.addBallot(randomBallot(mode, random));
+        }
+
+        extra = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            extra.add(randomBallot(mode, random));
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public TallyResult incremental() {
+        engine.addBallot(extra.get(next++ % BATCH));
+        return engine.snapshot();
+    }
+
+    @Benchmark
+    public TallyResult recount() {
+        return engine.recount();
+    }
+
+    private static Map<Integer, Integer> randomBallot(VoteTallyMode mode, Random random) {
+        List<Integer> shuffled = new ArrayList<>(OPTIONS);
+        Collections.shuffle(shuffled, random);
+        List<Integer> chosen = shuffled.subList(0, 1 + random.nextInt(OPTIONS.size()));
+
+        Map<Integer, Integer> ballot = new LinkedHashMap<>();
+        for (int i = 0; i < chosen.size(); i++) {
+            int value = switch (mode) {
+                case WEIGHTED -> 1 + random.nextInt(3);
+                case APPROVAL -> 1;
+                case SCORE -> 1 + random.nextInt(VoteTallyMode.MAX_SCORE);
+                case RANKED -> i + 1;
+            };
+            ballot.put(chosen.get(i), value);
+        }
+        return ballot;
+    }
+}
@@ -78,6 +78,15 @@ public class ClubduesController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    // 6-1. 전체 회차 납부 현황 조회
+    @GetMapping("/overview")
+    public ResponseEntity<ApiResponse<ClubDuesDtos.DuesOverviewResponse>> getDuesOverview(
+            @PathVariable Integer clubId) {
+
+        ClubDuesDtos.DuesOverviewResponse response = clubDuesService.getDuesOverview(clubId);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
     // 7. 미납자 알림 전송
     @PostMapping("/{duesId}/notify-unpaid")
     public ResponseEntity<ApiResponse<Void>> notifyUnpaidMembers(
@@ -99,15 +108,17 @@ public class ClubduesController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
-    // 9. 회비 결제
+    // 9. 회비 결제 (Idempotency-Key 가 같으면 다시 이체하지 않고 이전 결과를 돌려준다)
     @PostMapping("/{duesId}/pay")
     public ResponseEntity<ApiResponse<ClubDuesDtos.PayDuesResponse>> payDues(
             @PathVariable Integer clubId,
             @PathVariable Integer duesId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody ClubDuesDtos.PayDuesRequest request) {
 
         Integer currentUserId = securityUtils.currentUserId();
-        ClubDuesDtos.PayDuesResponse response = clubDuesService.payDues(clubId, duesId, currentUserId, request);
+        ClubDuesDtos.PayDuesResponse response =
+                clubDuesService.payDues(clubId, duesId, currentUserId, request, idempotencyKey);
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 }
@@ -93,6 +93,24 @@ public class ClubDuesDtos {
             Integer membershipDues
     ) {}
 
+    // 전체 회차 납부 현황 응답 DTO
+    @Builder
+    public record DuesOverviewResponse(
+            Integer totalRounds,
+            List<RoundItem> rounds
+    ) {
+        @Builder
+        public record RoundItem(
+                Integer duesId,
+                Integer duesNo,
+                Integer membershipDues,
+                LocalDateTime createdAt,
+                Integer totalMembers,
+                Integer completedCount,
+                Integer unpaidCount
+        ) {}
+    }
+
     // 현재 사용자의 미납 회비 목록 응답 DTO
     @Builder
     public record MyUnpaidDuesResponse(
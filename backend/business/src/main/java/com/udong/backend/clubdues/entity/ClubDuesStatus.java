@@ -7,7 +7,11 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "club_dues_status")
+@Table(name = "club_dues_status",
+        indexes = {
+                // 회차별 현황/집계: dues_id 로 찾고 상태별로 센다
+                @Index(name = "idx_dues_status_dues_status", columnList = "dues_id, dues_status, user_id")
+        })
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class ClubDuesStatus {
     @Id
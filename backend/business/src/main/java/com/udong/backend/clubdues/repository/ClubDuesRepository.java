@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +20,23 @@ public interface ClubDuesRepository extends JpaRepository<ClubDues, Integer> {
     // 특정 동아리의 최대 차수 조회 (현재 차수 확인용)
     @Query("SELECT COALESCE(MAX(cd.duesNo), 0) FROM ClubDues cd WHERE cd.club.id = :clubId")
     Integer findMaxDuesNoByClubId(@Param("clubId") Integer clubId);
+
+    // 동아리의 모든 회차 납부 현황 (회차별 대상자 수 / 납부 완료자 수를 한 번의 GROUP BY 로)
+    @Query("SELECT cd.id AS duesId, cd.duesNo AS duesNo, cd.membershipDues AS membershipDues, " +
+           "cd.createdAt AS createdAt, COUNT(cds) AS total, " +
+           "COALESCE(SUM(CASE WHEN cds.duesStatus = 1 THEN 1 ELSE 0 END), 0) AS completed " +
+           "FROM ClubDues cd LEFT JOIN ClubDuesStatus cds ON cds.dues = cd " +
+           "WHERE cd.club.id = :clubId " +
+           "GROUP BY cd.id, cd.duesNo, cd.membershipDues, cd.createdAt " +
+           "ORDER BY cd.duesNo DESC")
+    List<RoundOverviewProjection> findOverviewByClubId(@Param("clubId") Integer clubId);
+
+    interface RoundOverviewProjection {
+        Integer getDuesId();
+        Integer getDuesNo();
+        Integer getMembershipDues();
+        LocalDateTime getCreatedAt();
+        long getTotal();
+        long getCompleted();
+    }
 }
\ No newline at end of file
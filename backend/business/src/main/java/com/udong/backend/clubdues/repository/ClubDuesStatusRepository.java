@@ -2,10 +2,14 @@ package com.udong.backend.clubdues.repository;
 
 import com.udong.backend.clubdues.dto.ClubDuesDtos;
 import com.udong.backend.clubdues.entity.ClubDuesStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +18,47 @@ public interface ClubDuesStatusRepository extends JpaRepository<ClubDuesStatus,
     // 특정 회비 요청의 모든 회원 납부 상태 조회
     List<ClubDuesStatus> findByDuesId(Integer duesId);
 
+    // 회차 생성: 동아리 회원 전체의 미납 상태를 한 문장으로 생성
+    @Modifying
+    @Query(value = """
+            INSERT INTO club_dues_status (dues_id, user_id, dues_status, created_at)
+            SELECT :duesId, m.user_id, 0, NOW(6)
+              FROM memberships m
+             WHERE m.club_id = :clubId
+            """, nativeQuery = true)
+    int insertForAllMembers(@Param("duesId") Integer duesId, @Param("clubId") Integer clubId);
+
+    // 회차 생성: 선택한 회원만 (동아리 회원이 아닌 id 는 제외된다)
+    @Modifying
+    @Query(value = """
+            INSERT INTO club_dues_status (dues_id, user_id, dues_status, created_at)
+            SELECT :duesId, m.user_id, 0, NOW(6)
+              FROM memberships m
+             WHERE m.club_id = :clubId
+               AND m.user_id IN (:userIds)
+            """, nativeQuery = true)
+    int insertForMembers(@Param("duesId") Integer duesId,
+                         @Param("clubId") Integer clubId,
+                         @Param("userIds") Collection<Integer> userIds);
+
+    // 특정 회비 요청의 대상 회원 id
+    @Query("SELECT cds.userId FROM ClubDuesStatus cds WHERE cds.dues.id = :duesId")
+    List<Integer> findUserIdsByDuesId(@Param("duesId") Integer duesId);
+
     // 특정 회비 요청의 특정 회원 납부 상태 조회
     Optional<ClubDuesStatus> findByDuesIdAndUserId(Integer duesId, Integer userId);
 
+    // 결제 시작 시 최신 납부 상태 확인용 (잠금 조회)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT cds FROM ClubDuesStatus cds WHERE cds.dues.id = :duesId AND cds.userId = :userId")
+    Optional<ClubDuesStatus> findForUpdate(@Param("duesId") Integer duesId, @Param("userId") Integer userId);
+
+    // 미납 → 납부완료 (이미 납부된 경우 0)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE ClubDuesStatus cds SET cds.duesStatus = 1 " +
+           "WHERE cds.dues.id = :duesId AND cds.userId = :userId AND cds.duesStatus = 0")
+    int markPaid(@Param("duesId") Integer duesId, @Param("userId") Integer userId);
+
     // JOIN 쿼리로 회원 정보와 납부 상태 한번에 조회
     @Query("SELECT new com.udong.backend.clubdues.dto.ClubDuesDtos$MemberPaymentInfo(" +
            "cds.userId, u.name, u.email, cds.duesStatus, cds.createdAt) " +
@@ -26,13 +68,11 @@ public interface ClubDuesStatusRepository extends JpaRepository<ClubDuesStatus,
            "ORDER BY cds.userId")
     List<ClubDuesDtos.MemberPaymentInfo> findMemberPaymentInfoByDuesId(@Param("duesId") Integer duesId);
 
-    // 특정 회비 요청의 납부 완료자 수 조회
-    @Query("SELECT COUNT(cds) FROM ClubDuesStatus cds WHERE cds.dues.id = :duesId AND cds.duesStatus = 1")
-    Long countCompletedByDuesId(@Param("duesId") Integer duesId);
-
-    // 특정 회비 요청의 미납자 수 조회
-    @Query("SELECT COUNT(cds) FROM ClubDuesStatus cds WHERE cds.dues.id = :duesId AND cds.duesStatus = 0")
-    Long countUnpaidByDuesId(@Param("duesId") Integer duesId);
+    // 특정 회비 요청의 대상자 수 / 납부 완료자 수 (한 번의 집계)
+    @Query("SELECT COUNT(cds) AS total, " +
+           "COALESCE(SUM(CASE WHEN cds.duesStatus = 1 THEN 1 ELSE 0 END), 0) AS completed " +
+           "FROM ClubDuesStatus cds WHERE cds.dues.id = :duesId")
+    StatusCountProjection countByDuesId(@Param("duesId") Integer duesId);
 
     // 특정 회비 요청의 미납자 목록 조회
     @Query("SELECT cds FROM ClubDuesStatus cds WHERE cds.dues.id = :duesId AND cds.duesStatus = 0")
@@ -44,4 +84,9 @@ public interface ClubDuesStatusRepository extends JpaRepository<ClubDuesStatus,
            "WHERE cds.userId = :userId AND d.club.id = :clubId AND cds.duesStatus = 0 " +
            "ORDER BY d.duesNo DESC")
     List<ClubDuesStatus> findUnpaidByUserIdAndClubId(@Param("userId") Integer userId, @Param("clubId") Integer clubId);
+
+    interface StatusCountProjection {
+        long getTotal();
+        long getCompleted();
+    }
 }
\ No newline at end of file
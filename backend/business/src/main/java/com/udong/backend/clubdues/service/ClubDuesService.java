@@ -6,27 +6,19 @@ import com.udong.backend.clubdues.entity.ClubDuesStatus;
 import com.udong.backend.clubdues.repository.ClubDuesRepository;
 import com.udong.backend.clubdues.repository.ClubDuesStatusRepository;
 import com.udong.backend.clubs.entity.Club;
-import com.udong.backend.clubs.entity.Membership;
 import com.udong.backend.clubs.repository.ClubRepository;
-import com.udong.backend.clubs.repository.MembershipRepository;
 import com.udong.backend.notification.dto.NotificationRequest;
 import com.udong.backend.notification.service.NotificationService;
-import com.udong.backend.fin.client.FinApiClient;
-import com.udong.backend.fin.dto.FinHeader;
-import com.udong.backend.fin.util.FinHeaderFactory;
 import com.udong.backend.global.config.AccountCrypto;
 import com.udong.backend.users.entity.User;
 import com.udong.backend.users.repository.UserRepository;
-import com.udong.backend.dutchpay.dto.FinTransferRequest;
-import com.udong.backend.dutchpay.dto.FinTransferResponse;
-import com.udong.backend.global.exception.TransferException;
 import com.udong.backend.global.exception.PaymentPasswordException;
-import com.udong.backend.shop.dto.UserPointLedgerRequest;
-import com.udong.backend.shop.service.PointService;
+import com.udong.backend.payment.entity.PaymentTransfer;
+import com.udong.backend.payment.service.PaymentSagaService;
 import com.udong.backend.users.service.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -39,23 +31,12 @@ public class ClubDuesService {
     private final ClubDuesRepository clubDuesRepository;
     private final ClubDuesStatusRepository clubDuesStatusRepository;
     private final ClubRepository clubRepository;
-    private final MembershipRepository membershipRepository;
     private final NotificationService notificationService;
     private final UserRepository userRepository;
     private final AccountCrypto accountCrypto;
-    private final FinApiClient finApiClient;
-    private final PointService pointService;
+    private final PaymentSagaService paymentSagaService;
     private final UserService userService;
 
-    @Value("${finapi.institution-code:00100}")
-    private String institutionCode;
-
-    @Value("${finapi.fintech-app-no:001}")
-    private String fintechAppNo;
-
-    @Value("${finapi.api-key}")
-    private String apiKey;
-
     // 1. 새로운 회비 요청 생성
     @Transactional
     public ClubDuesDtos.CreateDuesResponse createDues(Integer clubId, ClubDuesDtos.CreateDuesRequest request, Integer currentUserId) {
@@ -75,48 +56,28 @@ public class ClubDuesService {
 
         ClubDues savedDues = clubDuesRepository.save(clubDues);
 
-        // 대상 회원들에 대해 미납 상태 생성
-        List<Integer> targetUserIds;
+        // 대상 회원들의 미납 상태를 memberships 에서 바로 생성 (INSERT ... SELECT 한 문장)
         if (request.selectedUserIds() != null && !request.selectedUserIds().isEmpty()) {
             // 선택된 회원들만
-            targetUserIds = request.selectedUserIds();
+            clubDuesStatusRepository.insertForMembers(savedDues.getId(), clubId, request.selectedUserIds());
         } else {
             // 전체 동아리 회원
-            List<Membership> members = membershipRepository.findByClubId(clubId);
-            targetUserIds = members.stream()
-                    .map(Membership::getUserId)
-                    .toList();
+            clubDuesStatusRepository.insertForAllMembers(savedDues.getId(), clubId);
         }
 
-        List<ClubDuesStatus> statusList = targetUserIds.stream()
-                .map(userId -> ClubDuesStatus.builder()
-                        .dues(savedDues)
-                        .userId(userId)
-                        .duesStatus((byte) 0) // 0: 미납
-                        .build())
+        // 알림 1건 + 팬아웃 작업 1건을 회차와 같은 트랜잭션에 저장 (수신자별 발송은 커밋 후 NotificationFanoutWorker)
+        List<Long> recipientUserIds = clubDuesStatusRepository.findUserIdsByDuesId(savedDues.getId()).stream()
+                .map(Integer::longValue)
                 .toList();
-
-        clubDuesStatusRepository.saveAll(statusList);
-
-        // 알림 전송
-        try {
-            List<Long> recipientUserIds = targetUserIds.stream()
-                    .map(Integer::longValue)
-                    .toList();
-
-            NotificationRequest notificationRequest = NotificationRequest.builder()
+        if (!recipientUserIds.isEmpty()) {
+            notificationService.createAndSendNotification(NotificationRequest.builder()
                     .recipientUserIds(recipientUserIds)
                     .createdBy(currentUserId.longValue())
-                    .payload(String.format("새로운 회비 요청이 생성되었습니다. 금액: %,d원", request.membershipDues()))
+                    .payload(String.format("새로운 회비 요청이 생성되었습니다. 금액: %,d원", savedDues.getMembershipDues()))
                     .type("DUE_OPEN")
                     .targetId(savedDues.getId().longValue())
                     .clubId(clubId.longValue())
-                    .build();
-
-            notificationService.createAndSendNotification(notificationRequest);
-        } catch (Exception e) {
-            // 알림 전송 실패 시 전체 트랜잭션 롤백
-            throw new RuntimeException("알림 전송 중 오류가 발생했습니다: " + e.getMessage(), e);
+                    .build());
         }
 
         return ClubDuesDtos.CreateDuesResponse.builder()
@@ -155,9 +116,11 @@ public class ClubDuesService {
         List<ClubDuesDtos.MemberPaymentInfo> memberPaymentInfos =
                 clubDuesStatusRepository.findMemberPaymentInfoByDuesId(clubDues.getId());
 
-        // 통계 계산
-        long completedCount = clubDuesStatusRepository.countCompletedByDuesId(clubDues.getId());
-        long unpaidCount = clubDuesStatusRepository.countUnpaidByDuesId(clubDues.getId());
+        // 통계 계산 (조회한 회원 목록에 상태가 함께 있으므로 다시 세지 않는다)
+        int completedCount = (int) memberPaymentInfos.stream()
+                .filter(info -> info.paymentStatus() != null && info.paymentStatus() == 1)
+                .count();
+        int unpaidCount = memberPaymentInfos.size() - completedCount;
 
         // 회원 상태 정보 매핑
         List<ClubDuesDtos.DuesStatusResponse.MemberStatusItem> memberStatuses = memberPaymentInfos.stream()
@@ -176,8 +139,8 @@ public class ClubDuesService {
                 .membershipDues(clubDues.getMembershipDues())
                 .createdAt(clubDues.getCreatedAt())
                 .totalMembers(memberPaymentInfos.size())
-                .completedCount((int) completedCount)
-                .unpaidCount((int) unpaidCount)
+                .completedCount(completedCount)
+                .unpaidCount(unpaidCount)
                 .memberStatuses(memberStatuses)
                 .build();
     }
@@ -226,20 +189,40 @@ public class ClubDuesService {
         ClubDues clubDues = clubDuesRepository.findById(duesId)
                 .orElseThrow(() -> new RuntimeException("Dues not found"));
 
-        long completedCount = clubDuesStatusRepository.countCompletedByDuesId(duesId);
-        long unpaidCount = clubDuesStatusRepository.countUnpaidByDuesId(duesId);
-        int totalMembers = (int) (completedCount + unpaidCount);
+        ClubDuesStatusRepository.StatusCountProjection counts = clubDuesStatusRepository.countByDuesId(duesId);
+        int totalMembers = (int) counts.getTotal();
+        int completedCount = (int) counts.getCompleted();
 
         return ClubDuesDtos.DuesSummaryResponse.builder()
                 .duesId(clubDues.getId())
                 .duesNo(clubDues.getDuesNo())
                 .totalMembers(totalMembers)
-                .completedCount((int) completedCount)
-                .unpaidCount((int) unpaidCount)
+                .completedCount(completedCount)
+                .unpaidCount(totalMembers - completedCount)
                 .membershipDues(clubDues.getMembershipDues())
                 .build();
     }
 
+    // 6-1. 전체 회차 납부 현황 (회차별 집계를 한 번의 쿼리로)
+    public ClubDuesDtos.DuesOverviewResponse getDuesOverview(Integer clubId) {
+        List<ClubDuesDtos.DuesOverviewResponse.RoundItem> rounds = clubDuesRepository.findOverviewByClubId(clubId).stream()
+                .map(row -> ClubDuesDtos.DuesOverviewResponse.RoundItem.builder()
+                        .duesId(row.getDuesId())
+                        .duesNo(row.getDuesNo())
+                        .membershipDues(row.getMembershipDues())
+                        .createdAt(row.getCreatedAt())
+                        .totalMembers((int) row.getTotal())
+                        .completedCount((int) row.getCompleted())
+                        .unpaidCount((int) (row.getTotal() - row.getCompleted()))
+                        .build())
+                .toList();
+
+        return ClubDuesDtos.DuesOverviewResponse.builder()
+                .totalRounds(rounds.size())
+                .rounds(rounds)
+                .build();
+    }
+
     // 7. 미납자 알림 전송
     @Transactional
     public void notifyUnpaidMembers(Integer clubId, Integer duesId, Integer currentUserId) {
@@ -301,8 +284,10 @@ public class ClubDuesService {
     }
 
     // 9. 회비 결제
-    @Transactional
-    public ClubDuesDtos.PayDuesResponse payDues(Integer clubId, Integer duesId, Integer currentUserId, ClubDuesDtos.PayDuesRequest request) {
+    // 이체는 DB 트랜잭션 밖에서 결제 사가로 처리한다 (PENDING 기록 → 이체 → 조건부 완료)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ClubDuesDtos.PayDuesResponse payDues(Integer clubId, Integer duesId, Integer currentUserId,
+                                                ClubDuesDtos.PayDuesRequest request, String idempotencyKey) {
         // 0) 결제 비밀번호 검증
         if (request.paymentPassword() == null || request.paymentPassword().trim().isEmpty()) {
             throw new PaymentPasswordException("결제 비밀번호를 입력해주세요.");
@@ -313,12 +298,9 @@ public class ClubDuesService {
             throw new PaymentPasswordException("결제 비밀번호가 올바르지 않습니다.");
         }
 
-        // 1) 회비 정보 조회
-        ClubDuesStatus duesStatus = clubDuesStatusRepository.findByDuesIdAndUserId(duesId, currentUserId)
-                .orElseThrow(() -> new RuntimeException("회비 납부 정보를 찾을 수 없습니다."));
-
-        if (duesStatus.getDuesStatus() == 1) {
-            throw new RuntimeException("이미 납부 완료된 회비입니다.");
+        // 1) 회비 정보 조회 (납부 완료 여부는 사가가 진행 중 잠금을 잡은 뒤 확인한다)
+        if (clubDuesStatusRepository.findByDuesIdAndUserId(duesId, currentUserId).isEmpty()) {
+            throw new RuntimeException("회비 납부 정보를 찾을 수 없습니다.");
         }
 
         // 2) 동아리 정보 조회 (동아리 계좌 복호화)
@@ -339,92 +321,24 @@ public class ClubDuesService {
             throw new RuntimeException("결제 금액이 0보다 작거나 같을 수 없습니다.");
         }
 
-        // 5) FinHeaderFactory 이용해서 헤더 생성
-        FinHeader header = FinHeaderFactory.create(
-                "updateDemandDepositAccountTransfer",
-                institutionCode,
-                fintechAppNo,
-                apiKey,
-                userKey
-        );
-
-        // 6) 요청 DTO 조립 (사용자 계좌 → 동아리 계좌)
-        FinTransferRequest finReq = FinTransferRequest.builder()
-                .header(header)
-                .depositAccountNo(clubAccount)
-                .depositTransactionSummary(club.getName() + " 회비 납부 입금 : " + user.getName())
-                .transactionBalance(String.valueOf(finalAmount))
-                .withdrawalAccountNo(userAccount)
-                .withdrawalTransactionSummary(club.getName() + " 회비 납부 송금")
-                .build();
-
-        // 7) 외부 API 호출
-        FinTransferResponse res;
-        try {
-            res = finApiClient.post(
-                    "/edu/demandDeposit/updateDemandDepositAccountTransfer",
-                    finReq,
-                    FinTransferResponse.class
-            );
-
-            String code = res.getHeader() != null ? res.getHeader().getResponseCode() : null;
-            String msg = res.getHeader() != null ? res.getHeader().getResponseMessage() : null;
-
-            if (!"H0000".equals(code)) {
-                throw new TransferException("이체 실패: " + msg);
-            }
-        } catch (TransferException e) {
-            // TransferException은 그대로 재던지기
-            throw e;
-        } catch (Exception e) {
-            // 금융 API 에러 메시지 파싱
-            String errorMessage = e.getMessage();
-            if (errorMessage != null && errorMessage.contains("responseMessage")) {
-                try {
-                    // "계좌 잔액이 부족하여 거래가 실패했습니다." 같은 메시지 추출
-                    int start = errorMessage.indexOf("\"responseMessage\" : \"");
-                    if (start != -1) {
-                        start += "\"responseMessage\" : \"".length();
-                        int end = errorMessage.indexOf("\"", start);
-                        if (end != -1) {
-                            String message = errorMessage.substring(start, end);
-                            throw new TransferException(message);
-                        }
-                    }
-                } catch (Exception parseError) {
-                    // 파싱 실패 시 원본 메시지 사용
-                }
-            }
-
-            // 특정 에러 코드별 사용자 친화적 메시지
-            if (errorMessage != null && errorMessage.contains("A1014")) {
-                throw new TransferException("계좌 잔액이 부족합니다.");
-            }
-
-            throw new TransferException("계좌 이체에 실패했습니다. 다시 시도해 주세요.");
-        }
-
-        // 8) 납부 상태 업데이트 (미납 → 납부완료)
-        duesStatus.setDuesStatus((byte) 1);
-        clubDuesStatusRepository.save(duesStatus);
-
-        // 9) 포인트 주기 (회비 납부 보상으로 100포인트)
-        try {
-            UserPointLedgerRequest pointRequest = UserPointLedgerRequest.builder()
-                    .clubId(clubId)
-                    .delta(100)
-                    .codeName("DUES_PAYMENT")
-                    .memo("회비 납부 보상")
-                    .build();
-            pointService.addPoints(currentUserId, pointRequest);
-        } catch (Exception e) {
-            // 포인트 지급 실패해도 회비 납부는 성공으로 처리
-            System.err.println("Failed to give points for dues payment: " + e.getMessage());
-        }
+        // 5) 이체 (사용자 계좌 → 동아리 계좌). 완료 시 납부 상태 반영 + 포인트 지급은 DuesPaymentHandler
+        PaymentTransfer transfer = paymentSagaService.execute(new PaymentSagaService.TransferCommand(
+                PaymentTransfer.Type.DUES,
+                duesId,
+                clubId,
+                currentUserId,
+                idempotencyKey,
+                finalAmount,
+                userKey,
+                userAccount,
+                clubAccount,
+                club.getName() + " 회비 납부 송금",
+                club.getName() + " 회비 납부 입금 : " + user.getName()
+        ));
 
         return ClubDuesDtos.PayDuesResponse.builder()
                 .duesId(duesId)
-                .finalAmount(finalAmount)
+                .finalAmount((int) transfer.getAmount())
                 .build();
     }
-}
\ No newline at end of file
+}
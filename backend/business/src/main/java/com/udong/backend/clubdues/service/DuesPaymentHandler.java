@@ -0,0 +1,56 @@
+package com.udong.backend.clubdues.service;
+
+import com.udong.backend.clubdues.repository.ClubDuesStatusRepository;
+import com.udong.backend.clubfund.service.ClubFundSyncService;
+import com.udong.backend.payment.entity.PaymentTransfer;
+import com.udong.backend.payment.service.PaymentCompletionHandler;
+import com.udong.backend.shop.dto.UserPointLedgerRequest;
+import com.udong.backend.shop.service.PointRewardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회비 이체 완료 → 납부 상태 반영 + 납부 보상 포인트 + 동아리 거래내역 갱신
+ */
+@Component
+@RequiredArgsConstructor
+public class DuesPaymentHandler implements PaymentCompletionHandler {
+
+    private static final int DUES_REWARD_POINTS = 100;
+
+    private final ClubDuesStatusRepository clubDuesStatusRepository;
+    private final PointRewardService pointRewardService;
+    private final ClubFundSyncService clubFundSyncService;
+
+    @Override
+    public PaymentTransfer.Type type() {
+        return PaymentTransfer.Type.DUES;
+    }
+
+    @Override
+    public boolean isSettled(PaymentTransfer transfer) {
+        return clubDuesStatusRepository.findForUpdate(transfer.getTargetId(), transfer.getUserId())
+                .map(status -> status.getDuesStatus() == 1)
+                .orElseThrow(() -> new RuntimeException("회비 납부 정보를 찾을 수 없습니다."));
+    }
+
+    @Override
+    public void onCompleted(PaymentTransfer transfer) {
+        clubDuesStatusRepository.markPaid(transfer.getTargetId(), transfer.getUserId());
+
+        // 납부 반영과 같은 트랜잭션에 보상을 적재 (회차별 유저당 한 번)
+        UserPointLedgerRequest pointRequest = UserPointLedgerRequest.builder()
+                .clubId(transfer.getClubId())
+                .delta(DUES_REWARD_POINTS)
+                .codeName("DUES_PAYMENT")
+                .memo("회비 납부 보상")
+                .build();
+        pointRewardService.reward(transfer.getUserId(), pointRequest, "DUES_PAYMENT:" + transfer.getTargetId() + ":" + transfer.getUserId());
+    }
+
+    @Override
+    public void afterCompleted(PaymentTransfer transfer) {
+        // 동아리 통장에 입금되었으므로 거래내역 사본을 미리 갱신
+        clubFundSyncService.refreshAsync(transfer.getClubId());
+    }
+}
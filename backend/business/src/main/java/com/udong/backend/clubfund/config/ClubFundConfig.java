@@ -0,0 +1,31 @@
+package com.udong.backend.clubfund.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableConfigurationProperties(ClubFundSyncProps.class)
+public class ClubFundConfig {
+
+    /**
+     * 거래내역 백그라운드 갱신 전용 실행기
+     * 갱신은 다음 조회/주기 작업에서 다시 일어나므로 큐가 가득 차면 버린다.
+     */
+    @Bean(name = "clubFundSyncExecutor")
+    Executor clubFundSyncExecutor(ClubFundSyncProps props) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(props.poolSize());
+        executor.setMaxPoolSize(props.poolSize());
+        executor.setQueueCapacity(props.queueCapacity());
+        executor.setThreadNamePrefix("clubfund-sync-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,23 @@
+package com.udong.backend.clubfund.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 동아리 회비 통장 거래내역 사본(club_fund_transactions) 동기화 설정
+ */
+@ConfigurationProperties(prefix = "app.club-fund.sync")
+public record ClubFundSyncProps(
+        Integer staleAfterSeconds,    // 마지막 동기화 후 이 시간이 지나면 조회 시 백그라운드 갱신
+        Integer activeWindowHours,    // 이 시간 안에 조회된 동아리만 주기 갱신 대상
+        Integer initialLookbackDays,  // 첫 동기화 때 가져오는 과거 일수
+        Integer poolSize,
+        Integer queueCapacity
+) {
+    public ClubFundSyncProps {
+        if (staleAfterSeconds == null || staleAfterSeconds <= 0) staleAfterSeconds = 60;
+        if (activeWindowHours == null || activeWindowHours <= 0) activeWindowHours = 24;
+        if (initialLookbackDays == null || initialLookbackDays <= 0) initialLookbackDays = 365;
+        if (poolSize == null || poolSize <= 0) poolSize = 2;
+        if (queueCapacity == null || queueCapacity < 0) queueCapacity = 100;
+    }
+}
@@ -4,6 +4,7 @@ package com.udong.backend.clubfund.controller;
 import com.udong.backend.clubfund.dto.FundQueryDtos.*;
 import com.udong.backend.clubfund.service.ClubFundQueryService;
 import com.udong.backend.global.dto.response.ApiResponse;
+import com.udong.backend.global.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +17,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class ClubFundQueryController {
 
     private final ClubFundQueryService service;
+    private final SecurityUtils securityUtils;
 
 
     /** 거래내역만 조회 */
@@ -35,6 +37,14 @@ public class ClubFundQueryController {
         return ResponseEntity.ok(ApiResponse.ok(res));
     }
 
+    /** 거래내역/잔액 지금 다시 받기 */
+    @PostMapping("/sync")
+    public ResponseEntity<ApiResponse<BalanceResponse>> sync(@PathVariable Integer clubId) {
+
+        BalanceResponse res = service.refresh(clubId);
+        return ResponseEntity.ok(ApiResponse.ok(res));
+    }
+
     /** 멀티파트로 영수증 업로드 + DB 연결 (변경 없음) */
     @PostMapping(
             value = "/transactions/{transactionId}/receipt",
@@ -47,4 +57,17 @@ public class ClubFundQueryController {
         AttachReceiptResponse res = service.attachReceiptWithImage(clubId, transactionId, memo, receipt);
         return ResponseEntity.ok(ApiResponse.ok(res));
     }
+
+    /** 저장소에 직접 올린 영수증 연결 (업로드 티켓) */
+    @PostMapping(
+            value = "/transactions/{transactionId}/receipt",
+            consumes = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<ApiResponse<AttachReceiptResponse>> attachUploadedReceipt(@PathVariable Integer clubId,
+                                                                                   @PathVariable Integer transactionId,
+                                                                                   @RequestBody AttachReceiptRequest req) {
+        Integer userId = securityUtils.currentUserId();
+        AttachReceiptResponse res = service.attachUploadedReceipt(clubId, transactionId, userId, req);
+        return ResponseEntity.ok(ApiResponse.ok(res));
+    }
 }
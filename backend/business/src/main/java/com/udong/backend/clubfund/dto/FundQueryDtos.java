@@ -2,6 +2,8 @@
 package com.udong.backend.clubfund.dto;
 
 import lombok.*;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class FundQueryDtos {
@@ -35,6 +37,7 @@ public class FundQueryDtos {
         private Integer receiptId;     // 존재하면 id
 
         private String receiptUrl; // = imageUrl (영수증 있을 때만)
+        private String receiptThumbnailUrl; // = thumbnailUrl (있을 때만)
         private String s3Key;      // = S3 오브젝트 키 (있을 때만)
     }
 
@@ -46,6 +49,8 @@ public class FundQueryDtos {
     @AllArgsConstructor
     public static class TransactionsResponse {
         private List<TransactionItem> transactions;
+        private LocalDateTime syncedAt; // 사본을 마지막으로 받은 시각
+        private boolean stale;          // 오래된 사본 (백그라운드 갱신 중)
     }
 
     /** 잔액만 반환 */
@@ -55,14 +60,16 @@ public class FundQueryDtos {
     @AllArgsConstructor
     public static class BalanceResponse {
         private int balance;
+        private LocalDateTime syncedAt; // 잔액을 마지막으로 받은 시각
+        private boolean stale;
     }
 
     // ===== 영수증 업로드 DTO =====
+    /** 직접 업로드한 영수증 연결 (POST /v1/uploads/tickets 로 받은 티켓) */
     @Data
     public static class AttachReceiptRequest {
         private String memo;     // 선택
-        private String imageUrl; // 선택
-        private String s3Key;    // 선택
+        private String ticket;   // 필수
     }
 
     @Data
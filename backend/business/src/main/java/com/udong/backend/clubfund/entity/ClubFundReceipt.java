@@ -26,6 +26,9 @@ public class ClubFundReceipt {
     @Column(name = "image_url", length = 500)
     private String imageUrl; // 영수증 이미지주소
 
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl; // 영수증 썸네일 주소
+
     @Column(name = "s3_key", length = 1024)
     private String s3Key; // s3 key
 
@@ -0,0 +1,41 @@
+package com.udong.backend.clubfund.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 동아리별 거래내역 사본 동기화 상태
+ * - watermark_date: 여기까지 받아 두었다. 다음 동기화는 이 날짜부터(당일 추가분 포함) 다시 받는다.
+ * - account_hash: 동아리 계좌가 바뀌면 사본을 비우고 처음부터 받는다.
+ * - last_read_at: 최근에 조회된 동아리만 주기 갱신한다.
+ */
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Entity
+@Table(name = "club_fund_sync_state")
+public class ClubFundSyncState {
+    @Id
+    @Column(name = "club_id")
+    private Integer clubId;
+
+    @Column(name = "account_hash", nullable = false, length = 64)
+    private String accountHash;
+
+    @Column(name = "watermark_date")
+    private LocalDate watermarkDate;
+
+    /** 마지막 동기화 때의 잔액 */
+    @Column(name = "balance")
+    private Long balance;
+
+    @Column(name = "last_synced_at")
+    private LocalDateTime lastSyncedAt;
+
+    @Column(name = "last_read_at")
+    private LocalDateTime lastReadAt;
+
+    @Column(name = "last_error", length = 255)
+    private String lastError;
+}
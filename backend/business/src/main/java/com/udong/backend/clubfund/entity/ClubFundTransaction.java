@@ -0,0 +1,69 @@
+package com.udong.backend.clubfund.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 동아리 통장 거래내역 사본
+ * 금융 API 거래내역을 주기적으로 받아 두고, 회비 화면은 이 테이블에서 읽는다 (ClubFundSyncService).
+ * (club_id, transaction_id) 로 upsert 하므로 같은 날짜를 다시 받아도 중복되지 않는다.
+ */
+@Getter @NoArgsConstructor(access = AccessLevel.PROTECTED) @AllArgsConstructor @Builder
+@Entity
+@Table(
+    name = "club_fund_transactions",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_fund_tx_club_txn", columnNames = {"club_id", "transaction_id"})
+    },
+    indexes = {
+        // 기간 조회: club_id + 날짜 범위, 날짜/시각 순
+        @Index(name = "idx_fund_tx_club_date", columnList = "club_id, tx_date, tx_time, transaction_id")
+    }
+)
+public class ClubFundTransaction {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "club_id", nullable = false)
+    private Integer clubId;
+
+    /** 외부 거래 고유번호(= FinOpenAPI transactionUniqueNo) */
+    @Column(name = "transaction_id", nullable = false)
+    private Integer transactionId;
+
+    @Column(name = "tx_date", nullable = false)
+    private LocalDate txDate;
+
+    /** HHmmss */
+    @Column(name = "tx_time", nullable = false, length = 6)
+    private String txTime;
+
+    /** "1"(입금) / "2"(출금) */
+    @Column(name = "type", nullable = false, length = 2)
+    private String type;
+
+    @Column(name = "type_name", length = 50)
+    private String typeName;
+
+    @Column(name = "summary", length = 255)
+    private String summary;
+
+    @Column(name = "memo", length = 255)
+    private String memo;
+
+    /** 상대 계좌 (있으면) */
+    @Column(name = "counterpart_account_no", length = 30)
+    private String counterpartAccountNo;
+
+    @Column(name = "amount", nullable = false)
+    private long amount;
+
+    @Column(name = "after_balance", nullable = false)
+    private long afterBalance;
+
+    @Column(name = "synced_at", nullable = false)
+    private LocalDateTime syncedAt;
+}
@@ -2,7 +2,11 @@
 package com.udong.backend.clubfund.repository;
 
 import com.udong.backend.clubfund.entity.ClubFundReceipt;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 import java.util.List;
@@ -12,4 +16,19 @@ public interface ClubFundReceiptRepository extends JpaRepository<ClubFundReceipt
 
     // 거래ID 묶음으로 한 번에 가져와서 hasReceipt 계산
     List<ClubFundReceipt> findByTransactionIdIn(Collection<Integer> txnIds);
+
+    // 직접 업로드 원본(.../direct/...)이 연결된 채 아직 변환되지 않은 영수증 키
+    @Query("SELECT r.s3Key FROM ClubFundReceipt r WHERE r.s3Key LIKE '%/direct/%' ORDER BY r.id")
+    List<String> findDirectUploadKeys(Limit limit);
+
+    @Modifying
+    @Query("UPDATE ClubFundReceipt r SET r.s3Key = :key, r.imageUrl = :imageUrl, r.thumbnailUrl = :thumbnailUrl WHERE r.s3Key = :sourceKey")
+    int attachProcessedReceipt(@Param("sourceKey") String sourceKey,
+                               @Param("key") String key,
+                               @Param("imageUrl") String imageUrl,
+                               @Param("thumbnailUrl") String thumbnailUrl);
+
+    @Modifying
+    @Query("UPDATE ClubFundReceipt r SET r.s3Key = null, r.imageUrl = null, r.thumbnailUrl = null WHERE r.s3Key = :sourceKey")
+    int detachReceipt(@Param("sourceKey") String sourceKey);
 }
@@ -0,0 +1,26 @@
+// com.udong.backend.clubfund.repository.ClubFundSyncStateRepository
+package com.udong.backend.clubfund.repository;
+
+import com.udong.backend.clubfund.entity.ClubFundSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ClubFundSyncStateRepository extends JpaRepository<ClubFundSyncState, Integer> {
+
+    // 최근 조회된 동아리 (주기 갱신 대상)
+    @Query("SELECT s.clubId FROM ClubFundSyncState s WHERE s.lastReadAt >= :since")
+    List<Integer> findClubIdsReadSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("UPDATE ClubFundSyncState s SET s.lastReadAt = :now WHERE s.clubId = :clubId")
+    int touchRead(@Param("clubId") Integer clubId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ClubFundSyncState s SET s.lastError = :error WHERE s.clubId = :clubId")
+    int recordError(@Param("clubId") Integer clubId, @Param("error") String error);
+}
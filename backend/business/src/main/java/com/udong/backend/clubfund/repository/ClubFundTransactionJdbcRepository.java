@@ -0,0 +1,56 @@
+// com.udong.backend.clubfund.repository.ClubFundTransactionJdbcRepository
+package com.udong.backend.clubfund.repository;
+
+import com.udong.backend.clubfund.entity.ClubFundTransaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * club_fund_transactions upsert 전용 (JDBC 배치)
+ * 같은 날짜 구간을 다시 받아도 (club_id, transaction_id) 로 덮어쓰기만 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClubFundTransactionJdbcRepository {
+
+    private static final String UPSERT = """
+            INSERT INTO club_fund_transactions
+                (club_id, transaction_id, tx_date, tx_time, type, type_name, summary, memo,
+                 counterpart_account_no, amount, after_balance, synced_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                type_name = VALUES(type_name),
+                summary = VALUES(summary),
+                memo = VALUES(memo),
+                counterpart_account_no = VALUES(counterpart_account_no),
+                after_balance = VALUES(after_balance),
+                synced_at = VALUES(synced_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsertAll(List<ClubFundTransaction> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT, rows, 500, (ps, t) -> {
+            ps.setInt(1, t.getClubId());
+            ps.setInt(2, t.getTransactionId());
+            ps.setDate(3, Date.valueOf(t.getTxDate()));
+            ps.setString(4, t.getTxTime());
+            ps.setString(5, t.getType());
+            ps.setString(6, t.getTypeName());
+            ps.setString(7, t.getSummary());
+            ps.setString(8, t.getMemo());
+            ps.setString(9, t.getCounterpartAccountNo());
+            ps.setLong(10, t.getAmount());
+            ps.setLong(11, t.getAfterBalance());
+            ps.setTimestamp(12, Timestamp.valueOf(t.getSyncedAt()));
+        });
+    }
+}
@@ -0,0 +1,23 @@
+// com.udong.backend.clubfund.repository.ClubFundTransactionRepository
+package com.udong.backend.clubfund.repository;
+
+import com.udong.backend.clubfund.entity.ClubFundTransaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ClubFundTransactionRepository extends JpaRepository<ClubFundTransaction, Long> {
+
+    // 기간 거래내역 (날짜/시각 오름차순)
+    List<ClubFundTransaction> findByClubIdAndTxDateBetweenOrderByTxDateAscTxTimeAscTransactionIdAsc(
+            Integer clubId, LocalDate from, LocalDate to);
+
+    // 계좌 변경 시 사본 비우기
+    @Modifying
+    @Query("DELETE FROM ClubFundTransaction t WHERE t.clubId = :clubId")
+    int deleteByClubId(@Param("clubId") Integer clubId);
+}
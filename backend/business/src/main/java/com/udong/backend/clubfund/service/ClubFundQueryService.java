@@ -1,29 +1,24 @@
 // com.udong.backend.clubfund.service.ClubFundQueryService.java
 package com.udong.backend.clubfund.service;
 
-import com.udong.backend.clubs.entity.Club;
-import com.udong.backend.clubs.repository.ClubRepository;
 import com.udong.backend.clubfund.dto.FundQueryDtos.*;
 import com.udong.backend.clubfund.entity.ClubFundReceipt;
+import com.udong.backend.clubfund.entity.ClubFundSyncState;
+import com.udong.backend.clubfund.entity.ClubFundTransaction;
 import com.udong.backend.clubfund.repository.ClubFundReceiptRepository;
-import com.udong.backend.fin.client.FinApiClient;
-import com.udong.backend.fin.dto.*;
-import com.udong.backend.fin.util.FinHeaderFactory;
-import com.udong.backend.global.config.AccountCrypto;
-import com.udong.backend.global.s3.S3Uploader;
+import com.udong.backend.clubfund.repository.ClubFundTransactionRepository;
+import com.udong.backend.global.image.ReceiptImageUploader;
+import com.udong.backend.upload.dto.UploadPurpose;
+import com.udong.backend.upload.service.UploadTicketService;
 import com.github.f4b6a3.ulid.UlidCreator;
-import com.udong.backend.users.entity.User;
-import com.udong.backend.users.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -31,110 +26,86 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ClubFundQueryService {
 
-    private final ClubRepository clubRepository;
-    private final UserRepository userRepository;
+    private static final DateTimeFormatter D8 = DateTimeFormatter.ofPattern("yyyyMMdd");
+
     private final ClubFundReceiptRepository receiptRepository;
-    private final FinApiClient finApiClient;
-    private final AccountCrypto accountCrypto;
-    private final S3Uploader s3Uploader;
+    private final ClubFundTransactionRepository transactionRepository;
+    private final ClubFundSyncService syncService;
+    private final ReceiptImageUploader receiptImageUploader;
+    private final UploadTicketService uploadTicketService;
 
     @Value("${S3_PREFIX_CLUBFUND:clubfund}")
     private String clubfundPrefix;
 
-    @Value("${finapi.institution-code}") private String institutionCode;
-    @Value("${finapi.app-no}") private String fintechAppNo;
-    @Value("${finapi.api-key}") private String apiKey;
-
     /** =========================
-     *  A) 거래내역만 조회
+     *  A) 거래내역만 조회 (사본에서)
      * ========================== */
-    @Transactional
     public TransactionsResponse fetchTransactions(Integer clubId, String startDate, String endDate) {
-        PreparedFinContext ctx = prepareContext(clubId);
-
-        // 거래내역 조회
-        var historyHeader = FinHeaderFactory.create(
-                "inquireTransactionHistoryList", institutionCode, fintechAppNo, apiKey, ctx.userKey);
-        var historyReq = InquireHistoryRequest.builder()
-                .header(historyHeader)
-                .accountNo(ctx.accountNo)
-                .startDate(startDate)
-                .endDate(endDate)
-                .transactionType("A")
-                .orderByType("ASC")
-                .build();
-
-        var historyRes = finApiClient.post(
-                "/edu/demandDeposit/inquireTransactionHistoryList",
-                historyReq,
-                InquireHistoryResponse.class
-        );
-        ensureOk(historyRes.getHeader(), "거래내역 조회 실패");
+        ClubFundSyncState state = syncService.prepareForRead(clubId);
 
-        var items = Optional.ofNullable(historyRes.getRec())
-                .map(InquireHistoryResponse.Rec::getList)
-                .orElseGet(List::of);
+        List<ClubFundTransaction> rows = transactionRepository
+                .findByClubIdAndTxDateBetweenOrderByTxDateAscTxTimeAscTransactionIdAsc(
+                        clubId, LocalDate.parse(startDate, D8), LocalDate.parse(endDate, D8));
 
         // 영수증 존재 여부 벌크 체크
-        List<Integer> txnIds = items.stream()
-                .map(it -> Integer.valueOf(it.getTransactionUniqueNo()))
+        List<Integer> txnIds = rows.stream()
+                .map(ClubFundTransaction::getTransactionId)
                 .toList();
 
-        Map<Integer, ClubFundReceipt> receiptByTxn = receiptRepository.findByTransactionIdIn(txnIds)
-                .stream().collect(Collectors.toMap(ClubFundReceipt::getTransactionId, r -> r));
+        Map<Integer, ClubFundReceipt> receiptByTxn = txnIds.isEmpty() ? Map.of()
+                : receiptRepository.findByTransactionIdIn(txnIds)
+                        .stream().collect(Collectors.toMap(ClubFundReceipt::getTransactionId, r -> r));
 
-        var txViews = items.stream().map(it -> {
-            Integer tid = Integer.valueOf(it.getTransactionUniqueNo());
-            boolean withdrawal = "2".equals(it.getTransactionType()); // 2 = 출금
+        var txViews = rows.stream().map(it -> {
+            Integer tid = it.getTransactionId();
+            boolean withdrawal = "2".equals(it.getType()); // 2 = 출금
             ClubFundReceipt r = receiptByTxn.get(tid);
 
             return TransactionItem.builder()
                     .transactionId(tid)
-                    .date(it.getTransactionDate())
-                    .time(it.getTransactionTime())
-                    .type(it.getTransactionType())
-                    .typeName(it.getTransactionTypeName())
-                    .summary(it.getTransactionSummary())
-                    .memo(it.getTransactionMemo())
-                    .accountNo(it.getTransactionAccountNo())
-                    .amount(it.getTransactionBalance())
-                    .afterBalance(it.getTransactionAfterBalance())
+                    .date(it.getTxDate().format(D8))
+                    .time(it.getTxTime())
+                    .type(it.getType())
+                    .typeName(it.getTypeName())
+                    .summary(it.getSummary())
+                    .memo(it.getMemo())
+                    .accountNo(it.getCounterpartAccountNo())
+                    .amount(String.valueOf(it.getAmount()))
+                    .afterBalance(String.valueOf(it.getAfterBalance()))
                     .isWithdrawal(withdrawal)
                     .hasReceipt(r != null)
                     .receiptId(r != null ? r.getId() : null)
                     .receiptUrl(r != null ? r.getImageUrl() : null)
+                    .receiptThumbnailUrl(r != null ? r.getThumbnailUrl() : null)
                     .s3Key(r != null ? r.getS3Key() : null)
                     .build();
         }).toList();
 
         return TransactionsResponse.builder()
                 .transactions(txViews)
+                .syncedAt(state.getLastSyncedAt())
+                .stale(syncService.isStale(state))
                 .build();
     }
 
     /** =========================
-     *  B) 잔액만 조회
+     *  B) 잔액만 조회 (마지막 동기화 시점 잔액)
      * ========================== */
-    @Transactional
     public BalanceResponse fetchBalance(Integer clubId) {
-        PreparedFinContext ctx = prepareContext(clubId);
-
-        var balanceHeader = FinHeaderFactory.create(
-                "inquireDemandDepositAccountBalance", institutionCode, fintechAppNo, apiKey, ctx.userKey);
-        var balanceReq = InquireBalanceRequest.builder()
-                .header(balanceHeader)
-                .accountNo(ctx.accountNo)
+        ClubFundSyncState state = syncService.prepareForRead(clubId);
+        return BalanceResponse.builder()
+                .balance(state.getBalance() == null ? 0 : state.getBalance().intValue())
+                .syncedAt(state.getLastSyncedAt())
+                .stale(syncService.isStale(state))
                 .build();
+    }
 
-        var balanceRes = finApiClient.post(
-                "/edu/demandDeposit/inquireDemandDepositAccountBalance",
-                balanceReq,
-                InquireBalanceResponse.class
-        );
-        ensureOk(balanceRes.getHeader(), "잔액 조회 실패");
-
-        int balance = Integer.parseInt(balanceRes.getRec().getAccountBalance());
-        return BalanceResponse.builder().balance(balance).build();
+    /** =========================
+     *  C) 지금 다시 받기 (당겨서 새로고침)
+     * ========================== */
+    public BalanceResponse refresh(Integer clubId) {
+        syncService.sync(clubId);
+        return fetchBalance(clubId);
     }
 
     // ========= 영수증 업로드 (변경 없음) =========
@@ -150,17 +121,17 @@ public class ClubFundQueryService {
         }
         validateImage(receipt);
         String ulid = UlidCreator.getMonotonicUlid().toString().toLowerCase();
-        String key = "%s/%s/receipts/%s_%s.png".formatted(clubfundPrefix, clubId, transactionId, ulid);
+        String keyBase = "%s/%s/receipts/%s_%s".formatted(clubfundPrefix, clubId, transactionId, ulid);
 
-        byte[] pngBytes = toPngBytes(receipt);
-        String publicUrl = s3Uploader.putPng(pngBytes, key);
+        ReceiptImageUploader.StoredImage stored = receiptImageUploader.upload(receipt, keyBase);
 
         ClubFundReceipt saved = ClubFundReceipt.builder()
                 .clubId(clubId)
                 .transactionId(transactionId)
                 .memo(memo)
-                .imageUrl(publicUrl)
-                .s3Key(key)
+                .imageUrl(stored.url())
+                .thumbnailUrl(stored.thumbnailUrl())
+                .s3Key(stored.key())
                 .build();
         saved = receiptRepository.save(saved);
 
@@ -170,46 +141,40 @@ public class ClubFundQueryService {
                 .build();
     }
 
-    // ---- 내부 유틸 (그대로) ----
-    private record PreparedFinContext(String accountNo, String userKey) {}
-    private PreparedFinContext prepareContext(Integer clubId) {
-        Club club = clubRepository.findById(clubId)
-                .orElseThrow(() -> new IllegalArgumentException("클럽 없음: " + clubId));
-        User leader = userRepository.findById(club.getLeaderUserId())
-                .orElseThrow(() -> new IllegalArgumentException("리더 유저 없음: " + club.getLeaderUserId()));
-        String accountNo = accountCrypto.decrypt(club.getAccountCipher());
-        String userKey = accountCrypto.decrypt(leader.getUserKeyCipher());
-        return new PreparedFinContext(accountNo, userKey);
-    }
-    private void ensureOk(InquireHistoryResponse.Header h, String prefix) {
-        if (h == null || !"H0000".equals(h.getResponseCode())) {
-            throw new IllegalStateException(prefix + ": " +
-                    (h == null ? "no header" : (h.getResponseCode() + " - " + h.getResponseMessage())));
-        }
-    }
-    private void ensureOk(InquireBalanceResponse.Header h, String prefix) {
-        if (h == null || !"H0000".equals(h.getResponseCode())) {
-            throw new IllegalStateException(prefix + ": " +
-                    (h == null ? "no header" : (h.getResponseCode() + " - " + h.getResponseMessage())));
+    // ========= 직접 업로드한 영수증 연결 =========
+    @Transactional
+    public AttachReceiptResponse attachUploadedReceipt(
+            Integer clubId, Integer transactionId, Integer userId, AttachReceiptRequest req) {
+        var existed = receiptRepository.findByTransactionIdIn(List.of(transactionId));
+        if (!existed.isEmpty()) {
+            return AttachReceiptResponse.builder()
+                    .receiptId(existed.get(0).getId())
+                    .created(false)
+                    .build();
         }
+
+        UploadTicketService.ConfirmedUpload upload =
+                uploadTicketService.confirm(req.getTicket(), userId, UploadPurpose.CLUB_FUND_RECEIPT);
+
+        // 이미지 URL 은 커밋 후 변환(메타데이터 제거 + 썸네일)이 끝나면 채워진다 (DirectUploadProcessor)
+        ClubFundReceipt saved = receiptRepository.save(ClubFundReceipt.builder()
+                .clubId(clubId)
+                .transactionId(transactionId)
+                .memo(req.getMemo())
+                .s3Key(upload.key())
+                .build());
+
+        return AttachReceiptResponse.builder()
+                .receiptId(saved.getId())
+                .created(true)
+                .build();
     }
+
+    // ---- 내부 유틸 ----
     private void validateImage(MultipartFile f) {
         if (f == null || f.isEmpty()) throw new IllegalArgumentException("영수증 파일이 비었습니다.");
         if (f.getSize() > 5 * 1024 * 1024) throw new IllegalArgumentException("영수증은 최대 5MB까지 가능합니다.");
         String ct = f.getContentType();
         if (ct == null || !ct.startsWith("image/")) throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다.");
     }
-    private byte[] toPngBytes(MultipartFile file) {
-        try {
-            BufferedImage image = ImageIO.read(file.getInputStream());
-            if (image == null) throw new IllegalArgumentException("유효한 이미지가 아닙니다.");
-            try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                boolean ok = ImageIO.write(image, "png", baos);
-                if (!ok) throw new IllegalStateException("PNG 인코딩 실패");
-                return baos.toByteArray();
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("이미지 처리 실패", e);
-        }
-    }
 }
@@ -0,0 +1,45 @@
+package com.udong.backend.clubfund.service;
+
+import com.udong.backend.clubfund.repository.ClubFundReceiptRepository;
+import com.udong.backend.global.image.ReceiptImageUploader;
+import com.udong.backend.upload.dto.UploadPurpose;
+import com.udong.backend.upload.service.DirectUploadHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 동아리 장부 영수증 직접 업로드 → 변환본 키/URL 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class ClubFundReceiptUploadHandler implements DirectUploadHandler {
+
+    private final ClubFundReceiptRepository receiptRepository;
+
+    @Override
+    public UploadPurpose purpose() {
+        return UploadPurpose.CLUB_FUND_RECEIPT;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findUnprocessedKeys(int limit) {
+        return receiptRepository.findDirectUploadKeys(Limit.of(limit));
+    }
+
+    @Override
+    @Transactional
+    public boolean onProcessed(String sourceKey, ReceiptImageUploader.StoredImage image) {
+        return receiptRepository.attachProcessedReceipt(sourceKey, image.key(), image.url(), image.thumbnailUrl()) > 0;
+    }
+
+    @Override
+    @Transactional
+    public void onRejected(String sourceKey) {
+        receiptRepository.detachReceipt(sourceKey);
+    }
+}
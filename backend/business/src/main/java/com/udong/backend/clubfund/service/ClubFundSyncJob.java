@@ -0,0 +1,60 @@
+// com.udong.backend.clubfund.service.ClubFundSyncJob.java
+package com.udong.backend.clubfund.service;
+
+import com.udong.backend.clubfund.config.ClubFundSyncProps;
+import com.udong.backend.clubfund.repository.ClubFundSyncStateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 최근 조회된 동아리의 거래내역 사본을 주기적으로 갱신
+ * 화면을 열기 전에 미리 받아 두어 조회가 금융 API 지연을 기다리지 않게 한다.
+ * 여러 노드 중 한 곳에서만 실행된다 (Redis 잠금). 동아리별 잠금은 ClubFundSyncService 가 건다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClubFundSyncJob {
+
+    private static final String LOCK_KEY = "clubfund:sync:job:lock";
+
+    private final ClubFundSyncStateRepository syncStateRepository;
+    private final ClubFundSyncService syncService;
+    private final ClubFundSyncProps props;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Scheduled(fixedDelayString = "${app.club-fund.sync.refresh-interval-ms:300000}",
+            initialDelayString = "${app.club-fund.sync.refresh-interval-ms:300000}")
+    public void refreshActiveClubs() {
+        try {
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", Duration.ofMinutes(10));
+            if (!Boolean.TRUE.equals(locked)) return;
+        } catch (Exception e) {
+            log.warn(">>> 회비 거래내역 갱신 잠금 실패, 이번 실행 건너뜀: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            List<Integer> clubIds = syncStateRepository.findClubIdsReadSince(
+                    LocalDateTime.now().minusHours(props.activeWindowHours()));
+            int synced = 0;
+            for (Integer clubId : clubIds) {
+                try {
+                    if (syncService.sync(clubId)) synced++;
+                } catch (Exception e) {
+                    log.warn(">>> 회비 거래내역 갱신 실패 (clubId={}): {}", clubId, e.getMessage());
+                }
+            }
+            log.debug(">>> 회비 거래내역 주기 갱신: {}/{}개 동아리", synced, clubIds.size());
+        } finally {
+            stringRedisTemplate.delete(LOCK_KEY);
+        }
+    }
+}
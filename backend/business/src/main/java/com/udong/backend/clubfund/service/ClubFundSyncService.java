@@ -0,0 +1,292 @@
+// com.udong.backend.clubfund.service.ClubFundSyncService.java
+package com.udong.backend.clubfund.service;
+
+import com.udong.backend.clubfund.config.ClubFundSyncProps;
+import com.udong.backend.clubfund.entity.ClubFundSyncState;
+import com.udong.backend.clubfund.entity.ClubFundTransaction;
+import com.udong.backend.clubfund.repository.ClubFundSyncStateRepository;
+import com.udong.backend.clubfund.repository.ClubFundTransactionJdbcRepository;
+import com.udong.backend.clubfund.repository.ClubFundTransactionRepository;
+import com.udong.backend.clubs.entity.Club;
+import com.udong.backend.clubs.repository.ClubRepository;
+import com.udong.backend.fin.client.FinApiClient;
+import com.udong.backend.fin.dto.*;
+import com.udong.backend.fin.util.FinHeaderFactory;
+import com.udong.backend.global.config.AccountCrypto;
+import com.udong.backend.users.entity.User;
+import com.udong.backend.users.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * 동아리 통장 거래내역 사본 동기화
+ *
+ * - watermark_date 부터 오늘까지만 금융 API 로 받아 club_fund_transactions 에 upsert 하고 잔액도 함께 저장한다.
+ * - 금융 API 호출 중에는 DB 트랜잭션을 열지 않고, 받은 뒤 짧은 트랜잭션으로 반영한다.
+ * - 동아리별 Redis 잠금으로 여러 노드/요청이 같은 동아리를 동시에 받지 않는다.
+ * - 조회 시 오래된 사본이면 백그라운드 갱신만 걸고 바로 사본을 돌려준다 (refreshAsync).
+ */
+@Slf4j
+@Service
+public class ClubFundSyncService {
+
+    private static final String LOCK_PREFIX = "clubfund:sync:lock:";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(2);
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter D8 = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final ClubRepository clubRepository;
+    private final UserRepository userRepository;
+    private final ClubFundTransactionRepository transactionRepository;
+    private final ClubFundTransactionJdbcRepository transactionJdbcRepository;
+    private final ClubFundSyncStateRepository syncStateRepository;
+    private final FinApiClient finApiClient;
+    private final FinHeaderFactory finHeaderFactory;
+    private final AccountCrypto accountCrypto;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ClubFundSyncProps props;
+    private final Executor syncExecutor;
+
+    @Value("${finapi.institution-code}") private String institutionCode;
+    @Value("${finapi.app-no}") private String fintechAppNo;
+    @Value("${finapi.api-key}") private String apiKey;
+
+    public ClubFundSyncService(ClubRepository clubRepository,
+                               UserRepository userRepository,
+                               ClubFundTransactionRepository transactionRepository,
+                               ClubFundTransactionJdbcRepository transactionJdbcRepository,
+                               ClubFundSyncStateRepository syncStateRepository,
+                               FinApiClient finApiClient,
+                               FinHeaderFactory finHeaderFactory,
+                               AccountCrypto accountCrypto,
+                               StringRedisTemplate stringRedisTemplate,
+                               TransactionTemplate transactionTemplate,
+                               ClubFundSyncProps props,
+                               @Qualifier("clubFundSyncExecutor") Executor syncExecutor) {
+        this.clubRepository = clubRepository;
+        this.userRepository = userRepository;
+        this.transactionRepository = transactionRepository;
+        this.transactionJdbcRepository = transactionJdbcRepository;
+        this.syncStateRepository = syncStateRepository;
+        this.finApiClient = finApiClient;
+        this.finHeaderFactory = finHeaderFactory;
+        this.accountCrypto = accountCrypto;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.props = props;
+        this.syncExecutor = syncExecutor;
+    }
+
+    /**
+     * 조회 전 사본 준비
+     * - 한 번도 받은 적 없으면 지금 받는다 (첫 화면은 기다린다)
+     * - 오래됐으면 백그라운드 갱신만 걸어 둔다
+     */
+    public ClubFundSyncState prepareForRead(Integer clubId) {
+        Optional<ClubFundSyncState> state = syncStateRepository.findById(clubId);
+        if (state.isEmpty() || state.get().getLastSyncedAt() == null) {
+            sync(clubId);
+            state = syncStateRepository.findById(clubId);
+            if (state.isEmpty() || state.get().getLastSyncedAt() == null) {
+                throw new IllegalStateException("거래내역을 불러오는 중입니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } else if (isStale(state.get())) {
+            refreshAsync(clubId);
+        }
+
+        // 주기 갱신 대상 표시 (1분에 한 번만 기록)
+        LocalDateTime now = LocalDateTime.now();
+        if (state.get().getLastReadAt() == null || state.get().getLastReadAt().isBefore(now.minusMinutes(1))) {
+            transactionTemplate.executeWithoutResult(s -> syncStateRepository.touchRead(clubId, now));
+        }
+        return state.get();
+    }
+
+    public boolean isStale(ClubFundSyncState state) {
+        return state.getLastSyncedAt() == null
+                || state.getLastSyncedAt().isBefore(LocalDateTime.now().minusSeconds(props.staleAfterSeconds()));
+    }
+
+    /** 백그라운드 갱신 요청 (큐가 가득 차면 버린다) */
+    public void refreshAsync(Integer clubId) {
+        syncExecutor.execute(() -> {
+            try {
+                sync(clubId);
+            } catch (Exception e) {
+                log.warn(">>> 회비 거래내역 백그라운드 갱신 실패 (clubId={}): {}", clubId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 지금 동기화. 다른 곳에서 이미 받는 중이면 false
+     */
+    public boolean sync(Integer clubId) {
+        String lockKey = LOCK_PREFIX + clubId;
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(lockKey, "1", LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            return false;
+        }
+
+        try {
+            doSync(clubId);
+            return true;
+        } catch (RuntimeException e) {
+            String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            transactionTemplate.executeWithoutResult(s ->
+                    syncStateRepository.recordError(clubId, message.length() > 255 ? message.substring(0, 255) : message));
+            throw e;
+        } finally {
+            stringRedisTemplate.delete(lockKey);
+        }
+    }
+
+    private void doSync(Integer clubId) {
+        Club club = clubRepository.findById(clubId)
+                .orElseThrow(() -> new IllegalArgumentException("클럽 없음: " + clubId));
+        User leader = userRepository.findById(club.getLeaderUserId())
+                .orElseThrow(() -> new IllegalArgumentException("리더 유저 없음: " + club.getLeaderUserId()));
+        String accountNo = accountCrypto.decrypt(club.getAccountCipher());
+        String userKey = accountCrypto.decrypt(leader.getUserKeyCipher());
+        String accountHash = sha256(accountNo);
+
+        ClubFundSyncState current = syncStateRepository.findById(clubId).orElse(null);
+        boolean accountChanged = current == null || !accountHash.equals(current.getAccountHash());
+
+        LocalDate today = LocalDate.now(KST);
+        LocalDate from = (accountChanged || current.getWatermarkDate() == null)
+                ? today.minusDays(props.initialLookbackDays())
+                : current.getWatermarkDate();
+
+        // 1) 금융 API (트랜잭션 밖)
+        List<InquireHistoryResponse.RecListItem> items = fetchHistory(accountNo, userKey, from, today);
+        long balance = fetchBalance(accountNo, userKey);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ClubFundTransaction> rows = items.stream()
+                .map(it -> toRow(clubId, it, now))
+                .toList();
+
+        // 2) 사본 반영
+        transactionTemplate.executeWithoutResult(s -> {
+            if (accountChanged && current != null) {
+                transactionRepository.deleteByClubId(clubId);
+            }
+            transactionJdbcRepository.upsertAll(rows);
+
+            ClubFundSyncState state = current != null ? current : ClubFundSyncState.builder().clubId(clubId).build();
+            state.setAccountHash(accountHash);
+            state.setWatermarkDate(today);
+            state.setBalance(balance);
+            state.setLastSyncedAt(now);
+            state.setLastError(null);
+            if (state.getLastReadAt() == null) {
+                state.setLastReadAt(now);
+            }
+            syncStateRepository.save(state);
+        });
+        log.debug(">>> 회비 거래내역 동기화 (clubId={}, from={}): {}건", clubId, from, rows.size());
+    }
+
+    private List<InquireHistoryResponse.RecListItem> fetchHistory(String accountNo, String userKey,
+                                                                   LocalDate from, LocalDate to) {
+        var historyHeader = finHeaderFactory.create(
+                "inquireTransactionHistoryList", institutionCode, fintechAppNo, apiKey, userKey);
+        var historyReq = InquireHistoryRequest.builder()
+                .header(historyHeader)
+                .accountNo(accountNo)
+                .startDate(from.format(D8))
+                .endDate(to.format(D8))
+                .transactionType("A")
+                .orderByType("ASC")
+                .build();
+
+        var historyRes = finApiClient.post(
+                "/edu/demandDeposit/inquireTransactionHistoryList",
+                historyReq,
+                InquireHistoryResponse.class
+        );
+        ensureOk(historyRes.getHeader() == null ? null : historyRes.getHeader().getResponseCode(),
+                historyRes.getHeader() == null ? null : historyRes.getHeader().getResponseMessage(),
+                "거래내역 조회 실패");
+
+        return Optional.ofNullable(historyRes.getRec())
+                .map(InquireHistoryResponse.Rec::getList)
+                .orElseGet(List::of);
+    }
+
+    private long fetchBalance(String accountNo, String userKey) {
+        var balanceHeader = finHeaderFactory.create(
+                "inquireDemandDepositAccountBalance", institutionCode, fintechAppNo, apiKey, userKey);
+        var balanceReq = InquireBalanceRequest.builder()
+                .header(balanceHeader)
+                .accountNo(accountNo)
+                .build();
+
+        var balanceRes = finApiClient.post(
+                "/edu/demandDeposit/inquireDemandDepositAccountBalance",
+                balanceReq,
+                InquireBalanceResponse.class
+        );
+        ensureOk(balanceRes.getHeader() == null ? null : balanceRes.getHeader().getResponseCode(),
+                balanceRes.getHeader() == null ? null : balanceRes.getHeader().getResponseMessage(),
+                "잔액 조회 실패");
+
+        return Long.parseLong(balanceRes.getRec().getAccountBalance());
+    }
+
+    private static ClubFundTransaction toRow(Integer clubId, InquireHistoryResponse.RecListItem it, LocalDateTime now) {
+        return ClubFundTransaction.builder()
+                .clubId(clubId)
+                .transactionId(Integer.valueOf(it.getTransactionUniqueNo()))
+                .txDate(LocalDate.parse(it.getTransactionDate(), D8))
+                .txTime(it.getTransactionTime() == null ? "000000" : it.getTransactionTime())
+                .type(it.getTransactionType())
+                .typeName(it.getTransactionTypeName())
+                .summary(it.getTransactionSummary())
+                .memo(it.getTransactionMemo())
+                .counterpartAccountNo(it.getTransactionAccountNo())
+                .amount(parseAmount(it.getTransactionBalance()))
+                .afterBalance(parseAmount(it.getTransactionAfterBalance()))
+                .syncedAt(now)
+                .build();
+    }
+
+    private static long parseAmount(String s) {
+        if (s == null || s.isBlank()) return 0L;
+        return Long.parseLong(s.replaceAll("[^\\d-]", ""));
+    }
+
+    private static void ensureOk(String code, String message, String prefix) {
+        if (!"H0000".equals(code)) {
+            throw new IllegalStateException(prefix + ": " + (code == null ? "no header" : (code + " - " + message)));
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
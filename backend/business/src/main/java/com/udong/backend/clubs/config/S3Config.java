@@ -7,6 +7,11 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
 
 @Configuration
 public class S3Config {
@@ -15,16 +20,42 @@ public class S3Config {
     public S3Client s3Client(
             @Value("${AWS_ACCESS_KEY_ID}") String accessKey,
             @Value("${AWS_SECRET_ACCESS_KEY}") String secretKey,
-            @Value("${AWS_REGION}") String region) {
+            @Value("${AWS_REGION}") String region,
+            @Value("${S3_ENDPOINT:}") String endpoint) { // MinIO 등 S3 호환 저장소 (로컬/테스트)
+
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(
+                        StaticCredentialsProvider.create(
+                                AwsBasicCredentials.create(accessKey, secretKey)
+                        )
+                );
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+
+    /** 직접 업로드용 presigned URL 발급 (S3Client 와 같은 자격 증명/엔드포인트) */
+    @Bean
+    public S3Presigner s3Presigner(
+            @Value("${AWS_ACCESS_KEY_ID}") String accessKey,
+            @Value("${AWS_SECRET_ACCESS_KEY}") String secretKey,
+            @Value("${AWS_REGION}") String region,
+            @Value("${S3_ENDPOINT:}") String endpoint) {
 
-        return S3Client.builder()
+        S3Presigner.Builder builder = S3Presigner.builder()
                 .region(Region.of(region))
                 .credentialsProvider(
                         StaticCredentialsProvider.create(
                                 AwsBasicCredentials.create(accessKey, secretKey)
                         )
-                )
-                .build();
+                );
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        return builder.build();
     }
 }
 
@@ -9,7 +9,9 @@ import java.time.LocalDateTime;
 
 
 @Entity @Table(name="memberships",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id","club_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id","club_id"}),
+        // 동아리 회원 전체 조회/회비 회차 생성(INSERT ... SELECT)을 인덱스만으로
+        indexes = @Index(name="idx_memberships_club_user", columnList="club_id, user_id"))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Membership {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
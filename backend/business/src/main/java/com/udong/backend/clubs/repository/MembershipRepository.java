@@ -33,6 +33,9 @@ public interface MembershipRepository extends JpaRepository<Membership, Integer>
 
     boolean existsByClub_IdAndUserId(Integer clubId, Integer userId);
 
+    @Query("select m.club.id from Membership m where m.userId = :userId")
+    List<Integer> findClubIdsByUserId(@Param("userId") Integer userId);
+
     Optional<Membership> findByClub_IdAndUserId(Integer clubId, Integer userId);
 
     Optional<Membership> findByIdAndClub_Id(Integer id, Integer clubId);
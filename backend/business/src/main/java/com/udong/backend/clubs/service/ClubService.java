@@ -13,13 +13,14 @@ import com.udong.backend.codes.repository.CodeDetailRepository;
 import com.udong.backend.global.config.AccountCrypto;
 import com.udong.backend.shop.entity.ClubPointsLedger;
 import com.udong.backend.shop.repository.ClubPointsLedgerRepository;
-import com.udong.backend.shop.entity.UserPointLedger;
-import com.udong.backend.shop.repository.PointRepository;
+import com.udong.backend.shop.dto.UserPointLedgerRequest;
+import com.udong.backend.shop.service.PointRewardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Locale;
 
@@ -35,7 +36,7 @@ public class ClubService {
     private final MascotService mascotService;
     private final ChatRoomService chatRoomService;
     private final ClubPointsLedgerRepository clubPointsLedgerRepository;
-    private final PointRepository pointRepository;
+    private final PointRewardService pointRewardService;
 
     private final String GLOBAL_CODE = "GLOBAL";
     private final String GLOBAL_CHATROOM_NAME = "전체 채팅방";
@@ -235,34 +236,14 @@ public class ClubService {
     }
 
     private void addDailyAccessPoints(Integer clubId, Integer userId, int points, String memo) {
-        // 1. 현재 포인트 조회
-        Integer currPoint = pointRepository.findTopByUserIdAndClubIdOrderByCreatedAtDesc(userId, clubId)
-                .map(UserPointLedger::getCurrPoint)
-                .orElse(0);
-
-        int newPoint = currPoint + points;
-
-        // 2. 유저 포인트 로그 생성
-        UserPointLedger ledger = UserPointLedger.builder()
-                .userId(userId)
+        // 적립은 보상 대기열에서 비동기로, 하루 한 번만 쌓이도록 날짜를 키에 넣는다
+        String sourceKey = "ATTEND:" + clubId + ":" + userId + ":" + LocalDate.now();
+        pointRewardService.reward(userId, UserPointLedgerRequest.builder()
                 .clubId(clubId)
-                .delta(points)
-                .currPoint(newPoint)
                 .codeName("ATTEND")
+                .delta(points)
                 .memo(memo)
-                .build();
-
-        pointRepository.save(ledger);
-
-        // 3. 동아리 포인트도 함께 증가
-        ClubPointsLedger clubPointsLedger = clubPointsLedgerRepository.findByClubId(clubId.longValue())
-                .orElseGet(() -> {
-                    ClubPointsLedger newClubLedger = ClubPointsLedger.createZero(clubId.longValue());
-                    return clubPointsLedgerRepository.save(newClubLedger);
-                });
-
-        clubPointsLedger.addPoints(points);
-        clubPointsLedgerRepository.save(clubPointsLedger);
+                .build(), sourceKey);
     }
 
     public static String toIsoKST(java.time.LocalDateTime dt) {
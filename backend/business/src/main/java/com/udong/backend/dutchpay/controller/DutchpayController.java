@@ -31,7 +31,8 @@ public class DutchpayController {
             @RequestPart(name = "receipt", required = false) MultipartFile receipt,
             @RequestParam(required = false) String note,
             @RequestParam Integer amount,
-            @RequestParam("participantUserIds") List<Integer> participantUserIds
+            @RequestParam("participantUserIds") List<Integer> participantUserIds,
+            @RequestParam(required = false) String receiptTicket // 직접 업로드한 영수증 (receipt 대신)
     ) {
         Integer userId = securityUtils.currentUserId();
 
@@ -42,15 +43,20 @@ public class DutchpayController {
                 .participantUserIds(participantUserIds)
                 .build();
 
-        dutchpayService.createWithOptionalImage(chatId, req, userId, receipt);
+        dutchpayService.createWithOptionalImage(chatId, req, userId, receipt, receiptTicket);
         return ResponseEntity.ok(ApiResponse.ok("정산 생성 완료"));
     }
 
-    /** 내 정산 목록 조회: GET /api/v1/dutchpay */
+    /** 내 정산 목록 조회: GET /api/v1/dutchpay/{clubId}?status=open&cursor={마지막 id}&size=20 */
     @GetMapping("/{clubId}")
-    public ResponseEntity<ApiResponse<List<DutchpayListResponse>>> getMyDutchpays(@PathVariable Integer clubId) {
+    public ResponseEntity<ApiResponse<List<DutchpayListResponse>>> getMyDutchpays(
+            @PathVariable Integer clubId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Integer cursor,
+            @RequestParam(required = false) Integer size
+    ) {
         Integer userId = securityUtils.currentUserId();
-        List<DutchpayListResponse> list = dutchpayService.findByUser(userId, clubId);
+        List<DutchpayListResponse> list = dutchpayService.findByUser(userId, clubId, status, cursor, size);
 
         return ResponseEntity.ok(ApiResponse.ok(list));
     }
@@ -61,14 +67,15 @@ public class DutchpayController {
         return ResponseEntity.ok(ApiResponse.ok(body));
     }
 
-    /** 정산하기 (출금자 → 입금자) */
+    /** 정산하기 (출금자 → 입금자). Idempotency-Key 가 같으면 다시 이체하지 않는다 */
     @PostMapping("/{dutchpayId}/pay")
     public ResponseEntity<ApiResponse<PayResponse>> pay(
             @PathVariable Integer dutchpayId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody PayRequest req
     ) {
         Integer currentUserId = securityUtils.currentUserId();
-        PayResponse result = dutchpayService.pay(dutchpayId, currentUserId, req);
+        PayResponse result = dutchpayService.pay(dutchpayId, currentUserId, req, idempotencyKey);
         return ResponseEntity.ok(ApiResponse.ok(result));
     }
 
@@ -80,6 +87,17 @@ public class DutchpayController {
         return ResponseEntity.ok(ApiResponse.ok("정산 삭제 완료"));
     }
 
+    /** 직접 업로드한 영수증 연결 */
+    @PutMapping("/{dutchpayId}/receipt")
+    public ResponseEntity<ApiResponse<?>> attachReceipt(
+            @PathVariable Integer dutchpayId,
+            @Valid @RequestBody ReceiptTicketRequest req
+    ) {
+        Integer currentUserId = securityUtils.currentUserId();
+        dutchpayService.attachReceipt(dutchpayId, currentUserId, req.getTicket());
+        return ResponseEntity.ok(ApiResponse.ok("영수증 등록 완료"));
+    }
+
     /** 정산 종료 */
     @PutMapping("/{dutchpayId}")
     public ResponseEntity<ApiResponse<?>> dutchpayDone(@PathVariable Integer dutchpayId) {
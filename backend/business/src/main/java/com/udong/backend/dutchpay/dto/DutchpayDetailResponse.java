@@ -18,6 +18,7 @@ public class DutchpayDetailResponse {
     private boolean isDone;
     private String s3Key;
     private String imageUrl;
+    private String thumbnailUrl;
     private EventInfo event;
     private List<ParticipantInfo> participants;
 
@@ -15,9 +15,11 @@ public class DutchpayListResponse {
     private String note;              // d.note
     private Integer amount;           // d.amount
     private Long participantCount;    // (select count(...)) -> Long !!!
+    private Long paidCount;           // 납부 완료한 참여자 수
     private Integer eventId;          // e.id
     private String eventTitle;        // e.title
     private Boolean isDone;
+    private Boolean myPaid;           // 조회한 사용자의 납부 여부
 
     // JPQL constructor expression과 "완전히" 동일한 시그니처
     public DutchpayListResponse(
@@ -26,17 +28,21 @@ public class DutchpayListResponse {
             String note,
             Integer amount,
             Long participantCount,   // <-- Long이어야 함
+            Long paidCount,
             Integer eventId,
             String eventTitle,
-            Boolean isDone
+            Boolean isDone,
+            Boolean myPaid
     ) {
         this.id = id;
         this.createdAt = createdAt;
         this.note = note;
         this.amount = amount;
         this.participantCount = (participantCount == null) ? 0L : participantCount;
+        this.paidCount = (paidCount == null) ? 0L : paidCount;
         this.eventId = eventId;
         this.eventTitle = eventTitle;
         this.isDone = isDone;
+        this.myPaid = myPaid;
     }
 }
@@ -6,7 +6,7 @@ import lombok.Getter;
 /**
  * 정산하기 응답 DTO
  * - paid: 납부 완료 여부
- * - responseCode: 외부 API 응답 코드 (성공 시 "H0000")
+ * - responseCode: 외부 API 응답 코드 (성공 시 "H0000", 복구 작업이 거래내역으로 확정한 이체는 null)
  * - responseMessage: 외부 API 응답 메시지
  */
 @Getter
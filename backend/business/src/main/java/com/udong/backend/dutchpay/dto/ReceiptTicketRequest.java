@@ -0,0 +1,18 @@
+package com.udong.backend.dutchpay.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 직접 업로드한 영수증 연결 요청 DTO
+ * - ticket: POST /v1/uploads/tickets 로 받은 업로드 티켓
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReceiptTicketRequest {
+    @NotBlank
+    private String ticket;
+}
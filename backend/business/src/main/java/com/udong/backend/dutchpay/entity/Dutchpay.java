@@ -65,6 +65,10 @@ public class Dutchpay {
     @Column(name = "image_url", length = 500)
     private String imageUrl;
 
+    /** 영수증 썸네일 주소 */
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;
+
     /** 정산 종료 여부 */
     @Column(name = "is_done", nullable = false)
     private boolean isDone;
@@ -0,0 +1,57 @@
+package com.udong.backend.dutchpay.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 더치페이 일별 집계 (동아리, 유저, 날짜)
+ * 정산 생성/납부/삭제 때 증감되며, 30일 통계는 이 행들의 합으로 계산한다.
+ * 날짜는 모두 정산 생성일 기준이다 (삭제 시 같은 행에서 되돌리기 위해).
+ */
+@Entity
+@Table(name = "dutchpay_daily_stats",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_dutchpay_stats_club_date_user", columnNames = {"club_id", "stat_date", "user_id"})
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DutchpayDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "club_id", nullable = false)
+    private Integer clubId;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    /** 생성한 정산 수 / 금액 / 최대 금액 */
+    @Column(name = "created_count", nullable = false)
+    private int createdCount;
+
+    @Column(name = "created_amount", nullable = false)
+    private long createdAmount;
+
+    @Column(name = "max_amount", nullable = false)
+    private int maxAmount;
+
+    /** 참여한 정산 수 (생성자 포함) */
+    @Column(name = "participated_count", nullable = false)
+    private int participatedCount;
+
+    /** 내야 할 몫 / 낸 몫 (생성자 본인 몫은 제외) */
+    @Column(name = "owed_amount", nullable = false)
+    private long owedAmount;
+
+    @Column(name = "paid_amount", nullable = false)
+    private long paidAmount;
+}
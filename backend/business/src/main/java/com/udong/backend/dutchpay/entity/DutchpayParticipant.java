@@ -16,8 +16,10 @@ import org.hibernate.annotations.OnDeleteAction;
 @Table(
         name = "dutchpay_participants",
         indexes = {
-                @Index(name = "idx_participants_dutchpay", columnList = "dutchpay_id"),
-                @Index(name = "idx_participants_user", columnList = "user_id")
+                // 참여자 수/납부자 수 서브쿼리를 인덱스만으로 처리
+                @Index(name = "idx_participants_dutchpay_paid", columnList = "dutchpay_id, is_paid"),
+                // 내 정산 목록: user_id 로 찾고 dutchpay_id 역순으로 keyset
+                @Index(name = "idx_participants_user_dutchpay", columnList = "user_id, dutchpay_id, is_paid")
         }
 )
 public class DutchpayParticipant {
@@ -0,0 +1,179 @@
+package com.udong.backend.dutchpay.repository;
+
+import com.udong.backend.dutchpay.entity.DutchpayDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DutchpayDailyStatsRepository extends JpaRepository<DutchpayDailyStats, Long> {
+
+    // ===== 증감 =====
+
+    // 정산 생성/납부: 없으면 만들고 있으면 더한다
+    @Modifying
+    @Query(value = """
+            INSERT INTO dutchpay_daily_stats
+                (club_id, user_id, stat_date, created_count, created_amount, max_amount,
+                 participated_count, owed_amount, paid_amount)
+            VALUES (:clubId, :userId, :statDate, :createdCount, :createdAmount, :maxAmount,
+                    :participatedCount, :owedAmount, :paidAmount)
+            ON DUPLICATE KEY UPDATE
+                created_count      = created_count + VALUES(created_count),
+                created_amount     = created_amount + VALUES(created_amount),
+                max_amount         = GREATEST(max_amount, VALUES(max_amount)),
+                participated_count = participated_count + VALUES(participated_count),
+                owed_amount        = owed_amount + VALUES(owed_amount),
+                paid_amount        = paid_amount + VALUES(paid_amount)
+            """, nativeQuery = true)
+    int add(@Param("clubId") Integer clubId,
+            @Param("userId") Integer userId,
+            @Param("statDate") LocalDate statDate,
+            @Param("createdCount") int createdCount,
+            @Param("createdAmount") long createdAmount,
+            @Param("maxAmount") int maxAmount,
+            @Param("participatedCount") int participatedCount,
+            @Param("owedAmount") long owedAmount,
+            @Param("paidAmount") long paidAmount);
+
+    // 정산 삭제: 있는 행에서만 빼고 0 아래로 내려가지 않게 한다
+    @Modifying
+    @Query(value = """
+            UPDATE dutchpay_daily_stats
+            SET created_count      = GREATEST(created_count - :createdCount, 0),
+                created_amount     = GREATEST(created_amount - :createdAmount, 0),
+                participated_count = GREATEST(participated_count - :participatedCount, 0),
+                owed_amount        = GREATEST(owed_amount - :owedAmount, 0),
+                paid_amount        = GREATEST(paid_amount - :paidAmount, 0)
+            WHERE club_id = :clubId AND stat_date = :statDate AND user_id = :userId
+            """, nativeQuery = true)
+    int subtract(@Param("clubId") Integer clubId,
+                 @Param("userId") Integer userId,
+                 @Param("statDate") LocalDate statDate,
+                 @Param("createdCount") int createdCount,
+                 @Param("createdAmount") long createdAmount,
+                 @Param("participatedCount") int participatedCount,
+                 @Param("owedAmount") long owedAmount,
+                 @Param("paidAmount") long paidAmount);
+
+    // 최대 금액은 뺄 수 없으므로 삭제되는 정산을 제외하고 그날 생성분에서 다시 구한다
+    @Modifying
+    @Query(value = """
+            UPDATE dutchpay_daily_stats s
+            SET s.max_amount = COALESCE((
+                    SELECT MAX(d.amount)
+                    FROM dutchpays d
+                    JOIN events e ON e.id = d.event_id
+                    WHERE e.club_id = :clubId
+                      AND d.created_by = :userId
+                      AND d.created_at >= :statDate
+                      AND d.created_at < DATE_ADD(:statDate, INTERVAL 1 DAY)
+                      AND d.id <> :excludeDutchpayId), 0)
+            WHERE s.club_id = :clubId AND s.stat_date = :statDate AND s.user_id = :userId
+            """, nativeQuery = true)
+    int recomputeMax(@Param("clubId") Integer clubId,
+                     @Param("userId") Integer userId,
+                     @Param("statDate") LocalDate statDate,
+                     @Param("excludeDutchpayId") Integer excludeDutchpayId);
+
+    // ===== 재집계 (야간 보정 / 최초 채우기, 하루씩) =====
+
+    @Modifying
+    @Query(value = "DELETE FROM dutchpay_daily_stats WHERE stat_date = :day", nativeQuery = true)
+    int deleteDay(@Param("day") LocalDate day);
+
+    // 몫(owed/paid)은 증감 때와 같이 amount DIV 참여자 수, 생성자 본인 몫은 제외
+    @Modifying
+    @Query(value = """
+            INSERT INTO dutchpay_daily_stats
+                (club_id, user_id, stat_date, created_count, created_amount, max_amount,
+                 participated_count, owed_amount, paid_amount)
+            SELECT club_id, user_id, stat_date,
+                   SUM(created_count), SUM(created_amount), MAX(max_amount),
+                   SUM(participated_count), SUM(owed_amount), SUM(paid_amount)
+            FROM (
+                SELECT e.club_id, d.created_by AS user_id, DATE(d.created_at) AS stat_date,
+                       1 AS created_count, d.amount AS created_amount, d.amount AS max_amount,
+                       0 AS participated_count, 0 AS owed_amount, 0 AS paid_amount
+                FROM dutchpays d
+                JOIN events e ON e.id = d.event_id
+                WHERE d.created_at >= :day
+                  AND d.created_at < DATE_ADD(:day, INTERVAL 1 DAY)
+                UNION ALL
+                SELECT e.club_id, dp.user_id, DATE(d.created_at),
+                       0, 0, 0, 1,
+                       CASE WHEN dp.user_id = d.created_by THEN 0 ELSE d.amount DIV c.cnt END,
+                       CASE WHEN dp.user_id = d.created_by OR dp.is_paid = false THEN 0 ELSE d.amount DIV c.cnt END
+                FROM dutchpays d
+                JOIN events e ON e.id = d.event_id
+                JOIN dutchpay_participants dp ON dp.dutchpay_id = d.id
+                JOIN (SELECT p.dutchpay_id, COUNT(*) AS cnt
+                      FROM dutchpay_participants p
+                      JOIN dutchpays pd ON pd.id = p.dutchpay_id
+                      WHERE pd.created_at >= :day
+                        AND pd.created_at < DATE_ADD(:day, INTERVAL 1 DAY)
+                      GROUP BY p.dutchpay_id) c ON c.dutchpay_id = d.id
+                WHERE d.created_at >= :day
+                  AND d.created_at < DATE_ADD(:day, INTERVAL 1 DAY)
+            ) x
+            GROUP BY club_id, user_id, stat_date
+            """, nativeQuery = true)
+    int rebuildDay(@Param("day") LocalDate day);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM dutchpay_daily_stats)", nativeQuery = true)
+    long existsAny();
+
+    // ===== 조회 (최대 30일 x 활동 유저 수 행) =====
+
+    interface StatsSummaryProjection {
+        Long getTotalDutchpays();
+        Long getTotalAmount();
+        Integer getMaxAmount();
+        Long getUniqueParticipants();
+    }
+
+    @Query(value = """
+            SELECT
+                COALESCE(SUM(s.created_count), 0) AS totalDutchpays,
+                COALESCE(SUM(s.created_amount), 0) AS totalAmount,
+                COALESCE(MAX(s.max_amount), 0) AS maxAmount,
+                COUNT(DISTINCT CASE WHEN s.participated_count > 0 THEN s.user_id END) AS uniqueParticipants
+            FROM dutchpay_daily_stats s
+            WHERE s.club_id = :clubId
+              AND s.stat_date >= :from
+            """, nativeQuery = true)
+    StatsSummaryProjection summarize(@Param("clubId") Integer clubId, @Param("from") LocalDate from);
+
+    interface TopPayerProjection {
+        Integer getUserId();
+        String getUserName();
+        Long getTotalAmount();
+        Integer getDutchpayCount();
+    }
+
+    @Query(value = """
+            SELECT
+                u.id AS userId,
+                u.name AS userName,
+                t.dutchpayCount,
+                t.totalAmount
+            FROM (
+                SELECT s.user_id,
+                       SUM(s.created_count) AS dutchpayCount,
+                       SUM(s.created_amount) AS totalAmount
+                FROM dutchpay_daily_stats s
+                WHERE s.club_id = :clubId
+                  AND s.stat_date >= :from
+                GROUP BY s.user_id
+                HAVING SUM(s.created_count) > 0
+                ORDER BY totalAmount DESC
+                LIMIT 5
+            ) t
+            JOIN users u ON u.id = t.user_id
+            ORDER BY t.totalAmount DESC
+            """, nativeQuery = true)
+    List<TopPayerProjection> findTopPayers(@Param("clubId") Integer clubId, @Param("from") LocalDate from);
+}
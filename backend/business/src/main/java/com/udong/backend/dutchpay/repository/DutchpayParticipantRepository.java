@@ -2,12 +2,15 @@ package com.udong.backend.dutchpay.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import com.udong.backend.dutchpay.entity.DutchpayParticipant;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface DutchpayParticipantRepository extends JpaRepository<DutchpayParticipant, Integer> {
 
@@ -15,12 +18,23 @@ public interface DutchpayParticipantRepository extends JpaRepository<DutchpayPar
     @EntityGraph(attributePaths = {"user"})
     List<DutchpayParticipant> findByDutchpayId(Integer dutchpayId);
 
+    // 결제 시작 시 최신 납부 상태 확인용 (잠금 조회)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+           select p from DutchpayParticipant p
+            where p.dutchpay.id = :dutchpayId
+              and p.user.id     = :userId
+           """)
+    Optional<DutchpayParticipant> findForUpdate(@Param("dutchpayId") Integer dutchpayId,
+                                                @Param("userId") Integer userId);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
            update DutchpayParticipant p
               set p.isPaid = true
             where p.dutchpay.id = :dutchpayId
               and p.user.id     = :userId
+              and p.isPaid      = false
            """)
     int markPaid(@Param("dutchpayId") Integer dutchpayId,
                  @Param("userId") Integer userId);
@@ -2,9 +2,10 @@ package com.udong.backend.dutchpay.repository;
 
 import com.udong.backend.dutchpay.dto.DutchpayListResponse;
 import com.udong.backend.dutchpay.entity.Dutchpay;
-import com.udong.backend.users.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,82 +14,52 @@ import java.util.Optional;
 
 public interface DutchpayRepository extends JpaRepository<Dutchpay, Integer> {
 
-    @Query("SELECT new com.udong.backend.dutchpay.dto.DutchpayListResponse(" +
-            "d.id, d.createdAt, d.note, d.amount, COUNT(DISTINCT dp), " +
-            "d.event.id, e.title, d.isDone) " +
-            "FROM Dutchpay d " +
-            "JOIN d.participants dp " +
-            "JOIN d.event e " +
-            "WHERE dp.user.id = :userId " +  // 참여한 정산만 필터링
-            "AND e.club.id = :clubId " +     // 동아리 ID 조건 추가
-            "GROUP BY d.id, d.createdAt, d.note, d.amount, d.event.id, e.title, d.isDone")
-    List<DutchpayListResponse> findSummaryByUserIdAndClubId(@Param("userId") Integer userId, @Param("clubId") Integer clubId);
-
-    @Query("SELECT COUNT(DISTINCT dp) " +
-            "FROM DutchpayParticipant dp " +
-            "WHERE dp.dutchpay.id = :dutchpayId")
-    Long getParticipantCount(@Param("dutchpayId") Integer dutchpayId);
-
-
-
+    /**
+     * 내 정산 목록 (한 번의 쿼리)
+     * 참여자 수/납부자 수는 상관 서브쿼리, 내 납부 여부는 내 참여 행(me)에서 바로 가져온다.
+     * done 이 null 이면 전체, cursorId 가 있으면 그보다 오래된(id 작은) 정산만 (keyset)
+     */
+    @Query("""
+            SELECT new com.udong.backend.dutchpay.dto.DutchpayListResponse(
+                d.id, d.createdAt, d.note, d.amount,
+                (SELECT COUNT(p) FROM DutchpayParticipant p WHERE p.dutchpay = d),
+                (SELECT COUNT(p) FROM DutchpayParticipant p WHERE p.dutchpay = d AND p.isPaid = true),
+                e.id, e.title, d.isDone, me.isPaid)
+            FROM DutchpayParticipant me
+            JOIN me.dutchpay d
+            JOIN d.event e
+            WHERE me.user.id = :userId
+              AND e.club.id = :clubId
+              AND (:done IS NULL OR d.isDone = :done)
+              AND (:cursorId IS NULL OR d.id < :cursorId)
+            ORDER BY d.id DESC
+            """)
+    List<DutchpayListResponse> findListByUser(@Param("userId") Integer userId,
+                                              @Param("clubId") Integer clubId,
+                                              @Param("done") Boolean done,
+                                              @Param("cursorId") Integer cursorId,
+                                              Limit limit);
 
     // 상세 조회 시 event, createdBy, participants.user 를 한 방에 가져오기
     @EntityGraph(attributePaths = {"event", "createdBy", "participants.user"})
     Optional<Dutchpay> findWithAllById(Integer id);
 
-    // ===== 통계 쿼리 (Redis 캐싱 대상) =====
+    // 정산이 속한 동아리 id
+    @Query("SELECT e.club.id FROM Dutchpay d JOIN d.event e WHERE d.id = :id")
+    Optional<Integer> findClubIdById(@Param("id") Integer id);
 
-    /**
-     * 동아리별 최근 30일 더치페이 통계 - 기본 집계
-     * 4개 테이블 JOIN + 집계 함수 → Redis 캐싱 대상
-     */
-    interface MonthlyStatsProjection {
-        Long getTotalDutchpays();
-        Long getTotalAmount();
-        Double getAvgAmount();
-        Integer getMaxAmount();
-        Long getUniqueParticipants();
-    }
-
-    @Query(value = """
-        SELECT
-            COUNT(DISTINCT d.id) as totalDutchpays,
-            COALESCE(SUM(d.amount), 0) as totalAmount,
-            COALESCE(AVG(d.amount), 0) as avgAmount,
-            COALESCE(MAX(d.amount), 0) as maxAmount,
-            COUNT(DISTINCT dp.user_id) as uniqueParticipants
-        FROM dutchpays d
-        JOIN events e ON e.id = d.event_id
-        LEFT JOIN dutchpay_participants dp ON dp.dutchpay_id = d.id
-        WHERE e.club_id = :clubId
-          AND d.created_at >= DATE_SUB(NOW(), INTERVAL 30 DAY)
-        """, nativeQuery = true)
-    MonthlyStatsProjection findMonthlyStatsByClubId(@Param("clubId") Integer clubId);
+    // 직접 업로드 원본(.../direct/...)이 연결된 채 아직 변환되지 않은 영수증 키
+    @Query("SELECT d.s3Key FROM Dutchpay d WHERE d.s3Key LIKE '%/direct/%' ORDER BY d.id")
+    List<String> findDirectUploadKeys(Limit limit);
 
-    /**
-     * 동아리별 최근 30일 상위 5명 지출자
-     */
-    interface TopPayerProjection {
-        Integer getUserId();
-        String getUserName();
-        Long getTotalAmount();
-        Integer getDutchpayCount();
-    }
+    @Modifying
+    @Query("UPDATE Dutchpay d SET d.s3Key = :key, d.imageUrl = :imageUrl, d.thumbnailUrl = :thumbnailUrl WHERE d.s3Key = :sourceKey")
+    int attachProcessedReceipt(@Param("sourceKey") String sourceKey,
+                               @Param("key") String key,
+                               @Param("imageUrl") String imageUrl,
+                               @Param("thumbnailUrl") String thumbnailUrl);
 
-    @Query(value = """
-        SELECT
-            u.id as userId,
-            u.name as userName,
-            COUNT(d.id) as dutchpayCount,
-            SUM(d.amount) as totalAmount
-        FROM dutchpays d
-        JOIN events e ON e.id = d.event_id
-        JOIN users u ON u.id = d.created_by
-        WHERE e.club_id = :clubId
-          AND d.created_at >= DATE_SUB(NOW(), INTERVAL 30 DAY)
-        GROUP BY u.id, u.name
-        ORDER BY totalAmount DESC
-        LIMIT 5
-        """, nativeQuery = true)
-    List<TopPayerProjection> findTopPayersByClubId(@Param("clubId") Integer clubId);
+    @Modifying
+    @Query("UPDATE Dutchpay d SET d.s3Key = null, d.imageUrl = null, d.thumbnailUrl = null WHERE d.s3Key = :sourceKey")
+    int detachReceipt(@Param("sourceKey") String sourceKey);
 }
@@ -0,0 +1,50 @@
+package com.udong.backend.dutchpay.service;
+
+import com.udong.backend.dutchpay.entity.Dutchpay;
+import com.udong.backend.dutchpay.repository.DutchpayParticipantRepository;
+import com.udong.backend.dutchpay.repository.DutchpayRepository;
+import com.udong.backend.payment.entity.PaymentTransfer;
+import com.udong.backend.payment.service.PaymentCompletionHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 더치페이 이체 완료 → 참가자 납부 처리 + 일별 집계 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class DutchpayPaymentHandler implements PaymentCompletionHandler {
+
+    private final DutchpayRepository dutchpayRepository;
+    private final DutchpayParticipantRepository participantRepository;
+    private final DutchpayStatsService statsService;
+
+    @Override
+    public PaymentTransfer.Type type() {
+        return PaymentTransfer.Type.DUTCHPAY;
+    }
+
+    @Override
+    public boolean isSettled(PaymentTransfer transfer) {
+        return participantRepository.findForUpdate(transfer.getTargetId(), transfer.getUserId())
+                .map(p -> p.isPaid())
+                .orElseThrow(() -> new IllegalArgumentException("정산 참가자가 아닙니다."));
+    }
+
+    @Override
+    public void onCompleted(PaymentTransfer transfer) {
+        // markPaid 가 영속성 컨텍스트를 비우므로 통계에 쓸 값은 먼저 읽어 둔다
+        Dutchpay dutchpay = dutchpayRepository.findById(transfer.getTargetId()).orElse(null);
+        if (dutchpay == null) {
+            // 이체 후 정산이 삭제된 경우: 이체 기록만 남긴다
+            return;
+        }
+        Integer clubId = dutchpay.getEvent().getClub().getId();
+        dutchpay.getParticipants().size();
+
+        int marked = participantRepository.markPaid(transfer.getTargetId(), transfer.getUserId());
+        if (marked > 0) {
+            statsService.recordPaid(clubId, dutchpay, transfer.getUserId());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.udong.backend.dutchpay.service;
+
+import com.udong.backend.dutchpay.repository.DutchpayRepository;
+import com.udong.backend.global.image.ReceiptImageUploader;
+import com.udong.backend.upload.dto.UploadPurpose;
+import com.udong.backend.upload.service.DirectUploadHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 더치페이 영수증 직접 업로드 → 변환본 키/URL 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class DutchpayReceiptUploadHandler implements DirectUploadHandler {
+
+    private final DutchpayRepository dutchpayRepository;
+
+    @Override
+    public UploadPurpose purpose() {
+        return UploadPurpose.DUTCHPAY_RECEIPT;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findUnprocessedKeys(int limit) {
+        return dutchpayRepository.findDirectUploadKeys(Limit.of(limit));
+    }
+
+    @Override
+    @Transactional
+    public boolean onProcessed(String sourceKey, ReceiptImageUploader.StoredImage image) {
+        return dutchpayRepository.attachProcessedReceipt(sourceKey, image.key(), image.url(), image.thumbnailUrl()) > 0;
+    }
+
+    @Override
+    @Transactional
+    public void onRejected(String sourceKey) {
+        dutchpayRepository.detachReceipt(sourceKey);
+    }
+}
@@ -11,12 +11,13 @@ import com.udong.backend.dutchpay.entity.Dutchpay;
 import com.udong.backend.dutchpay.entity.DutchpayParticipant;
 import com.udong.backend.dutchpay.repository.DutchpayParticipantRepository;
 import com.udong.backend.dutchpay.repository.DutchpayRepository;
-import com.udong.backend.fin.client.FinApiClient;
-import com.udong.backend.fin.dto.FinHeader;
-import com.udong.backend.fin.util.FinHeaderFactory;
 import com.udong.backend.global.config.AccountCrypto;
 import com.udong.backend.global.exception.PaymentPasswordException;
-import com.udong.backend.global.s3.S3Uploader;
+import com.udong.backend.global.image.ReceiptImageUploader;
+import com.udong.backend.payment.entity.PaymentTransfer;
+import com.udong.backend.payment.service.PaymentSagaService;
+import com.udong.backend.upload.dto.UploadPurpose;
+import com.udong.backend.upload.service.UploadTicketService;
 import com.udong.backend.users.entity.User;
 import com.github.f4b6a3.ulid.UlidCreator;
 import com.udong.backend.users.repository.UserRepository;
@@ -29,17 +30,15 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -60,29 +59,22 @@ public class DutchpayService {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final ChatWebSocketHandler chatWebSocketHandler;
-    private final S3Uploader s3Uploader;
+    private final ReceiptImageUploader receiptImageUploader;
+    private final UploadTicketService uploadTicketService;
     private final AccountCrypto accountCrypto;
-    private final FinApiClient finApiClient; // 외부 API 호출용 (WebClient 감싼 클래스)
+    private final PaymentSagaService paymentSagaService;
     private final UserService userService;
+    private final DutchpayStatsService statsService;
 
     // 도메인별 프리픽스 (env 없으면 기본값 'dutchpay')
     @Value("${S3_PREFIX_DUTCHPAY:dutchpay}")
     private String dutchpayPrefix;
 
-    // application.yml에서 주입
-    @Value("${finapi.institution-code:00100}")
-    private String institutionCode;
-
-    @Value("${finapi.fintech-app-no:001}")
-    private String fintechAppNo;
-
-    @Value("${finapi.api-key}")
-    private String apiKey;
-
     public void createWithOptionalImage(Integer chatId,
                                         CreateDutchpayRequest req,
                                         int createdByUserId,
-                                        @Nullable MultipartFile receipt) {
+                                        @Nullable MultipartFile receipt,
+                                        @Nullable String receiptTicket) {
 
         Integer eventId = eventRepository.findEventIdByChatId(chatId)
                 .orElseThrow(() -> new IllegalArgumentException("EVENT 타입 채팅방이 아니거나, 매핑되는 이벤트가 없습니다. chatId=" + chatId));
@@ -99,22 +91,31 @@ public class DutchpayService {
         // --- 영수증 업로드 (있을 때만) ---
         String s3Key = null;
         String imageUrl = null;
-        if (receipt != null && !receipt.isEmpty()) {
+        String thumbnailUrl = null;
+        boolean hasFile = receipt != null && !receipt.isEmpty();
+        if (hasFile && receiptTicket != null) {
+            throw new IllegalArgumentException("영수증은 파일 또는 업로드 티켓 중 하나만 보낼 수 있습니다.");
+        }
+        if (receiptTicket != null) {
+            // 저장소에 직접 올린 영수증 연결 (HEAD 로 업로드 확인)
+            // URL 은 커밋 후 변환(메타데이터 제거 + 썸네일)이 끝나면 채워진다 (DirectUploadProcessor)
+            UploadTicketService.ConfirmedUpload upload =
+                    uploadTicketService.confirm(receiptTicket, createdByUserId, UploadPurpose.DUTCHPAY_RECEIPT);
+            s3Key = upload.key();
+        } else if (hasFile) {
             validateImage(receipt); // 용량/타입 1차 검증 (image/*)
 
-            // 키: dutchpay/{eventId|general}/receipts/{ULID}.png
+            // 키: dutchpay/{eventId|general}/receipts/{ULID}.jpg (+ _thumb.jpg)
             String scope = (req.getEventId() == null) ? "general" : String.valueOf(req.getEventId());
             String ulid = UlidCreator.getMonotonicUlid().toString().toLowerCase();
-            String key = "%s/%s/receipts/%s.png".formatted(dutchpayPrefix, scope, ulid);
-
-            // PNG 바이트로 변환(JPEG 등도 PNG로 인코딩하여 저장)
-            byte[] pngBytes = toPngBytes(receipt);
+            String keyBase = "%s/%s/receipts/%s".formatted(dutchpayPrefix, scope, ulid);
 
-            // 업로드 → 공개 URL 반환
-            String publicUrl = s3Uploader.putPng(pngBytes, key);
+            // 축소 + 메타데이터 제거 후 JPEG 로 업로드 (썸네일 포함)
+            ReceiptImageUploader.StoredImage stored = receiptImageUploader.upload(receipt, keyBase);
 
-            s3Key = key;
-            imageUrl = publicUrl;
+            s3Key = stored.key();
+            imageUrl = stored.url();
+            thumbnailUrl = stored.thumbnailUrl();
         }
 
         // --- 본문 + 참가자 저장 ---
@@ -125,6 +126,7 @@ public class DutchpayService {
                 .createdBy(creatorRef)
                 .s3Key(s3Key)          // 파일 없으면 null
                 .imageUrl(imageUrl)
+                .thumbnailUrl(thumbnailUrl)
                 .isDone(false)
                 .build();
 
@@ -143,6 +145,14 @@ public class DutchpayService {
 
         Dutchpay savedDutchpay = dutchpayRepository.save(dutchpay);
 
+        // 이벤트에서 클럽 ID 가져오기
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalStateException("Event not found"));
+        Integer clubId = event.getClub().getId();
+
+        // 일별 통계 반영
+        statsService.recordCreated(clubId, savedDutchpay);
+
         // 더치페이 생성 알림 발송
         try {
             // 참여자들의 ID를 Long 타입으로 변환
@@ -152,16 +162,12 @@ public class DutchpayService {
                     .collect(Collectors.toList());
 
             if (!participantIds.isEmpty()) {
-                // 이벤트에서 클럽 ID 가져오기
-                Event event = eventRepository.findById(eventId)
-                        .orElseThrow(() -> new IllegalStateException("Event not found"));
-
                 NotificationRequest notificationRequest = NotificationRequest.builder()
                         .payload("새로운 더치페이 정산이 시작되었습니다: [" + savedDutchpay.getNote() + "]")
                         .type("DUTCHPAY_OPEN")
                         .targetId(savedDutchpay.getId().longValue())
                         .createdBy((long) createdByUserId)
-                        .clubId(event.getClub().getId().longValue())
+                        .clubId(clubId.longValue())
                         .recipientUserIds(participantIds)
                         .build();
 
@@ -207,20 +213,16 @@ public class DutchpayService {
 
     /**
      * 현재 사용자(userId)가 '참여자'로 포함된 정산 목록을 status로 필터링해서 반환
-     * status:  "open" | "completed"
+     * status:  "open" | "completed" (없으면 전체)
+     * cursorId: 이전 페이지 마지막 정산 ID (keyset), size 가 없으면 전체를 반환
      */
-    public List<DutchpayListResponse> findByUser(Integer userId, Integer clubId) {
-        // 1. 사용자 참여 정산 목록 조회
-        List<DutchpayListResponse> dutchpayList = dutchpayRepository.findSummaryByUserIdAndClubId(userId, clubId);
-
-        // 2. 각 정산의 참여자 수를 추가로 조회
-        for (DutchpayListResponse dutchpay : dutchpayList) {
-            Integer dutchpayId = dutchpay.getId();
-            Long participantCount = dutchpayRepository.getParticipantCount(dutchpayId);
-            dutchpay.setParticipantCount(participantCount);  // 참여자 수 설정
-        }
-
-        return dutchpayList;
+    @Transactional(readOnly = true)
+    public List<DutchpayListResponse> findByUser(Integer userId, Integer clubId,
+                                                 @Nullable String status,
+                                                 @Nullable Integer cursorId,
+                                                 @Nullable Integer size) {
+        Limit limit = (size == null) ? Limit.unlimited() : Limit.of(Math.max(1, Math.min(size, 100)));
+        return dutchpayRepository.findListByUser(userId, clubId, parseStatus(status), cursorId, limit);
     }
 
     public DutchpayDetailResponse getDetail(Integer dutchpayId) {
@@ -246,6 +248,7 @@ public class DutchpayService {
                 .isDone(d.isDone())
                 .s3Key(d.getS3Key())
                 .imageUrl(d.getImageUrl())
+                .thumbnailUrl(d.getThumbnailUrl())
                 .event(DutchpayDetailResponse.EventInfo.builder()
                         .id(d.getEvent().getId())
                         .title(d.getEvent().getTitle())
@@ -254,7 +257,12 @@ public class DutchpayService {
                 .build();
     }
 
-    public PayResponse pay(Integer dutchpayId, Integer withdrawalUserId, PayRequest req) {
+    /**
+     * 정산하기: 이체는 DB 트랜잭션 밖에서 결제 사가로 처리한다 (PENDING 기록 → 이체 → 조건부 완료)
+     * 완료 시 참가자 납부 처리 + 집계 반영은 DutchpayPaymentHandler
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PayResponse pay(Integer dutchpayId, Integer withdrawalUserId, PayRequest req, @Nullable String idempotencyKey) {
 
         // 0) 결제 비밀번호 검증
         if (req.getPaymentPassword() == null || req.getPaymentPassword().trim().isEmpty()) {
@@ -267,7 +275,7 @@ public class DutchpayService {
         }
 
         // 1) 정산 존재 확인
-        Dutchpay dutchpay = dutchpayRepository.findById(dutchpayId)
+        Integer clubId = dutchpayRepository.findClubIdById(dutchpayId)
                 .orElseThrow(() -> new IllegalArgumentException("정산 없음: " + dutchpayId));
 
         // 2) 출금자/입금자 조회
@@ -283,48 +291,39 @@ public class DutchpayService {
 
         if (req.getAmount() <= 0) throw new IllegalArgumentException("금액은 0보다 커야 합니다.");
 
-        // 4) FinHeaderFactory 이용해서 헤더 생성
-        FinHeader header = FinHeaderFactory.create(
-                "updateDemandDepositAccountTransfer",
-                institutionCode,
-                fintechAppNo,
-                apiKey,
-                userKey
-        );
-
-        // 5) 요청 DTO 조립
-        FinTransferRequest finReq = FinTransferRequest.builder()
-                .header(header)
-                .depositAccountNo(depositAccount)
-                .depositTransactionSummary("(수시입출금) : 입금(이체)")
-                .transactionBalance(String.valueOf(req.getAmount()))
-                .withdrawalAccountNo(withdrawalAccount)
-                .withdrawalTransactionSummary("(수시입출금) : 출금(이체)")
-                .build();
-
-        // 6) 외부 API 호출
-        FinTransferResponse res = finApiClient.post(
-                "/edu/demandDeposit/updateDemandDepositAccountTransfer",
-                finReq,
-                FinTransferResponse.class
-        );
-
-        String code = res.getHeader() != null ? res.getHeader().getResponseCode() : null;
-        String msg = res.getHeader() != null ? res.getHeader().getResponseMessage() : null;
-
-        if (!"H0000".equals(code)) {
-            throw new IllegalStateException("이체 실패: " + code + " - " + msg);
-        }
-
-//      7) 성공 → 참가자 납부 처리
-        participantRepository.markPaid(dutchpayId, withdrawalUserId);
-
-        return new PayResponse(true, code, msg);
+        // 4) 이체 (실패하거나 결과 확인 중이면 TransferException)
+        PaymentTransfer transfer = paymentSagaService.execute(new PaymentSagaService.TransferCommand(
+                PaymentTransfer.Type.DUTCHPAY,
+                dutchpayId,
+                clubId,
+                withdrawalUserId,
+                idempotencyKey,
+                req.getAmount(),
+                userKey,
+                withdrawalAccount,
+                depositAccount,
+                "(수시입출금) : 출금(이체)",
+                "(수시입출금) : 입금(이체)"
+        ));
+
+        // 같은 멱등 키 재요청이면 처음 이체의 응답을 그대로 돌려준다
+        return new PayResponse(transfer.getStatus() == PaymentTransfer.Status.COMPLETED,
+                transfer.getResponseCode(), transfer.getResponseMessage());
     }
 
 
     // --------- helper ---------
 
+    /** status 문자열 → isDone 조건 (null 이면 전체) */
+    private Boolean parseStatus(@Nullable String status) {
+        if (status == null || status.isBlank()) return null;
+        return switch (status.toLowerCase(Locale.ROOT)) {
+            case "open" -> false;
+            case "completed" -> true;
+            default -> throw new IllegalArgumentException("status 는 open 또는 completed 만 가능합니다.");
+        };
+    }
+
     /** 파일 기본 검증: 5MB 이하 & image/* */
     private void validateImage(MultipartFile f) {
         if (f.getSize() > 5 * 1024 * 1024) {
@@ -336,23 +335,6 @@ public class DutchpayService {
         }
     }
 
-    /** MultipartFile → PNG 바이트로 인코딩 (JPEG/WEBP 등도 PNG로 저장) */
-    private byte[] toPngBytes(MultipartFile file) {
-        try {
-            BufferedImage image = ImageIO.read(file.getInputStream());
-            if (image == null) {
-                throw new IllegalArgumentException("유효한 이미지가 아닙니다.");
-            }
-            try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                boolean ok = ImageIO.write(image, "png", baos);
-                if (!ok) throw new IllegalStateException("PNG 인코딩 실패");
-                return baos.toByteArray();
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("이미지 처리 실패", e);
-        }
-    }
-
     private DutchpayListResponse toListResponse(Dutchpay d) {
         long participantCount = (d.getParticipants() == null) ? 0 : d.getParticipants().size();
 
@@ -388,10 +370,35 @@ public class DutchpayService {
             );
         }
 
-        // 3. 삭제 (연관관계 cascade 설정 필요)
+        // 3. 일별 통계에서 되돌리기
+        statsService.recordDeleted(dutchpay.getEvent().getClub().getId(), dutchpay);
+
+        // 4. 삭제 (연관관계 cascade 설정 필요)
         dutchpayRepository.delete(dutchpay);
     }
 
+    /**
+     * 저장소에 직접 올린 영수증을 정산에 연결 (작성자만)
+     */
+    public void attachReceipt(Integer dutchpayId, Integer currentUserId, String ticket) {
+        Dutchpay dutchpay = dutchpayRepository.findById(dutchpayId)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND, "해당 정산이 존재하지 않습니다."));
+
+        if (!dutchpay.getCreatedBy().getId().equals(currentUserId)) {
+            throw new ResponseStatusException(
+                    HttpStatus.FORBIDDEN, "영수증 등록 권한이 없습니다.");
+        }
+
+        UploadTicketService.ConfirmedUpload upload =
+                uploadTicketService.confirm(ticket, currentUserId, UploadPurpose.DUTCHPAY_RECEIPT);
+
+        // 더티 체킹으로 UPDATE. URL/썸네일은 커밋 후 변환이 끝나면 채워진다 (DirectUploadProcessor)
+        dutchpay.setS3Key(upload.key());
+        dutchpay.setImageUrl(null);
+        dutchpay.setThumbnailUrl(null);
+    }
+
     public void dutchpayDone(Integer dutchpayId, Integer currentUserId) {
         // 1) 존재 확인 (404)
         Dutchpay dutchpay = dutchpayRepository.findById(dutchpayId)
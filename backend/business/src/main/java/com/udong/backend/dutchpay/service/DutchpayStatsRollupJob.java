@@ -0,0 +1,84 @@
+package com.udong.backend.dutchpay.service;
+
+import com.udong.backend.dutchpay.repository.DutchpayDailyStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 더치페이 일별 집계 재계산
+ *
+ * - 최근 30일 구간을 하루씩, 하루치 집계 행을 지우고 원본 테이블에서 한 문장(INSERT ... SELECT)으로 다시 만든다.
+ *   하루가 한 트랜잭션이라 잠금/언두가 하루치로 끝나고, 그동안 다른 날짜의 증감은 기다리지 않는다.
+ * - 행사 삭제에 따른 DB CASCADE 처럼 증감을 거치지 않은 변경을 매일 새벽 바로잡는다.
+ * - 기동 시 집계 테이블이 비어 있으면 한 번 채운다.
+ * 여러 노드 중 한 곳에서만 실행된다 (Redis 잠금).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DutchpayStatsRollupJob implements ApplicationRunner {
+
+    private static final String LOCK_KEY = "dutchpay:stats:rollup:lock";
+
+    private final DutchpayDailyStatsRepository dailyStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            if (dailyStatsRepository.existsAny() == 0) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.warn(">>> 더치페이 일별 집계 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "0 10 4 * * *")
+    public void rebuild() {
+        try {
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", Duration.ofMinutes(30));
+            if (!Boolean.TRUE.equals(locked)) return;
+        } catch (Exception e) {
+            log.warn(">>> 더치페이 집계 잠금 실패, 이번 실행 건너뜀: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            LocalDate from = DutchpayStatsService.windowStart();
+            LocalDate today = LocalDate.now();
+            int rows = 0;
+            int failedDays = 0;
+            for (LocalDate day = from; !day.isAfter(today); day = day.plusDays(1)) {
+                try {
+                    rows += rebuildDay(day);
+                } catch (Exception e) {
+                    // 실패한 날은 이전 집계가 그대로 남고 다음 실행에서 다시 계산된다
+                    failedDays++;
+                    log.error(">>> 더치페이 일별 집계 재계산 실패 (day={}): {}", day, e.getMessage(), e);
+                }
+            }
+            log.info(">>> 더치페이 일별 집계 재계산 완료 (from={}): {}행, 실패 {}일", from, rows, failedDays);
+        } finally {
+            stringRedisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    private int rebuildDay(LocalDate day) {
+        Integer rows = transactionTemplate.execute(status -> {
+            dailyStatsRepository.deleteDay(day);
+            return dailyStatsRepository.rebuildDay(day);
+        });
+        return rows == null ? 0 : rows;
+    }
+}
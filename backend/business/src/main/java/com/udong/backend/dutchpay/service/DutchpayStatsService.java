@@ -1,52 +1,67 @@
 package com.udong.backend.dutchpay.service;
 
 import com.udong.backend.dutchpay.dto.DutchpayMonthlyStatsResponse;
-import com.udong.backend.dutchpay.repository.DutchpayRepository;
+import com.udong.backend.dutchpay.entity.Dutchpay;
+import com.udong.backend.dutchpay.entity.DutchpayParticipant;
+import com.udong.backend.dutchpay.repository.DutchpayDailyStatsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * 더치페이 통계 서비스
- * Redis 캐싱 적용 대상
+ *
+ * - 정산 생성/납부/삭제 때 dutchpay_daily_stats 의 (동아리, 유저, 날짜) 행을 같은 트랜잭션에서 증감한다.
+ * - 30일 통계는 원본 테이블 JOIN 대신 일별 집계 행의 합으로 구하므로 캐시 미스도 가볍다.
+ * - Redis 캐시는 그대로 두되 변경이 커밋되면 해당 동아리 키를 지운다.
+ * - 같은 동아리의 동시 캐시 미스는 노드 안에서 한 번만 조회하고 나머지는 그 결과를 기다린다 (single-flight).
+ * 일별 집계는 DutchpayStatsRollupJob 이 매일 최근 구간을 다시 계산해 보정한다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DutchpayStatsService {
 
-    private final DutchpayRepository dutchpayRepository;
+    private final DutchpayDailyStatsRepository dailyStatsRepository;
     private final RedisTemplate<String, Object> redisTemplate;
 
     private static final String CACHE_KEY_PREFIX = "dutchpay:stats:monthly:";
     private static final long CACHE_TTL_MINUTES = 5;
+    static final int WINDOW_DAYS = 30;
+
+    // 동아리별 진행 중인 조회 (single-flight)
+    private final ConcurrentMap<Integer, CompletableFuture<DutchpayMonthlyStatsResponse>> inflight = new ConcurrentHashMap<>();
 
     /**
-     * 동아리별 최근 30일 더치페이 통계 조회
+     * 동아리별 최근 30일(오늘 포함) 더치페이 통계 조회
      * Redis Cache-Aside 패턴 적용
      *
-     * Before Redis: avg=681ms, p95=1.2s, p99=1.8s (k6 50 concurrent users)
-     * After Redis (예상): avg=5~10ms (cache hit), 681ms (cache miss)
+     * Before 일별 집계: avg=681ms, p95=1.2s (k6 50 concurrent users, cache miss)
+     * After 일별 집계: 캐시 미스도 동아리당 최대 30일 x 활동 유저 수 행 합산
      *
      * @param clubId 동아리 ID
      * @return 통계 데이터
      */
     @Transactional(readOnly = true)
     public DutchpayMonthlyStatsResponse getMonthlyStats(Integer clubId) {
-        long startTime = System.currentTimeMillis();
         String cacheKey = CACHE_KEY_PREFIX + clubId;
 
         // 1. Redis에서 캐시 조회 (Cache-Aside Pattern)
         try {
             Object cached = redisTemplate.opsForValue().get(cacheKey);
             if (cached instanceof DutchpayMonthlyStatsResponse cachedResponse) {
-                long endTime = System.currentTimeMillis();
-                log.info(">>> [CACHE HIT] getMonthlyStats(clubId={}) 실행 시간: {}ms", clubId, (endTime - startTime));
                 return cachedResponse;
             }
         } catch (Exception e) {
@@ -54,38 +69,98 @@ public class DutchpayStatsService {
             // Redis 장애 시에도 DB 조회는 정상 동작하도록 계속 진행
         }
 
-        // 2. Cache Miss → DB 조회
-        log.info(">>> [CACHE MISS] DB 조회 시작 (clubId={})", clubId);
-        DutchpayMonthlyStatsResponse response = fetchFromDatabase(clubId);
+        // 2. Cache Miss → 이미 조회 중이면 그 결과를 기다린다
+        CompletableFuture<DutchpayMonthlyStatsResponse> mine = new CompletableFuture<>();
+        CompletableFuture<DutchpayMonthlyStatsResponse> running = inflight.putIfAbsent(clubId, mine);
+        if (running != null) {
+            return await(running);
+        }
 
-        // 3. Redis에 캐시 저장 (TTL: 5분)
         try {
-            redisTemplate.opsForValue().set(cacheKey, response, CACHE_TTL_MINUTES, TimeUnit.MINUTES);
-            log.info(">>> Redis 캐시 저장 완료 (key={}, TTL={}분)", cacheKey, CACHE_TTL_MINUTES);
-        } catch (Exception e) {
-            log.warn(">>> Redis 캐시 저장 실패 (clubId={}): {}", clubId, e.getMessage());
-            // 저장 실패해도 응답은 정상 반환
+            long startTime = System.currentTimeMillis();
+            DutchpayMonthlyStatsResponse response = fetchFromRollup(clubId);
+
+            // 3. Redis에 캐시 저장 (TTL: 5분)
+            try {
+                redisTemplate.opsForValue().set(cacheKey, response, CACHE_TTL_MINUTES, TimeUnit.MINUTES);
+            } catch (Exception e) {
+                log.warn(">>> Redis 캐시 저장 실패 (clubId={}): {}", clubId, e.getMessage());
+                // 저장 실패해도 응답은 정상 반환
+            }
+
+            log.debug(">>> [CACHE MISS] getMonthlyStats(clubId={}) 실행 시간: {}ms",
+                    clubId, System.currentTimeMillis() - startTime);
+            mine.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(clubId, mine);
         }
+    }
+
+    // ===== 일별 집계 증감 (정산 트랜잭션 안에서 호출) =====
 
-        long endTime = System.currentTimeMillis();
-        log.info(">>> [CACHE MISS] getMonthlyStats(clubId={}) 총 실행 시간: {}ms", clubId, (endTime - startTime));
+    /**
+     * 정산 생성: 생성자 행에 생성 수/금액, 참여자 행마다 참여 수와 내야 할 몫
+     */
+    @Transactional
+    public void recordCreated(Integer clubId, Dutchpay dutchpay) {
+        LocalDate date = statDate(dutchpay);
+        Integer creatorId = dutchpay.getCreatedBy().getId();
+        long share = shareOf(dutchpay);
 
-        return response;
+        dailyStatsRepository.add(clubId, creatorId, date, 1, dutchpay.getAmount(), dutchpay.getAmount(), 0, 0, 0);
+        for (DutchpayParticipant p : dutchpay.getParticipants()) {
+            Integer userId = p.getUser().getId();
+            boolean creator = userId.equals(creatorId);
+            dailyStatsRepository.add(clubId, userId, date, 0, 0, 0, 1, creator ? 0 : share, 0);
+        }
+        evictAfterCommit(clubId);
     }
 
     /**
-     * DB에서 통계 데이터 조회
+     * 납부 완료: 낸 몫 증가 (생성자 본인은 제외)
      */
-    private DutchpayMonthlyStatsResponse fetchFromDatabase(Integer clubId) {
-        // 기본 통계
-        DutchpayRepository.MonthlyStatsProjection stats =
-            dutchpayRepository.findMonthlyStatsByClubId(clubId);
+    @Transactional
+    public void recordPaid(Integer clubId, Dutchpay dutchpay, Integer userId) {
+        if (userId.equals(dutchpay.getCreatedBy().getId())) {
+            return;
+        }
+        dailyStatsRepository.add(clubId, userId, statDate(dutchpay), 0, 0, 0, 0, 0, shareOf(dutchpay));
+        evictAfterCommit(clubId);
+    }
+
+    /**
+     * 정산 삭제: 생성 시 더한 값과 납부된 몫을 되돌리고 생성자 행의 최대 금액을 다시 구한다
+     * (정산 행을 지우기 전에 호출)
+     */
+    @Transactional
+    public void recordDeleted(Integer clubId, Dutchpay dutchpay) {
+        LocalDate date = statDate(dutchpay);
+        Integer creatorId = dutchpay.getCreatedBy().getId();
+        long share = shareOf(dutchpay);
+
+        dailyStatsRepository.subtract(clubId, creatorId, date, 1, dutchpay.getAmount(), 0, 0, 0);
+        for (DutchpayParticipant p : dutchpay.getParticipants()) {
+            Integer userId = p.getUser().getId();
+            boolean creator = userId.equals(creatorId);
+            dailyStatsRepository.subtract(clubId, userId, date, 0, 0, 1,
+                    creator ? 0 : share, !creator && p.isPaid() ? share : 0);
+        }
+        dailyStatsRepository.recomputeMax(clubId, creatorId, date, dutchpay.getId());
+        evictAfterCommit(clubId);
+    }
 
-        // 상위 지출자
-        List<DutchpayRepository.TopPayerProjection> topPayersProj =
-            dutchpayRepository.findTopPayersByClubId(clubId);
+    /**
+     * 일별 집계에서 통계 계산
+     */
+    private DutchpayMonthlyStatsResponse fetchFromRollup(Integer clubId) {
+        LocalDate from = windowStart();
 
-        List<DutchpayMonthlyStatsResponse.TopPayer> topPayers = topPayersProj.stream()
+        DutchpayDailyStatsRepository.StatsSummaryProjection stats = dailyStatsRepository.summarize(clubId, from);
+        List<DutchpayMonthlyStatsResponse.TopPayer> topPayers = dailyStatsRepository.findTopPayers(clubId, from).stream()
             .map(p -> new DutchpayMonthlyStatsResponse.TopPayer(
                 p.getUserId(),
                 p.getUserName(),
@@ -94,13 +169,60 @@ public class DutchpayStatsService {
             ))
             .toList();
 
+        long totalDutchpays = stats.getTotalDutchpays() != null ? stats.getTotalDutchpays() : 0L;
+        long totalAmount = stats.getTotalAmount() != null ? stats.getTotalAmount() : 0L;
+
         return new DutchpayMonthlyStatsResponse(
-            stats.getTotalDutchpays() != null ? stats.getTotalDutchpays().intValue() : 0,
-            stats.getTotalAmount() != null ? stats.getTotalAmount() : 0L,
-            stats.getAvgAmount() != null ? stats.getAvgAmount() : 0.0,
+            (int) totalDutchpays,
+            totalAmount,
+            totalDutchpays > 0 ? (double) totalAmount / totalDutchpays : 0.0,
             stats.getMaxAmount() != null ? stats.getMaxAmount() : 0,
             stats.getUniqueParticipants() != null ? stats.getUniqueParticipants().intValue() : 0,
             topPayers
         );
     }
+
+    static LocalDate windowStart() {
+        return LocalDate.now().minusDays(WINDOW_DAYS - 1);
+    }
+
+    private static LocalDate statDate(Dutchpay dutchpay) {
+        return dutchpay.getCreatedAt() != null ? dutchpay.getCreatedAt().toLocalDate() : LocalDate.now();
+    }
+
+    // 1인당 몫 (재집계 쿼리의 amount DIV 참여자 수와 동일)
+    private static long shareOf(Dutchpay dutchpay) {
+        int count = dutchpay.getParticipants().size();
+        return count == 0 ? 0 : dutchpay.getAmount() / count;
+    }
+
+    private DutchpayMonthlyStatsResponse await(CompletableFuture<DutchpayMonthlyStatsResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private void evictAfterCommit(Integer clubId) {
+        Runnable evict = () -> {
+            try {
+                redisTemplate.delete(CACHE_KEY_PREFIX + clubId);
+            } catch (Exception e) {
+                log.warn(">>> Redis 캐시 삭제 실패 (clubId={}): {}", clubId, e.getMessage());
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
+    }
 }
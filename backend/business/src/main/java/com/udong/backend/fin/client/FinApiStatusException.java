@@ -0,0 +1,24 @@
+package com.udong.backend.fin.client;
+
+import lombok.Getter;
+
+/**
+ * 금융 API 가 오류 상태코드로 응답한 경우
+ * 4xx 는 은행이 거절한 확정 실패, 5xx 는 처리 여부를 알 수 없는 경우로 구분하기 위해 상태코드를 함께 담는다.
+ */
+@Getter
+public class FinApiStatusException extends RuntimeException {
+
+    private final int statusCode;
+    private final String body;
+
+    public FinApiStatusException(int statusCode, String message, String body) {
+        super(message);
+        this.statusCode = statusCode;
+        this.body = body;
+    }
+
+    public boolean isClientError() {
+        return statusCode >= 400 && statusCode < 500;
+    }
+}
@@ -0,0 +1,12 @@
+package com.udong.backend.fin.client;
+
+/**
+ * 금융 API 를 호출하지 않고 거절한 경우 (동시 호출 한도 초과, 서킷 차단)
+ * 요청이 은행으로 나가지 않았으므로 확정 실패로 처리해도 된다.
+ */
+public class FinApiUnavailableException extends RuntimeException {
+
+    public FinApiUnavailableException(String message) {
+        super(message);
+    }
+}
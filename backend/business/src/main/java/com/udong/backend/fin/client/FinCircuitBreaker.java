@@ -0,0 +1,119 @@
+package com.udong.backend.fin.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 금융 API 서킷 브레이커 (최근 N건 기준)
+ *
+ * CLOSED: 최근 호출의 실패율이 기준 이상이면 OPEN
+ * OPEN: 정해진 시간 동안 호출하지 않고 바로 거절, 시간이 지나면 HALF_OPEN
+ * HALF_OPEN: 한 건만 시험 호출, 성공하면 CLOSED / 실패하면 다시 OPEN
+ *
+ * 실패는 5xx, 타임아웃, 연결 오류만 센다. 4xx 는 상대 서버가 살아 있다는 뜻이므로 성공으로 본다.
+ */
+class FinCircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final boolean[] window;
+    private final int minimumCalls;
+    private final int failureRatePercent;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int position;
+    private int calls;
+    private int failures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    FinCircuitBreaker(int windowSize, int minimumCalls, int failureRatePercent, Duration openDuration) {
+        this.window = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRatePercent = failureRatePercent;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    /** 호출해도 되는지. true 를 받았다면 결과를 반드시 onSuccess/onFailure/onIgnored 중 하나로 알려야 한다. */
+    synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+            return;
+        }
+        record(false);
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (calls >= minimumCalls && failures * 100 >= failureRatePercent * calls) {
+            open();
+        }
+    }
+
+    /** 허가는 받았지만 호출하지 않은 경우 (bulkhead 거절 등) */
+    synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (calls == window.length) {
+            if (window[position]) failures--;
+        } else {
+            calls++;
+        }
+        window[position] = failed;
+        if (failed) failures++;
+        position = (position + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        trialInFlight = false;
+        reset();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        trialInFlight = false;
+        reset();
+    }
+
+    private void reset() {
+        position = 0;
+        calls = 0;
+        failures = 0;
+        Arrays.fill(window, false);
+    }
+}
@@ -1,28 +1,20 @@
 package com.udong.backend.fin.client;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.util.Map;
 
 @Service
+@RequiredArgsConstructor
 public class FinEduClient {
 
-    @Value("${finapi.base-url}")   private String baseUrl;      // e.g. https://finopenapi.ssafy.io/ssafy/api/v1
     @Value("${finapi.userkey-path}") private String userkeyPath; // e.g. /edu/member/userKey
     @Value("${finapi.api-key}")    private String apiKey;
 
-    private WebClient client() {
-        return WebClient.builder()
-                .baseUrl(baseUrl)
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .build();
-    }
+    private final FinHttpClient http;
 
     /** 이메일로 userKey 발급/조회 */
     public String fetchUserKeyByEmail(String email) {
@@ -31,15 +23,7 @@ public class FinEduClient {
                 "apiKey", apiKey
         );
 
-        Map<String, Object> res = client().post()
-                .uri(userkeyPath)
-                .bodyValue(body)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, r ->
-                        r.bodyToMono(String.class).map(msg ->
-                                new RuntimeException("Fin userKey API " + r.statusCode() + " - " + msg)))
-                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                .block();
+        Map<String, Object> res = http.post(userkeyPath, body, new ParameterizedTypeReference<Map<String, Object>>() {});
 
         Object uk = (res == null) ? null : res.get("userKey"); // 응답 키 이름 문서대로
         if (uk == null) throw new IllegalStateException("userKey 응답이 없습니다.");
@@ -48,14 +32,6 @@ public class FinEduClient {
 
     /** 공통 POST 호출 */
     public <T> T post(String path, Object body, Class<T> responseType) {
-        return client().post()
-                .uri(path)
-                .bodyValue(body)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, r ->
-                        r.bodyToMono(String.class).map(msg ->
-                                new RuntimeException("Fin API " + r.statusCode() + " - " + msg)))
-                .bodyToMono(responseType)
-                .block();
+        return http.post(path, body, responseType);
     }
 }
\ No newline at end of file
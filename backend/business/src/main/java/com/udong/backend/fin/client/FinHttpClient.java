@@ -0,0 +1,154 @@
+package com.udong.backend.fin.client;
+
+import com.udong.backend.fin.config.FinClientProps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 금융 API 공통 호출
+ *
+ * - 공용 WebClient (커넥션 풀) 로 호출하고 API 별 응답 타임아웃을 건다.
+ * - 동시 호출 수를 제한해 은행 응답이 느려져도 서블릿 스레드가 전부 묶이지 않게 한다.
+ * - 연속 실패 시 서킷을 열어 잠시 동안 호출 없이 바로 거절한다.
+ * - 호출 결과는 fin.api.calls (api, outcome) 로 기록한다.
+ */
+@Slf4j
+@Component
+public class FinHttpClient {
+
+    static final String UNAVAILABLE_MESSAGE = "금융 서비스 응답이 지연되고 있습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final WebClient webClient;
+    private final FinClientProps props;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore bulkhead;
+    private final FinCircuitBreaker circuitBreaker;
+
+    public FinHttpClient(@Qualifier("finWebClient") WebClient webClient,
+                         FinClientProps props,
+                         MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+        this.bulkhead = new Semaphore(props.maxConcurrentCalls());
+        this.circuitBreaker = new FinCircuitBreaker(
+                props.circuitWindowSize(),
+                props.circuitMinimumCalls(),
+                props.circuitFailureRatePercent(),
+                Duration.ofSeconds(props.circuitOpenSeconds()));
+
+        Gauge.builder("fin.api.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("남은 금융 API 동시 호출 자리")
+                .register(meterRegistry);
+        Gauge.builder("fin.api.circuit.state", circuitBreaker, cb -> cb.state().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .register(meterRegistry);
+    }
+
+    public <T> T post(String path, Object body, Class<T> responseType) {
+        return execute(path, body, spec -> spec.bodyToMono(responseType));
+    }
+
+    public <T> T post(String path, Object body, ParameterizedTypeReference<T> responseType) {
+        return execute(path, body, spec -> spec.bodyToMono(responseType));
+    }
+
+    private <T> T execute(String path, Object body, Function<WebClient.ResponseSpec, Mono<T>> extractor) {
+        String api = apiNameOf(path);
+
+        if (!circuitBreaker.tryAcquire()) {
+            rejected(api, "circuit_open");
+            throw new FinApiUnavailableException(UNAVAILABLE_MESSAGE);
+        }
+        if (!enterBulkhead()) {
+            circuitBreaker.onIgnored();
+            rejected(api, "bulkhead_full");
+            throw new FinApiUnavailableException(UNAVAILABLE_MESSAGE);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            WebClient.ResponseSpec spec = webClient.post()
+                    .uri(path)
+                    .bodyValue(body)
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, r ->
+                            r.bodyToMono(String.class).defaultIfEmpty("").map(msg ->
+                                    new FinApiStatusException(r.statusCode().value(),
+                                            "Fin API " + r.statusCode() + " - " + msg, msg)));
+            T result = extractor.apply(spec)
+                    .timeout(props.timeoutOf(api))
+                    .block();
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (FinApiStatusException e) {
+            if (e.isClientError()) {
+                outcome = "client_error";
+                circuitBreaker.onSuccess();
+            } else {
+                outcome = "server_error";
+                circuitBreaker.onFailure();
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = isTimeout(e) ? "timeout" : "io_error";
+            circuitBreaker.onFailure();
+            log.warn(">>> Fin API {} {}: {}", api, outcome, e.getMessage());
+            throw e;
+        } finally {
+            bulkhead.release();
+            sample.stop(Timer.builder("fin.api.calls")
+                    .tag("api", api)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private boolean enterBulkhead() {
+        try {
+            return bulkhead.tryAcquire(props.bulkheadWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void rejected(String api, String reason) {
+        Counter.builder("fin.api.rejected")
+                .tag("api", api)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /** /edu/demandDeposit/inquireDemandDepositAccount -> inquireDemandDepositAccount */
+    static String apiNameOf(String path) {
+        int slash = path.lastIndexOf('/');
+        return slash < 0 ? path : path.substring(slash + 1);
+    }
+
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
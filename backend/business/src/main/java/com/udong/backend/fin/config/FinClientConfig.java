@@ -0,0 +1,59 @@
+package com.udong.backend.fin.config;
+
+import com.udong.backend.fin.util.FinTxnNoGenerator;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 금융 API 공용 WebClient / 기관거래고유번호 생성기
+ * 호출마다 클라이언트/커넥터를 새로 만들지 않고 커넥션 풀을 공유한다.
+ */
+@Configuration
+@EnableConfigurationProperties(FinClientProps.class)
+public class FinClientConfig {
+
+    @Bean(name = "finWebClient")
+    public WebClient finWebClient(WebClient.Builder builder,
+                                  FinClientProps props,
+                                  @Value("${finapi.base-url}") String baseUrl) {
+        return build(builder.clone(), props, baseUrl);
+    }
+
+    /**
+     * 노드 번호(FIN_NODE_ID)가 잘못되면 이 빈 생성에서 기동이 멈춘다 (첫 이체 때가 아니라)
+     */
+    @Bean
+    public FinTxnNoGenerator finTxnNoGenerator(@Value("${fin.node-id:}") String nodeId) {
+        return new FinTxnNoGenerator(FinTxnNoGenerator.resolveNodeId(nodeId));
+    }
+
+    public static WebClient build(WebClient.Builder builder, FinClientProps props, String baseUrl) {
+        ConnectionProvider provider = ConnectionProvider.builder("fin-api")
+                .maxConnections(props.maxConnections())
+                .pendingAcquireTimeout(Duration.ofMillis(props.pendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofSeconds(props.maxIdleSeconds()))
+                .evictInBackground(Duration.ofSeconds(props.maxIdleSeconds()))
+                .build();
+
+        // 응답 타임아웃은 API 별로 FinHttpClient 에서 건다
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, props.connectTimeoutMs());
+
+        return builder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+    }
+}
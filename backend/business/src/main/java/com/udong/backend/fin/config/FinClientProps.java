@@ -0,0 +1,48 @@
+package com.udong.backend.fin.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 금융 API 클라이언트 설정 (커넥션 풀, 타임아웃, 동시 호출 제한, 서킷 브레이커)
+ */
+@ConfigurationProperties(prefix = "app.fin-client")
+public record FinClientProps(
+        Integer maxConnections,             // 커넥션 풀 최대 크기
+        Long pendingAcquireTimeoutMs,       // 풀에서 커넥션을 기다리는 최대 시간
+        Long maxIdleSeconds,                // 유휴 커넥션 정리 기준
+        Integer connectTimeoutMs,
+        Long defaultTimeoutMs,              // API 별 설정이 없을 때 응답 타임아웃
+        Map<String, Long> timeoutsMs,       // API 이름(경로 마지막 구간) -> 응답 타임아웃
+        Integer maxConcurrentCalls,         // 동시에 나갈 수 있는 금융 API 호출 수 (bulkhead)
+        Long bulkheadWaitMs,                // 자리가 없을 때 기다리는 최대 시간
+        Integer circuitWindowSize,          // 실패율을 계산할 최근 호출 수
+        Integer circuitMinimumCalls,        // 이만큼 호출이 쌓여야 실패율로 판단
+        Integer circuitFailureRatePercent,  // 이 비율 이상 실패하면 차단
+        Long circuitOpenSeconds             // 차단 유지 시간 (이후 한 건만 시험 호출)
+) {
+    public FinClientProps {
+        if (maxConnections == null || maxConnections <= 0) maxConnections = 50;
+        if (pendingAcquireTimeoutMs == null || pendingAcquireTimeoutMs <= 0) pendingAcquireTimeoutMs = 2000L;
+        if (maxIdleSeconds == null || maxIdleSeconds <= 0) maxIdleSeconds = 30L;
+        if (connectTimeoutMs == null || connectTimeoutMs <= 0) connectTimeoutMs = 2000;
+        if (defaultTimeoutMs == null || defaultTimeoutMs <= 0) defaultTimeoutMs = 5000L;
+        // 바인딩 시 키 대소문자가 바뀌어도 찾을 수 있도록
+        Map<String, Long> timeouts = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (timeoutsMs != null) timeouts.putAll(timeoutsMs);
+        timeoutsMs = timeouts;
+        if (maxConcurrentCalls == null || maxConcurrentCalls <= 0) maxConcurrentCalls = 20;
+        if (bulkheadWaitMs == null || bulkheadWaitMs < 0) bulkheadWaitMs = 200L;
+        if (circuitWindowSize == null || circuitWindowSize <= 0) circuitWindowSize = 20;
+        if (circuitMinimumCalls == null || circuitMinimumCalls <= 0) circuitMinimumCalls = 10;
+        if (circuitFailureRatePercent == null || circuitFailureRatePercent <= 0) circuitFailureRatePercent = 50;
+        if (circuitOpenSeconds == null || circuitOpenSeconds <= 0) circuitOpenSeconds = 30L;
+    }
+
+    public Duration timeoutOf(String api) {
+        return Duration.ofMillis(timeoutsMs.getOrDefault(api, defaultTimeoutMs));
+    }
+}
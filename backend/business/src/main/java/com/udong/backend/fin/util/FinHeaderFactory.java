@@ -1,23 +1,28 @@
 package com.udong.backend.fin.util;
 
 import com.udong.backend.fin.dto.FinHeader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.concurrent.ThreadLocalRandom;
 
-public final class FinHeaderFactory {
+/**
+ * 금융 API 요청 헤더 생성 (기관거래고유번호는 FinTxnNoGenerator 빈에서 받는다)
+ */
+@Component
+@RequiredArgsConstructor
+public class FinHeaderFactory {
 
     private static final DateTimeFormatter D8 = DateTimeFormatter.ofPattern("yyyyMMdd");
     private static final DateTimeFormatter T6 = DateTimeFormatter.ofPattern("HHmmss");
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
-    private FinHeaderFactory() {}
+    private final FinTxnNoGenerator txnNoGenerator;
 
     /** 담백: 현재시각 기반, 20자리 숫자 UID 자동생성 */
-    public static FinHeader create(String apiName,
+    public FinHeader create(String apiName,
                                    String institutionCode,
                                    String fintechAppNo,
                                    String apiKey,
@@ -31,16 +36,9 @@ public final class FinHeaderFactory {
         h.setTransmissionTime(now.format(T6)); // HHmmss
         h.setInstitutionCode(institutionCode);
         h.setFintechAppNo(fintechAppNo);
-        h.setInstitutionTransactionUniqueNo(genTxnUid20(now)); // 20자리 숫자
+        h.setInstitutionTransactionUniqueNo(txnNoGenerator.next()); // 20자리 숫자
         h.setApiKey(apiKey);
         h.setUserKey(userKey);
         return h;
     }
-
-    /** 20자리 숫자: yyyyMMddHHmmss(14) + 랜덤 6자리(000000~999999) */
-    private static String genTxnUid20(ZonedDateTime now) {
-        String ts14 = now.format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        int rnd = ThreadLocalRandom.current().nextInt(0, 1_000_000);
-        return ts14 + String.format("%06d", rnd);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.udong.backend.fin.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 기관거래고유번호(20자리 숫자) 생성기
+ *
+ * yyyyMMddHHmmss(14, KST) + 노드 번호(2) + 초당 순번(4)
+ *
+ * - (초, 순번) 을 하나의 long 으로 묶어 CAS 로 올리므로 스레드 간 중복이 없다.
+ * - 같은 초에 10,000건을 넘기면 다음 초를 미리 빌려 쓴다. 시계가 뒤로 가도 마지막 값보다 작아지지 않는다.
+ * - 노드 번호로 서버 간 중복을 막는다 (FIN_NODE_ID, 0~99). 빈으로 하나만 만들고 값은 기동 시 검증한다 (FinClientConfig).
+ * - 시각 14자리는 초가 바뀔 때만 새로 만들고, 나머지는 스레드별 버퍼에 채워 반환 문자열 외에는 할당하지 않는다.
+ */
+@Slf4j
+public final class FinTxnNoGenerator {
+
+    static final int SEQ_PER_SECOND = 10_000;
+    private static final ZoneOffset KST = ZoneOffset.ofHours(9);
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[20]);
+
+    /** 초 단위 시각 14자리 캐시 */
+    private record Prefix(long epochSecond, char[] digits) {}
+
+    private final char nodeHigh;
+    private final char nodeLow;
+    private final LongSupplier epochSecondClock;
+    private final AtomicLong last = new AtomicLong();   // epochSecond * SEQ_PER_SECOND + 순번
+    private volatile Prefix prefix = new Prefix(Long.MIN_VALUE, new char[14]);
+
+    public FinTxnNoGenerator(int nodeId) {
+        this(nodeId, () -> System.currentTimeMillis() / 1000);
+    }
+
+    FinTxnNoGenerator(int nodeId, LongSupplier epochSecondClock) {
+        if (nodeId < 0 || nodeId > 99) {
+            throw new IllegalArgumentException("노드 번호는 0~99 사이여야 합니다: " + nodeId);
+        }
+        this.nodeHigh = (char) ('0' + nodeId / 10);
+        this.nodeLow = (char) ('0' + nodeId % 10);
+        this.epochSecondClock = epochSecondClock;
+    }
+
+    public String next() {
+        long floor = epochSecondClock.getAsLong() * SEQ_PER_SECOND;
+        long prev;
+        long value;
+        do {
+            prev = last.get();
+            value = Math.max(floor, prev + 1);
+        } while (!last.compareAndSet(prev, value));
+        return format(value / SEQ_PER_SECOND, (int) (value % SEQ_PER_SECOND));
+    }
+
+    private String format(long epochSecond, int seq) {
+        char[] buf = BUFFER.get();
+        System.arraycopy(prefixOf(epochSecond), 0, buf, 0, 14);
+        buf[14] = nodeHigh;
+        buf[15] = nodeLow;
+        for (int i = 19; i >= 16; i--) {
+            buf[i] = (char) ('0' + seq % 10);
+            seq /= 10;
+        }
+        return new String(buf);
+    }
+
+    private char[] prefixOf(long epochSecond) {
+        Prefix p = prefix;
+        if (p.epochSecond() != epochSecond) {
+            p = new Prefix(epochSecond, digits14(epochSecond));
+            prefix = p;
+        }
+        return p.digits();
+    }
+
+    private static char[] digits14(long epochSecond) {
+        LocalDateTime t = LocalDateTime.ofEpochSecond(epochSecond, 0, KST);
+        char[] d = new char[14];
+        put(d, 0, t.getYear(), 4);
+        put(d, 4, t.getMonthValue(), 2);
+        put(d, 6, t.getDayOfMonth(), 2);
+        put(d, 8, t.getHour(), 2);
+        put(d, 10, t.getMinute(), 2);
+        put(d, 12, t.getSecond(), 2);
+        return d;
+    }
+
+    private static void put(char[] d, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            d[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * 설정값(fin.node-id / FIN_NODE_ID)으로 노드 번호를 정한다. 없으면 호스트 이름으로 정한다.
+     * 숫자가 아니거나 범위를 벗어나면 기동을 멈추도록 IllegalStateException
+     */
+    public static int resolveNodeId(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            int nodeId;
+            try {
+                nodeId = Integer.parseInt(configured.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalStateException("FIN_NODE_ID 는 0~99 사이의 정수여야 합니다 (현재 값: '" + configured + "')", e);
+            }
+            if (nodeId < 0 || nodeId > 99) {
+                throw new IllegalStateException("FIN_NODE_ID 는 0~99 사이의 정수여야 합니다 (현재 값: " + nodeId + ")");
+            }
+            return nodeId;
+        }
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        int nodeId = Math.floorMod(host.hashCode(), 100);
+        log.warn(">>> FIN_NODE_ID 미설정, 호스트 {} 기준 노드 번호 {} 사용 (서버가 여러 대면 직접 지정하세요)", host, nodeId);
+        return nodeId;
+    }
+}
@@ -27,6 +27,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
+    // EventSource 는 헤더를 붙일 수 없어 쿼리 파라미터(token)로 토큰을 받는 경로
+    private static final String[] QUERY_TOKEN_PATHS = {
+            "/v1/me/notifications/stream"
+    };
+
     // 공개 엔드포인트(컨텍스트 경로 제거 후 매칭)
     private static final String[] WHITELIST = {
             "/v1/users/signup",
@@ -71,10 +76,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            String bearer = request.getHeader("Authorization");
-            if (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
-                String token = bearer.substring(7);
-
+            String token = resolveToken(request);
+            if (token != null) {
                 if (jwtTokenProvider.validate(token)) {
                     // ✅ role 추출/세팅 제거: 토큰에서 사용자 식별자만 꺼냄
                     String userId = jwtTokenProvider.getUserId(token); // 문자열 or Long.toString()
@@ -97,4 +100,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         chain.doFilter(request, response);
     }
+
+    private String resolveToken(HttpServletRequest request) {
+        String bearer = request.getHeader("Authorization");
+        if (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
+            return bearer.substring(7);
+        }
+
+        String path = request.getRequestURI();
+        String ctx = request.getContextPath();
+        if (ctx != null && !ctx.isEmpty() && path.startsWith(ctx)) {
+            path = path.substring(ctx.length());
+        }
+        for (String pattern : QUERY_TOKEN_PATHS) {
+            if (pathMatcher.match(pattern, path)) {
+                String token = request.getParameter("token");
+                return StringUtils.hasText(token) ? token : null;
+            }
+        }
+        return null;
+    }
 }
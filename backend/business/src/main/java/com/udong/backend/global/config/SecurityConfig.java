@@ -1,5 +1,6 @@
 package com.udong.backend.global.config;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -37,6 +38,7 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())                 // ✅ 여기를 전역 비활성화
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // SSE 등 비동기 응답 재디스패치 (최초 요청에서 이미 인증됨)
                         .requestMatchers(
                                 "/v1/users/signup",
                                 "/v1/auth/login",
@@ -50,6 +52,7 @@ public class SecurityConfig {
                                 "/ws/**"
                         ).permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll() // preflight 안전망
+                        .requestMatchers(HttpMethod.PUT, "/storage/**").permitAll() // 로컬 저장소 직접 업로드 (URL 서명으로 확인)
                         .requestMatchers(HttpMethod.POST, "/v1/clubs").authenticated() // ✅ 역할 조건 없이 인증만
                         .requestMatchers(HttpMethod.POST, "/v1/clubs/join-by-code").authenticated()
                         .anyRequest().authenticated()
@@ -12,6 +12,7 @@ import org.springframework.web.server.ResponseStatusException;
 import com.udong.backend.global.exception.TransferException;
 import com.udong.backend.global.exception.PaymentPasswordException;
 import com.udong.backend.global.exception.ExternalApiException;
+import com.udong.backend.fin.client.FinApiUnavailableException;
 
 import java.util.stream.Collectors;
 
@@ -59,6 +60,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(ApiResponse.error(HttpStatus.BAD_REQUEST.value(), ex.getMessage()));
     }
 
+    // 3-4) 금융 API 일시 차단 (동시 호출 한도 초과, 서킷 차단)
+    @ExceptionHandler(FinApiUnavailableException.class)
+    public ResponseEntity<ApiResponse<?>> handleFinApiUnavailable(FinApiUnavailableException ex) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(ApiResponse.error(status.value(), ex.getMessage()));
+    }
+
     // 4) 기타 모든 예외 (마지막 그물망)
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<?>> handleAll(Exception ex) {
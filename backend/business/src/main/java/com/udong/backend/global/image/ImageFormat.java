@@ -0,0 +1,46 @@
+package com.udong.backend.global.image;
+
+/**
+ * 업로드된 바이트의 실제 형식 (Content-Type 헤더가 아니라 앞부분 매직 넘버로 판별)
+ */
+public enum ImageFormat {
+    JPEG(true),
+    PNG(true),
+    GIF(true),
+    BMP(true),
+    WEBP(false),  // JDK ImageIO 로 디코딩 불가
+    HEIC(false),
+    UNKNOWN(false);
+
+    private final boolean decodable;
+
+    ImageFormat(boolean decodable) {
+        this.decodable = decodable;
+    }
+
+    public boolean isDecodable() {
+        return decodable;
+    }
+
+    public static ImageFormat sniff(byte[] head, int length) {
+        if (length >= 3 && u8(head, 0) == 0xFF && u8(head, 1) == 0xD8 && u8(head, 2) == 0xFF) return JPEG;
+        if (length >= 8 && u8(head, 0) == 0x89 && ascii(head, 1, "PNG")) return PNG;
+        if (length >= 6 && (ascii(head, 0, "GIF87a") || ascii(head, 0, "GIF89a"))) return GIF;
+        if (length >= 2 && ascii(head, 0, "BM")) return BMP;
+        if (length >= 12 && ascii(head, 0, "RIFF") && ascii(head, 8, "WEBP")) return WEBP;
+        if (length >= 12 && ascii(head, 4, "ftyp")
+                && (ascii(head, 8, "heic") || ascii(head, 8, "heix") || ascii(head, 8, "mif1"))) return HEIC;
+        return UNKNOWN;
+    }
+
+    private static int u8(byte[] b, int i) {
+        return b[i] & 0xFF;
+    }
+
+    private static boolean ascii(byte[] b, int offset, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (b[offset + i] != (byte) s.charAt(i)) return false;
+        }
+        return true;
+    }
+}
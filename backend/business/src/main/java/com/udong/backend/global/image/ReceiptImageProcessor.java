@@ -0,0 +1,206 @@
+package com.udong.backend.global.image;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 영수증 이미지 변환
+ *
+ * - 형식은 앞부분 바이트로 판별하고, 디코딩할 수 없는 형식은 거절한다.
+ * - 원본 크기는 헤더만 읽어 확인하고, 디코딩 시 서브샘플링으로 긴 변이 maxDimension 의 2배 미만이 되도록 읽는다
+ *   (원본 해상도와 관계없이 힙 사용량이 maxDimension 기준으로 제한된다).
+ * - EXIF 회전값을 픽셀에 반영한 뒤 JPEG 로 다시 인코딩한다. 메타데이터는 쓰지 않으므로 EXIF(GPS 등)는 제거된다.
+ * - 투명 영역은 흰색으로 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReceiptImageProcessor {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+    private static final int HEAD_SIZE = 64 * 1024; // 형식 판별 + EXIF 회전값 탐색 범위
+
+    private final ReceiptImageProps props;
+
+    public record ProcessedImage(byte[] image, byte[] thumbnail, int width, int height) {}
+
+    public ProcessedImage process(InputStream source) {
+        try {
+            BufferedInputStream in = new BufferedInputStream(source, HEAD_SIZE);
+            in.mark(HEAD_SIZE);
+            byte[] head = new byte[HEAD_SIZE];
+            int headLength = in.readNBytes(head, 0, HEAD_SIZE);
+            in.reset();
+
+            ImageFormat format = ImageFormat.sniff(head, headLength);
+            if (!format.isDecodable()) {
+                throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다. (JPEG, PNG, GIF, BMP)");
+            }
+            int orientation = format == ImageFormat.JPEG ? exifOrientation(head, headLength) : 1;
+
+            BufferedImage decoded = decode(in);
+            BufferedImage image = render(decoded, orientation, props.maxDimension());
+            BufferedImage thumbnail = render(image, 1, props.thumbnailDimension());
+
+            return new ProcessedImage(encodeJpeg(image), encodeJpeg(thumbnail), image.getWidth(), image.getHeight());
+        } catch (IOException e) {
+            throw new RuntimeException("이미지 처리 실패", e);
+        }
+    }
+
+    private BufferedImage decode(InputStream in) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("유효한 이미지가 아닙니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true); // 메타데이터는 읽지 않음
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > props.maxPixels()) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다.");
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / props.maxDimension());
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 회전/반전 + 축소 + 알파 제거를 한 번에 그린다
+     */
+    private BufferedImage render(BufferedImage src, int orientation, int maxDimension) {
+        int w = src.getWidth();
+        int h = src.getHeight();
+        boolean swap = orientation >= 5 && orientation <= 8;
+        int orientedW = swap ? h : w;
+        int orientedH = swap ? w : h;
+
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(orientedW, orientedH));
+        int targetW = Math.max(1, (int) Math.round(orientedW * scale));
+        int targetH = Math.max(1, (int) Math.round(orientedH * scale));
+
+        AffineTransform transform = AffineTransform.getScaleInstance(
+                (double) targetW / orientedW, (double) targetH / orientedH);
+        transform.concatenate(orientationTransform(orientation, w, h));
+
+        BufferedImage out = new BufferedImage(targetW, targetH, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, targetW, targetH);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(src, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    /** EXIF Orientation(1~8) → 원본 좌표를 똑바로 선 좌표로 옮기는 변환 */
+    private static AffineTransform orientationTransform(int orientation, int w, int h) {
+        AffineTransform t = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { t.scale(-1, 1); t.translate(-w, 0); }          // 좌우 반전
+            case 3 -> { t.translate(w, h); t.rotate(Math.PI); }         // 180도
+            case 4 -> { t.scale(1, -1); t.translate(0, -h); }          // 상하 반전
+            case 5 -> t.setTransform(0, 1, 1, 0, 0, 0);                 // 전치
+            case 6 -> { t.translate(h, 0); t.rotate(Math.PI / 2); }     // 시계 90도
+            case 7 -> t.setTransform(0, -1, -1, 0, h, w);               // 역전치
+            case 8 -> { t.translate(0, w); t.rotate(-Math.PI / 2); }    // 반시계 90도
+            default -> { }
+        }
+        return t;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(props.jpegQuality());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * JPEG APP1(Exif) 의 Orientation 태그(0x0112) 값. 없으면 1
+     */
+    static int exifOrientation(byte[] b, int length) {
+        int i = 2; // SOI 다음
+        while (i + 4 <= length) {
+            if ((b[i] & 0xFF) != 0xFF) return 1;
+            int marker = b[i + 1] & 0xFF;
+            if (marker == 0xDA || marker == 0xD9) return 1; // 스캔 시작 / 끝
+            int segmentLength = u16(b, i + 2, false);
+
+            if (marker == 0xE1 && i + 10 <= length
+                    && b[i + 4] == 'E' && b[i + 5] == 'x' && b[i + 6] == 'i' && b[i + 7] == 'f') {
+                int tiff = i + 10;
+                if (tiff + 8 > length) return 1;
+                boolean little = b[tiff] == 'I';
+                long offset = u32(b, tiff + 4, little);
+                if (offset > length) return 1;
+                int ifd = tiff + (int) offset;
+                if (ifd + 2 > length) return 1;
+                int entries = u16(b, ifd, little);
+                for (int k = 0; k < entries; k++) {
+                    int entry = ifd + 2 + k * 12;
+                    if (entry + 12 > length) return 1;
+                    if (u16(b, entry, little) == 0x0112) {
+                        int value = u16(b, entry + 8, little);
+                        return value >= 1 && value <= 8 ? value : 1;
+                    }
+                }
+                return 1;
+            }
+            i += 2 + segmentLength;
+        }
+        return 1;
+    }
+
+    private static int u16(byte[] b, int i, boolean little) {
+        int b0 = b[i] & 0xFF, b1 = b[i + 1] & 0xFF;
+        return little ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static long u32(byte[] b, int i, boolean little) {
+        long hi = u16(b, little ? i + 2 : i, little);
+        long lo = u16(b, little ? i : i + 2, little);
+        return (hi << 16) | lo;
+    }
+}
@@ -0,0 +1,21 @@
+package com.udong.backend.global.image;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 영수증 이미지 처리 설정
+ */
+@ConfigurationProperties(prefix = "app.receipt-image")
+public record ReceiptImageProps(
+        Integer maxDimension,       // 저장본 긴 변 최대 픽셀
+        Integer thumbnailDimension, // 썸네일 긴 변 최대 픽셀
+        Float jpegQuality,          // 0.0 ~ 1.0
+        Long maxPixels              // 원본 가로x세로 상한 (압축 폭탄 방지)
+) {
+    public ReceiptImageProps {
+        if (maxDimension == null || maxDimension <= 0) maxDimension = 1600;
+        if (thumbnailDimension == null || thumbnailDimension <= 0) thumbnailDimension = 320;
+        if (jpegQuality == null || jpegQuality <= 0 || jpegQuality > 1) jpegQuality = 0.85f;
+        if (maxPixels == null || maxPixels <= 0) maxPixels = 40_000_000L;
+    }
+}
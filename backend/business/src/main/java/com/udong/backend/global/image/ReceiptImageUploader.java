@@ -0,0 +1,70 @@
+package com.udong.backend.global.image;
+
+import com.udong.backend.global.s3.ObjectStorage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 영수증 업로드: 변환(ReceiptImageProcessor) 후 본 이미지와 썸네일을 저장소에 올린다.
+ * 멀티파트 원본은 스트림으로만 읽고 (큰 파일은 Spring 이 디스크에 둔다), 힙에는 축소된 JPEG 만 남는다.
+ * 저장소에 직접 올린 원본도 같은 변환을 거친다 (uploadFromStorage).
+ */
+@Component
+@RequiredArgsConstructor
+public class ReceiptImageUploader {
+
+    private final ReceiptImageProcessor processor;
+    private final ObjectStorage storage;
+
+    public record StoredImage(String key, String url, String thumbnailKey, String thumbnailUrl) {}
+
+    /**
+     * @param keyBase 확장자를 뺀 저장 키 (썸네일은 {keyBase}_thumb.jpg)
+     */
+    public StoredImage upload(MultipartFile file, String keyBase) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("영수증 파일이 비었습니다.");
+        }
+
+        ReceiptImageProcessor.ProcessedImage processed;
+        try (InputStream in = file.getInputStream()) {
+            processed = processor.process(in);
+        } catch (IOException e) {
+            throw new RuntimeException("이미지 처리 실패", e);
+        }
+        return store(processed, keyBase);
+    }
+
+    /**
+     * 저장소에 이미 있는 원본(sourceKey)을 변환해 keyBase 로 다시 올린다. 원본은 지우지 않는다.
+     */
+    public StoredImage uploadFromStorage(String sourceKey, String keyBase) {
+        InputStream source = storage.open(sourceKey)
+                .orElseThrow(() -> new IllegalStateException("업로드된 파일을 찾을 수 없습니다: " + sourceKey));
+
+        ReceiptImageProcessor.ProcessedImage processed;
+        try (InputStream in = source) {
+            processed = processor.process(in);
+        } catch (IOException e) {
+            throw new RuntimeException("이미지 처리 실패", e);
+        }
+        return store(processed, keyBase);
+    }
+
+    private StoredImage store(ReceiptImageProcessor.ProcessedImage processed, String keyBase) {
+        String key = keyBase + ".jpg";
+        String thumbnailKey = keyBase + "_thumb.jpg";
+        String url = put(key, processed.image());
+        String thumbnailUrl = put(thumbnailKey, processed.thumbnail());
+        return new StoredImage(key, url, thumbnailKey, thumbnailUrl);
+    }
+
+    private String put(String key, byte[] bytes) {
+        return storage.put(key, ReceiptImageProcessor.CONTENT_TYPE, new ByteArrayInputStream(bytes), bytes.length);
+    }
+}
@@ -0,0 +1,147 @@
+package com.udong.backend.global.s3;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 파일시스템 구현 (로컬 개발/테스트용)
+ * 임시 파일에 먼저 쓴 뒤 옮기므로 중간에 실패해도 반쯤 쓰인 파일이 남지 않는다.
+ *
+ * 직접 업로드 URL 은 공개 URL 에 만료 시각과 서명(HMAC-SHA256: 키, 형식, 크기, 만료)을 붙인 것으로,
+ * LocalUploadController 가 서명을 확인한 뒤 put 으로 저장한다 (S3 presigned PUT 과 같은 흐름).
+ */
+public class LocalObjectStorage implements ObjectStorage {
+
+    private final Path root;
+    private final String publicBaseUrl;
+    private final byte[] signingKey;
+
+    public LocalObjectStorage(String root, String publicBaseUrl, String signingKey) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.publicBaseUrl = publicBaseUrl;
+        this.signingKey = signingKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String put(String key, String contentType, InputStream in, long contentLength) {
+        Path target = resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Path tmp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+            try {
+                Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 저장 실패: " + key, e);
+        }
+        return publicUrl(key);
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        return publicBaseUrl + "/" + key;
+    }
+
+    @Override
+    public PresignedUpload presignPut(String key, String contentType, long contentLength, Duration ttl) {
+        resolve(key);
+        Instant expiresAt = Instant.now().plus(ttl);
+        long expires = expiresAt.getEpochSecond();
+        String url = publicUrl(key) + "?expires=" + expires + "&signature=" + sign(key, contentType, contentLength, expires);
+        return new PresignedUpload(url, expiresAt);
+    }
+
+    /**
+     * 직접 업로드 요청이 presignPut 으로 발급한 URL 과 같은 키/형식/크기이고 만료 전인지 확인
+     */
+    public boolean verifyPut(String key, String contentType, long contentLength, long expires, String signature) {
+        if (signature == null || Instant.now().getEpochSecond() > expires) {
+            return false;
+        }
+        byte[] expected = sign(key, contentType, contentLength, expires).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public Optional<StoredObject> head(String key) {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new StoredObject(Files.size(path), Files.probeContentType(path)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 파일 조회 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public Optional<byte[]> readHead(String key, int length) {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (InputStream in = Files.newInputStream(path)) {
+            return Optional.of(in.readNBytes(length));
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 파일 조회 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public Optional<InputStream> open(String key) {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.newInputStream(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 파일 조회 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 파일 삭제 실패: " + key, e);
+        }
+    }
+
+    private String sign(String key, String contentType, long contentLength, long expires) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(signingKey, "HmacSHA256"));
+            String canonical = key + "\n" + contentType + "\n" + contentLength + "\n" + expires;
+            return HexFormat.of().formatHex(mac.doFinal(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("업로드 URL 서명 실패", e);
+        }
+    }
+
+    Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 저장 키입니다: " + key);
+        }
+        return path;
+    }
+}
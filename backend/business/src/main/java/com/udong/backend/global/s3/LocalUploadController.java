@@ -0,0 +1,47 @@
+package com.udong.backend.global.s3;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 파일시스템 저장소의 직접 업로드 (presigned PUT 대용, app.storage.type=local 일 때만)
+ * 인증 대신 URL 서명으로 키/형식/크기/만료를 확인하므로 발급받은 그대로만 올릴 수 있다.
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+public class LocalUploadController {
+
+    static final String PATH = "/storage/";
+
+    private final LocalObjectStorage storage;
+
+    @PutMapping(PATH + "**")
+    public ResponseEntity<Void> put(HttpServletRequest request,
+                                    @RequestParam long expires,
+                                    @RequestParam String signature,
+                                    @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType) throws IOException {
+        String key = UriUtils.decode(
+                request.getRequestURI().substring(request.getContextPath().length() + PATH.length()),
+                StandardCharsets.UTF_8);
+        long contentLength = request.getContentLengthLong();
+
+        if (contentLength < 0 || !storage.verifyPut(key, contentType, contentLength, expires, signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        storage.put(key, contentType, request.getInputStream(), contentLength);
+        return ResponseEntity.ok().build();
+    }
+}
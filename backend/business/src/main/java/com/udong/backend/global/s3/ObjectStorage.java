@@ -0,0 +1,49 @@
+package com.udong.backend.global.s3;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 오브젝트 저장소 (운영: S3 / 로컬·테스트: 파일시스템)
+ * app.storage.type 으로 구현을 고른다 (StorageConfig).
+ */
+public interface ObjectStorage {
+
+    record PresignedUpload(String url, Instant expiresAt) {}
+
+    record StoredObject(long contentLength, String contentType) {}
+
+    /**
+     * 스트림을 그대로 저장하고 공개 URL 반환
+     */
+    String put(String key, String contentType, InputStream in, long contentLength);
+
+    String publicUrl(String key);
+
+    /**
+     * 클라이언트가 저장소로 직접 올릴 PUT URL 발급 (Content-Type / Content-Length 가 서명에 포함된다)
+     */
+    PresignedUpload presignPut(String key, String contentType, long contentLength, Duration ttl);
+
+    /**
+     * 저장된 오브젝트 정보 (HEAD). 없으면 empty
+     */
+    Optional<StoredObject> head(String key);
+
+    /**
+     * 오브젝트 앞부분 최대 length 바이트 (형식 판별용). 없으면 empty
+     */
+    Optional<byte[]> readHead(String key, int length);
+
+    /**
+     * 오브젝트 전체 스트림 (닫는 것은 호출한 쪽). 없으면 empty
+     */
+    Optional<InputStream> open(String key);
+
+    /**
+     * 오브젝트 삭제 (없으면 무시)
+     */
+    void delete(String key);
+}
@@ -0,0 +1,53 @@
+package com.udong.backend.global.s3;
+
+import com.udong.backend.global.image.ReceiptImageProps;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableConfigurationProperties({StorageProps.class, ReceiptImageProps.class})
+public class StorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
+    public ObjectStorage s3ObjectStorage(S3Client s3,
+                                         S3Presigner presigner,
+                                         @Value("${S3_BUCKET}") String bucket,
+                                         @Value("${S3_PUBLIC_BASE_URL:}") String publicBaseUrl,
+                                         @Value("${AWS_REGION}") String region) {
+        return new S3ObjectStorage(s3, presigner, bucket, publicBaseUrl, region);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+    public LocalObjectStorage localObjectStorage(StorageProps props) {
+        return new LocalObjectStorage(props.localRoot(), props.localPublicBaseUrl(), props.localSigningKey());
+    }
+
+    /**
+     * 직접 업로드 원본 변환 전용 실행기 (DirectUploadProcessor)
+     * 디코딩이 무거우므로 스레드는 적게 두고, 큐가 가득 차면 버려 주기 처리에 맡긴다 (원본 키가 행에 남아 있다).
+     */
+    @Bean(name = "receiptImageExecutor")
+    Executor receiptImageExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("receipt-image-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,23 @@
+package com.udong.backend.global.s3;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.UUID;
+
+/**
+ * 오브젝트 저장소 설정
+ */
+@ConfigurationProperties(prefix = "app.storage")
+public record StorageProps(
+        String type,                // s3 | local
+        String localRoot,           // local: 저장 디렉터리
+        String localPublicBaseUrl,  // local: 공개 URL 앞부분 (이 서버의 /storage)
+        String localSigningKey      // local: 직접 업로드 URL 서명 키 (없으면 기동마다 새로 만든다)
+) {
+    public StorageProps {
+        if (type == null || type.isBlank()) type = "s3";
+        if (localRoot == null || localRoot.isBlank()) localRoot = "./build/storage";
+        if (localPublicBaseUrl == null) localPublicBaseUrl = "http://localhost:8080/storage";
+        if (localSigningKey == null || localSigningKey.isBlank()) localSigningKey = UUID.randomUUID().toString();
+    }
+}
@@ -43,11 +43,16 @@ public interface MyPageRepository extends Repository<User, Integer> {
     Optional<ClubJoinProj> findClubJoin(@Param("userId") Integer userId,
                                         @Param("clubId") Integer clubId);
 
-    /** 포인트 잔액: ledger.delta 합(필요시 curr_point 최신값으로 바꿀 수 있음) */
+    /**
+     * 포인트 잔액: user_point_balances 한 행 (적립/사용 때마다 갱신되는 잔액)
+     * 잔액 행이 아직 없는 회원만 ledger.delta 합으로 계산한다 (PointBalanceBackfillJob 이 채움).
+     */
     @Query(value = """
-        SELECT COALESCE(SUM(l.delta), 0)
-        FROM user_points_ledger l
-        WHERE l.user_id = :userId AND l.club_id = :clubId
+        SELECT COALESCE(
+                 (SELECT b.balance FROM user_point_balances b
+                   WHERE b.user_id = :userId AND b.club_id = :clubId),
+                 (SELECT COALESCE(SUM(l.delta), 0) FROM user_points_ledger l
+                   WHERE l.user_id = :userId AND l.club_id = :clubId))
         """, nativeQuery = true)
     int findPointBalance(@Param("userId") Integer userId,
                          @Param("clubId") Integer clubId);
@@ -0,0 +1,34 @@
+package com.udong.backend.notification.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+@EnableConfigurationProperties({NotificationFanoutProps.class, NotificationRetentionProps.class})
+public class NotificationAsyncConfig {
+
+    /**
+     * 알림 팬아웃 전용 실행기
+     * 작업은 DB(notification_fanout_tasks)에 남아 있으므로 큐가 가득 차면 버리고 주기 처리에 맡긴다.
+     */
+    @Bean(name = "notificationFanoutExecutor")
+    Executor notificationFanoutExecutor(NotificationFanoutProps props) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(props.poolSize());
+        executor.setMaxPoolSize(props.poolSize());
+        executor.setQueueCapacity(props.queueCapacity());
+        executor.setThreadNamePrefix("notif-fanout-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
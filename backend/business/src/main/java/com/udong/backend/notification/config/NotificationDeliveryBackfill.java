@@ -0,0 +1,72 @@
+package com.udong.backend.notification.config;
+
+import com.udong.backend.notification.repository.NotificationDeliveryJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * notification_deliveries.club_id 추가 이전에 만들어진 행을 채운다.
+ *
+ * - club_id 에는 인덱스가 없으므로 PK 범위를 CHUNK 씩 앞으로만 이동하며 채운다 (같은 구간을 다시 훑지 않음).
+ * - 진행 위치는 Redis 에 남겨 재기동 시 이어서 하고, 끝까지 마치면 DONE 으로 표시해 이후 기동에서는 건너뛴다.
+ *   (이후의 delivery 는 모두 club_id 와 함께 INSERT 된다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDeliveryBackfill implements ApplicationRunner {
+
+    private static final int CHUNK = 5_000;
+    private static final String CHECKPOINT_KEY = "notification:delivery:club-backfill:checkpoint";
+    private static final String DONE = "DONE";
+
+    private final NotificationDeliveryJdbcRepository deliveryJdbcRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            String checkpoint = readCheckpoint();
+            if (DONE.equals(checkpoint)) {
+                return;
+            }
+
+            long fromId = checkpoint != null ? Long.parseLong(checkpoint) : 0L;
+            long maxId = deliveryJdbcRepository.findMaxId();
+            long total = 0;
+            while (fromId < maxId) {
+                long toId = Math.min(fromId + CHUNK, maxId);
+                total += deliveryJdbcRepository.backfillClubId(fromId, toId);
+                fromId = toId;
+                saveCheckpoint(String.valueOf(fromId));
+            }
+            saveCheckpoint(DONE);
+
+            if (total > 0) {
+                log.info(">>> notification_deliveries.club_id 백필 완료: {}건", total);
+            }
+        } catch (Exception e) {
+            log.warn(">>> notification_deliveries.club_id 백필 실패: {}", e.getMessage());
+        }
+    }
+
+    private String readCheckpoint() {
+        try {
+            return stringRedisTemplate.opsForValue().get(CHECKPOINT_KEY);
+        } catch (Exception e) {
+            return null; // 처음부터 (이미 채운 구간은 UPDATE 대상이 없다)
+        }
+    }
+
+    private void saveCheckpoint(String value) {
+        try {
+            stringRedisTemplate.opsForValue().set(CHECKPOINT_KEY, value);
+        } catch (Exception ignore) {
+            // 다음 기동 때 처음부터 다시 훑을 뿐이다
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.udong.backend.notification.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 알림 팬아웃(수신자별 delivery 생성) 설정
+ */
+@ConfigurationProperties(prefix = "app.notification.fanout")
+public record NotificationFanoutProps(
+        Integer batchSize,      // 한 INSERT 문에 넣을 수신자 수
+        Integer maxAttempts,    // 작업 1개당 최대 시도 횟수 (넘으면 FAILED)
+        Long backoffMs,         // 재시도 대기 (시도 횟수만큼 배수)
+        Integer leaseSeconds,   // 워커가 작업을 점유하는 시간 (배치마다 연장)
+        Integer sweepBatchSize, // 주기 처리 1회에 집어 오는 작업 수
+        Integer doneRetentionHours, // 완료된 작업 보관 시간
+        Integer poolSize,       // 팬아웃 워커 스레드 수
+        Integer queueCapacity,  // 대기 가능한 팬아웃 작업 수
+        Integer broadcastThreshold, // 수신자가 이 수 이상이면 브로드캐스트(비트맵)로 저장
+        Integer coalesceWindowMinutes // 같은 동아리/타입의 안읽은 알림을 묶는 구간 (0 이면 묶지 않음)
+) {
+    public NotificationFanoutProps {
+        if (batchSize == null || batchSize <= 0) batchSize = 500;
+        if (maxAttempts == null || maxAttempts <= 0) maxAttempts = 10;
+        if (backoffMs == null || backoffMs < 0) backoffMs = 2000L;
+        if (leaseSeconds == null || leaseSeconds <= 0) leaseSeconds = 60;
+        if (sweepBatchSize == null || sweepBatchSize <= 0) sweepBatchSize = 50;
+        if (doneRetentionHours == null || doneRetentionHours <= 0) doneRetentionHours = 24;
+        if (poolSize == null || poolSize <= 0) poolSize = 2;
+        if (queueCapacity == null || queueCapacity <= 0) queueCapacity = 1000;
+        if (broadcastThreshold == null || broadcastThreshold <= 0) broadcastThreshold = 50;
+        if (coalesceWindowMinutes == null || coalesceWindowMinutes < 0) coalesceWindowMinutes = 30;
+    }
+}
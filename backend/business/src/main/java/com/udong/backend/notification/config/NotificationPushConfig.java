@@ -0,0 +1,22 @@
+package com.udong.backend.notification.config;
+
+import com.udong.backend.notification.push.NotificationPushListener;
+import com.udong.backend.notification.push.NotificationPushPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class NotificationPushConfig {
+
+    @Bean
+    RedisMessageListenerContainer notificationPushListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                    NotificationPushListener listener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(listener, new ChannelTopic(NotificationPushPublisher.CHANNEL));
+        return container;
+    }
+}
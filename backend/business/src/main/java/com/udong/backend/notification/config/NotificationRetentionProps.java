@@ -0,0 +1,33 @@
+package com.udong.backend.notification.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * 오래된 알림 정리(보존 기간) 설정
+ */
+@ConfigurationProperties(prefix = "app.notification.retention")
+public record NotificationRetentionProps(
+        Boolean enabled,
+        Integer defaultTtlDays,         // 타입별 설정이 없을 때 보존 일수
+        Map<String, Integer> ttlDays,   // 알림 타입 -> 보존 일수
+        Integer chunkSize,              // DELETE 한 번에 지울 최대 행 수
+        Long pauseMs,                   // 청크 사이 대기 (DB 부하 분산)
+        Integer maxChunksPerRun,        // 한 번 실행에서 처리할 최대 청크 수
+        Integer orphanGraceHours        // delivery 가 없는 알림을 고아로 보기까지 대기 (팬아웃 진행 중 보호)
+) {
+    public NotificationRetentionProps {
+        if (enabled == null) enabled = true;
+        if (defaultTtlDays == null || defaultTtlDays <= 0) defaultTtlDays = 180;
+        if (ttlDays == null) ttlDays = Map.of();
+        if (chunkSize == null || chunkSize <= 0) chunkSize = 1000;
+        if (pauseMs == null || pauseMs < 0) pauseMs = 100L;
+        if (maxChunksPerRun == null || maxChunksPerRun <= 0) maxChunksPerRun = 500;
+        if (orphanGraceHours == null || orphanGraceHours <= 0) orphanGraceHours = 24;
+    }
+
+    public int ttlDaysOf(String type) {
+        return ttlDays.getOrDefault(type, defaultTtlDays);
+    }
+}
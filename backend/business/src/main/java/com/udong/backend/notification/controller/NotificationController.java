@@ -2,16 +2,22 @@ package com.udong.backend.notification.controller;
 
 import com.udong.backend.global.dto.response.ApiResponse;
 import com.udong.backend.global.util.SecurityUtils;
+import com.udong.backend.notification.dto.NotificationPreferenceRequest;
+import com.udong.backend.notification.dto.NotificationPreferenceResponse;
 import com.udong.backend.notification.dto.NotificationRequest;
 import com.udong.backend.notification.dto.NotificationResponse;
+import com.udong.backend.notification.dto.NotificationSliceResponse;
 import com.udong.backend.notification.service.NotificationService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/v1")
@@ -46,6 +52,59 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    /**
+     * 유저별 받은 알림 커서 조회 (무한 스크롤, 전체 개수 없음)
+     * GET /api/v1/me/notifications/cursor?clubId={clubId}&type={type}&cursor={nextCursor}&size={size}
+     */
+    @GetMapping("/me/notifications/cursor")
+    public ResponseEntity<ApiResponse<NotificationSliceResponse>> getMyNotificationsByCursor(
+            @RequestParam Long clubId,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Long currentUserId = securityUtils.currentUserId().longValue();
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        NotificationSliceResponse response = notificationService.getNotificationsByCursor(currentUserId, clubId, type, cursor, pageSize);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    /**
+     * 알림 실시간 구독 (SSE)
+     * GET /api/v1/me/notifications/stream?clubId={clubId}
+     * 이벤트: notification (새 알림), unread-count (미읽음 개수 변화)
+     */
+    @GetMapping(value = "/me/notifications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(@RequestParam(required = false) Long clubId, HttpServletResponse response) {
+        Long currentUserId = securityUtils.currentUserId().longValue();
+        response.setHeader("X-Accel-Buffering", "no"); // nginx 버퍼링 해제
+        return notificationService.subscribe(currentUserId, clubId);
+    }
+
+    /**
+     * 내 알림 수신 설정 조회
+     * GET /api/v1/me/notifications/preferences?clubId={clubId}
+     */
+    @GetMapping("/me/notifications/preferences")
+    public ResponseEntity<ApiResponse<NotificationPreferenceResponse>> getMyPreference(@RequestParam Long clubId) {
+        Long currentUserId = securityUtils.currentUserId().longValue();
+        return ResponseEntity.ok(ApiResponse.ok(notificationService.getPreference(currentUserId, clubId)));
+    }
+
+    /**
+     * 요약 모드 설정 (켜면 실시간 푸시 대신 주기적으로 요약을 받음)
+     * PUT /api/v1/me/notifications/preferences?clubId={clubId}
+     */
+    @PutMapping("/me/notifications/preferences")
+    public ResponseEntity<ApiResponse<NotificationPreferenceResponse>> updateMyPreference(
+            @RequestParam Long clubId,
+            @RequestBody NotificationPreferenceRequest request) {
+
+        Long currentUserId = securityUtils.currentUserId().longValue();
+        NotificationPreferenceResponse response = notificationService.updateDigest(currentUserId, clubId, request.isDigestEnabled());
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
     /**
      * 내 미읽음 알림 총 개수 조회
      * GET /api/v1/me/notifications/unread-count?clubId={clubId}
@@ -71,6 +130,20 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.ok("알림을 읽음 처리했습니다."));
     }
 
+    /**
+     * 브로드캐스트(동아리 전체) 알림 읽음 표시
+     * PUT /api/v1/me/notifications/broadcasts/{notificationId}
+     */
+    @PutMapping("/me/notifications/broadcasts/{notificationId}")
+    public ResponseEntity<ApiResponse<String>> readBroadcastNotification(
+            @PathVariable("notificationId") Long notificationId) {
+
+        Long currentUserId = securityUtils.currentUserId().longValue();
+        notificationService.markBroadcastAsRead(currentUserId, notificationId);
+
+        return ResponseEntity.ok(ApiResponse.ok("알림을 읽음 처리했습니다."));
+    }
+
     /**
      * 모든 알림 읽음 처리
      * PATCH /api/v1/notifications/read-all?clubId={clubId}
@@ -98,6 +171,20 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.ok("알림을 성공적으로 삭제했습니다."));
     }
 
+    /**
+     * 브로드캐스트(동아리 전체) 알림 삭제
+     * DELETE /api/v1/me/notifications/broadcasts/{notificationId}
+     */
+    @DeleteMapping("/me/notifications/broadcasts/{notificationId}")
+    public ResponseEntity<ApiResponse<String>> deleteBroadcastNotification(
+            @PathVariable("notificationId") Long notificationId) {
+
+        Long currentUserId = securityUtils.currentUserId().longValue();
+        notificationService.deleteBroadcast(currentUserId, notificationId);
+
+        return ResponseEntity.ok(ApiResponse.ok("알림을 성공적으로 삭제했습니다."));
+    }
+
     /**
      * 읽은 알림 모두 삭제
      * DELETE /api/v1/me/notifications/read?clubId={clubId}
@@ -0,0 +1,61 @@
+package com.udong.backend.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * 알림함 커서 (마지막으로 받은 항목의 정렬 키)
+ * 정렬: 안읽음 우선 -> 최신순 -> 같은 시각이면 개별 delivery 먼저 -> ID 역순
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationCursor {
+
+    public static final Comparator<NotificationCursor> ORDER = Comparator
+            .comparing(NotificationCursor::isHasRead)
+            .thenComparing(NotificationCursor::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(NotificationCursor::isBroadcast)
+            .thenComparing(NotificationCursor::getId, Comparator.reverseOrder());
+
+    private final boolean hasRead;
+    private final LocalDateTime createdAt;
+    private final boolean broadcast;
+    private final Long id; // delivery ID, 브로드캐스트면 notification ID
+
+    public static NotificationCursor of(NotificationResponse response) {
+        return new NotificationCursor(
+                response.isHasRead(),
+                response.getCreatedAt(),
+                response.isBroadcast(),
+                response.isBroadcast() ? response.getNotificationId() : response.getNotificationDeliveryId());
+    }
+
+    public String encode() {
+        String raw = (hasRead ? "1" : "0") + "|" + createdAt + "|" + (broadcast ? "b" : "d") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return cursor 가 비어 있으면 null (첫 페이지)
+     */
+    public static NotificationCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new NotificationCursor(
+                    "1".equals(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    "b".equals(parts[2]),
+                    Long.valueOf(parts[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
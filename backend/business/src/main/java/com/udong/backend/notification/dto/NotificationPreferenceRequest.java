@@ -0,0 +1,12 @@
+package com.udong.backend.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationPreferenceRequest {
+    private boolean digestEnabled; // true 면 실시간 푸시 대신 주기적 요약
+}
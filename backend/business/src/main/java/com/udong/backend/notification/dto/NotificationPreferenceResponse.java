@@ -0,0 +1,18 @@
+package com.udong.backend.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationPreferenceResponse {
+    private Long clubId;
+    private boolean digestEnabled;
+    private LocalDateTime lastDigestAt;
+}
@@ -0,0 +1,45 @@
+package com.udong.backend.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 노드 간(Redis pub/sub) 전달되는 알림 푸시 메시지
+ * 각 노드는 userIds 중 자기에게 연결된 구독자에게만 SSE 로 내려보낸다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationPushMessage {
+    public static final String EVENT_NOTIFICATION = "notification";
+    public static final String EVENT_UNREAD_COUNT = "unread-count";
+    public static final String EVENT_DIGEST = "digest";
+
+    private List<Long> userIds; // 수신 대상
+    private String event; // SSE 이벤트 이름
+    private Long clubId; // null 이면 전체 동아리 대상 (예: 전체 읽음)
+    private NotificationResponse notification; // event=notification 일 때 새 알림
+    private Long unreadDelta; // 미읽음 개수 변화량
+    private Long unreadCount; // 미읽음 개수 절대값 (알고 있을 때만)
+    private Map<String, Long> digest; // event=digest 일 때 타입별 새 알림 수
+
+    /**
+     * 클라이언트로 보낼 데이터 (수신 대상 목록과 null 값 제외)
+     */
+    public Map<String, Object> toClientPayload() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("clubId", clubId);
+        if (notification != null) data.put("notification", notification);
+        if (unreadDelta != null) data.put("unreadDelta", unreadDelta);
+        if (unreadCount != null) data.put("unreadCount", unreadCount);
+        if (digest != null) data.put("digest", digest);
+        return data;
+    }
+}
@@ -12,10 +12,14 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 public class NotificationResponse {
-    private Long notificationDeliveryId; // 읽음 처리를 위한 delivery ID
+    private Long notificationDeliveryId; // 읽음 처리를 위한 delivery ID (브로드캐스트는 null)
+    private Long notificationId;
+    private boolean broadcast; // true 면 notificationId 로 읽음/삭제 처리
     private String payload;
     private String type;
     private Long targetId;
     private boolean hasRead;
+    @Builder.Default
+    private int digestCount = 1; // 2 이상이면 같은 종류 알림 여러 건이 묶인 것 (payload 는 최신 알림)
     private LocalDateTime createdAt;
 }
@@ -0,0 +1,21 @@
+package com.udong.backend.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 알림함 응답 (전체 개수 없음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationSliceResponse {
+    private List<NotificationResponse> content;
+    private String nextCursor; // 다음 페이지 요청 시 전달 (없으면 null)
+    private boolean hasNext;
+}
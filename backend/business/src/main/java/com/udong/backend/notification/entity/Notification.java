@@ -9,7 +9,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications",
+        indexes = {
+                // 보존 기간 정리: 타입별로 오래된 순 청크 조회
+                @Index(name = "idx_notification_type_created", columnList = "type, created_at")
+        })
 @Getter @Setter @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,75 @@
+package com.udong.backend.notification.entity;
+
+import com.udong.backend.notification.util.UserIdBitmaps;
+import jakarta.persistence.*;
+import lombok.*;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 동아리 전체 대상 알림 (브로드캐스트)
+ * 수신자마다 delivery 행을 만드는 대신 알림 1건에 수신자 집합을 압축 비트맵으로 보관한다.
+ * 유저별 읽음/삭제는 notification_broadcast_states 에 따로 두어 이 행은 만든 뒤 바뀌지 않는다.
+ */
+@Entity
+@Table(name = "notification_broadcasts",
+        indexes = {
+                @Index(name = "idx_broadcast_club_created", columnList = "club_id, created_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationBroadcast {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "notification_id", nullable = false, unique = true)
+    private Notification notification;
+
+    @Column(name = "club_id", nullable = false)
+    private Long clubId; // 조회용 (notifications.club_id 와 동일)
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "recipient_count", nullable = false)
+    private int recipientCount;
+
+    @Lob
+    @Column(name = "recipients", nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] recipients;
+
+    // 역직렬화 결과 캐시
+    @Transient private RoaringBitmap recipientBitmap;
+
+    public static NotificationBroadcast of(Notification notification, Collection<Long> recipientUserIds) {
+        RoaringBitmap bitmap = UserIdBitmaps.of(recipientUserIds);
+        return NotificationBroadcast.builder()
+                .notification(notification)
+                .clubId(notification.getClubId())
+                .createdAt(notification.getCreatedAt() != null ? notification.getCreatedAt() : LocalDateTime.now())
+                .recipientCount(bitmap.getCardinality())
+                .recipients(UserIdBitmaps.toBytes(bitmap))
+                .build();
+    }
+
+    //== 조회 ==//
+
+    public boolean isRecipient(Long userId) {
+        return UserIdBitmaps.contains(recipientBitmap(), userId);
+    }
+
+    /**
+     * 수신자 ID 목록 (푸시/카운터용)
+     */
+    public RoaringBitmap recipientBitmap() {
+        if (recipientBitmap == null) recipientBitmap = UserIdBitmaps.fromBytes(recipients);
+        return recipientBitmap;
+    }
+}
@@ -0,0 +1,47 @@
+package com.udong.backend.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 브로드캐스트 알림의 유저별 읽음/삭제 상태
+ * 행이 없으면 읽음 기준 시각(readUpTo)으로만 판단한다. 유저마다 자기 행만 INSERT/UPDATE 하므로 브로드캐스트 행을 잠그지 않는다.
+ */
+@Entity
+@Table(name = "notification_broadcast_states",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_broadcast_state_notification_user", columnNames = {"notification_id", "user_id"})
+        },
+        indexes = {
+                @Index(name = "idx_broadcast_state_user_club", columnList = "user_id, club_id, state")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationBroadcastState {
+
+    public enum State { READ, DELETED } // DELETED 는 읽음을 포함한다
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "notification_id", nullable = false)
+    private Long notificationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "club_id", nullable = false)
+    private Long clubId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private State state;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
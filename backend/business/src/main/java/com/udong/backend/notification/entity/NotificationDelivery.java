@@ -2,12 +2,21 @@ package com.udong.backend.notification.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notification_deliveries")
+@Table(name = "notification_deliveries",
+        uniqueConstraints = {
+                // 알림 1건은 수신자당 한 행 (팬아웃 재시도 시 INSERT IGNORE)
+                @UniqueConstraint(name = "uk_delivery_notification_user", columnNames = {"notification_id", "user_id"})
+        },
+        indexes = {
+                // 알림함 정렬(안읽음 우선, 최신순)과 같은 순서의 인덱스 -> 커서 페이지네이션
+                @Index(name = "idx_delivery_inbox", columnList = "user_id, club_id, has_read, created_at, id")
+        })
 @Getter @Setter
 @Builder
 @NoArgsConstructor
@@ -27,6 +36,14 @@ public class NotificationDelivery {
     @Column(name = "user_id", nullable = false)
     private Long userId; // 수신자 ID
 
+    @Column(name = "club_id")
+    private Long clubId; // notifications.club_id 복제 (인덱스 조회용)
+
+    @Column(name = "digest_count", nullable = false)
+    @ColumnDefault("1")
+    @Builder.Default
+    private int digestCount = 1; // 묶인 알림 수 (같은 동아리/타입 알림이 짧은 간격으로 오면 하나로 합쳐짐)
+
     @ManyToOne(fetch = FetchType.LAZY) // 성능을 위해 LAZY 로딩 설정
     @JoinColumn(name = "notification_id", nullable = false)
     private Notification notification;
@@ -0,0 +1,104 @@
+package com.udong.backend.notification.entity;
+
+import com.udong.backend.notification.util.UserIdBitmaps;
+import jakarta.persistence.*;
+import lombok.*;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알림 팬아웃 대기열 (DB)
+ *
+ * - 알림 저장 트랜잭션 안에서 수신자 비트맵과 함께 한 행만 INSERT 하고, 수신자별 delivery 는 NotificationFanoutWorker 가 만든다.
+ * - 커밋 후 비동기 처리 전에 노드가 죽어도 행이 남아 있으므로 다른 노드의 주기 처리에서 이어서 발송된다.
+ * - progress 는 처리가 끝난 수신자 수(유저 ID 오름차순)로, 배치 INSERT 와 같은 트랜잭션에서 조건부로 올린다.
+ * - locked_until 은 처리 중인 워커의 점유 기한이다. 기한이 지나면 다른 워커가 progress 부터 이어 받는다.
+ */
+@Entity
+@Table(name = "notification_fanout_tasks",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_fanout_task_notification", columnNames = "notification_id")
+        },
+        indexes = {
+                @Index(name = "idx_fanout_task_status_id", columnList = "status, id"),
+                @Index(name = "idx_fanout_task_status_completed", columnList = "status, completed_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationFanoutTask {
+
+    public enum Status { PENDING, DONE, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "notification_id", nullable = false)
+    private Long notificationId;
+
+    @Column(name = "club_id", nullable = false)
+    private Long clubId;
+
+    @Column(nullable = false)
+    private boolean broadcast; // true 면 delivery 없이 카운터/푸시만
+
+    @Column(name = "recipient_count", nullable = false)
+    private int recipientCount;
+
+    @Lob
+    @Column(name = "recipients", nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] recipients;
+
+    @Column(nullable = false)
+    private int progress;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 255)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public static NotificationFanoutTask of(Notification notification, Collection<Long> recipientUserIds, boolean broadcast) {
+        RoaringBitmap bitmap = UserIdBitmaps.of(recipientUserIds);
+        return NotificationFanoutTask.builder()
+                .notificationId(notification.getId())
+                .clubId(notification.getClubId())
+                .broadcast(broadcast)
+                .recipientCount(bitmap.getCardinality())
+                .recipients(UserIdBitmaps.toBytes(bitmap))
+                .progress(0)
+                .status(Status.PENDING)
+                .attempts(0)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 수신자 ID (오름차순, progress 는 이 목록의 위치)
+     */
+    public List<Long> recipientIds() {
+        RoaringBitmap bitmap = UserIdBitmaps.fromBytes(recipients);
+        List<Long> ids = new ArrayList<>(bitmap.getCardinality());
+        bitmap.forEach((int userId) -> ids.add((long) userId));
+        return ids;
+    }
+}
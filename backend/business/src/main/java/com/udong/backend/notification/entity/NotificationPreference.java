@@ -0,0 +1,50 @@
+package com.udong.backend.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 유저의 동아리별 알림 수신 설정
+ * digestEnabled 이면 알림을 실시간으로 푸시하지 않고 주기적으로 요약해서 보낸다.
+ */
+@Entity
+@Table(name = "notification_preferences",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_notification_pref_user_club", columnNames = {"user_id", "club_id"})
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationPreference {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "club_id", nullable = false)
+    private Long clubId;
+
+    @Column(name = "digest_enabled", nullable = false)
+    private boolean digestEnabled;
+
+    @Column(name = "last_digest_at")
+    private LocalDateTime lastDigestAt; // 마지막 요약 발송 시각
+
+    //== 비즈니스 로직 ==//
+    public void changeDigest(boolean enabled) {
+        if (enabled && !this.digestEnabled) {
+            this.lastDigestAt = LocalDateTime.now(); // 켠 시점 이후 알림부터 요약
+        }
+        this.digestEnabled = enabled;
+    }
+
+    public void digestSent(LocalDateTime sentAt) {
+        this.lastDigestAt = sentAt;
+    }
+}
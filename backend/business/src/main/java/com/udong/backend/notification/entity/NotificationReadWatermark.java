@@ -0,0 +1,41 @@
+package com.udong.backend.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동아리별 "여기까지 모두 읽음" 기준 시각
+ * created_at 이 readUpTo 이하인 알림은 개별 읽음 여부와 관계없이 읽은 것으로 본다.
+ */
+@Entity
+@Table(name = "notification_read_watermarks",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_read_watermark_user_club", columnNames = {"user_id", "club_id"})
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationReadWatermark {
+
+    // 기준 시각이 없을 때 (모든 알림이 기준 시각 이후)
+    public static final LocalDateTime NONE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "club_id", nullable = false)
+    private Long clubId;
+
+    @Column(name = "read_up_to", nullable = false)
+    private LocalDateTime readUpTo;
+
+    @Column(name = "broadcast_cleared_up_to")
+    private LocalDateTime broadcastClearedUpTo; // 이하인 브로드캐스트는 알림함에서 삭제된 것으로 본다 (읽은 알림 모두 삭제)
+}
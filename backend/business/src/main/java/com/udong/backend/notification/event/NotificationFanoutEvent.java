@@ -0,0 +1,8 @@
+package com.udong.backend.notification.event;
+
+/**
+ * 팬아웃 작업(notification_fanout_tasks)이 저장되었음을 알리는 이벤트
+ * 발행한 트랜잭션이 커밋된 뒤 비동기로 바로 처리된다.
+ * 이 이벤트가 유실돼도(노드 종료 등) 작업 행이 남아 있으므로 주기 처리에서 발송된다.
+ */
+public record NotificationFanoutEvent(Long taskId) {}
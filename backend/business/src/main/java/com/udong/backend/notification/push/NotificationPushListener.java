@@ -0,0 +1,38 @@
+package com.udong.backend.notification.push;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.udong.backend.notification.dto.NotificationPushMessage;
+import com.udong.backend.notification.service.UnreadNotificationCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 채널로 들어온 푸시 메시지를 이 노드의 구독자에게 전달
+ * (미읽음 카운터 near-cache 무효화 신호로도 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPushListener implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final NotificationSubscriberRegistry registry;
+    private final UnreadNotificationCounter unreadCounter;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            NotificationPushMessage push = objectMapper.readValue(message.getBody(), NotificationPushMessage.class);
+            // 다른 노드에서 바뀐 미읽음 카운터의 near-cache 무효화
+            if (push.getUserIds() != null) {
+                unreadCounter.invalidateLocal(push.getUserIds(), push.getClubId());
+            }
+            registry.sendLocal(push);
+        } catch (Exception e) {
+            log.warn(">>> 알림 푸시 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.udong.backend.notification.push;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.udong.backend.notification.dto.NotificationPushMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 알림 푸시 발행
+ * Redis 채널로 발행하면 모든 노드(자기 자신 포함)의 NotificationPushListener 가 받아 로컬 구독자에게 전달한다.
+ * Redis 장애 시에는 최소한 이 노드의 구독자에게라도 직접 전달한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPushPublisher {
+
+    public static final String CHANNEL = "notification:push";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationSubscriberRegistry registry;
+
+    public void publish(NotificationPushMessage message) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn(">>> 알림 푸시 Redis 발행 실패, 로컬 전달로 대체: {}", e.getMessage());
+            registry.sendLocal(message);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 발행 (롤백되면 발행하지 않음)
+     */
+    public void publishAfterCommit(NotificationPushMessage message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(message);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(message);
+            }
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package com.udong.backend.notification.push;
+
+import com.udong.backend.notification.dto.NotificationPushMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 이 노드에 연결된 SSE 구독자 목록 (유저 ID -> emitter)
+ * 한 유저가 여러 탭/기기로 접속할 수 있어 유저당 여러 emitter 를 가진다.
+ */
+@Slf4j
+@Component
+public class NotificationSubscriberRegistry {
+
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L; // 30분 후 클라이언트 재연결
+
+    private final ConcurrentMap<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        emitters.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(emitter);
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        log.debug("SSE subscribed: user={}, connections={}", userId, emitters.get(userId).size());
+        return emitter;
+    }
+
+    /**
+     * 특정 emitter 에만 전송 (연결 직후 초기값 전달용)
+     */
+    public void send(Long userId, SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+        } catch (IOException | IllegalStateException e) {
+            remove(userId, emitter);
+        }
+    }
+
+    /**
+     * 이 노드에 연결된 대상 유저에게만 전송
+     */
+    public void sendLocal(NotificationPushMessage message) {
+        if (message.getUserIds() == null) return;
+
+        Map<String, Object> payload = message.toClientPayload();
+        for (Long userId : message.getUserIds()) {
+            Set<SseEmitter> userEmitters = emitters.get(userId);
+            if (userEmitters == null) continue;
+
+            for (SseEmitter emitter : userEmitters) {
+                send(userId, emitter, message.getEvent(), payload);
+            }
+        }
+    }
+
+    /**
+     * 프록시/로드밸런서 유휴 타임아웃으로 끊기지 않도록 주기적으로 주석 전송
+     */
+    @Scheduled(fixedRate = 25_000)
+    public void heartbeat() {
+        emitters.forEach((userId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    remove(userId, emitter);
+                }
+            }
+        });
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (k, set) -> {
+            set.remove(emitter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
@@ -0,0 +1,109 @@
+package com.udong.backend.notification.repository;
+
+import com.udong.backend.notification.entity.NotificationBroadcast;
+import com.udong.backend.notification.entity.NotificationBroadcastState;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 알림함 조회는 (created_at, notification_id) 역순 키셋으로 idx_broadcast_club_created 를 이어서 읽는다.
+ * 수신 여부는 비트맵으로, 읽음/삭제는 유저별 상태 행(notification_broadcast_states)으로 거른다.
+ */
+public interface NotificationBroadcastRepository extends JpaRepository<NotificationBroadcast, Long> {
+
+    // 개수 세기용: 알림 엔티티 없이 키셋 위치와 수신자 비트맵만
+    interface RecipientsView {
+        Long getNotificationId();
+        LocalDateTime getCreatedAt();
+        byte[] getRecipients();
+    }
+
+    @Query("SELECT b FROM NotificationBroadcast b JOIN FETCH b.notification n WHERE n.id = :notificationId")
+    Optional<NotificationBroadcast> findByNotificationId(@Param("notificationId") Long notificationId);
+
+    // 안읽음 구간: 읽음 기준 시각 이후이고 상태 행이 없는 브로드캐스트
+    @Query("""
+            SELECT b FROM NotificationBroadcast b JOIN FETCH b.notification n
+            WHERE b.clubId = :clubId AND (:type IS NULL OR n.type = :type)
+              AND b.createdAt > :readUpTo
+              AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND n.id < :lastId))
+              AND NOT EXISTS (SELECT 1 FROM NotificationBroadcastState s
+                              WHERE s.notificationId = n.id AND s.userId = :userId)
+            ORDER BY b.createdAt DESC, n.id DESC
+            """)
+    List<NotificationBroadcast> findUnreadSegment(@Param("userId") Long userId,
+                                                  @Param("clubId") Long clubId,
+                                                  @Param("type") String type,
+                                                  @Param("readUpTo") LocalDateTime readUpTo,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("lastId") Long lastId,
+                                                  Pageable pageable);
+
+    // 읽음 구간: 삭제 기준 시각 이후, 삭제하지 않았고 (읽음 기준 시각 이하이거나 개별 읽음)
+    @Query("""
+            SELECT b FROM NotificationBroadcast b JOIN FETCH b.notification n
+            WHERE b.clubId = :clubId AND (:type IS NULL OR n.type = :type)
+              AND b.createdAt > :clearedUpTo
+              AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND n.id < :lastId))
+              AND NOT EXISTS (SELECT 1 FROM NotificationBroadcastState s
+                              WHERE s.notificationId = n.id AND s.userId = :userId AND s.state = :deleted)
+              AND (b.createdAt <= :readUpTo
+                   OR EXISTS (SELECT 1 FROM NotificationBroadcastState r
+                              WHERE r.notificationId = n.id AND r.userId = :userId))
+            ORDER BY b.createdAt DESC, n.id DESC
+            """)
+    List<NotificationBroadcast> findReadSegment(@Param("userId") Long userId,
+                                                @Param("clubId") Long clubId,
+                                                @Param("type") String type,
+                                                @Param("readUpTo") LocalDateTime readUpTo,
+                                                @Param("clearedUpTo") LocalDateTime clearedUpTo,
+                                                @Param("deleted") NotificationBroadcastState.State deleted,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("lastId") Long lastId,
+                                                Pageable pageable);
+
+    // 안읽음 개수용: findUnreadSegment 와 같은 조건 (유형 필터 포함)
+    @Query("""
+            SELECT n.id AS notificationId, b.createdAt AS createdAt, b.recipients AS recipients
+            FROM NotificationBroadcast b JOIN b.notification n
+            WHERE b.clubId = :clubId AND (:type IS NULL OR n.type = :type)
+              AND b.createdAt > :readUpTo
+              AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND n.id < :lastId))
+              AND NOT EXISTS (SELECT 1 FROM NotificationBroadcastState s
+                              WHERE s.notificationId = n.id AND s.userId = :userId)
+            ORDER BY b.createdAt DESC, n.id DESC
+            """)
+    List<RecipientsView> findUnreadRecipients(@Param("userId") Long userId,
+                                              @Param("clubId") Long clubId,
+                                              @Param("type") String type,
+                                              @Param("readUpTo") LocalDateTime readUpTo,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("lastId") Long lastId,
+                                              Pageable pageable);
+
+    // 알림함 개수용: 안읽음 + 읽음 구간 = 삭제 기준 시각 이후이고 삭제하지 않은 브로드캐스트
+    @Query("""
+            SELECT n.id AS notificationId, b.createdAt AS createdAt, b.recipients AS recipients
+            FROM NotificationBroadcast b JOIN b.notification n
+            WHERE b.clubId = :clubId AND (:type IS NULL OR n.type = :type)
+              AND b.createdAt > :clearedUpTo
+              AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND n.id < :lastId))
+              AND NOT EXISTS (SELECT 1 FROM NotificationBroadcastState s
+                              WHERE s.notificationId = n.id AND s.userId = :userId AND s.state = :deleted)
+            ORDER BY b.createdAt DESC, n.id DESC
+            """)
+    List<RecipientsView> findVisibleRecipients(@Param("userId") Long userId,
+                                               @Param("clubId") Long clubId,
+                                               @Param("type") String type,
+                                               @Param("clearedUpTo") LocalDateTime clearedUpTo,
+                                               @Param("deleted") NotificationBroadcastState.State deleted,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("lastId") Long lastId,
+                                               Pageable pageable);
+}
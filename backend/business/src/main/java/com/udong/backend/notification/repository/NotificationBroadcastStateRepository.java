@@ -0,0 +1,44 @@
+package com.udong.backend.notification.repository;
+
+import com.udong.backend.notification.entity.NotificationBroadcastState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface NotificationBroadcastStateRepository extends JpaRepository<NotificationBroadcastState, Long> {
+
+    @Query("SELECT s.state FROM NotificationBroadcastState s WHERE s.notificationId = :notificationId AND s.userId = :userId")
+    NotificationBroadcastState.State findState(@Param("notificationId") Long notificationId, @Param("userId") Long userId);
+
+    // 상태 행이 없을 때만 INSERT (유니크 키 uk_broadcast_state_notification_user), 새로 들어가면 1 / 이미 있으면 0
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO notification_broadcast_states (notification_id, user_id, club_id, state, updated_at)
+            VALUES (:notificationId, :userId, :clubId, :state, :now)
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("notificationId") Long notificationId,
+                       @Param("userId") Long userId,
+                       @Param("clubId") Long clubId,
+                       @Param("state") String state,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = """
+            UPDATE notification_broadcast_states
+               SET state = 'DELETED', updated_at = :now
+             WHERE notification_id = :notificationId AND user_id = :userId
+            """, nativeQuery = true)
+    int markDeleted(@Param("notificationId") Long notificationId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // 읽은 알림 모두 삭제: 개별 읽음 행만 삭제로 바꾼다 (idx_broadcast_state_user_club)
+    @Modifying
+    @Query(value = """
+            UPDATE notification_broadcast_states
+               SET state = 'DELETED', updated_at = :now
+             WHERE user_id = :userId AND club_id = :clubId AND state = 'READ'
+            """, nativeQuery = true)
+    int deleteAllRead(@Param("userId") Long userId, @Param("clubId") Long clubId, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,171 @@
+package com.udong.backend.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * notification_deliveries 대량 처리 전용 (JDBC)
+ * IDENTITY 키라 Hibernate 배치가 불가능하므로 다중 VALUES 한 문장으로 넣는다.
+ * 알림 묶기/요약 집계처럼 수신자 목록 단위로 처리하는 쿼리도 여기에 둔다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationDeliveryJdbcRepository {
+
+    // 읽음 기준 시각 (notification_read_watermarks) - 이하인 delivery 는 읽은 것으로 본다
+    private static final String READ_UP_TO = """
+            COALESCE((SELECT w.read_up_to FROM notification_read_watermarks w
+                      WHERE w.user_id = nd.user_id AND w.club_id = nd.club_id), '1970-01-01')""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 수신자 목록을 한 문장으로 INSERT 하고 삽입된 행 수를 반환
+     * 이미 받은 수신자는 유니크 키(uk_delivery_notification_user)로 건너뛰므로 재시도해도 중복 행이 생기지 않는다.
+     */
+    public int insertBatch(Long notificationId, Long clubId, List<Long> userIds, LocalDateTime createdAt) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "INSERT IGNORE INTO notification_deliveries (has_read, digest_count, created_at, user_id, club_id, notification_id) VALUES ");
+        Object[] args = new Object[userIds.size() * 4];
+        Timestamp ts = Timestamp.valueOf(createdAt);
+
+        for (int i = 0; i < userIds.size(); i++) {
+            sql.append(i == 0 ? "(false, 1, ?, ?, ?, ?)" : ", (false, 1, ?, ?, ?, ?)");
+            args[i * 4] = ts;
+            args[i * 4 + 1] = userIds.get(i);
+            args[i * 4 + 2] = clubId;
+            args[i * 4 + 3] = notificationId;
+        }
+
+        return jdbcTemplate.update(sql.toString(), args);
+    }
+
+    /**
+     * 알림 묶기 후보: since 이후 생성된 같은 동아리/타입의 안읽은 delivery (유저별 최신 1건)
+     * @return 유저 ID -> delivery ID
+     */
+    public Map<Long, Long> findCoalescible(List<Long> userIds, Long clubId, String type, LocalDateTime since) {
+        Map<Long, Long> result = new LinkedHashMap<>();
+        if (userIds.isEmpty()) {
+            return result;
+        }
+
+        Object[] args = new Object[userIds.size() + 3];
+        for (int i = 0; i < userIds.size(); i++) args[i] = userIds.get(i);
+        args[userIds.size()] = clubId;
+        args[userIds.size() + 1] = Timestamp.valueOf(since);
+        args[userIds.size() + 2] = type;
+
+        jdbcTemplate.query("""
+                SELECT nd.user_id, MAX(nd.id) AS delivery_id
+                FROM notification_deliveries nd
+                JOIN notifications n ON n.id = nd.notification_id
+                WHERE nd.user_id IN (%s) AND nd.club_id = ? AND nd.has_read = false
+                  AND nd.created_at >= ? AND n.type = ?
+                  AND nd.created_at > %s
+                GROUP BY nd.user_id
+                """.formatted(placeholders(userIds.size()), READ_UP_TO),
+                rs -> {
+                    result.put(rs.getLong("user_id"), rs.getLong("delivery_id"));
+                }, args);
+        return result;
+    }
+
+    /**
+     * 기존 delivery 가 새 알림을 가리키게 하고 묶인 수를 늘린다
+     * 그 사이 개별 읽음이나 전체 읽음(읽음 기준 시각)으로 읽힌 건은 제외한다 (읽은 알림이 새 시각으로 다시 안읽음이 되지 않도록).
+     * @return 실제로 묶인 delivery 의 유저 ID
+     */
+    public List<Long> coalesceInto(List<Long> deliveryIds, Long notificationId, LocalDateTime createdAt) {
+        if (deliveryIds.isEmpty()) {
+            return List.of();
+        }
+
+        Object[] args = new Object[deliveryIds.size() + 2];
+        args[0] = notificationId;
+        args[1] = Timestamp.valueOf(createdAt);
+        for (int i = 0; i < deliveryIds.size(); i++) args[i + 2] = deliveryIds.get(i);
+
+        jdbcTemplate.update("""
+                UPDATE notification_deliveries nd
+                SET nd.notification_id = ?, nd.digest_count = nd.digest_count + 1, nd.created_at = ?
+                WHERE nd.id IN (%s) AND nd.has_read = false
+                  AND nd.created_at > %s
+                """.formatted(placeholders(deliveryIds.size()), READ_UP_TO), args);
+
+        Object[] selectArgs = new Object[deliveryIds.size() + 1];
+        for (int i = 0; i < deliveryIds.size(); i++) selectArgs[i] = deliveryIds.get(i);
+        selectArgs[deliveryIds.size()] = notificationId;
+
+        return jdbcTemplate.queryForList(
+                "SELECT user_id FROM notification_deliveries WHERE id IN (%s) AND notification_id = ?"
+                        .formatted(placeholders(deliveryIds.size())),
+                Long.class, selectArgs);
+    }
+
+    /**
+     * 읽음 기준 시각이 at 이상인 유저 (at 에 찍힌 알림이 이미 읽은 것으로 보이는 유저)
+     */
+    public List<Long> findReadUpToAtLeast(Long clubId, List<Long> userIds, LocalDateTime at) {
+        Object[] args = new Object[userIds.size() + 2];
+        args[0] = clubId;
+        args[1] = Timestamp.valueOf(at);
+        for (int i = 0; i < userIds.size(); i++) args[i + 2] = userIds.get(i);
+
+        return jdbcTemplate.queryForList("""
+                SELECT user_id FROM notification_read_watermarks
+                WHERE club_id = ? AND read_up_to >= ? AND user_id IN (%s)
+                """.formatted(placeholders(userIds.size())), Long.class, args);
+    }
+
+    /**
+     * 요약 발송용: since 이후 들어온 안읽은 알림 수 (타입별, 묶인 수 포함)
+     */
+    public Map<String, Long> countUnreadByTypeSince(Long userId, Long clubId, LocalDateTime since) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        jdbcTemplate.query("""
+                SELECT n.type, SUM(nd.digest_count) AS cnt
+                FROM notification_deliveries nd
+                JOIN notifications n ON n.id = nd.notification_id
+                WHERE nd.user_id = ? AND nd.club_id = ? AND nd.has_read = false AND nd.created_at > ?
+                  AND nd.created_at > %s
+                GROUP BY n.type
+                """.formatted(READ_UP_TO),
+                rs -> {
+                    result.put(rs.getString("type"), rs.getLong("cnt"));
+                }, userId, clubId, Timestamp.valueOf(since));
+        return result;
+    }
+
+    public long findMaxId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM notification_deliveries", Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    /**
+     * club_id 가 비어 있는 기존 delivery 를 알림의 club_id 로 채운다 (PK 범위 (fromId, toId] 만 읽음)
+     */
+    public int backfillClubId(long fromId, long toId) {
+        return jdbcTemplate.update("""
+                UPDATE notification_deliveries
+                SET club_id = (SELECT n.club_id FROM notifications n WHERE n.id = notification_id)
+                WHERE id > ? AND id <= ? AND club_id IS NULL
+                """, fromId, toId);
+    }
+
+    private static String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,40 +31,55 @@ public interface NotificationDeliveryRepository extends JpaRepository<Notificati
     @Query("SELECT nd FROM NotificationDelivery nd JOIN FETCH nd.notification n WHERE nd.userId = :userId AND n.clubId = :clubId AND n.type = :type ORDER BY nd.hasRead ASC, nd.createdAt DESC")
     Page<NotificationDelivery> findByUserIdAndClubIdAndNotificationTypeWithNotification(@Param("userId") Long userId, @Param("clubId") Long clubId, @Param("type") String type, Pageable pageable);
 
+    // 커서 페이지네이션: 읽음 표시 구간 하나를 (created_at, id) 역순으로 이어서 조회
+    // idx_delivery_inbox (user_id, club_id, has_read, created_at, id) 범위 스캔, COUNT 쿼리 없음
+    // createdFrom(초과) ~ createdTo(이하) 로 읽음 기준 시각 앞/뒤 구간을 나눈다
+    @Query("SELECT nd FROM NotificationDelivery nd JOIN FETCH nd.notification n " +
+            "WHERE nd.userId = :userId AND nd.clubId = :clubId AND nd.hasRead = :hasRead " +
+            "AND nd.createdAt > :createdFrom AND nd.createdAt <= :createdTo " +
+            "AND (:type IS NULL OR n.type = :type) " +
+            "AND (nd.createdAt < :createdAt OR (nd.createdAt = :createdAt AND nd.id < :lastId)) " +
+            "ORDER BY nd.createdAt DESC, nd.id DESC")
+    List<NotificationDelivery> findInboxSegment(@Param("userId") Long userId,
+                                                @Param("clubId") Long clubId,
+                                                @Param("hasRead") boolean hasRead,
+                                                @Param("createdFrom") LocalDateTime createdFrom,
+                                                @Param("createdTo") LocalDateTime createdTo,
+                                                @Param("type") String type,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("lastId") Long lastId,
+                                                Pageable pageable);
+
+    // 동아리 알림함 전체 개수 (페이지 조회용)
+    @Query("SELECT COUNT(nd) FROM NotificationDelivery nd JOIN nd.notification n " +
+            "WHERE nd.userId = :userId AND nd.clubId = :clubId AND (:type IS NULL OR n.type = :type)")
+    long countInbox(@Param("userId") Long userId, @Param("clubId") Long clubId, @Param("type") String type);
+
     // 특정 유저의 특정 알림을 찾기 위함 (읽음 처리시 사용)
     Optional<NotificationDelivery> findByIdAndUserId(Long id, Long userId);
 
+    // 알림(동아리 ID 등)까지 함께 조회 (읽음/삭제 시 미읽음 푸시에 사용)
+    @Query("SELECT nd FROM NotificationDelivery nd JOIN FETCH nd.notification WHERE nd.id = :id AND nd.userId = :userId")
+    Optional<NotificationDelivery> findByIdAndUserIdWithNotification(@Param("id") Long id, @Param("userId") Long userId);
+
     // 특정 유저의 모든 읽지 않은 알림을 찾기 위함 (전체 읽음 처리시 사용)
     List<NotificationDelivery> findAllByUserIdAndHasReadIsFalse(Long userId);
 
-    // JPQL을 이용한 벌크 업데이트 (전체 읽음 처리 성능 최적화)
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE NotificationDelivery nd SET nd.hasRead = true WHERE nd.userId = :userId AND nd.hasRead = false")
-    int readAllByUserId(@Param("userId") Long userId);
-
-    // 특정 동아리의 모든 알림 읽음 처리
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE NotificationDelivery nd SET nd.hasRead = true WHERE nd.userId = :userId AND nd.notification.clubId = :clubId AND nd.hasRead = false")
-    int readAllByUserIdAndClubId(@Param("userId") Long userId, @Param("clubId") Long clubId);
+    // 유저의 delivery 가 남아 있는 동아리 (전체 읽음/개수용)
+    @Query("SELECT DISTINCT nd.clubId FROM NotificationDelivery nd WHERE nd.userId = :userId AND nd.clubId IS NOT NULL")
+    List<Long> findClubIdsByUserId(@Param("userId") Long userId);
 
-    // 읽지 않은 알림 개수 조회
-    long countByUserIdAndHasReadIsFalse(Long userId);
-
-    // 특정 동아리의 읽지 않은 알림 개수 조회
-    @Query("SELECT COUNT(nd) FROM NotificationDelivery nd JOIN nd.notification n WHERE nd.userId = :userId AND n.clubId = :clubId AND nd.hasRead = false")
-    long countByUserIdAndClubIdAndHasReadIsFalse(@Param("userId") Long userId, @Param("clubId") Long clubId);
+    // 특정 동아리의 읽지 않은 알림 개수 조회 (읽음 기준 시각 이후만)
+    @Query("SELECT COUNT(nd) FROM NotificationDelivery nd WHERE nd.userId = :userId AND nd.clubId = :clubId AND nd.hasRead = false AND nd.createdAt > :readUpTo")
+    long countUnread(@Param("userId") Long userId, @Param("clubId") Long clubId, @Param("readUpTo") LocalDateTime readUpTo);
 
     // 특정 유저의 특정 알림을 ID로 삭제
     // long을 반환하여 실제로 몇 개의 행이 삭제되었는지 확인할 수 있습니다.
     long deleteByIdAndUserId(Long id, Long userId);
 
-    // 특정 유저의 읽은 알림을 모두 삭제 (벌크 연산)
-    @Modifying
-    @Query("DELETE FROM NotificationDelivery nd WHERE nd.userId = :userId AND nd.hasRead = true")
-    void deleteAllByUserIdAndHasReadIsTrue(@Param("userId") Long userId);
-
     // 특정 동아리의 읽은 알림을 모두 삭제 (벌크 연산)
+    // idx_delivery_inbox 의 (user_id, club_id, has_read) 범위만 잠그도록 delivery 의 club_id 로 조건을 건다
     @Modifying
-    @Query("DELETE FROM NotificationDelivery nd WHERE nd.userId = :userId AND nd.notification.clubId = :clubId AND nd.hasRead = true")
-    void deleteAllByUserIdAndClubIdAndHasReadIsTrue(@Param("userId") Long userId, @Param("clubId") Long clubId);
+    @Query("DELETE FROM NotificationDelivery nd WHERE nd.userId = :userId AND nd.clubId = :clubId AND (nd.hasRead = true OR nd.createdAt <= :readUpTo)")
+    void deleteAllRead(@Param("userId") Long userId, @Param("clubId") Long clubId, @Param("readUpTo") LocalDateTime readUpTo);
 }
@@ -0,0 +1,73 @@
+package com.udong.backend.notification.repository;
+
+import com.udong.backend.notification.entity.NotificationFanoutTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationFanoutTaskRepository extends JpaRepository<NotificationFanoutTask, Long> {
+
+    // 점유 기한이 없거나 지난 대기 작업 (오래된 순)
+    @Query(value = """
+            SELECT id FROM notification_fanout_tasks
+             WHERE status = 'PENDING' AND (locked_until IS NULL OR locked_until < :now)
+             ORDER BY id
+             LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 작업 점유: 한 워커만 성공
+    @Modifying
+    @Query(value = """
+            UPDATE notification_fanout_tasks
+               SET locked_until = :until
+             WHERE id = :id AND status = 'PENDING'
+               AND (locked_until IS NULL OR locked_until < :now)
+            """, nativeQuery = true)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    // 배치 1개 처리 완료 표시 (progress 가 from 일 때만, 점유 기한 연장)
+    @Modifying
+    @Query(value = """
+            UPDATE notification_fanout_tasks
+               SET progress = :to, locked_until = :until
+             WHERE id = :id AND status = 'PENDING' AND progress = :from
+            """, nativeQuery = true)
+    int advance(@Param("id") Long id, @Param("from") int from, @Param("to") int to, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query(value = """
+            UPDATE notification_fanout_tasks
+               SET status = 'DONE', completed_at = :now, locked_until = NULL
+             WHERE id = :id AND status = 'PENDING'
+            """, nativeQuery = true)
+    int complete(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 실패 기록: retryAt 이후 다시 점유 가능, 최대 시도 횟수에 닿으면 FAILED
+    @Modifying
+    @Query(value = """
+            UPDATE notification_fanout_tasks
+               SET status = CASE WHEN attempts + 1 >= :maxAttempts THEN 'FAILED' ELSE 'PENDING' END,
+                   attempts = attempts + 1,
+                   last_error = :error,
+                   locked_until = :retryAt
+             WHERE id = :id AND status = 'PENDING'
+            """, nativeQuery = true)
+    int recordFailure(@Param("id") Long id,
+                      @Param("error") String error,
+                      @Param("maxAttempts") int maxAttempts,
+                      @Param("retryAt") LocalDateTime retryAt);
+
+    // 완료된 작업 정리 (한 번에 limit 행)
+    @Modifying
+    @Query(value = """
+            DELETE FROM notification_fanout_tasks
+             WHERE status = 'DONE' AND completed_at < :before
+             LIMIT :limit
+            """, nativeQuery = true)
+    int deleteDoneBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,24 @@
+package com.udong.backend.notification.repository;
+
+import com.udong.backend.notification.entity.NotificationPreference;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface NotificationPreferenceRepository extends JpaRepository<NotificationPreference, Long> {
+
+    Optional<NotificationPreference> findByUserIdAndClubId(Long userId, Long clubId);
+
+    // 팬아웃 시 실시간 푸시에서 제외할 요약 모드 유저
+    @Query("SELECT p.userId FROM NotificationPreference p WHERE p.clubId = :clubId AND p.digestEnabled = true AND p.userId IN :userIds")
+    List<Long> findDigestUserIds(@Param("clubId") Long clubId, @Param("userIds") Collection<Long> userIds);
+
+    // 요약 발송 대상 (ID 순 페이지)
+    @Query("SELECT p FROM NotificationPreference p WHERE p.digestEnabled = true AND p.id > :afterId ORDER BY p.id")
+    List<NotificationPreference> findDigestEnabledAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -0,0 +1,45 @@
+package com.udong.backend.notification.repository;
+
+import com.udong.backend.notification.entity.NotificationReadWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface NotificationReadWatermarkRepository extends JpaRepository<NotificationReadWatermark, Long> {
+
+    @Query("SELECT w.readUpTo FROM NotificationReadWatermark w WHERE w.userId = :userId AND w.clubId = :clubId")
+    Optional<LocalDateTime> findReadUpTo(@Param("userId") Long userId, @Param("clubId") Long clubId);
+
+    default LocalDateTime readUpToOrNone(Long userId, Long clubId) {
+        return findReadUpTo(userId, clubId).orElse(NotificationReadWatermark.NONE);
+    }
+
+    @Query("SELECT w.broadcastClearedUpTo FROM NotificationReadWatermark w WHERE w.userId = :userId AND w.clubId = :clubId")
+    Optional<LocalDateTime> findBroadcastClearedUpTo(@Param("userId") Long userId, @Param("clubId") Long clubId);
+
+    default LocalDateTime broadcastClearedUpToOrNone(Long userId, Long clubId) {
+        return findBroadcastClearedUpTo(userId, clubId).orElse(NotificationReadWatermark.NONE);
+    }
+
+    // 전체 읽음: 밀린 알림 수와 관계없이 한 행만 갱신 (기준 시각은 앞으로만 이동)
+    @Modifying
+    @Query(value = """
+            INSERT INTO notification_read_watermarks (user_id, club_id, read_up_to)
+            VALUES (:userId, :clubId, :readUpTo)
+            ON DUPLICATE KEY UPDATE read_up_to = GREATEST(read_up_to, VALUES(read_up_to))
+            """, nativeQuery = true)
+    int upsert(@Param("userId") Long userId, @Param("clubId") Long clubId, @Param("readUpTo") LocalDateTime readUpTo);
+
+    // 읽은 브로드캐스트 모두 삭제: 읽음 기준 시각 이하를 삭제 기준으로 (브로드캐스트 행은 건드리지 않음)
+    @Modifying
+    @Query(value = """
+            UPDATE notification_read_watermarks
+               SET broadcast_cleared_up_to = read_up_to
+             WHERE user_id = :userId AND club_id = :clubId
+            """, nativeQuery = true)
+    int clearBroadcastsUpToReadMark(@Param("userId") Long userId, @Param("clubId") Long clubId);
+}
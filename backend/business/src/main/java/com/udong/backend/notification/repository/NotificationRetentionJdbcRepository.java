@@ -0,0 +1,88 @@
+package com.udong.backend.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 알림 보존 기간 정리 전용 (JDBC)
+ * 모든 문장은 LIMIT 이 걸린 작은 단위로, 트랜잭션 없이 문장마다 커밋된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationRetentionJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<String> findTypes() {
+        return jdbcTemplate.queryForList("SELECT DISTINCT type FROM notifications", String.class);
+    }
+
+    /**
+     * 보존 기간이 지난 알림 ID 를 오래된 순으로 (idx_notification_type_created)
+     */
+    public List<Long> findExpiredIds(String type, LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM notifications WHERE type = ? AND created_at < ? ORDER BY created_at, id LIMIT ?",
+                Long.class, type, Timestamp.valueOf(cutoff), limit);
+    }
+
+    public long findMaxNotificationId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM notifications", Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    /**
+     * PK 범위 (fromId, toId] 안에서 delivery 도 브로드캐스트도 남지 않은 알림 ID
+     * 범위 밖은 읽지 않으므로 한 번에 훑는 행 수는 (toId - fromId) 이하다.
+     */
+    public List<Long> findOrphanIds(long fromId, long toId, LocalDateTime createdBefore) {
+        return jdbcTemplate.queryForList("""
+                SELECT n.id FROM notifications n
+                WHERE n.id > ? AND n.id <= ? AND n.created_at < ?
+                  AND NOT EXISTS (SELECT 1 FROM notification_deliveries nd WHERE nd.notification_id = n.id)
+                  AND NOT EXISTS (SELECT 1 FROM notification_broadcasts b WHERE b.notification_id = n.id)
+                ORDER BY n.id
+                """, Long.class, fromId, toId, Timestamp.valueOf(createdBefore));
+    }
+
+    public int deleteDeliveries(List<Long> notificationIds, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM notification_deliveries WHERE notification_id IN (" + placeholders(notificationIds) + ") LIMIT ?",
+                append(notificationIds, limit));
+    }
+
+    public int deleteBroadcastStates(List<Long> notificationIds, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM notification_broadcast_states WHERE notification_id IN (" + placeholders(notificationIds) + ") LIMIT ?",
+                append(notificationIds, limit));
+    }
+
+    public int deleteBroadcasts(List<Long> notificationIds) {
+        return jdbcTemplate.update(
+                "DELETE FROM notification_broadcasts WHERE notification_id IN (" + placeholders(notificationIds) + ")",
+                notificationIds.toArray());
+    }
+
+    public int deleteNotifications(List<Long> notificationIds) {
+        return jdbcTemplate.update(
+                "DELETE FROM notifications WHERE id IN (" + placeholders(notificationIds) + ")",
+                notificationIds.toArray());
+    }
+
+    private static String placeholders(List<Long> ids) {
+        return String.join(", ", Collections.nCopies(ids.size(), "?"));
+    }
+
+    private static Object[] append(List<Long> ids, Object last) {
+        Object[] args = new Object[ids.size() + 1];
+        for (int i = 0; i < ids.size(); i++) args[i] = ids.get(i);
+        args[ids.size()] = last;
+        return args;
+    }
+}
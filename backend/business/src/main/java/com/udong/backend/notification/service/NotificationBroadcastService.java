@@ -0,0 +1,188 @@
+package com.udong.backend.notification.service;
+
+import com.udong.backend.notification.dto.NotificationCursor;
+import com.udong.backend.notification.dto.NotificationResponse;
+import com.udong.backend.notification.entity.Notification;
+import com.udong.backend.notification.entity.NotificationBroadcast;
+import com.udong.backend.notification.entity.NotificationBroadcastState;
+import com.udong.backend.notification.repository.NotificationBroadcastRepository;
+import com.udong.backend.notification.repository.NotificationBroadcastStateRepository;
+import com.udong.backend.notification.repository.NotificationReadWatermarkRepository;
+import com.udong.backend.notification.util.UserIdBitmaps;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 브로드캐스트 알림 (알림 1행 + 수신자 비트맵, 유저별 읽음/삭제 상태 행)
+ *
+ * - 알림함 조회는 (created_at, notification_id) 키셋으로 필요한 만큼만 읽는다.
+ *   수신자가 아닌 행은 비트맵으로 걸러내며, 한 번에 훑는 행 수는 SCAN_LIMIT 으로 제한한다.
+ * - 개수는 제한 없이 끝까지 센다. 알림 엔티티 없이 수신자 비트맵만 COUNT_PAGE 행씩 읽는다.
+ * - 읽음/삭제는 (notification_id, user_id) 상태 행 하나만 쓰므로 같은 브로드캐스트를 여러 유저가 동시에 읽어도 서로 막지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class NotificationBroadcastService {
+
+    // 조회 1회에 훑는 최대 행 수 (수신자가 아닌 행이 그보다 길게 이어지면 그 뒤는 보지 않는다)
+    private static final int SCAN_LIMIT = 500;
+    private static final int SCAN_PAGE = 100;
+    private static final int COUNT_PAGE = 1_000;
+    private static final LocalDateTime OPEN_END = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final NotificationBroadcastRepository broadcastRepository;
+    private final NotificationBroadcastStateRepository stateRepository;
+    private final NotificationReadWatermarkRepository watermarkRepository;
+
+    public NotificationBroadcast create(Notification notification, Collection<Long> recipientUserIds) {
+        return broadcastRepository.save(NotificationBroadcast.of(notification, recipientUserIds));
+    }
+
+    /**
+     * 알림함의 안읽음/읽음 구간 중 커서 이후 최대 limit 개 (정렬: 최신순, 같은 시각이면 알림 ID 역순)
+     * @param after 같은 구간의 커서 (없으면 구간 처음부터)
+     */
+    @Transactional(readOnly = true)
+    public List<NotificationResponse> findInboxSegment(Long userId, Long clubId, String type, boolean hasRead,
+                                                       LocalDateTime readUpTo, NotificationCursor after, int limit) {
+        LocalDateTime clearedUpTo = hasRead ? watermarkRepository.broadcastClearedUpToOrNone(userId, clubId) : null;
+        LocalDateTime createdAt = after != null ? after.getCreatedAt() : OPEN_END;
+        // 같은 시각에서는 delivery 가 브로드캐스트보다 앞이므로, 커서가 delivery 면 같은 시각의 브로드캐스트는 모두 남아 있음
+        Long lastId = (after != null && after.isBroadcast()) ? after.getId() : Long.MAX_VALUE;
+
+        List<NotificationResponse> result = new ArrayList<>();
+        int scanned = 0;
+        while (result.size() < limit && scanned < SCAN_LIMIT) {
+            PageRequest page = PageRequest.of(0, Math.min(SCAN_PAGE, SCAN_LIMIT - scanned));
+            List<NotificationBroadcast> rows = hasRead
+                    ? broadcastRepository.findReadSegment(userId, clubId, type, readUpTo, clearedUpTo,
+                            NotificationBroadcastState.State.DELETED, createdAt, lastId, page)
+                    : broadcastRepository.findUnreadSegment(userId, clubId, type, readUpTo, createdAt, lastId, page);
+
+            for (NotificationBroadcast row : rows) {
+                if (row.isRecipient(userId)) {
+                    result.add(toResponse(row, hasRead));
+                    if (result.size() == limit) break;
+                }
+            }
+            scanned += rows.size();
+            if (rows.size() < page.getPageSize()) break;
+
+            NotificationBroadcast last = rows.get(rows.size() - 1);
+            createdAt = last.getCreatedAt();
+            lastId = last.getNotification().getId();
+        }
+        return result;
+    }
+
+    /**
+     * 안읽은 브로드캐스트 수 (읽음 기준 시각 이후, 상태 행 없음)
+     */
+    @Transactional(readOnly = true)
+    public long countUnread(Long userId, Long clubId, LocalDateTime readUpTo) {
+        return countRecipients(userId, (createdAt, lastId) -> broadcastRepository.findUnreadRecipients(
+                userId, clubId, null, readUpTo, createdAt, lastId, PageRequest.of(0, COUNT_PAGE)));
+    }
+
+    /**
+     * 알림함에 보이는 브로드캐스트 수 (삭제 기준 시각 이후, 삭제하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public long countInbox(Long userId, Long clubId, String type) {
+        LocalDateTime clearedUpTo = watermarkRepository.broadcastClearedUpToOrNone(userId, clubId);
+        return countRecipients(userId, (createdAt, lastId) -> broadcastRepository.findVisibleRecipients(
+                userId, clubId, type, clearedUpTo, NotificationBroadcastState.State.DELETED,
+                createdAt, lastId, PageRequest.of(0, COUNT_PAGE)));
+    }
+
+    // 키셋으로 끝까지 읽으며 수신자인 행만 센다
+    private long countRecipients(Long userId,
+                                 BiFunction<LocalDateTime, Long, List<NotificationBroadcastRepository.RecipientsView>> nextPage) {
+        long count = 0;
+        LocalDateTime createdAt = OPEN_END;
+        Long lastId = Long.MAX_VALUE;
+        while (true) {
+            List<NotificationBroadcastRepository.RecipientsView> rows = nextPage.apply(createdAt, lastId);
+            for (NotificationBroadcastRepository.RecipientsView row : rows) {
+                if (UserIdBitmaps.contains(UserIdBitmaps.fromBytes(row.getRecipients()), userId)) count++;
+            }
+            if (rows.size() < COUNT_PAGE) return count;
+
+            NotificationBroadcastRepository.RecipientsView last = rows.get(rows.size() - 1);
+            createdAt = last.getCreatedAt();
+            lastId = last.getNotificationId();
+        }
+    }
+
+    /**
+     * 알림함에 보이는 브로드캐스트 (수신자이고 삭제하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public NotificationBroadcast getVisible(Long userId, Long notificationId) {
+        NotificationBroadcast broadcast = broadcastRepository.findByNotificationId(notificationId)
+                .filter(b -> b.isRecipient(userId))
+                .orElseThrow(() -> new EntityNotFoundException("해당 알림을 찾을 수 없습니다. ID: " + notificationId));
+
+        boolean deleted = stateRepository.findState(notificationId, userId) == NotificationBroadcastState.State.DELETED
+                || !broadcast.getCreatedAt().isAfter(watermarkRepository.broadcastClearedUpToOrNone(userId, broadcast.getClubId()));
+        if (deleted) {
+            throw new EntityNotFoundException("해당 알림을 찾을 수 없습니다. ID: " + notificationId);
+        }
+        return broadcast;
+    }
+
+    /**
+     * @return 상태 행이 새로 생겼으면 true (이전에 개별 읽음/삭제한 적 없음)
+     */
+    public boolean markRead(NotificationBroadcast broadcast, Long userId) {
+        return insertState(broadcast, userId, NotificationBroadcastState.State.READ);
+    }
+
+    /**
+     * @return 상태 행이 새로 생겼으면 true (이전에 개별 읽음/삭제한 적 없음)
+     */
+    public boolean markDeleted(NotificationBroadcast broadcast, Long userId) {
+        if (insertState(broadcast, userId, NotificationBroadcastState.State.DELETED)) {
+            return true;
+        }
+        stateRepository.markDeleted(broadcast.getNotification().getId(), userId, LocalDateTime.now());
+        return false;
+    }
+
+    /**
+     * 동아리의 읽은 브로드캐스트를 알림함에서 모두 삭제
+     * 읽음 기준 시각 이하는 삭제 기준 시각 한 값으로, 그 이후 개별 읽음은 유저 자신의 상태 행만 바꾼다.
+     */
+    public void deleteAllRead(Long userId, Long clubId) {
+        watermarkRepository.clearBroadcastsUpToReadMark(userId, clubId);
+        stateRepository.deleteAllRead(userId, clubId, LocalDateTime.now());
+    }
+
+    private boolean insertState(NotificationBroadcast broadcast, Long userId, NotificationBroadcastState.State state) {
+        return stateRepository.insertIfAbsent(broadcast.getNotification().getId(), userId, broadcast.getClubId(),
+                state.name(), LocalDateTime.now()) == 1;
+    }
+
+    private NotificationResponse toResponse(NotificationBroadcast broadcast, boolean hasRead) {
+        Notification notification = broadcast.getNotification();
+        return NotificationResponse.builder()
+                .notificationId(notification.getId())
+                .broadcast(true)
+                .payload(notification.getPayload())
+                .type(notification.getType())
+                .targetId(notification.getTargetId())
+                .hasRead(hasRead)
+                .createdAt(broadcast.getCreatedAt())
+                .build();
+    }
+}
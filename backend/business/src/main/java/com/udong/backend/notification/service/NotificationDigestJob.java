@@ -0,0 +1,94 @@
+package com.udong.backend.notification.service;
+
+import com.udong.backend.notification.dto.NotificationPushMessage;
+import com.udong.backend.notification.entity.NotificationPreference;
+import com.udong.backend.notification.push.NotificationPushPublisher;
+import com.udong.backend.notification.repository.NotificationDeliveryJdbcRepository;
+import com.udong.backend.notification.repository.NotificationPreferenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요약 모드 유저에게 마지막 요약 이후 들어온 알림 수를 타입별로 묶어 푸시
+ * 여러 노드 중 한 곳에서만 실행된다 (Redis 잠금).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDigestJob {
+
+    private static final String LOCK_KEY = "notification:digest:lock";
+    private static final int PAGE_SIZE = 500;
+
+    private final NotificationPreferenceRepository preferenceRepository;
+    private final NotificationDeliveryJdbcRepository deliveryJdbcRepository;
+    private final NotificationPushPublisher pushPublisher;
+    private final UnreadNotificationCounter unreadCounter;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${app.notification.digest.cron:0 0 * * * *}")
+    public void run() {
+        try {
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", Duration.ofMinutes(30));
+            if (!Boolean.TRUE.equals(locked)) return;
+        } catch (Exception e) {
+            log.warn(">>> 알림 요약 잠금 실패, 이번 실행 건너뜀: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            int sent = 0;
+            long afterId = 0;
+            while (true) {
+                List<NotificationPreference> page =
+                        preferenceRepository.findDigestEnabledAfter(afterId, PageRequest.of(0, PAGE_SIZE));
+                if (page.isEmpty()) break;
+
+                for (NotificationPreference pref : page) {
+                    if (sendDigest(pref)) sent++;
+                }
+                afterId = page.get(page.size() - 1).getId();
+            }
+            if (sent > 0) {
+                log.info(">>> 알림 요약 발송: {}명", sent);
+            }
+        } catch (Exception e) {
+            log.error(">>> 알림 요약 발송 실패: {}", e.getMessage(), e);
+        } finally {
+            stringRedisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    private boolean sendDigest(NotificationPreference pref) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = pref.getLastDigestAt() != null ? pref.getLastDigestAt() : now.minusDays(1);
+
+        Map<String, Long> counts = deliveryJdbcRepository.countUnreadByTypeSince(pref.getUserId(), pref.getClubId(), since);
+        if (counts.isEmpty()) {
+            return false;
+        }
+
+        pushPublisher.publish(NotificationPushMessage.builder()
+                .userIds(List.of(pref.getUserId()))
+                .event(NotificationPushMessage.EVENT_DIGEST)
+                .clubId(pref.getClubId())
+                .digest(counts)
+                .unreadCount(unreadCounter.get(pref.getUserId(), pref.getClubId()))
+                .build());
+
+        transactionTemplate.executeWithoutResult(status ->
+                preferenceRepository.findById(pref.getId()).ifPresent(p -> p.digestSent(now)));
+        return true;
+    }
+}
@@ -0,0 +1,361 @@
+package com.udong.backend.notification.service;
+
+import com.udong.backend.notification.config.NotificationFanoutProps;
+import com.udong.backend.notification.dto.NotificationPushMessage;
+import com.udong.backend.notification.dto.NotificationResponse;
+import com.udong.backend.notification.entity.Notification;
+import com.udong.backend.notification.entity.NotificationFanoutTask;
+import com.udong.backend.notification.event.NotificationFanoutEvent;
+import com.udong.backend.notification.push.NotificationPushPublisher;
+import com.udong.backend.notification.repository.NotificationDeliveryJdbcRepository;
+import com.udong.backend.notification.repository.NotificationFanoutTaskRepository;
+import com.udong.backend.notification.repository.NotificationPreferenceRepository;
+import com.udong.backend.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 알림 팬아웃 워커
+ * 알림 저장 트랜잭션이 함께 넣은 팬아웃 작업(notification_fanout_tasks)을 처리해 수신자별 delivery 를 배치 INSERT 한다.
+ * - 커밋 직후 이벤트로 바로 처리하고, 이벤트가 유실되거나 실패한 작업은 주기 처리(sweep)에서 이어서 처리한다.
+ * - 배치 하나의 INSERT 와 작업 진행 위치(progress) 갱신을 한 트랜잭션으로 묶고,
+ *   delivery 는 (notification_id, user_id) 유니크 키에 INSERT IGNORE 하므로 재시도해도 중복이 생기지 않는다.
+ * - 카운터/푸시는 배치가 커밋된 뒤에만 보낸다.
+ * 브로드캐스트 알림은 이미 비트맵으로 저장되어 있으므로 미읽음 카운터와 푸시만 처리한다.
+ *
+ * 알림 묶기: 수신자에게 같은 동아리/타입의 안읽은 알림이 coalesceWindowMinutes 안에 있으면
+ * 새 delivery 를 만들지 않고 기존 delivery 를 새 알림으로 갱신(묶인 수 +1)한다.
+ * 묶인 수신자는 미읽음 개수가 그대로이므로 카운터/푸시도 생략한다.
+ * 요약 모드 유저에게는 실시간 푸시를 보내지 않는다 (NotificationDigestJob 이 주기적으로 요약 발송).
+ */
+@Slf4j
+@Component
+public class NotificationFanoutWorker {
+
+    private static final String PURGE_LOCK_KEY = "notification:fanout:purge-lock";
+    private static final int PURGE_CHUNK = 1000;
+
+    private final NotificationFanoutTaskRepository taskRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationDeliveryJdbcRepository deliveryJdbcRepository;
+    private final NotificationFanoutProps props;
+    private final NotificationPushPublisher pushPublisher;
+    private final UnreadNotificationCounter unreadCounter;
+    private final NotificationPreferenceRepository preferenceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Counter deliveredCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final Counter coalescedCounter;
+    private final Timer fanoutTimer;
+
+    public NotificationFanoutWorker(NotificationFanoutTaskRepository taskRepository,
+                                    NotificationRepository notificationRepository,
+                                    NotificationDeliveryJdbcRepository deliveryJdbcRepository,
+                                    NotificationFanoutProps props,
+                                    NotificationPushPublisher pushPublisher,
+                                    UnreadNotificationCounter unreadCounter,
+                                    NotificationPreferenceRepository preferenceRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    StringRedisTemplate stringRedisTemplate,
+                                    MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.notificationRepository = notificationRepository;
+        this.deliveryJdbcRepository = deliveryJdbcRepository;
+        this.props = props;
+        this.pushPublisher = pushPublisher;
+        this.unreadCounter = unreadCounter;
+        this.preferenceRepository = preferenceRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.deliveredCounter = meterRegistry.counter("notification.fanout.deliveries");
+        this.retryCounter = meterRegistry.counter("notification.fanout.retries");
+        this.failedCounter = meterRegistry.counter("notification.fanout.failed.deliveries");
+        this.coalescedCounter = meterRegistry.counter("notification.fanout.coalesced");
+        this.fanoutTimer = meterRegistry.timer("notification.fanout.duration");
+    }
+
+    @Async("notificationFanoutExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFanout(NotificationFanoutEvent event) {
+        process(event.taskId());
+    }
+
+    /**
+     * 점유 기한이 없거나 지난 작업을 이어서 처리 (이벤트 유실, 노드 종료, 실패 재시도)
+     * 작업마다 조건부 점유를 하므로 여러 노드가 동시에 돌아도 같은 작업을 두 번 처리하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${app.notification.fanout.sweep-interval-ms:5000}")
+    public void sweep() {
+        try {
+            for (Long taskId : taskRepository.findClaimableIds(LocalDateTime.now(), props.sweepBatchSize())) {
+                process(taskId);
+            }
+        } catch (Exception e) {
+            log.warn(">>> 알림 팬아웃 주기 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 완료된 작업 정리 (실패한 작업은 확인을 위해 남겨 둔다)
+     */
+    @Scheduled(cron = "${app.notification.fanout.purge-cron:0 10 5 * * *}")
+    public void purgeDone() {
+        try {
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(PURGE_LOCK_KEY, "1", Duration.ofMinutes(30));
+            if (!Boolean.TRUE.equals(locked)) return;
+        } catch (Exception e) {
+            log.warn(">>> 팬아웃 작업 정리 잠금 실패, 이번 실행 건너뜀: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            LocalDateTime before = LocalDateTime.now().minusHours(props.doneRetentionHours());
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status -> taskRepository.deleteDoneBefore(before, PURGE_CHUNK));
+            } while (deleted == PURGE_CHUNK);
+        } catch (Exception e) {
+            log.warn(">>> 팬아웃 작업 정리 실패: {}", e.getMessage());
+        } finally {
+            stringRedisTemplate.delete(PURGE_LOCK_KEY);
+        }
+    }
+
+    private void process(Long taskId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status -> taskRepository.claim(taskId, now, leaseFrom(now)));
+        if (claimed == null || claimed == 0) {
+            return; // 다른 워커가 처리 중이거나 이미 끝남
+        }
+
+        NotificationFanoutTask task = taskRepository.findById(taskId).orElse(null);
+        if (task == null) {
+            return;
+        }
+        Notification notification = notificationRepository.findById(task.getNotificationId()).orElse(null);
+        if (notification == null) {
+            // 보존 기간 정리 등으로 알림이 먼저 지워진 경우
+            complete(taskId);
+            return;
+        }
+
+        fanoutTimer.record(() -> fanout(task, notification));
+    }
+
+    private void fanout(NotificationFanoutTask task, Notification notification) {
+        List<Long> recipients = task.recipientIds();
+        int from = task.getProgress();
+
+        while (from < recipients.size()) {
+            int start = from;
+            int end = Math.min(from + props.batchSize(), recipients.size());
+            List<Long> chunk = recipients.subList(start, end);
+
+            ChunkResult result;
+            try {
+                result = transactionTemplate.execute(status -> {
+                    if (taskRepository.advance(task.getId(), start, end, leaseFrom(LocalDateTime.now())) == 0) {
+                        // 점유 기한이 지나 다른 워커가 이어 받음
+                        status.setRollbackOnly();
+                        return null;
+                    }
+                    // delivery 는 팬아웃 시각으로 찍는다 (알림 생성 후 팬아웃 전에 전체 읽음을 해도 새 알림은 안읽음)
+                    LocalDateTime stampedAt = task.isBroadcast() ? createdAtOf(notification) : LocalDateTime.now();
+                    List<Long> applied = applyChunk(task, notification, chunk, stampedAt);
+                    List<Long> unread = withoutReadUpTo(task.getClubId(), applied, stampedAt);
+                    if (!task.isBroadcast()) {
+                        unreadCounter.incrementAfterCommit(unread, task.getClubId(), 1L);
+                    }
+                    return new ChunkResult(applied, unread, stampedAt);
+                });
+            } catch (Exception e) {
+                fail(task, recipients.size() - start, e);
+                return;
+            }
+            if (result == null) {
+                return;
+            }
+
+            if (task.isBroadcast() && !result.applied().isEmpty()) {
+                // 브로드캐스트는 알림 저장 때 이미 보이므로 증감 대신 다시 세게 한다
+                unreadCounter.invalidate(result.applied(), task.getClubId());
+            }
+            if (!result.unread().isEmpty()) {
+                push(task, notification, realtimeRecipients(task.getClubId(), result.unread()), result.stampedAt());
+            }
+            from = end;
+        }
+        complete(task.getId());
+    }
+
+    /**
+     * 배치 1개 처리 결과
+     * @param applied   새 delivery 를 받은 수신자 (브로드캐스트는 배치 전체)
+     * @param unread    그중 읽음 기준 시각에 걸리지 않아 미읽음이 1 늘어나는 수신자
+     * @param stampedAt delivery 의 created_at
+     */
+    private record ChunkResult(List<Long> applied, List<Long> unread, LocalDateTime stampedAt) {}
+
+    /**
+     * 배치 1개 반영 (트랜잭션 안): 묶을 수 있는 수신자는 기존 delivery 에 합치고 나머지는 INSERT
+     * @return 새 delivery 를 받은 수신자
+     */
+    private List<Long> applyChunk(NotificationFanoutTask task, Notification notification, List<Long> chunk, LocalDateTime stampedAt) {
+        if (task.isBroadcast()) {
+            return chunk;
+        }
+
+        List<Long> fresh = withoutCoalesced(notification, chunk, stampedAt);
+        int inserted = deliveryJdbcRepository.insertBatch(notification.getId(), task.getClubId(), fresh, stampedAt);
+        deliveredCounter.increment(inserted);
+        return fresh;
+    }
+
+    /**
+     * 읽음 기준 시각이 stampedAt 이상인 수신자 제외 (노드 간 시계 차이로 찍힌 시각보다 늦은 기준 시각이 있는 경우)
+     */
+    private List<Long> withoutReadUpTo(Long clubId, List<Long> userIds, LocalDateTime stampedAt) {
+        if (userIds.isEmpty()) {
+            return userIds;
+        }
+        Set<Long> caughtUp = new HashSet<>(deliveryJdbcRepository.findReadUpToAtLeast(clubId, userIds, stampedAt));
+        if (caughtUp.isEmpty()) {
+            return userIds;
+        }
+        return userIds.stream().filter(userId -> !caughtUp.contains(userId)).toList();
+    }
+
+    /**
+     * 묶을 수 있는 수신자는 기존 delivery 에 합치고, 새 delivery 가 필요한 수신자만 반환
+     * 실패해도 알림이 빠지지 않도록 전원을 새 delivery 대상으로 돌린다.
+     */
+    private List<Long> withoutCoalesced(Notification notification, List<Long> chunk, LocalDateTime createdAt) {
+        if (props.coalesceWindowMinutes() == 0) {
+            return chunk;
+        }
+
+        try {
+            Map<Long, Long> candidates = deliveryJdbcRepository.findCoalescible(
+                    chunk, notification.getClubId(), notification.getType(), createdAt.minusMinutes(props.coalesceWindowMinutes()));
+            if (candidates.isEmpty()) {
+                return chunk;
+            }
+
+            Set<Long> merged = new HashSet<>(deliveryJdbcRepository.coalesceInto(
+                    new ArrayList<>(candidates.values()), notification.getId(), createdAt));
+            coalescedCounter.increment(merged.size());
+
+            return chunk.stream().filter(userId -> !merged.contains(userId)).toList();
+        } catch (Exception e) {
+            log.warn(">>> 알림 묶기 실패, 개별 발송으로 진행 (notificationId={}): {}", notification.getId(), e.getMessage());
+            return chunk;
+        }
+    }
+
+    /**
+     * 요약 모드가 아닌 수신자 (실시간 푸시 대상)
+     */
+    private List<Long> realtimeRecipients(Long clubId, List<Long> userIds) {
+        try {
+            Set<Long> digestUsers = new HashSet<>(preferenceRepository.findDigestUserIds(clubId, userIds));
+            if (digestUsers.isEmpty()) {
+                return userIds;
+            }
+            return userIds.stream().filter(userId -> !digestUsers.contains(userId)).toList();
+        } catch (Exception e) {
+            return userIds;
+        }
+    }
+
+    private void complete(Long taskId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> taskRepository.complete(taskId, LocalDateTime.now()));
+        } catch (Exception e) {
+            // 점유 기한이 지나면 다시 집히지만 진행 위치가 끝이라 바로 완료된다
+            log.warn(">>> 팬아웃 작업 완료 기록 실패 (taskId={}): {}", taskId, e.getMessage());
+        }
+    }
+
+    /**
+     * 실패 기록: 시도 횟수만큼 늦춰 주기 처리에서 다시 점유되고, maxAttempts 에 닿으면 FAILED 로 남는다
+     */
+    private void fail(NotificationFanoutTask task, int remaining, Exception cause) {
+        int attempt = task.getAttempts() + 1;
+        String message = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+        String error = message.length() > 255 ? message.substring(0, 255) : message;
+        LocalDateTime retryAt = LocalDateTime.now().plusNanos(props.backoffMs() * attempt * 1_000_000L);
+
+        if (attempt >= props.maxAttempts()) {
+            failedCounter.increment(remaining);
+            log.error(">>> 알림 팬아웃 실패, 작업 중단 (taskId={}, notificationId={}, 남은 수신자 {}명): {}",
+                    task.getId(), task.getNotificationId(), remaining, error);
+        } else {
+            retryCounter.increment();
+            log.warn(">>> 알림 팬아웃 실패, 재시도 예정 {}/{} (taskId={}): {}",
+                    attempt, props.maxAttempts(), task.getId(), error);
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    taskRepository.recordFailure(task.getId(), error, props.maxAttempts(), retryAt));
+        } catch (Exception e) {
+            log.warn(">>> 팬아웃 실패 기록 실패 (taskId={}): {}", task.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 배치의 수신자에게 새 알림과 미읽음 +1 을 실시간 푸시
+     * (delivery ID 는 배치 INSERT 라 알 수 없으므로 클라이언트는 목록을 다시 불러온다)
+     */
+    private void push(NotificationFanoutTask task, Notification notification, List<Long> chunk, LocalDateTime createdAt) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        NotificationResponse response = NotificationResponse.builder()
+                .notificationId(notification.getId())
+                .broadcast(task.isBroadcast())
+                .payload(notification.getPayload())
+                .type(notification.getType())
+                .targetId(notification.getTargetId())
+                .hasRead(false)
+                .createdAt(createdAt)
+                .build();
+
+        pushPublisher.publish(NotificationPushMessage.builder()
+                .userIds(List.copyOf(chunk))
+                .event(NotificationPushMessage.EVENT_NOTIFICATION)
+                .clubId(task.getClubId())
+                .notification(response)
+                .unreadDelta(1L)
+                .build());
+    }
+
+    private LocalDateTime leaseFrom(LocalDateTime now) {
+        return now.plusSeconds(props.leaseSeconds());
+    }
+
+    private static LocalDateTime createdAtOf(Notification notification) {
+        return notification.getCreatedAt() != null ? notification.getCreatedAt() : LocalDateTime.now();
+    }
+}
@@ -0,0 +1,154 @@
+package com.udong.backend.notification.service;
+
+import com.udong.backend.notification.config.NotificationRetentionProps;
+import com.udong.backend.notification.repository.NotificationRetentionJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 보존 기간 정리
+ *
+ * - 타입별 보존 기간이 지난 알림을 오래된 순으로 chunkSize 개씩 골라
+ *   delivery -> 브로드캐스트 상태 -> 브로드캐스트 -> 알림 순으로 지운다. delivery 와 상태 행은 LIMIT 을 걸어 여러 번 나눠 지운다.
+ * - 사용자가 delivery 를 모두 지워 아무도 참조하지 않는 알림(고아)도 함께 정리한다.
+ *   고아 검사는 PK 를 chunkSize 구간씩 훑고 마지막 위치를 Redis 에 남겨 다음 실행에서 이어 간다.
+ *   끝(MAX(id))에 닿으면 처음부터 다시 돈다 (오래된 알림도 나중에 고아가 될 수 있으므로).
+ * - 문장마다 바로 커밋되고 청크 사이에 잠시 쉬므로 긴 잠금이 생기지 않는다.
+ * - 여러 노드 중 한 곳에서만 실행된다 (Redis 잠금).
+ * 지워진 미읽음 알림은 미읽음 카운터 주기 보정에서 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionJob {
+
+    private static final String LOCK_KEY = "notification:retention:lock";
+    private static final String ORPHAN_CHECKPOINT_KEY = "notification:retention:orphan-checkpoint";
+
+    private final NotificationRetentionJdbcRepository retentionRepository;
+    private final NotificationRetentionProps props;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Scheduled(cron = "${app.notification.retention.cron:0 30 4 * * *}")
+    public void run() {
+        if (!props.enabled()) return;
+
+        try {
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", Duration.ofHours(1));
+            if (!Boolean.TRUE.equals(locked)) return;
+        } catch (Exception e) {
+            log.warn(">>> 알림 정리 잠금 실패, 이번 실행 건너뜀: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            int[] budget = {props.maxChunksPerRun()};
+            long expired = purgeExpired(budget);
+            long orphans = purgeOrphans(budget);
+            log.info(">>> 알림 정리 완료: 만료 {}건, 고아 {}건", expired, orphans);
+        } catch (Exception e) {
+            log.error(">>> 알림 정리 실패: {}", e.getMessage(), e);
+        } finally {
+            stringRedisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    private long purgeExpired(int[] budget) {
+        long removed = 0;
+        LocalDateTime now = LocalDateTime.now();
+
+        for (String type : retentionRepository.findTypes()) {
+            LocalDateTime cutoff = now.minusDays(props.ttlDaysOf(type));
+            while (budget[0] > 0) {
+                List<Long> ids = retentionRepository.findExpiredIds(type, cutoff, props.chunkSize());
+                if (ids.isEmpty()) break;
+
+                removed += deleteChunk(ids, budget);
+                if (ids.size() < props.chunkSize()) break;
+            }
+        }
+        return removed;
+    }
+
+    private long purgeOrphans(int[] budget) {
+        long removed = 0;
+        LocalDateTime createdBefore = LocalDateTime.now().minusHours(props.orphanGraceHours());
+        long maxId = retentionRepository.findMaxNotificationId();
+
+        long fromId = readOrphanCheckpoint();
+        if (fromId >= maxId) {
+            fromId = 0; // 한 바퀴 끝: 처음부터
+        }
+
+        while (budget[0] > 0 && fromId < maxId) {
+            long toId = Math.min(fromId + props.chunkSize(), maxId);
+            List<Long> ids = retentionRepository.findOrphanIds(fromId, toId, createdBefore);
+            if (ids.isEmpty()) {
+                budget[0]--;
+            } else {
+                removed += deleteChunk(ids, budget);
+            }
+            fromId = toId;
+            saveOrphanCheckpoint(fromId);
+        }
+        return removed;
+    }
+
+    private long readOrphanCheckpoint() {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(ORPHAN_CHECKPOINT_KEY);
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (Exception e) {
+            return 0L;
+        }
+    }
+
+    private void saveOrphanCheckpoint(long lastId) {
+        try {
+            stringRedisTemplate.opsForValue().set(ORPHAN_CHECKPOINT_KEY, String.valueOf(lastId));
+        } catch (Exception ignore) {
+            // 다음 실행이 조금 앞에서 다시 시작할 뿐이다
+        }
+    }
+
+    /**
+     * 알림 청크 하나 삭제 (자식 행부터)
+     */
+    private int deleteChunk(List<Long> notificationIds, int[] budget) {
+        int deleted;
+        do {
+            deleted = retentionRepository.deleteDeliveries(notificationIds, props.chunkSize());
+            budget[0]--;
+            pause();
+        } while (deleted == props.chunkSize());
+
+        do {
+            deleted = retentionRepository.deleteBroadcastStates(notificationIds, props.chunkSize());
+            budget[0]--;
+            pause();
+        } while (deleted == props.chunkSize());
+
+        retentionRepository.deleteBroadcasts(notificationIds);
+        int removed = retentionRepository.deleteNotifications(notificationIds);
+        budget[0]--;
+        pause();
+        return removed;
+    }
+
+    private void pause() {
+        if (props.pauseMs() <= 0) return;
+        try {
+            Thread.sleep(props.pauseMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("알림 정리가 중단되었습니다.", e);
+        }
+    }
+}
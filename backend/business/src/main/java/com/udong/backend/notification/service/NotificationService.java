@@ -1,19 +1,44 @@
 package com.udong.backend.notification.service;
 
+import com.udong.backend.clubs.repository.MembershipRepository;
+import com.udong.backend.notification.config.NotificationFanoutProps;
+import com.udong.backend.notification.dto.NotificationCursor;
+import com.udong.backend.notification.dto.NotificationPreferenceResponse;
+import com.udong.backend.notification.dto.NotificationPushMessage;
 import com.udong.backend.notification.dto.NotificationRequest;
 import com.udong.backend.notification.dto.NotificationResponse;
+import com.udong.backend.notification.dto.NotificationSliceResponse;
 import com.udong.backend.notification.entity.Notification;
+import com.udong.backend.notification.entity.NotificationBroadcast;
 import com.udong.backend.notification.entity.NotificationDelivery;
+import com.udong.backend.notification.entity.NotificationFanoutTask;
+import com.udong.backend.notification.entity.NotificationPreference;
+import com.udong.backend.notification.entity.NotificationReadWatermark;
+import com.udong.backend.notification.event.NotificationFanoutEvent;
+import com.udong.backend.notification.push.NotificationPushPublisher;
+import com.udong.backend.notification.push.NotificationSubscriberRegistry;
 import com.udong.backend.notification.repository.NotificationDeliveryRepository;
+import com.udong.backend.notification.repository.NotificationFanoutTaskRepository;
+import com.udong.backend.notification.repository.NotificationPreferenceRepository;
+import com.udong.backend.notification.repository.NotificationReadWatermarkRepository;
 import com.udong.backend.notification.repository.NotificationRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 @Service
 @RequiredArgsConstructor
@@ -21,9 +46,28 @@ import java.util.List;
 public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final NotificationDeliveryRepository notificationDeliveryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationSubscriberRegistry subscriberRegistry;
+    private final NotificationPushPublisher pushPublisher;
+    private final UnreadNotificationCounter unreadCounter;
+    private final NotificationBroadcastService broadcastService;
+    private final NotificationFanoutProps fanoutProps;
+    private final NotificationPreferenceRepository preferenceRepository;
+    private final NotificationReadWatermarkRepository watermarkRepository;
+    private final NotificationFanoutTaskRepository fanoutTaskRepository;
+    private final MembershipRepository membershipRepository;
+
+    // 알림함 정렬: 안읽음 우선, 최신순 (NotificationCursor.ORDER)
+    private static final Comparator<NotificationResponse> INBOX_ORDER =
+            Comparator.comparing(NotificationCursor::of, NotificationCursor.ORDER);
+
+    // 첫 페이지 조회 시 created_at 상한
+    private static final LocalDateTime OPEN_END = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
 
     /**
      * 알림 생성 및 발송
+     * 호출 트랜잭션에서는 알림 1건과 팬아웃 작업 1건만 저장하고, 수신자별 delivery 는 커밋 후 비동기로 배치 INSERT 된다.
+     * 수신자가 많으면(동아리 전체 공지 등) delivery 대신 수신자 비트맵 1행으로 저장한다.
      */
     public void createAndSendNotification(NotificationRequest request) {
         // 1. DTO -> Entity 변환 (Builder 사용으로 가독성 향상)
@@ -36,14 +80,22 @@ public class NotificationService {
                 .build();
         notificationRepository.save(notification);
 
-        // 2. 각 수신자에게 전달될 NotificationDelivery 엔티티 생성
-        List<NotificationDelivery> deliveries = request.getRecipientUserIds().stream()
-                .map(userId -> NotificationDelivery.builder()
-                        .userId(userId)
-                        .notification(notification)
-                        .build()) // hasRead는 기본값 false이므로 명시할 필요 없음
-                .toList();
-        notificationDeliveryRepository.saveAll(deliveries);
+        // 2. 수신자 팬아웃은 커밋 이후 NotificationFanoutWorker 가 처리
+        List<Long> recipientUserIds = request.getRecipientUserIds() == null ? List.of()
+                : request.getRecipientUserIds().stream().distinct().toList();
+        if (recipientUserIds.isEmpty()) {
+            return;
+        }
+
+        boolean broadcast = recipientUserIds.size() >= fanoutProps.broadcastThreshold();
+        if (broadcast) {
+            broadcastService.create(notification, recipientUserIds);
+        }
+
+        // 팬아웃 작업은 알림과 같은 트랜잭션에 저장되므로 커밋되면 반드시 발송된다
+        NotificationFanoutTask task = fanoutTaskRepository.save(
+                NotificationFanoutTask.of(notification, recipientUserIds, broadcast));
+        eventPublisher.publishEvent(new NotificationFanoutEvent(task.getId()));
     }
 
     /**
@@ -81,96 +133,324 @@ public class NotificationService {
      */
     @Transactional(readOnly = true)
     public Page<NotificationResponse> getNotificationsForUser(Long userId, Long clubId, Pageable pageable) {
-        Page<NotificationDelivery> deliveries = notificationDeliveryRepository.findByUserIdAndClubIdWithNotification(userId, clubId, pageable);
-
-        // Entity Page -> DTO Page 변환
-        return deliveries.map(this::convertToNotificationResponse);
+        return getNotificationsForUser(userId, clubId, null, pageable);
     }
 
     /**
      * 특정 동아리의 유저별 받은 특정 타입 알림 목록 조회 (페이징)
+     * 커서 조회와 같은 방식으로 앞에서부터 (offset + size)개를 모은 뒤 요청한 페이지만 잘라낸다.
+     * 비용이 offset 에 비례하므로 깊은 페이지는 커서 조회를 쓴다. 브로드캐스트 개수는 구간마다 상한까지만 센다.
      */
     @Transactional(readOnly = true)
     public Page<NotificationResponse> getNotificationsForUser(Long userId, Long clubId, String type, Pageable pageable) {
-        Page<NotificationDelivery> deliveries;
+        String typeFilter = (type == null || type.trim().isEmpty()) ? null : type;
+        LocalDateTime readUpTo = watermarkRepository.readUpToOrNone(userId, clubId);
 
-        if (type == null || type.trim().isEmpty()) {
-            // 타입이 없으면 해당 동아리 전체 조회
-            deliveries = notificationDeliveryRepository.findByUserIdAndClubIdWithNotification(userId, clubId, pageable);
-        } else {
-            // 특정 타입 조회
-            deliveries = notificationDeliveryRepository.findByUserIdAndClubIdAndNotificationTypeWithNotification(userId, clubId, type, pageable);
+        List<NotificationResponse> content = collectInbox(userId, clubId, typeFilter, readUpTo, null,
+                (int) pageable.getOffset() + pageable.getPageSize())
+                .stream()
+                .skip(pageable.getOffset())
+                .toList();
+
+        long total = notificationDeliveryRepository.countInbox(userId, clubId, typeFilter)
+                + broadcastService.countInbox(userId, clubId, typeFilter);
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 특정 동아리의 알림함 커서 조회 (무한 스크롤)
+     * delivery 와 브로드캐스트 모두 안읽음 구간 -> 읽음 구간 순으로 커서 위치부터 (created_at, id) 키셋으로 이어 읽으므로
+     * 페이지 깊이와 관계없이 페이지 크기만큼만 읽는다 (브로드캐스트는 수신자가 아닌 행을 건너뛴 만큼 더 읽는다).
+     * 전체 개수는 세지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public NotificationSliceResponse getNotificationsByCursor(Long userId, Long clubId, String type, String cursor, int size) {
+        String typeFilter = (type == null || type.trim().isEmpty()) ? null : type;
+        NotificationCursor after = NotificationCursor.decode(cursor);
+        LocalDateTime readUpTo = watermarkRepository.readUpToOrNone(userId, clubId);
+
+        // 다음 페이지 존재 여부 확인용 1건 더
+        List<NotificationResponse> merged = collectInbox(userId, clubId, typeFilter, readUpTo, after, size + 1);
+
+        boolean hasNext = merged.size() > size;
+        List<NotificationResponse> content = hasNext ? merged.subList(0, size) : merged;
+
+        return NotificationSliceResponse.builder()
+                .content(content)
+                .nextCursor(hasNext ? NotificationCursor.of(content.get(content.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 커서 이후 알림함 항목을 정렬 순서대로 최대 limit 개
+     *
+     * 읽음 = 개별 읽음 표시(has_read) 또는 읽음 기준 시각(readUpTo) 이하
+     * - 안읽음 구간: has_read = false AND created_at > readUpTo
+     * - 읽음 구간: has_read = true, has_read = false AND created_at <= readUpTo 두 범위를 합침
+     * 각 범위는 idx_delivery_inbox 의 연속 구간이므로 limit 개만 읽고 멈춘다.
+     * 브로드캐스트도 구간별로 (created_at, notification_id) 키셋으로 limit 개만 읽어 delivery 와 합친다.
+     */
+    private List<NotificationResponse> collectInbox(Long userId, Long clubId, String type, LocalDateTime readUpTo,
+                                                    NotificationCursor after, int limit) {
+        List<NotificationResponse> candidates = new ArrayList<>();
+
+        // 1. 안읽음 구간: 커서가 읽음 구간에 있으면 이미 지나감
+        if (after == null || !after.isHasRead()) {
+            candidates.addAll(findInboxSegment(userId, clubId, false, readUpTo, OPEN_END, type, readUpTo, after, limit));
+            candidates.addAll(broadcastService.findInboxSegment(userId, clubId, type, false, readUpTo, after, limit));
         }
 
-        // Entity Page -> DTO Page 변환
-        return deliveries.map(this::convertToNotificationResponse);
+        // 2. 읽음 구간: 안읽음만으로 limit 개가 차지 않았을 때
+        if (candidates.size() < limit) {
+            NotificationCursor readAfter = (after != null && after.isHasRead()) ? after : null;
+            int remaining = limit - candidates.size();
+            candidates.addAll(findInboxSegment(userId, clubId, true, NotificationReadWatermark.NONE, OPEN_END, type, readUpTo, readAfter, remaining));
+            candidates.addAll(findInboxSegment(userId, clubId, false, NotificationReadWatermark.NONE, readUpTo, type, readUpTo, readAfter, remaining));
+            candidates.addAll(broadcastService.findInboxSegment(userId, clubId, type, true, readUpTo, readAfter, remaining));
+        }
+
+        return candidates.stream()
+                .sorted(INBOX_ORDER)
+                .limit(limit)
+                .toList();
+    }
+
+    private List<NotificationResponse> findInboxSegment(Long userId, Long clubId, boolean hasRead,
+                                                        LocalDateTime createdFrom, LocalDateTime createdTo, String type,
+                                                        LocalDateTime readUpTo, NotificationCursor after, int limit) {
+        LocalDateTime createdAt = after != null ? after.getCreatedAt() : OPEN_END;
+        // 같은 시각에서는 delivery 가 브로드캐스트보다 앞이므로, 커서가 브로드캐스트면 같은 시각의 delivery 는 모두 지나감
+        Long lastId = after == null ? Long.MAX_VALUE : (after.isBroadcast() ? 0L : after.getId());
+
+        return notificationDeliveryRepository.findInboxSegment(userId, clubId, hasRead, createdFrom, createdTo, type,
+                        createdAt, lastId, PageRequest.of(0, limit))
+                .stream()
+                .map(delivery -> convertToNotificationResponse(delivery, readUpTo))
+                .toList();
     }
 
     /**
      * 유저별 미읽음 알림 개수 조회
+     * 동아리별 카운터의 합이므로 읽음 기준 시각과 브로드캐스트가 함께 반영된다.
      */
     @Transactional(readOnly = true)
     public Long getUnreadNotificationCount(Long userId) {
-        return notificationDeliveryRepository.countByUserIdAndHasReadIsFalse(userId);
+        long total = 0;
+        for (Long clubId : findInboxClubIds(userId)) {
+            total += unreadCounter.get(userId, clubId);
+        }
+        return total;
     }
 
     /**
      * 특정 동아리의 유저별 미읽음 알림 개수 조회
+     * 증분 유지되는 카운터에서 읽고, 카운터가 없을 때만 DB COUNT 로 채운다.
      */
     @Transactional(readOnly = true)
     public Long getUnreadNotificationCount(Long userId, Long clubId) {
-        return notificationDeliveryRepository.countByUserIdAndClubIdAndHasReadIsFalse(userId, clubId);
+        return unreadCounter.get(userId, clubId);
+    }
+
+    /**
+     * 알림 실시간 구독 (SSE)
+     * 연결 시점의 미읽음 개수를 한 번 보내고, 이후에는 변경분만 푸시한다.
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(Long userId, Long clubId) {
+        SseEmitter emitter = subscriberRegistry.subscribe(userId);
+
+        NotificationPushMessage initial = NotificationPushMessage.builder()
+                .event(NotificationPushMessage.EVENT_UNREAD_COUNT)
+                .clubId(clubId)
+                .unreadCount(clubId != null ? getUnreadNotificationCount(userId, clubId) : getUnreadNotificationCount(userId))
+                .build();
+        subscriberRegistry.send(userId, emitter, initial.getEvent(), initial.toClientPayload());
+
+        return emitter;
+    }
+
+    /**
+     * 동아리별 알림 수신 설정 조회 (설정이 없으면 실시간 푸시)
+     */
+    @Transactional(readOnly = true)
+    public NotificationPreferenceResponse getPreference(Long userId, Long clubId) {
+        return preferenceRepository.findByUserIdAndClubId(userId, clubId)
+                .map(this::convertToPreferenceResponse)
+                .orElseGet(() -> NotificationPreferenceResponse.builder()
+                        .clubId(clubId)
+                        .digestEnabled(false)
+                        .build());
+    }
+
+    /**
+     * 요약 모드 켜기/끄기
+     */
+    public NotificationPreferenceResponse updateDigest(Long userId, Long clubId, boolean digestEnabled) {
+        NotificationPreference preference = preferenceRepository.findByUserIdAndClubId(userId, clubId)
+                .orElseGet(() -> preferenceRepository.save(NotificationPreference.builder()
+                        .userId(userId)
+                        .clubId(clubId)
+                        .digestEnabled(false)
+                        .build()));
+
+        preference.changeDigest(digestEnabled);
+        return convertToPreferenceResponse(preference);
     }
 
     /**
      * 단일 알림 읽음 처리
      */
     public void markAsRead(Long userId, Long notificationDeliveryId) {
-        NotificationDelivery delivery = notificationDeliveryRepository.findByIdAndUserId(notificationDeliveryId, userId)
+        NotificationDelivery delivery = notificationDeliveryRepository.findByIdAndUserIdWithNotification(notificationDeliveryId, userId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 알림을 찾을 수 없습니다. ID: " + notificationDeliveryId));
 
+        Long clubId = delivery.getNotification().getClubId();
+        if (isRead(delivery, watermarkRepository.readUpToOrNone(userId, clubId))) {
+            return;
+        }
+
         delivery.read(); // Entity의 상태 변경 메소드 호출 -> Dirty Checking으로 DB 업데이트
+        pushUnreadDelta(userId, clubId, -1L);
+    }
+
+    /**
+     * 브로드캐스트 알림 읽음 처리
+     */
+    public void markBroadcastAsRead(Long userId, Long notificationId) {
+        NotificationBroadcast broadcast = broadcastService.getVisible(userId, notificationId);
+        boolean beforeReadMark = !broadcast.getCreatedAt().isAfter(watermarkRepository.readUpToOrNone(userId, broadcast.getClubId()));
+        if (beforeReadMark) {
+            return; // 읽음 기준 시각 이하라 이미 읽음
+        }
+
+        if (broadcastService.markRead(broadcast, userId)) {
+            pushUnreadDelta(userId, broadcast.getClubId(), -1L);
+        }
     }
 
     /**
      * 해당 유저의 모든 알림 읽음 처리
+     * 동아리마다 읽음 기준 시각 한 행씩만 올린다 (delivery 와 브로드캐스트 모두 포함).
      */
     public void markAllAsRead(Long userId) {
-        notificationDeliveryRepository.readAllByUserId(userId);
+        LocalDateTime now = LocalDateTime.now();
+        for (Long clubId : findInboxClubIds(userId)) {
+            watermarkRepository.upsert(userId, clubId, now);
+        }
+        pushUnreadReset(userId, null);
     }
 
     /**
      * 특정 동아리의 해당 유저 모든 알림 읽음 처리
+     * 밀린 알림을 하나씩 갱신하지 않고 읽음 기준 시각 한 행만 올린다.
      */
     public void markAllAsRead(Long userId, Long clubId) {
-        notificationDeliveryRepository.readAllByUserIdAndClubId(userId, clubId);
+        watermarkRepository.upsert(userId, clubId, LocalDateTime.now());
+        pushUnreadReset(userId, clubId);
     }
 
     /**
      * 단일 알림 삭제
      */
     public void deleteNotification(Long userId, Long notificationDeliveryId) {
-        // deleteByIdAndUserId는 삭제된 행의 수를 반환합니다.
-        long deletedCount = notificationDeliveryRepository.deleteByIdAndUserId(notificationDeliveryId, userId);
+        // 본인의 알림만 조회되므로, 없으면 존재하지 않거나 본인의 알림이 아니라는 의미입니다.
+        NotificationDelivery delivery = notificationDeliveryRepository.findByIdAndUserIdWithNotification(notificationDeliveryId, userId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 알림을 찾을 수 없거나 삭제할 권한이 없습니다. ID: " + notificationDeliveryId));
+
+        Long clubId = delivery.getNotification().getClubId();
+        boolean wasUnread = !isRead(delivery, watermarkRepository.readUpToOrNone(userId, clubId));
+        notificationDeliveryRepository.delete(delivery);
+
+        if (wasUnread) {
+            pushUnreadDelta(userId, clubId, -1L);
+        }
+    }
+
+    /**
+     * 브로드캐스트 알림을 내 알림함에서 삭제
+     */
+    public void deleteBroadcast(Long userId, Long notificationId) {
+        NotificationBroadcast broadcast = broadcastService.getVisible(userId, notificationId);
+        boolean firstState = broadcastService.markDeleted(broadcast, userId);
 
-        // 삭제된 행이 0개라면, 해당 알림이 존재하지 않거나 본인의 알림이 아니라는 의미입니다.
-        if (deletedCount == 0) {
-            throw new EntityNotFoundException("해당 알림을 찾을 수 없거나 삭제할 권한이 없습니다. ID: " + notificationDeliveryId);
+        // 상태 행이 없었고 읽음 기준 시각 이후였다면 안읽은 알림을 지운 것
+        boolean wasUnread = firstState
+                && broadcast.getCreatedAt().isAfter(watermarkRepository.readUpToOrNone(userId, broadcast.getClubId()));
+        if (wasUnread) {
+            pushUnreadDelta(userId, broadcast.getClubId(), -1L);
         }
     }
 
     /**
-     * 읽은 알림 모두 삭제
+     * 읽은 알림 모두 삭제 (동아리별로 읽음 기준 시각을 적용)
      */
     public void deleteAllReadNotifications(Long userId) {
-        notificationDeliveryRepository.deleteAllByUserIdAndHasReadIsTrue(userId);
+        for (Long clubId : findInboxClubIds(userId)) {
+            deleteAllReadNotifications(userId, clubId);
+        }
     }
 
     /**
      * 특정 동아리의 읽은 알림 모두 삭제
      */
     public void deleteAllReadNotifications(Long userId, Long clubId) {
-        notificationDeliveryRepository.deleteAllByUserIdAndClubIdAndHasReadIsTrue(userId, clubId);
+        LocalDateTime readUpTo = watermarkRepository.readUpToOrNone(userId, clubId);
+        notificationDeliveryRepository.deleteAllRead(userId, clubId, readUpTo);
+        broadcastService.deleteAllRead(userId, clubId);
+    }
+
+    /**
+     * 알림함이 있을 수 있는 동아리: 가입한 동아리 + delivery 가 남아 있는 동아리 (탈퇴 후 남은 알림)
+     * 여러 요청이 같은 순서로 기준 시각 행을 잠그도록 정렬해 둔다.
+     */
+    private Set<Long> findInboxClubIds(Long userId) {
+        Set<Long> clubIds = new TreeSet<>(notificationDeliveryRepository.findClubIdsByUserId(userId));
+        for (Integer clubId : membershipRepository.findClubIdsByUserId(Math.toIntExact(userId))) {
+            clubIds.add(clubId.longValue());
+        }
+        return clubIds;
+    }
+
+    private void pushUnreadDelta(Long userId, Long clubId, Long delta) {
+        unreadCounter.incrementAfterCommit(List.of(userId), clubId, delta);
+        pushPublisher.publishAfterCommit(NotificationPushMessage.builder()
+                .userIds(List.of(userId))
+                .event(NotificationPushMessage.EVENT_UNREAD_COUNT)
+                .clubId(clubId)
+                .unreadDelta(delta)
+                .build());
+    }
+
+    private void pushUnreadReset(Long userId, Long clubId) {
+        unreadCounter.resetAfterCommit(userId, clubId);
+        pushPublisher.publishAfterCommit(NotificationPushMessage.builder()
+                .userIds(List.of(userId))
+                .event(NotificationPushMessage.EVENT_UNREAD_COUNT)
+                .clubId(clubId)
+                .unreadCount(0L)
+                .build());
+    }
+
+    private NotificationPreferenceResponse convertToPreferenceResponse(NotificationPreference preference) {
+        return NotificationPreferenceResponse.builder()
+                .clubId(preference.getClubId())
+                .digestEnabled(preference.isDigestEnabled())
+                .lastDigestAt(preference.getLastDigestAt())
+                .build();
+    }
+
+    /**
+     * 개별 읽음 표시 또는 읽음 기준 시각 이전 알림
+     */
+    private static boolean isRead(NotificationDelivery delivery, LocalDateTime readUpTo) {
+        return delivery.isHasRead() || !delivery.getCreatedAt().isAfter(readUpTo);
+    }
+
+    private NotificationResponse convertToNotificationResponse(NotificationDelivery delivery, LocalDateTime readUpTo) {
+        NotificationResponse response = convertToNotificationResponse(delivery);
+        response.setHasRead(isRead(delivery, readUpTo));
+        return response;
     }
 
     /**
@@ -180,10 +460,12 @@ public class NotificationService {
         Notification notification = delivery.getNotification();
         return NotificationResponse.builder()
                 .notificationDeliveryId(delivery.getId())
+                .notificationId(notification.getId())
                 .payload(notification.getPayload())
                 .type(notification.getType())
                 .targetId(notification.getTargetId())
                 .hasRead(delivery.isHasRead())
+                .digestCount(delivery.getDigestCount())
                 .createdAt(delivery.getCreatedAt())
                 .build();
     }
@@ -0,0 +1,450 @@
+package com.udong.backend.notification.service;
+
+import com.udong.backend.notification.repository.NotificationDeliveryRepository;
+import com.udong.backend.notification.repository.NotificationReadWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * (유저, 동아리)별 미읽음 알림 카운터
+ *
+ * - Redis 키 notification:unread:{userId}:{clubId} 에 개수를 보관하고, 팬아웃/읽음/삭제 때 증감한다.
+ * - 키가 없을 때 증감은 무시하고, 다음 조회 시 DB COUNT 로 한 번 채운다.
+ * - DB 를 바꾸는 쪽은 커밋 전에 fence 키(notification:unread:fence:{userId}:{clubId})의 진행 중 수(n)와 버전(v)을 올리고,
+ *   커밋 후 증감과 함께 n 을 내린다. DB COUNT 로 채우거나 보정할 때는 COUNT 전후로 n == 0 이고 v 가 그대로인 경우에만 쓴다.
+ *   (COUNT 와 커밋/증감 순서가 엇갈려 증감이 빠지거나 두 번 반영되는 것을 막는다)
+ * - 노드 로컬 near-cache(짧은 TTL)로 배지 조회를 Redis 왕복 없이 처리한다.
+ *   다른 노드의 변경은 알림 푸시 채널 수신 시 invalidateLocal 로 무효화된다.
+ * - 주기적으로 DB 와 비교해 어긋난 값을 바로잡는다 (한 노드만 수행).
+ * Redis 장애 시에는 DB COUNT 로 대체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String FENCE_PREFIX = "notification:unread:fence:";
+    private static final String RECONCILE_LOCK_KEY = "notification:unread:reconcile-lock";
+    private static final Duration RECONCILE_LOCK_TTL = Duration.ofMinutes(5);
+    private static final Duration KEY_TTL = Duration.ofDays(7);
+    private static final long NEAR_CACHE_TTL_MS = 3_000;
+    private static final Duration FENCE_TTL = Duration.ofMinutes(2); // 커밋 전에 노드가 죽어 n 이 남아도 이 시간 뒤 풀린다
+    private static final int RECONCILE_BATCH = 1_000;
+
+    // 쓰기 시작: 진행 중 수와 버전을 올린다 (KEYS[1]=fence, ARGV[1]=TTL 초)
+    private static final byte[] FENCE = ("""
+            redis.call('HINCRBY', KEYS[1], 'n', 1)
+            redis.call('HINCRBY', KEYS[1], 'v', 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """).getBytes(StandardCharsets.UTF_8);
+
+    // 쓰기 끝: 키가 있을 때만 증감(0 미만 보정)하고 진행 중 수를 내린다
+    // (KEYS[1]=카운터, KEYS[2]=fence, ARGV[1]=증감, ARGV[2]=1 이면 증감 대신 0으로, ARGV[3]=TTL 초)
+    private static final byte[] APPLY_AND_RELEASE = ("""
+            local v = nil
+            if ARGV[2] == '1' then
+              redis.call('SET', KEYS[1], 0, 'EX', ARGV[3])
+              v = 0
+            elseif redis.call('EXISTS', KEYS[1]) == 1 then
+              v = redis.call('INCRBY', KEYS[1], ARGV[1])
+              if v < 0 then redis.call('SET', KEYS[1], 0, 'KEEPTTL') v = 0 end
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 and redis.call('HINCRBY', KEYS[2], 'n', -1) <= 0 then
+              redis.call('HDEL', KEYS[2], 'n')
+            end
+            return v
+            """).getBytes(StandardCharsets.UTF_8);
+
+    // 진행 중 수만 내린다 (롤백)
+    private static final byte[] RELEASE = ("""
+            if redis.call('EXISTS', KEYS[1]) == 1 and redis.call('HINCRBY', KEYS[1], 'n', -1) <= 0 then
+              redis.call('HDEL', KEYS[1], 'n')
+            end
+            return 1
+            """).getBytes(StandardCharsets.UTF_8);
+
+    // 카운터를 지우고 버전을 올린다: 이 시점 전에 시작한 COUNT 는 기록되지 않는다 (KEYS[1]=카운터, KEYS[2]=fence, ARGV[1]=TTL 초)
+    private static final byte[] INVALIDATE = ("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HINCRBY', KEYS[2], 'v', 1)
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """).getBytes(StandardCharsets.UTF_8);
+
+    // COUNT 전: 진행 중인 쓰기가 있으면 -1, 없으면 현재 버전 (KEYS[1]=fence)
+    private static final byte[] IDLE_VERSION = ("""
+            if tonumber(redis.call('HGET', KEYS[1], 'n') or '0') > 0 then return -1 end
+            return tonumber(redis.call('HGET', KEYS[1], 'v') or '0')
+            """).getBytes(StandardCharsets.UTF_8);
+
+    // COUNT 후: 그 사이 쓰기가 없었을 때만 기록. ARGV[4]=0 이면 키가 이미 있을 때 그 값을 반환
+    // (KEYS[1]=카운터, KEYS[2]=fence, ARGV[1]=개수, ARGV[2]=COUNT 전 버전, ARGV[3]=TTL 초, ARGV[4]=덮어쓰기 여부)
+    private static final byte[] SEED_IF_IDLE = ("""
+            local n = tonumber(redis.call('HGET', KEYS[2], 'n') or '0')
+            local v = tonumber(redis.call('HGET', KEYS[2], 'v') or '0')
+            if n > 0 or v ~= tonumber(ARGV[2]) then return nil end
+            if ARGV[4] == '0' and redis.call('EXISTS', KEYS[1]) == 1 then
+              return tonumber(redis.call('GET', KEYS[1]))
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3])
+            return tonumber(ARGV[1])
+            """).getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NotificationDeliveryRepository notificationDeliveryRepository;
+    private final NotificationBroadcastService broadcastService;
+    private final NotificationReadWatermarkRepository watermarkRepository;
+
+    private final ConcurrentMap<String, CachedCount> nearCache = new ConcurrentHashMap<>();
+
+    private record CachedCount(long value, long expiresAt) {}
+
+    /**
+     * 미읽음 개수 조회 (near-cache -> Redis -> DB 순)
+     */
+    public long get(Long userId, Long clubId) {
+        String key = key(userId, clubId);
+        long now = System.currentTimeMillis();
+
+        CachedCount cached = nearCache.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.value();
+        }
+
+        try {
+            String value = stringRedisTemplate.opsForValue().get(key);
+            if (value != null) {
+                long count = Long.parseLong(value);
+                nearCache.put(key, new CachedCount(count, now + NEAR_CACHE_TTL_MS));
+                return count;
+            }
+
+            // COUNT 전에 버전을 읽어 두고, COUNT 뒤 그 사이 쓰기가 없었을 때만 채운다
+            Long version = idleVersion(userId, clubId);
+            long count = countFromDb(userId, clubId);
+            Long seeded = version == null ? null : seedIfIdle(userId, clubId, count, version, false);
+            if (seeded == null) {
+                // 진행 중인 쓰기와 겹쳐 채우지 못함: 이번 값만 돌려주고 다음 조회에서 다시 채운다
+                return count;
+            }
+            nearCache.put(key, new CachedCount(seeded, now + NEAR_CACHE_TTL_MS));
+            return seeded;
+        } catch (Exception e) {
+            log.warn(">>> 미읽음 카운터 조회 실패, DB 로 대체 (userId={}, clubId={}): {}", userId, clubId, e.getMessage());
+            return countFromDb(userId, clubId);
+        }
+    }
+
+    /**
+     * 여러 유저의 카운터를 현재 트랜잭션 커밋 후 증감 (파이프라인)
+     * 커밋 전에 fence 를 걸어 두므로 DB 변경 트랜잭션 안에서 호출해야 한다. 롤백되면 fence 만 푼다.
+     */
+    public void incrementAfterCommit(Collection<Long> userIds, Long clubId, long delta) {
+        if (userIds.isEmpty() || delta == 0) return;
+        List<Long> targets = List.copyOf(userIds);
+
+        fence(targets, clubId);
+        afterCompletion(committed -> {
+            if (committed) {
+                apply(targets, clubId, delta, false);
+            } else {
+                release(targets, clubId);
+            }
+        });
+    }
+
+    /**
+     * 이미 커밋된 변경(브로드캐스트 등)을 반영: 카운터를 지워 다음 조회 때 DB 값으로 다시 채우게 한다
+     * 지우기 전에 시작한 COUNT 는 버전이 달라져 기록되지 않는다.
+     */
+    public void invalidate(Collection<Long> userIds, Long clubId) {
+        if (userIds.isEmpty()) return;
+
+        byte[] ttl = bytes(String.valueOf(FENCE_TTL.toSeconds()));
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : userIds) {
+                    connection.scriptingCommands().eval(INVALIDATE, ReturnType.INTEGER, 2,
+                            bytes(key(userId, clubId)), bytes(fenceKey(userId, clubId)), ttl);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn(">>> 미읽음 카운터 무효화 실패 (clubId={}, {}명): {}", clubId, userIds.size(), e.getMessage());
+            evict(userIds, clubId);
+        }
+        invalidateLocal(userIds, clubId);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 카운터를 0으로 (전체 읽음). clubId 가 null 이면 해당 유저의 모든 동아리 키를 지운다
+     */
+    public void resetAfterCommit(Long userId, Long clubId) {
+        if (clubId == null) {
+            afterCompletion(committed -> {
+                if (committed) deleteAll(userId);
+            });
+            return;
+        }
+
+        List<Long> targets = List.of(userId);
+        fence(targets, clubId);
+        afterCompletion(committed -> {
+            if (committed) {
+                apply(targets, clubId, 0L, true);
+            } else {
+                release(targets, clubId);
+            }
+        });
+    }
+
+    /**
+     * 이 노드의 near-cache 무효화. clubId 가 null 이면 해당 유저의 모든 동아리
+     */
+    public void invalidateLocal(Collection<Long> userIds, Long clubId) {
+        if (clubId != null) {
+            for (Long userId : userIds) nearCache.remove(key(userId, clubId));
+            return;
+        }
+        for (Long userId : userIds) {
+            String prefix = KEY_PREFIX + userId + ":";
+            nearCache.keySet().removeIf(k -> k.startsWith(prefix));
+        }
+    }
+
+    /**
+     * Redis 카운터를 DB 와 대조해 어긋난 값을 보정
+     * SCAN 을 끝까지 돌면서 RECONCILE_BATCH 개씩 보정하고, 배치마다 잠금 기한을 늘린다.
+     */
+    @Scheduled(fixedDelayString = "${app.notification.unread.reconcile-interval-ms:600000}",
+            initialDelayString = "${app.notification.unread.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            Boolean locked = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(RECONCILE_LOCK_KEY, "1", RECONCILE_LOCK_TTL);
+            if (!Boolean.TRUE.equals(locked)) return;
+        } catch (Exception e) {
+            log.warn(">>> 미읽음 카운터 보정 잠금 실패: {}", e.getMessage());
+            return;
+        }
+
+        int[] checked = {0};
+        int[] repaired = {0};
+        try {
+            scanKeys(KEY_PREFIX + "*", batch -> {
+                for (String key : batch) {
+                    Long[] ids = parseKey(key);
+                    if (ids == null) continue;
+                    checked[0]++;
+                    if (reconcileOne(key, ids[0], ids[1])) repaired[0]++;
+                }
+                nearCache.clear();
+                stringRedisTemplate.expire(RECONCILE_LOCK_KEY, RECONCILE_LOCK_TTL);
+            });
+
+            if (repaired[0] > 0) {
+                log.info(">>> 미읽음 카운터 보정 완료: 검사 {}건, 보정 {}건", checked[0], repaired[0]);
+            }
+        } catch (Exception e) {
+            log.warn(">>> 미읽음 카운터 보정 실패 (검사 {}건까지): {}", checked[0], e.getMessage());
+        }
+    }
+
+    /**
+     * @return 값을 고쳤으면 true
+     */
+    private boolean reconcileOne(String key, Long userId, Long clubId) {
+        String cached = stringRedisTemplate.opsForValue().get(key);
+        if (cached == null) {
+            return false;
+        }
+        Long version = idleVersion(userId, clubId);
+        if (version == null) {
+            return false; // 진행 중인 쓰기가 있으면 다음 주기에
+        }
+
+        long actual = countFromDb(userId, clubId);
+        if (Long.parseLong(cached) == actual) {
+            return false;
+        }
+        return seedIfIdle(userId, clubId, actual, version, true) != null;
+    }
+
+    private long countFromDb(Long userId, Long clubId) {
+        LocalDateTime readUpTo = watermarkRepository.readUpToOrNone(userId, clubId);
+        return notificationDeliveryRepository.countUnread(userId, clubId, readUpTo)
+                + broadcastService.countUnread(userId, clubId, readUpTo);
+    }
+
+    /**
+     * @return 진행 중인 쓰기가 없으면 현재 fence 버전, 있으면 null
+     */
+    private Long idleVersion(Long userId, Long clubId) {
+        Long version = stringRedisTemplate.execute((RedisConnection connection) ->
+                connection.scriptingCommands().eval(IDLE_VERSION, ReturnType.INTEGER, 1, bytes(fenceKey(userId, clubId))));
+        return version == null || version < 0 ? null : version;
+    }
+
+    /**
+     * COUNT 전 버전이 그대로이고 진행 중인 쓰기가 없을 때만 기록
+     * @return 기록된(또는 이미 있던) 값, 쓰기와 겹쳤으면 null
+     */
+    private Long seedIfIdle(Long userId, Long clubId, long count, long version, boolean overwrite) {
+        return stringRedisTemplate.execute((RedisConnection connection) ->
+                connection.scriptingCommands().eval(SEED_IF_IDLE, ReturnType.INTEGER, 2,
+                        bytes(key(userId, clubId)), bytes(fenceKey(userId, clubId)),
+                        bytes(String.valueOf(count)), bytes(String.valueOf(version)),
+                        bytes(String.valueOf(KEY_TTL.toSeconds())), bytes(overwrite ? "1" : "0")));
+    }
+
+    private void fence(List<Long> userIds, Long clubId) {
+        byte[] ttl = bytes(String.valueOf(FENCE_TTL.toSeconds()));
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : userIds) {
+                    connection.scriptingCommands().eval(FENCE, ReturnType.INTEGER, 1, bytes(fenceKey(userId, clubId)), ttl);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            // fence 없이 진행하면 채우기와 겹칠 수 있으나 주기 보정으로 복구된다
+            log.warn(">>> 미읽음 카운터 fence 실패 (clubId={}, {}명): {}", clubId, userIds.size(), e.getMessage());
+        }
+    }
+
+    private void apply(List<Long> userIds, Long clubId, long delta, boolean reset) {
+        byte[] deltaArg = bytes(String.valueOf(delta));
+        byte[] resetArg = bytes(reset ? "1" : "0");
+        byte[] ttl = bytes(String.valueOf(KEY_TTL.toSeconds()));
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : userIds) {
+                    connection.scriptingCommands().eval(APPLY_AND_RELEASE, ReturnType.INTEGER, 2,
+                            bytes(key(userId, clubId)), bytes(fenceKey(userId, clubId)), deltaArg, resetArg, ttl);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            // 증감 실패 시 키를 지워 다음 조회 때 DB 값으로 다시 채우게 한다
+            log.warn(">>> 미읽음 카운터 증감 실패 (clubId={}, {}명): {}", clubId, userIds.size(), e.getMessage());
+            evict(userIds, clubId);
+        }
+        invalidateLocal(userIds, clubId);
+    }
+
+    private void release(List<Long> userIds, Long clubId) {
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : userIds) {
+                    connection.scriptingCommands().eval(RELEASE, ReturnType.INTEGER, 1, bytes(fenceKey(userId, clubId)));
+                }
+                return null;
+            });
+        } catch (Exception ignore) {
+            // fence TTL 이 지나면 풀린다
+        }
+    }
+
+    private void deleteAll(Long userId) {
+        try {
+            List<String> keys = new ArrayList<>();
+            scanKeys(KEY_PREFIX + userId + ":*", keys::addAll);
+            if (!keys.isEmpty()) stringRedisTemplate.delete(keys);
+        } catch (Exception e) {
+            log.warn(">>> 미읽음 카운터 초기화 실패 (userId={}): {}", userId, e.getMessage());
+        }
+        invalidateLocal(List.of(userId), null);
+    }
+
+    /**
+     * 트랜잭션 종료 후 실행 (트랜잭션 밖이면 바로 커밋된 것으로 본다)
+     */
+    private static void afterCompletion(Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(true);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private void evict(Collection<Long> userIds, Long clubId) {
+        try {
+            stringRedisTemplate.delete(userIds.stream().map(userId -> key(userId, clubId)).toList());
+        } catch (Exception ignore) {
+            // 키 TTL 과 주기 보정으로 복구된다
+        }
+    }
+
+    /**
+     * pattern 에 맞는 키를 SCAN 끝까지 돌며 RECONCILE_BATCH 개씩 넘긴다 (fence/잠금 키 제외)
+     */
+    private void scanKeys(String pattern, Consumer<List<String>> batchHandler) {
+        stringRedisTemplate.execute((RedisConnection connection) -> {
+            List<String> batch = new ArrayList<>(RECONCILE_BATCH);
+            ScanOptions options = ScanOptions.scanOptions().match(pattern).count(500).build();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                    if (RECONCILE_LOCK_KEY.equals(key) || key.startsWith(FENCE_PREFIX)) continue;
+                    batch.add(key);
+                    if (batch.size() == RECONCILE_BATCH) {
+                        batchHandler.accept(batch);
+                        batch = new ArrayList<>(RECONCILE_BATCH);
+                    }
+                }
+            }
+            if (!batch.isEmpty()) batchHandler.accept(batch);
+            return null;
+        });
+    }
+
+    private static String key(Long userId, Long clubId) {
+        return KEY_PREFIX + userId + ":" + clubId;
+    }
+
+    private static String fenceKey(Long userId, Long clubId) {
+        return FENCE_PREFIX + userId + ":" + clubId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Long[] parseKey(String key) {
+        String[] parts = key.substring(KEY_PREFIX.length()).split(":");
+        if (parts.length != 2) return null;
+        try {
+            return new Long[]{Long.valueOf(parts[0]), Long.valueOf(parts[1])};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
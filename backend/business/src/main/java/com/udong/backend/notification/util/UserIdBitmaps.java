@@ -0,0 +1,48 @@
+package com.udong.backend.notification.util;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+
+/**
+ * 유저 ID 집합 <-> 압축 비트맵(Roaring) 직렬화 도우미
+ * 유저 ID 는 int 범위(AUTO_INCREMENT)라고 가정한다.
+ */
+public final class UserIdBitmaps {
+
+    private UserIdBitmaps() {}
+
+    public static RoaringBitmap of(Collection<Long> userIds) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (Long userId : userIds) {
+            bitmap.add(Math.toIntExact(userId));
+        }
+        return bitmap;
+    }
+
+    public static byte[] toBytes(RoaringBitmap bitmap) {
+        bitmap.runOptimize();
+        ByteBuffer buffer = ByteBuffer.allocate(bitmap.serializedSizeInBytes());
+        bitmap.serialize(buffer);
+        return buffer.array();
+    }
+
+    public static RoaringBitmap fromBytes(byte[] bytes) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        if (bytes == null || bytes.length == 0) {
+            return bitmap;
+        }
+        try {
+            bitmap.deserialize(ByteBuffer.wrap(bytes));
+        } catch (IOException e) {
+            throw new IllegalStateException("비트맵 역직렬화에 실패했습니다.", e);
+        }
+        return bitmap;
+    }
+
+    public static boolean contains(RoaringBitmap bitmap, Long userId) {
+        return userId != null && bitmap.contains(Math.toIntExact(userId));
+    }
+}
@@ -0,0 +1,121 @@
+package com.udong.backend.payment.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 이체 기록 (회비 납부 / 더치페이 정산)
+ *
+ * - 이체 전에 PENDING 으로 먼저 커밋하고, 이체는 DB 트랜잭션 밖에서 호출한다.
+ * - 완료/실패는 status 조건부 UPDATE 로 한 번만 반영된다.
+ * - 결과를 끝내 확인하지 못한 이체는 FAILED 가 아니라 UNKNOWN(수동 확인 대상)으로 둔다.
+ *   실제로는 출금됐을 수 있으므로 진행 중 잠금을 풀지 않아 같은 대상으로 다시 이체되지 않는다.
+ *   UNKNOWN 도 복구 작업이 간격을 늘려 가며 거래내역을 다시 대조하므로, 출금이 뒤늦게 확인되면 COMPLETED 가 된다.
+ * - active_lock 은 PENDING / UNKNOWN 동안 1, COMPLETED / FAILED 가 되면 NULL 이다.
+ *   (type, target_id, user_id, active_lock) 유니크라서 같은 대상의 진행 중 이체는 하나뿐이다 (NULL 은 중복 허용).
+ * - 계좌는 복구 작업이 당시 계좌로 거래내역을 대조할 수 있도록 암호문으로 남긴다.
+ */
+@Entity
+@Table(name = "payment_transfers",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_payment_user_idem", columnNames = {"user_id", "idempotency_key"}),
+                @UniqueConstraint(name = "uk_payment_active", columnNames = {"type", "target_id", "user_id", "active_lock"}),
+                @UniqueConstraint(name = "uk_payment_bank_txn", columnNames = {"user_id", "bank_txn_no"})
+        },
+        indexes = {
+                @Index(name = "idx_payment_status_created", columnList = "status, created_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PaymentTransfer {
+
+    public enum Type { DUES, DUTCHPAY }
+
+    public enum Status {
+        PENDING,
+        COMPLETED,
+        FAILED,
+        UNKNOWN   // 거래내역으로도 확인되지 않음 (수동 확인 필요, 잠금 유지)
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 출금자 */
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "club_id", nullable = false)
+    private Integer clubId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 16)
+    private Type type;
+
+    /** DUES: 회비 요청 id / DUTCHPAY: 정산 id */
+    @Column(name = "target_id", nullable = false)
+    private Integer targetId;
+
+    @Column(name = "amount", nullable = false)
+    private long amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private Status status;
+
+    @Column(name = "idempotency_key", nullable = false, length = 64)
+    private String idempotencyKey;
+
+    /** 금융 API 요청 헤더의 기관거래고유번호 */
+    @Column(name = "institution_txn_no", nullable = false, length = 20)
+    private String institutionTxnNo;
+
+    @Column(name = "active_lock")
+    private Boolean activeLock;
+
+    @Column(name = "withdrawal_account_cipher", nullable = false, length = 255)
+    private String withdrawalAccountCipher;
+
+    @Column(name = "deposit_account_cipher", nullable = false, length = 255)
+    private String depositAccountCipher;
+
+    /** 출금 계좌 거래내역의 거래고유번호 (복구 시 같은 내역을 두 번 쓰지 않도록) */
+    @Column(name = "bank_txn_no", length = 32)
+    private String bankTxnNo;
+
+    /** 이체 응답 헤더의 응답코드/메시지 (복구 작업이 거래내역으로 확정한 경우 코드 없음) */
+    @Column(name = "response_code", length = 8)
+    private String responseCode;
+
+    @Column(name = "response_message", length = 255)
+    private String responseMessage;
+
+    @Column(name = "failure_reason", length = 255)
+    private String failureReason;
+
+    /** UNKNOWN 재확인 횟수 / 다음 재확인 시각 (복구 작업용) */
+    @Column(name = "recovery_attempts", nullable = false)
+    private int recoveryAttempts;
+
+    @Column(name = "next_check_at")
+    private LocalDateTime nextCheckAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public boolean isPending() {
+        return status == Status.PENDING;
+    }
+}
@@ -0,0 +1,80 @@
+package com.udong.backend.payment.repository;
+
+import com.udong.backend.payment.entity.PaymentTransfer;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentTransferRepository extends JpaRepository<PaymentTransfer, Long> {
+
+    Optional<PaymentTransfer> findByUserIdAndIdempotencyKey(Integer userId, String idempotencyKey);
+
+    boolean existsByUserIdAndBankTxnNo(Integer userId, String bankTxnNo);
+
+    // 오래 PENDING 으로 남은 이체 (복구 대상)
+    @Query("""
+           select t from PaymentTransfer t
+            where t.status = com.udong.backend.payment.entity.PaymentTransfer.Status.PENDING
+              and t.createdAt < :before
+            order by t.id
+           """)
+    List<PaymentTransfer> findPendingBefore(@Param("before") LocalDateTime before, Limit limit);
+
+    // 다시 확인할 때가 된 UNKNOWN 이체 (createdAfter 이전 건은 더 보지 않고 수동 확인에 맡긴다)
+    @Query("""
+           select t from PaymentTransfer t
+            where t.status = com.udong.backend.payment.entity.PaymentTransfer.Status.UNKNOWN
+              and t.createdAt >= :createdAfter
+              and (t.nextCheckAt is null or t.nextCheckAt <= :now)
+            order by t.id
+           """)
+    List<PaymentTransfer> findUnknownDue(@Param("now") LocalDateTime now,
+                                         @Param("createdAfter") LocalDateTime createdAfter,
+                                         Limit limit);
+
+    // PENDING / UNKNOWN → COMPLETED (한 번만 성공)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE payment_transfers
+               SET status = 'COMPLETED', active_lock = NULL, bank_txn_no = :bankTxnNo,
+                   response_code = :responseCode, response_message = :responseMessage, updated_at = NOW(6)
+             WHERE id = :id AND status IN ('PENDING', 'UNKNOWN')
+            """, nativeQuery = true)
+    int complete(@Param("id") Long id,
+                 @Param("bankTxnNo") String bankTxnNo,
+                 @Param("responseCode") String responseCode,
+                 @Param("responseMessage") String responseMessage);
+
+    // PENDING → FAILED (한 번만 성공)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE payment_transfers
+               SET status = 'FAILED', active_lock = NULL, failure_reason = :reason, updated_at = NOW(6)
+             WHERE id = :id AND status = 'PENDING'
+            """, nativeQuery = true)
+    int fail(@Param("id") Long id, @Param("reason") String reason);
+
+    // PENDING → UNKNOWN (진행 중 잠금은 그대로 둔다)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE payment_transfers
+               SET status = 'UNKNOWN', failure_reason = :reason, updated_at = NOW(6)
+             WHERE id = :id AND status = 'PENDING'
+            """, nativeQuery = true)
+    int markUnknown(@Param("id") Long id, @Param("reason") String reason);
+
+    // UNKNOWN 재확인 미루기 (그 사이 완료된 건은 건드리지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE payment_transfers
+               SET recovery_attempts = recovery_attempts + 1, next_check_at = :nextCheckAt
+             WHERE id = :id AND status = 'UNKNOWN'
+            """, nativeQuery = true)
+    int deferUnknown(@Param("id") Long id, @Param("nextCheckAt") LocalDateTime nextCheckAt);
+}
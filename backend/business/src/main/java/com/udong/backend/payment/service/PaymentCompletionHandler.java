@@ -0,0 +1,27 @@
+package com.udong.backend.payment.service;
+
+import com.udong.backend.payment.entity.PaymentTransfer;
+
+/**
+ * 이체 유형별 도메인 반영 (회비 납부 상태, 더치페이 참가자 납부 등)
+ */
+public interface PaymentCompletionHandler {
+
+    PaymentTransfer.Type type();
+
+    /**
+     * 이미 납부가 끝난 대상인지 (PENDING 기록과 같은 트랜잭션, 잠금 조회로 최신 상태를 본다)
+     */
+    boolean isSettled(PaymentTransfer transfer);
+
+    /**
+     * 이체 완료를 도메인 상태에 반영 (PENDING → COMPLETED 전환과 같은 트랜잭션)
+     */
+    void onCompleted(PaymentTransfer transfer);
+
+    /**
+     * 커밋 후 부가 처리 (포인트 지급 등). 실패해도 결제는 완료로 둔다.
+     */
+    default void afterCompleted(PaymentTransfer transfer) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.udong.backend.payment.service;
+
+import com.udong.backend.payment.entity.PaymentTransfer;
+import com.udong.backend.payment.repository.PaymentTransferRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결과를 모른 채 PENDING 으로 남은 이체 정리
+ *
+ * - 2분 넘게 PENDING 인 이체를 출금 계좌 거래내역과 대조해 완료/실패로 확정한다 (PaymentSagaService.reconcile).
+ * - 30분이 지나도 내역이 없으면 UNKNOWN(수동 확인 대상)으로 넘긴다. 출금됐을 수 있으므로 진행 중 잠금은 풀지 않는다.
+ * - UNKNOWN 은 10분부터 두 배씩(최대 6시간) 간격을 늘려 가며 7일 동안 다시 대조한다.
+ *   은행 쪽 내역이 늦게 반영된 경우 여기서 COMPLETED 가 되고, 그 뒤에도 남은 건은 수동으로 정리한다.
+ * 여러 노드 중 한 곳에서만 실행된다 (Redis 잠금).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentRecoveryJob {
+
+    private static final String LOCK_KEY = "payment:recovery:lock";
+    private static final Duration STUCK_AFTER = Duration.ofMinutes(2);
+    private static final Duration GIVE_UP_AFTER = Duration.ofMinutes(30); // 이후 UNKNOWN
+    private static final Duration UNKNOWN_RECHECK_FIRST = Duration.ofMinutes(10);
+    private static final Duration UNKNOWN_RECHECK_MAX = Duration.ofHours(6);
+    private static final Duration UNKNOWN_RECHECK_FOR = Duration.ofDays(7);
+    private static final int BATCH = 50;
+
+    private final PaymentTransferRepository transferRepository;
+    private final PaymentSagaService paymentSagaService;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Scheduled(fixedDelayString = "${app.payment.recovery-interval-ms:60000}",
+            initialDelayString = "${app.payment.recovery-interval-ms:60000}")
+    public void recover() {
+        try {
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", Duration.ofMinutes(5));
+            if (!Boolean.TRUE.equals(locked)) return;
+        } catch (Exception e) {
+            log.warn(">>> 결제 복구 잠금 실패, 이번 실행 건너뜀: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<PaymentTransfer> stuck = transferRepository.findPendingBefore(now.minus(STUCK_AFTER), Limit.of(BATCH));
+            for (PaymentTransfer transfer : stuck) {
+                try {
+                    paymentSagaService.reconcile(transfer, now.minus(GIVE_UP_AFTER));
+                } catch (Exception e) {
+                    // 거래내역 조회 실패 등은 다음 실행에서 다시 시도
+                    log.warn(">>> PENDING 이체 복구 실패 (transferId={}): {}", transfer.getId(), e.getMessage());
+                }
+            }
+
+            List<PaymentTransfer> unknown = transferRepository.findUnknownDue(now, now.minus(UNKNOWN_RECHECK_FOR), Limit.of(BATCH));
+            for (PaymentTransfer transfer : unknown) {
+                try {
+                    paymentSagaService.recheckUnknown(transfer, now.plus(recheckDelay(transfer.getRecoveryAttempts())));
+                } catch (Exception e) {
+                    log.warn(">>> UNKNOWN 이체 재확인 실패 (transferId={}): {}", transfer.getId(), e.getMessage());
+                }
+            }
+        } finally {
+            stringRedisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    static Duration recheckDelay(int attempts) {
+        Duration delay = UNKNOWN_RECHECK_FIRST.multipliedBy(1L << Math.min(attempts, 10));
+        return delay.compareTo(UNKNOWN_RECHECK_MAX) > 0 ? UNKNOWN_RECHECK_MAX : delay;
+    }
+}
@@ -0,0 +1,397 @@
+package com.udong.backend.payment.service;
+
+import com.udong.backend.dutchpay.dto.FinTransferRequest;
+import com.udong.backend.dutchpay.dto.FinTransferResponse;
+import com.udong.backend.fin.client.FinApiClient;
+import com.udong.backend.fin.client.FinApiStatusException;
+import com.udong.backend.fin.client.FinApiUnavailableException;
+import com.udong.backend.fin.dto.FinHeader;
+import com.udong.backend.fin.dto.InquireHistoryRequest;
+import com.udong.backend.fin.dto.InquireHistoryResponse;
+import com.udong.backend.fin.util.FinHeaderFactory;
+import com.udong.backend.global.config.AccountCrypto;
+import com.udong.backend.global.exception.TransferException;
+import com.udong.backend.payment.entity.PaymentTransfer;
+import com.udong.backend.payment.repository.PaymentTransferRepository;
+import com.udong.backend.users.entity.User;
+import com.udong.backend.users.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 계좌 이체 사가
+ *
+ * 1) PENDING 기록을 짧은 트랜잭션으로 커밋 (멱등 키 / 진행 중 이체 유니크로 중복 요청 차단)
+ * 2) 금융 API 이체는 DB 트랜잭션 밖에서 호출 (커넥션을 잡은 채 외부 호출을 기다리지 않는다)
+ * 3) 결과 반영
+ *    - 성공: PENDING → COMPLETED 조건부 UPDATE 와 도메인 반영을 한 트랜잭션으로
+ *    - 은행이 거절(4xx / 오류 응답코드): FAILED
+ *    - 타임아웃·5xx 처럼 결과를 알 수 없으면 PENDING 그대로 두고 복구 작업(PaymentRecoveryJob)이 거래내역으로 확정한다.
+ *      끝내 내역이 확인되지 않으면 UNKNOWN 으로 두고 진행 중 잠금을 유지한다 (실패로 돌리면 같은 대상으로 다시 이체될 수 있다).
+ *      UNKNOWN 도 간격을 늘려 가며 다시 대조해, 뒤늦게 내역이 나타나면 COMPLETED 로 확정한다.
+ *
+ * 호출하는 쪽은 트랜잭션 밖에서 execute 를 불러야 한다.
+ */
+@Slf4j
+@Service
+public class PaymentSagaService {
+
+    private static final String TRANSFER_PATH = "/edu/demandDeposit/updateDemandDepositAccountTransfer";
+    private static final String HISTORY_PATH = "/edu/demandDeposit/inquireTransactionHistoryList";
+    private static final String PENDING_MESSAGE = "이체 결과를 확인하고 있습니다. 잠시 후 다시 확인해 주세요.";
+    private static final String UNKNOWN_MESSAGE = "결제 상태 확인이 필요합니다. 관리자에게 문의해 주세요.";
+    private static final String RECOVERED_MESSAGE = "거래내역으로 이체가 확인되었습니다.";
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter D8 = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter DT14 = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final PaymentTransferRepository transferRepository;
+    private final Map<PaymentTransfer.Type, PaymentCompletionHandler> handlers = new EnumMap<>(PaymentTransfer.Type.class);
+    private final FinApiClient finApiClient;
+    private final FinHeaderFactory finHeaderFactory;
+    private final AccountCrypto accountCrypto;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${finapi.institution-code:00100}")
+    private String institutionCode;
+
+    @Value("${finapi.fintech-app-no:001}")
+    private String fintechAppNo;
+
+    @Value("${finapi.api-key}")
+    private String apiKey;
+
+    public PaymentSagaService(PaymentTransferRepository transferRepository,
+                              List<PaymentCompletionHandler> handlers,
+                              FinApiClient finApiClient,
+                              FinHeaderFactory finHeaderFactory,
+                              AccountCrypto accountCrypto,
+                              UserRepository userRepository,
+                              TransactionTemplate transactionTemplate) {
+        this.transferRepository = transferRepository;
+        handlers.forEach(h -> this.handlers.put(h.type(), h));
+        this.finApiClient = finApiClient;
+        this.finHeaderFactory = finHeaderFactory;
+        this.accountCrypto = accountCrypto;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /** 이체 요청 */
+    public record TransferCommand(
+            PaymentTransfer.Type type,
+            Integer targetId,
+            Integer clubId,
+            Integer userId,
+            String idempotencyKey,   // 없으면 서버에서 생성 (재시도 보호 없이 진행 중 중복만 막는다)
+            long amount,
+            String userKey,
+            String withdrawalAccount,
+            String depositAccount,
+            String withdrawalSummary,
+            String depositSummary
+    ) {}
+
+    /**
+     * 이체 실행. 완료된 이체를 돌려주고, 실패하거나 결과 확인 중이면 TransferException
+     * 같은 멱등 키로 다시 오면 이체하지 않고 이전 결과를 그대로 돌려준다.
+     */
+    public PaymentTransfer execute(TransferCommand cmd) {
+        String idempotencyKey = normalizeKey(cmd.idempotencyKey());
+
+        Optional<PaymentTransfer> prior = transferRepository.findByUserIdAndIdempotencyKey(cmd.userId(), idempotencyKey);
+        if (prior.isPresent()) {
+            return replay(prior.get(), cmd);
+        }
+
+        // 1) PENDING 기록 (헤더의 기관거래고유번호를 같이 남긴다)
+        FinHeader header = finHeaderFactory.create(
+                "updateDemandDepositAccountTransfer",
+                institutionCode,
+                fintechAppNo,
+                apiKey,
+                cmd.userKey()
+        );
+        PaymentTransfer transfer = begin(cmd, idempotencyKey, header.getInstitutionTransactionUniqueNo());
+
+        // 2) 이체 (트랜잭션 밖)
+        FinTransferRequest finReq = FinTransferRequest.builder()
+                .header(header)
+                .depositAccountNo(cmd.depositAccount())
+                .depositTransactionSummary(cmd.depositSummary())
+                .transactionBalance(String.valueOf(cmd.amount()))
+                .withdrawalAccountNo(cmd.withdrawalAccount())
+                .withdrawalTransactionSummary(cmd.withdrawalSummary())
+                .build();
+
+        FinTransferResponse res;
+        try {
+            res = finApiClient.post(TRANSFER_PATH, finReq, FinTransferResponse.class);
+        } catch (FinApiStatusException e) {
+            if (e.isClientError()) {
+                String reason = reasonOf(e.getBody());
+                fail(transfer, reason);
+                throw new TransferException(reason);
+            }
+            log.warn(">>> 이체 결과 불명 (transferId={}): {}", transfer.getId(), e.getMessage());
+            throw new TransferException(PENDING_MESSAGE, e);
+        } catch (FinApiUnavailableException e) {
+            // 요청이 나가지 않았으므로 확정 실패
+            fail(transfer, e.getMessage());
+            throw new TransferException(e.getMessage());
+        } catch (Exception e) {
+            log.warn(">>> 이체 결과 불명 (transferId={}): {}", transfer.getId(), e.getMessage());
+            throw new TransferException(PENDING_MESSAGE, e);
+        }
+
+        if (res == null || res.getHeader() == null) {
+            log.warn(">>> 이체 응답 없음 (transferId={})", transfer.getId());
+            throw new TransferException(PENDING_MESSAGE);
+        }
+        if (!"H0000".equals(res.getHeader().getResponseCode())) {
+            String reason = "이체 실패: " + res.getHeader().getResponseMessage();
+            fail(transfer, reason);
+            throw new TransferException(reason);
+        }
+
+        // 3) 완료 반영 (그 사이 복구 작업이 먼저 확정했을 수도 있으므로 결과는 다시 읽는다)
+        complete(transfer, bankTxnNoOf(res, cmd.withdrawalAccount()),
+                res.getHeader().getResponseCode(), res.getHeader().getResponseMessage());
+        PaymentTransfer current = transferRepository.findById(transfer.getId()).orElseThrow();
+        if (current.getStatus() != PaymentTransfer.Status.COMPLETED) {
+            log.error(">>> 이체는 성공했으나 상태가 {} 입니다 (transferId={})", current.getStatus(), transfer.getId());
+            throw new TransferException(UNKNOWN_MESSAGE);
+        }
+        return current;
+    }
+
+    /**
+     * PENDING 으로 남은 이체를 출금 계좌 거래내역으로 확정 (PaymentRecoveryJob)
+     * - 같은 금액·상대 계좌의 출금 내역(아직 다른 이체에 쓰이지 않은 것)이 있으면 COMPLETED
+     * - giveUpBefore 보다 오래됐는데도 내역이 없으면 UNKNOWN (진행 중 잠금 유지, 수동 확인)
+     * - 그 외에는 다음 실행에서 다시 본다
+     * 이체 여부를 모르는 채로 FAILED 가 되면 잠금이 풀려 같은 대상으로 다시 출금될 수 있으므로 여기서는 FAILED 로 두지 않는다.
+     */
+    public void reconcile(PaymentTransfer transfer, LocalDateTime giveUpBefore) {
+        User user = userRepository.findById(transfer.getUserId()).orElse(null);
+        if (user == null) {
+            markUnknown(transfer, "출금 사용자를 찾을 수 없어 거래내역을 확인하지 못했습니다.");
+            return;
+        }
+
+        Optional<String> bankTxnNo = findWithdrawal(transfer, user);
+        if (bankTxnNo.isPresent()) {
+            if (complete(transfer, bankTxnNo.get(), null, RECOVERED_MESSAGE)) {
+                log.info(">>> PENDING 이체 복구: 완료 처리 (transferId={})", transfer.getId());
+            }
+        } else if (transfer.getCreatedAt().isBefore(giveUpBefore)) {
+            markUnknown(transfer, "거래내역에서 이체가 확인되지 않았습니다. 수동 확인이 필요합니다.");
+        }
+    }
+
+    /**
+     * UNKNOWN 이체 재확인 (PaymentRecoveryJob)
+     * 다음 확인 시각을 먼저 미뤄 두므로 거래내역 조회가 실패해도 매 실행마다 다시 조회하지 않는다.
+     * 출금 내역이 뒤늦게 나타나면 COMPLETED 로 확정한다. 나타나지 않으면 UNKNOWN 그대로 (FAILED 로 두지 않는다).
+     */
+    public void recheckUnknown(PaymentTransfer transfer, LocalDateTime nextCheckAt) {
+        transactionTemplate.executeWithoutResult(status -> transferRepository.deferUnknown(transfer.getId(), nextCheckAt));
+
+        User user = userRepository.findById(transfer.getUserId()).orElse(null);
+        if (user == null) {
+            return;
+        }
+        Optional<String> bankTxnNo = findWithdrawal(transfer, user);
+        if (bankTxnNo.isPresent() && complete(transfer, bankTxnNo.get(), null, RECOVERED_MESSAGE)) {
+            log.info(">>> UNKNOWN 이체 복구: 완료 처리 (transferId={})", transfer.getId());
+        }
+    }
+
+    // --------- helper ---------
+
+    /** 출금 계좌 거래내역에서 이 이체로 볼 수 있는 출금(아직 다른 이체에 쓰이지 않은 것)의 거래고유번호 */
+    private Optional<String> findWithdrawal(PaymentTransfer transfer, User user) {
+        String withdrawalAccount = accountCrypto.decrypt(transfer.getWithdrawalAccountCipher());
+        String depositAccount = accountCrypto.decrypt(transfer.getDepositAccountCipher());
+        String userKey = accountCrypto.decrypt(user.getUserKeyCipher());
+
+        LocalDateTime requestedAt = transfer.getCreatedAt()
+                .atZone(ZoneId.systemDefault())
+                .withZoneSameInstant(KST)
+                .toLocalDateTime()
+                .minusMinutes(1);
+
+        InquireHistoryRequest req = InquireHistoryRequest.builder()
+                .header(finHeaderFactory.create("inquireTransactionHistoryList",
+                        institutionCode, fintechAppNo, apiKey, userKey))
+                .accountNo(withdrawalAccount)
+                .startDate(requestedAt.toLocalDate().format(D8))
+                .endDate(LocalDate.now(KST).format(D8))
+                .transactionType("A")
+                .orderByType("ASC")
+                .build();
+
+        InquireHistoryResponse res = finApiClient.post(HISTORY_PATH, req, InquireHistoryResponse.class);
+        List<InquireHistoryResponse.RecListItem> items =
+                (res == null || res.getRec() == null || res.getRec().getList() == null)
+                        ? List.of() : res.getRec().getList();
+
+        return items.stream()
+                .filter(it -> "2".equals(it.getTransactionType()))
+                .filter(it -> String.valueOf(transfer.getAmount()).equals(it.getTransactionBalance()))
+                .filter(it -> it.getTransactionAccountNo() == null || it.getTransactionAccountNo().isBlank()
+                        || depositAccount.equals(it.getTransactionAccountNo()))
+                .filter(it -> !occurredAt(it).isBefore(requestedAt))
+                .filter(it -> !transferRepository.existsByUserIdAndBankTxnNo(transfer.getUserId(), it.getTransactionUniqueNo()))
+                .map(InquireHistoryResponse.RecListItem::getTransactionUniqueNo)
+                .findFirst();
+    }
+
+    private PaymentTransfer replay(PaymentTransfer prior, TransferCommand cmd) {
+        if (prior.getType() != cmd.type() || !prior.getTargetId().equals(cmd.targetId())) {
+            throw new IllegalArgumentException("다른 결제에 사용된 멱등 키입니다.");
+        }
+        return switch (prior.getStatus()) {
+            case COMPLETED -> prior;
+            case PENDING -> throw new TransferException(PENDING_MESSAGE);
+            case UNKNOWN -> throw new TransferException(UNKNOWN_MESSAGE);
+            case FAILED -> throw new TransferException(
+                    Objects.requireNonNullElse(prior.getFailureReason(), "계좌 이체에 실패했습니다. 다시 시도해 주세요."));
+        };
+    }
+
+    private PaymentTransfer begin(TransferCommand cmd, String idempotencyKey, String institutionTxnNo) {
+        PaymentCompletionHandler handler = handlerOf(cmd.type());
+        try {
+            return transactionTemplate.execute(status -> {
+                PaymentTransfer transfer = transferRepository.saveAndFlush(PaymentTransfer.builder()
+                        .userId(cmd.userId())
+                        .clubId(cmd.clubId())
+                        .type(cmd.type())
+                        .targetId(cmd.targetId())
+                        .amount(cmd.amount())
+                        .status(PaymentTransfer.Status.PENDING)
+                        .idempotencyKey(idempotencyKey)
+                        .institutionTxnNo(institutionTxnNo)
+                        .activeLock(true)
+                        .withdrawalAccountCipher(accountCrypto.encrypt(cmd.withdrawalAccount()))
+                        .depositAccountCipher(accountCrypto.encrypt(cmd.depositAccount()))
+                        .build());
+
+                // 진행 중 슬롯을 잡은 뒤 확인해야 방금 끝난 다른 결제를 놓치지 않는다
+                if (handler.isSettled(transfer)) {
+                    throw new TransferException("이미 납부 완료된 결제입니다.");
+                }
+                return transfer;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키의 동시 요청이거나 같은 대상의 이체가 진행 중
+            throw new TransferException("이미 처리 중인 결제가 있습니다. 잠시 후 다시 확인해 주세요.");
+        }
+    }
+
+    /** PENDING(UNKNOWN) → COMPLETED + 도메인 반영. 이번 호출이 확정했으면 true */
+    private boolean complete(PaymentTransfer transfer, String bankTxnNo, String responseCode, String responseMessage) {
+        PaymentCompletionHandler handler = handlerOf(transfer.getType());
+        Boolean completed = transactionTemplate.execute(status -> {
+            if (transferRepository.complete(transfer.getId(), bankTxnNo, responseCode, responseMessage) == 0) {
+                return false;
+            }
+            handler.onCompleted(transfer);
+            return true;
+        });
+        if (!Boolean.TRUE.equals(completed)) {
+            return false;
+        }
+
+        try {
+            handler.afterCompleted(transfer);
+        } catch (Exception e) {
+            log.warn(">>> 결제 후처리 실패 (transferId={}): {}", transfer.getId(), e.getMessage());
+        }
+        return true;
+    }
+
+    private void fail(PaymentTransfer transfer, String reason) {
+        transactionTemplate.executeWithoutResult(status -> transferRepository.fail(transfer.getId(), reason));
+    }
+
+    private void markUnknown(PaymentTransfer transfer, String reason) {
+        Integer updated = transactionTemplate.execute(status -> transferRepository.markUnknown(transfer.getId(), reason));
+        if (updated != null && updated > 0) {
+            log.error(">>> PENDING 이체 결과 미확정, 수동 확인 필요 (transferId={}, userId={}, amount={}): {}",
+                    transfer.getId(), transfer.getUserId(), transfer.getAmount(), reason);
+        }
+    }
+
+    private PaymentCompletionHandler handlerOf(PaymentTransfer.Type type) {
+        PaymentCompletionHandler handler = handlers.get(type);
+        if (handler == null) {
+            throw new IllegalStateException("결제 처리기가 없습니다: " + type);
+        }
+        return handler;
+    }
+
+    private static String normalizeKey(String key) {
+        if (key == null || key.isBlank()) {
+            return UUID.randomUUID().toString();
+        }
+        String trimmed = key.trim();
+        if (trimmed.length() > 64) {
+            throw new IllegalArgumentException("Idempotency-Key 는 64자 이하여야 합니다.");
+        }
+        return trimmed;
+    }
+
+    /** 이체 응답에서 출금 계좌 쪽 거래고유번호 */
+    private static String bankTxnNoOf(FinTransferResponse res, String withdrawalAccount) {
+        if (res.getRec() == null) return null;
+        return res.getRec().stream()
+                .filter(r -> withdrawalAccount.equals(r.getAccountNo()))
+                .map(FinTransferResponse.Record::getTransactionUniqueNo)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static LocalDateTime occurredAt(InquireHistoryResponse.RecListItem item) {
+        try {
+            return LocalDateTime.parse(item.getTransactionDate() + item.getTransactionTime(), DT14);
+        } catch (Exception e) {
+            return LocalDateTime.MIN;
+        }
+    }
+
+    /** 은행 거절 응답에서 사용자에게 보여줄 메시지 */
+    private static String reasonOf(String body) {
+        if (body != null && body.contains("A1014")) {
+            return "계좌 잔액이 부족합니다.";
+        }
+        if (body != null) {
+            int start = body.indexOf("\"responseMessage\"");
+            if (start != -1) {
+                int colon = body.indexOf(':', start);
+                int open = colon == -1 ? -1 : body.indexOf('"', colon);
+                int close = open == -1 ? -1 : body.indexOf('"', open + 1);
+                if (close != -1) {
+                    return body.substring(open + 1, close);
+                }
+            }
+        }
+        return "계좌 이체에 실패했습니다. 다시 시도해 주세요.";
+    }
+}
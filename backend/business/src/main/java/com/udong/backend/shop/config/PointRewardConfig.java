@@ -0,0 +1,9 @@
+package com.udong.backend.shop.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PointRewardProps.class)
+public class PointRewardConfig {
+}
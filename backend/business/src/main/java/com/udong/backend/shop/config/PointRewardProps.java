@@ -0,0 +1,21 @@
+package com.udong.backend.shop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 포인트 보상 대기열 소비 설정
+ */
+@ConfigurationProperties(prefix = "app.point-reward")
+public record PointRewardProps(
+        Integer batchSize,          // 한 번에 읽는 대기 보상 수
+        Integer maxBatchesPerRun,   // 한 번 실행에서 처리할 최대 배치 수
+        Integer maxAttempts,        // 이만큼 실패하면 FAILED 로 두고 건너뜀
+        Integer appliedRetentionHours // 적립된(APPLIED) 보상 보관 시간
+) {
+    public PointRewardProps {
+        if (batchSize == null || batchSize <= 0) batchSize = 500;
+        if (maxBatchesPerRun == null || maxBatchesPerRun <= 0) maxBatchesPerRun = 20;
+        if (maxAttempts == null || maxAttempts <= 0) maxAttempts = 5;
+        if (appliedRetentionHours == null || appliedRetentionHours <= 0) appliedRetentionHours = 72;
+    }
+}
@@ -31,6 +31,10 @@ public class ClubPointsLedger {
     @Column(name = "club_id", nullable = false)
     private Long clubId;
 
+    /** 리롤권을 지급한 마지막 1000 단위 (null 이면 기존 누적 포인트 기준) */
+    @Column(name = "reroll_milestone")
+    private Integer rerollMilestone;
+
     /** 최초 생성용 */
     public static ClubPointsLedger createZero(Long clubId) {
         return ClubPointsLedger.builder()
@@ -45,6 +49,19 @@ public class ClubPointsLedger {
         if (this.point < 0) this.point = 0; // 음수 허용하지 않으려면 유지
     }
 
+    public int getRerollMilestone() {
+        return rerollMilestone != null ? rerollMilestone : point / 1000;
+    }
+
+    /** 동아리 포인트 total 기준으로 새로 넘은 1000 단위 수를 기록하고 돌려준다 */
+    public int advanceRerollMilestone(long total) {
+        int reached = (int) (total / 1000);
+        int previous = getRerollMilestone();
+        if (reached <= previous) return 0;
+        this.rerollMilestone = reached;
+        return reached - previous;
+    }
+
     /** 직접 세팅이 필요할 때만 사용 */
     public void setPoints(int newPoint) {
         if (newPoint < 0) throw new IllegalArgumentException("point cannot be negative");
@@ -0,0 +1,36 @@
+package com.udong.backend.shop.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 동아리 누적 포인트의 분할 카운터
+ * 적립을 유저 해시로 나눈 행에 더해 한 행에 잠금이 몰리지 않게 한다.
+ * 동아리 포인트 = club_points_ledger.point(기존 누적분) + 모든 분할 행의 합
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "club_points_stripes",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_club_points_stripes_club_stripe", columnNames = {"club_id", "stripe"})
+        }
+)
+public class ClubPointsStripe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "club_id", nullable = false)
+    private Long clubId;
+
+    @Column(nullable = false)
+    private int stripe;
+
+    @Column(nullable = false)
+    private int point;
+}
@@ -15,6 +15,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,7 +28,13 @@ import lombok.Setter;
 @AllArgsConstructor
 @DynamicInsert
 @Entity 
-@Table(name = "inventories")
+@Table(
+        name = "inventories",
+        uniqueConstraints = {
+                // 수량은 (유저, 동아리, 아이템) 당 한 행 (InventoryRepository.addQty 가 이 키로 upsert)
+                @UniqueConstraint(name = "uk_inventories_user_club_item", columnNames = {"user_id", "club_id", "item_id"})
+        }
+)
 public class Inventory {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
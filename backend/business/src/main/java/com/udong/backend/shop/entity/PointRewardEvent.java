@@ -0,0 +1,74 @@
+package com.udong.backend.shop.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 보상 대기열 (DB)
+ *
+ * - 투표/출석/회비 납부 같은 사용자 동작 트랜잭션 안에서 한 행만 INSERT 하고, 실제 적립은 PointRewardConsumer 가 한다.
+ * - source_key 는 보상을 만든 동작을 나타낸다 (예: VOTE:12:34). 유니크라서 같은 동작의 보상은 한 번만 쌓인다.
+ * - PENDING → APPLIED 는 조건부 UPDATE 로 한 번만 바뀌므로 재시도해도 두 번 적립되지 않는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "point_reward_events",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_point_reward_source", columnNames = "source_key")
+        },
+        indexes = {
+                @Index(name = "idx_point_reward_status_id", columnList = "status, id")
+        })
+public class PointRewardEvent {
+
+    public enum Status { PENDING, APPLIED, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "source_key", nullable = false, length = 100)
+    private String sourceKey;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "club_id", nullable = false)
+    private Integer clubId;
+
+    @Column(name = "code_name", nullable = false, length = 50)
+    private String codeName;
+
+    @Column(nullable = false)
+    private int delta;
+
+    @Column(nullable = false)
+    private String memo;
+
+    @Column(name = "vote_id")
+    private Integer voteId;
+
+    @Column(name = "event_id")
+    private Integer eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 255)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "applied_at")
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,46 @@
+package com.udong.backend.shop.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * (유저, 동아리) 별 현재 포인트 잔액
+ * 값은 UserPointBalanceRepository 의 원자적 UPDATE 로만 바꾼다. 내역은 user_points_ledger 에 그대로 쌓인다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "user_point_balances",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_user_point_balances_user_club", columnNames = {"user_id", "club_id"})
+        }
+)
+public class UserPointBalance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "club_id", nullable = false)
+    private Integer clubId;
+
+    @Column(nullable = false)
+    private int balance;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
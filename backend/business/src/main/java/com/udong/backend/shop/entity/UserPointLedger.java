@@ -29,7 +29,8 @@ import lombok.Setter;
     name = "user_points_ledger",
     indexes = {
         @Index(name = "idx_user_id", columnList = "user_id"),
-        @Index(name = "idx_club_id", columnList = "club_id")
+        @Index(name = "idx_club_id", columnList = "club_id"),
+        @Index(name = "idx_user_points_ledger_user_club_created", columnList = "user_id, club_id, created_at")
     }
 )
 public class UserPointLedger {
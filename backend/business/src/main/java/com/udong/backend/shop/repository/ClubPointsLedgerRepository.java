@@ -3,6 +3,11 @@ package com.udong.backend.shop.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
 
 import com.udong.backend.shop.entity.ClubPointsLedger;
 
@@ -10,4 +15,8 @@ public interface ClubPointsLedgerRepository extends JpaRepository<ClubPointsLedg
 
     Optional<ClubPointsLedger> findByClubId(Long clubId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM ClubPointsLedger l WHERE l.clubId = :clubId")
+    Optional<ClubPointsLedger> findForUpdate(@Param("clubId") Long clubId);
+
 }
\ No newline at end of file
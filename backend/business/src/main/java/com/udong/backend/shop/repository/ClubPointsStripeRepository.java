@@ -0,0 +1,26 @@
+package com.udong.backend.shop.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.udong.backend.shop.entity.ClubPointsStripe;
+
+public interface ClubPointsStripeRepository extends JpaRepository<ClubPointsStripe, Long> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO club_points_stripes (club_id, stripe, point)
+            VALUES (:clubId, :stripe, :delta)
+            ON DUPLICATE KEY UPDATE point = point + VALUES(point)
+            """, nativeQuery = true)
+    int add(@Param("clubId") Long clubId, @Param("stripe") int stripe, @Param("delta") int delta);
+
+    /** 기존 누적분 + 분할 행 합계 */
+    @Query(value = """
+            SELECT COALESCE((SELECT l.point FROM club_points_ledger l WHERE l.club_id = :clubId), 0)
+                 + COALESCE((SELECT SUM(s.point) FROM club_points_stripes s WHERE s.club_id = :clubId), 0)
+            """, nativeQuery = true)
+    long totalOf(@Param("clubId") Long clubId);
+}
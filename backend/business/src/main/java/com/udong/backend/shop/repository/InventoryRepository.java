@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -22,4 +23,28 @@ public interface InventoryRepository extends JpaRepository<Inventory, Integer> {
 		                                                   @Param("clubId") Integer clubId,
 		                                                   @Param("itemId") Integer itemId);
 
+	/** 수량 증가: 행이 없으면 만들고, 있으면 qty 에 더한다 (유니크 키 uk_inventories_user_club_item) */
+	@Modifying
+	@Query(value = """
+			INSERT INTO inventories (user_id, club_id, item_id, qty, created_at)
+			VALUES (:userId, :clubId, :itemId, :qty, NOW(6))
+			ON DUPLICATE KEY UPDATE qty = qty + :qty
+			""", nativeQuery = true)
+	void addQty(@Param("userId") Integer userId,
+	            @Param("clubId") Integer clubId,
+	            @Param("itemId") Integer itemId,
+	            @Param("qty") int qty);
+
+	/** 수량 1 감소: 남은 수량이 없거나 행이 없으면 0 */
+	@Modifying
+	@Query(value = """
+			UPDATE inventories
+			   SET qty = qty - 1
+			 WHERE user_id = :userId AND club_id = :clubId AND item_id = :itemId
+			   AND qty > 0
+			""", nativeQuery = true)
+	int useOne(@Param("userId") Integer userId,
+	           @Param("clubId") Integer clubId,
+	           @Param("itemId") Integer itemId);
+
 }
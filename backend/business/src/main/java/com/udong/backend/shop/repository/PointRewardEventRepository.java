@@ -0,0 +1,73 @@
+package com.udong.backend.shop.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.udong.backend.shop.entity.PointRewardEvent;
+
+public interface PointRewardEventRepository extends JpaRepository<PointRewardEvent, Long> {
+
+    /** 보상 적재. 같은 source_key 가 이미 있으면 아무것도 하지 않는다. */
+    @Modifying
+    @Query(value = """
+            INSERT INTO point_reward_events
+                   (source_key, user_id, club_id, code_name, delta, memo, vote_id, event_id, status, attempts, created_at)
+            VALUES (:sourceKey, :userId, :clubId, :codeName, :delta, :memo, :voteId, :eventId, 'PENDING', 0, NOW(6))
+            ON DUPLICATE KEY UPDATE source_key = source_key
+            """, nativeQuery = true)
+    void enqueue(@Param("sourceKey") String sourceKey,
+               @Param("userId") Integer userId,
+               @Param("clubId") Integer clubId,
+               @Param("codeName") String codeName,
+               @Param("delta") int delta,
+               @Param("memo") String memo,
+               @Param("voteId") Integer voteId,
+               @Param("eventId") Integer eventId);
+
+    @Query("""
+            select e from PointRewardEvent e
+             where e.status = com.udong.backend.shop.entity.PointRewardEvent.Status.PENDING
+             order by e.id
+            """)
+    List<PointRewardEvent> findPending(Limit limit);
+
+    // PENDING → APPLIED (한 번만 성공)
+    @Modifying
+    @Query(value = """
+            UPDATE point_reward_events
+               SET status = 'APPLIED', applied_at = :now
+             WHERE id IN (:ids) AND status = 'PENDING'
+            """, nativeQuery = true)
+    int markApplied(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    // 실패 기록, 최대 시도 횟수에 닿으면 FAILED
+    @Modifying
+    @Query(value = """
+            UPDATE point_reward_events
+               SET status = CASE WHEN attempts + 1 >= :maxAttempts THEN 'FAILED' ELSE 'PENDING' END,
+                   attempts = attempts + 1,
+                   last_error = :error
+             WHERE id IN (:ids) AND status = 'PENDING'
+            """, nativeQuery = true)
+    int recordFailure(@Param("ids") List<Long> ids,
+                      @Param("error") String error,
+                      @Param("maxAttempts") int maxAttempts);
+
+    long countByStatus(PointRewardEvent.Status status);
+
+    // 적립된 보상 정리 (오래된 순으로 한 번에 limit 행)
+    @Modifying
+    @Query(value = """
+            DELETE FROM point_reward_events
+             WHERE status = 'APPLIED' AND applied_at < :before
+             ORDER BY id
+             LIMIT :limit
+            """, nativeQuery = true)
+    int deleteAppliedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
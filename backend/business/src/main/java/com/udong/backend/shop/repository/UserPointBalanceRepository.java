@@ -0,0 +1,71 @@
+package com.udong.backend.shop.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.udong.backend.shop.entity.UserPointBalance;
+
+public interface UserPointBalanceRepository extends JpaRepository<UserPointBalance, Long> {
+
+	@Query("SELECT b.balance FROM UserPointBalance b WHERE b.userId = :userId AND b.clubId = :clubId")
+	Optional<Integer> findBalance(@Param("userId") Integer userId, @Param("clubId") Integer clubId);
+
+	/** 적립: 행이 없으면 0 (seedFromLedger 후 다시 호출) */
+	@Modifying
+	@Query(value = """
+			UPDATE user_point_balances
+			   SET balance = balance + :delta, updated_at = NOW(6)
+			 WHERE user_id = :userId AND club_id = :clubId
+			""", nativeQuery = true)
+	int add(@Param("userId") Integer userId, @Param("clubId") Integer clubId, @Param("delta") int delta);
+
+	/** 차감: 잔액이 부족하거나 행이 없으면 0 */
+	@Modifying
+	@Query(value = """
+			UPDATE user_point_balances
+			   SET balance = balance - :amount, updated_at = NOW(6)
+			 WHERE user_id = :userId AND club_id = :clubId
+			   AND balance >= :amount
+			""", nativeQuery = true)
+	int trySpend(@Param("userId") Integer userId, @Param("clubId") Integer clubId, @Param("amount") int amount);
+
+	/**
+	 * 잔액 행이 없을 때 기존 내역 합계로 만든다. 이미 있으면 아무것도 바꾸지 않는다.
+	 * 동시에 두 요청이 만들더라도 유니크 키로 한 행만 남는다.
+	 */
+	@Modifying
+	@Query(value = """
+			INSERT INTO user_point_balances (user_id, club_id, balance, updated_at)
+			SELECT :userId, :clubId, COALESCE(SUM(l.delta), 0), NOW(6)
+			  FROM user_points_ledger l
+			 WHERE l.user_id = :userId AND l.club_id = :clubId
+			ON DUPLICATE KEY UPDATE user_id = user_id
+			""", nativeQuery = true)
+	int seedFromLedger(@Param("userId") Integer userId, @Param("clubId") Integer clubId);
+
+	@Query(value = "SELECT COALESCE(MAX(id), 0) FROM user_points_ledger", nativeQuery = true)
+	long findMaxLedgerId();
+
+	/**
+	 * 내역 PK 범위 (fromId, toId] 에 나오는 회원 중 잔액 행이 없는 회원을 내역 합계로 채운다.
+	 * 그 사이 적립으로 생긴 행은 건드리지 않는다.
+	 */
+	@Modifying
+	@Query(value = """
+			INSERT INTO user_point_balances (user_id, club_id, balance, updated_at)
+			SELECT l.user_id, l.club_id, SUM(l.delta), NOW(6)
+			  FROM (SELECT DISTINCT r.user_id, r.club_id
+			          FROM user_points_ledger r
+			         WHERE r.id > :fromId AND r.id <= :toId
+			           AND NOT EXISTS (SELECT 1 FROM user_point_balances b
+			                            WHERE b.user_id = r.user_id AND b.club_id = r.club_id)) m
+			  JOIN user_points_ledger l ON l.user_id = m.user_id AND l.club_id = m.club_id
+			 GROUP BY l.user_id, l.club_id
+			ON DUPLICATE KEY UPDATE user_id = user_id
+			""", nativeQuery = true)
+	int backfillLedgerRange(@Param("fromId") long fromId, @Param("toId") long toId);
+}
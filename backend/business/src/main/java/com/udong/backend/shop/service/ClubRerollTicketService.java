@@ -0,0 +1,59 @@
+package com.udong.backend.shop.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.udong.backend.clubs.entity.Club;
+import com.udong.backend.clubs.repository.ClubRepository;
+import com.udong.backend.shop.entity.ClubPointsLedger;
+import com.udong.backend.shop.repository.ClubPointsLedgerRepository;
+import com.udong.backend.shop.repository.ClubPointsStripeRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 동아리 포인트 1000 단위 달성 시 회장에게 마스코트 리롤권 지급
+ *
+ * 적립 커밋 후 새 트랜잭션에서 전체 합계를 다시 읽는다. 동시에 여러 적립이 커밋돼도 마지막 커밋은 모든 적립을 보므로 달성을 놓치지 않는다.
+ * 달성 단위는 club_points_ledger 행을 잠근 채 기록하므로 같은 1000 단위는 한 번만 지급된다.
+ * 지급이 실패하면 예외를 그대로 던져 달성 기록까지 롤백하므로, 다음 적립 때 다시 지급을 시도한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClubRerollTicketService {
+
+    private static final int REROLL_TICKET_ITEM_ID = 3;
+
+    private final ClubPointsLedgerRepository clubPointsLedgerRepository;
+    private final ClubPointsStripeRepository clubPointsStripeRepository;
+    private final ClubRepository clubRepository;
+    private final InventoryService inventoryService;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void checkMilestone(Integer clubId) {
+        Long key = clubId.longValue();
+        long total = clubPointsStripeRepository.totalOf(key);
+
+        // 잠금 없이 먼저 확인 (대부분 여기서 끝난다)
+        ClubPointsLedger current = clubPointsLedgerRepository.findByClubId(key).orElse(null);
+        if (current != null && total / 1000 <= current.getRerollMilestone()) {
+            return;
+        }
+
+        ClubPointsLedger ledger = clubPointsLedgerRepository.findForUpdate(key)
+                .orElseGet(() -> clubPointsLedgerRepository.save(ClubPointsLedger.createZero(key)));
+        int tickets = ledger.advanceRerollMilestone(total);
+        for (int i = 0; i < tickets; i++) {
+            giveRerollTicketToLeader(clubId);
+        }
+    }
+
+    private void giveRerollTicketToLeader(Integer clubId) {
+        Club club = clubRepository.findById(clubId)
+                .orElseThrow(() -> new IllegalArgumentException("클럽을 찾을 수 없습니다."));
+
+        // 마스코트 리롤권(ID=3) 회장 인벤토리에 추가
+        inventoryService.addItem(club.getLeaderUserId(), clubId, REROLL_TICKET_ITEM_ID);
+    }
+}
@@ -22,36 +22,31 @@ public class InventoryService {
 		return inventoryRepository.findByUserIdAndClubId(userId, clubId);
 	}
 	
+	/**
+	 * 아이템 1개 추가 후 인벤토리 행을 돌려준다.
+	 * 수량은 upsert 한 문장으로 올리므로 같은 아이템이 동시에 추가돼도 유실/중복 행이 없다.
+	 */
 	@Transactional
 	public Inventory addItem(Integer userId, Integer clubId, Integer itemId) {
-		
-		return inventoryRepository.findByUserIdAndClubIdAndItemId(userId, clubId, itemId)
-	            .map(inv -> {
-	                inv.setQty(inv.getQty() + 1);
-	                return inventoryRepository.save(inv);
-	            })
-	            .orElseGet(() -> {
-	                Inventory newInv = Inventory.builder()
-	                        .userId(userId)
-	                        .clubId(clubId)
-	                        .item(itemRepository.findById(itemId)
-	                                .orElseThrow(() -> new RuntimeException("아이템을 찾을 수 없습니다.")))
-	                        .qty(1)
-	                        .build();
-	                return inventoryRepository.save(newInv);
-	            });
+		if (!itemRepository.existsById(itemId)) {
+			throw new RuntimeException("아이템을 찾을 수 없습니다.");
+		}
+		giveItem(userId, clubId, itemId);
+		return inventoryRepository.findByUserIdAndClubIdAndItemId(userId, clubId, itemId).orElseThrow();
+	}
+
+	/** 아이템 1개 추가 (구매/보상처럼 아이템이 이미 확인된 경우, 결과 행을 다시 읽지 않음) */
+	@Transactional
+	public void giveItem(Integer userId, Integer clubId, Integer itemId) {
+		inventoryRepository.addQty(userId, clubId, itemId, 1);
 	}
 	
 	@Transactional
     public Inventory useItem(Integer userId, Integer clubId, Integer itemId) {
-		Inventory inv = inventoryRepository.findByUserIdAndClubIdAndItemId(userId, clubId, itemId)
-	                .orElseThrow(() -> new RuntimeException("아이템이 없습니다."));
-
-	    if (inv.getQty() <= 0) {
-	        throw new RuntimeException("아이템이 없습니다.");
-	    }
-
-	    inv.setQty(inv.getQty() - 1); 
-	    return inventoryRepository.save(inv);
+		// 남은 수량이 있을 때만 1 감소 (동시에 사용해도 음수가 되지 않음)
+		if (inventoryRepository.useOne(userId, clubId, itemId) == 0) {
+			throw new RuntimeException("아이템이 없습니다.");
+		}
+		return inventoryRepository.findByUserIdAndClubIdAndItemId(userId, clubId, itemId).orElseThrow();
     }
 }
@@ -0,0 +1,77 @@
+package com.udong.backend.shop.service;
+
+import com.udong.backend.shop.repository.UserPointBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * 포인트 잔액 행 채우기
+ *
+ * 잔액 행(user_point_balances)은 적립/사용 때 만들어지므로, 그 전부터 내역만 있는 회원은
+ * 마이페이지에서 내역 전체를 합산하게 된다. 이런 회원의 잔액 행을 내역 합계로 미리 만들어
+ * 이후 잔액 조회가 활동량과 상관없이 한 행 읽기로 끝나게 한다.
+ * - 내역 PK 범위를 CHUNK 씩 앞으로만 이동하며 채운다 (같은 구간을 다시 훑지 않음).
+ * - 진행 위치는 Redis 에 남겨 재기동 시 이어서 하고, 끝까지 마치면 DONE 으로 표시해 이후 기동에서는 건너뛴다.
+ *   (이후의 내역은 모두 PointService 가 잔액 행과 함께 남긴다)
+ * 기동 시 한 번, 여러 노드 중 한 곳에서만 실행된다 (Redis 잠금).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointBalanceBackfillJob implements ApplicationRunner {
+
+    private static final int CHUNK = 5_000;
+    private static final String LOCK_KEY = "point:balance:backfill:lock";
+    private static final String CHECKPOINT_KEY = "point:balance:backfill:checkpoint";
+    private static final String DONE = "DONE";
+
+    private final UserPointBalanceRepository balanceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            if (DONE.equals(stringRedisTemplate.opsForValue().get(CHECKPOINT_KEY))) return;
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", Duration.ofMinutes(30));
+            if (!Boolean.TRUE.equals(locked)) return;
+        } catch (Exception e) {
+            log.warn(">>> 포인트 잔액 행 잠금 실패, 이번 기동에서는 건너뜀: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            String checkpoint = stringRedisTemplate.opsForValue().get(CHECKPOINT_KEY);
+            if (DONE.equals(checkpoint)) return;
+
+            long fromId = checkpoint != null ? Long.parseLong(checkpoint) : 0L;
+            long maxId = balanceRepository.findMaxLedgerId();
+            long rows = 0;
+            while (fromId < maxId) {
+                long start = fromId;
+                long toId = Math.min(fromId + CHUNK, maxId);
+                Integer inserted = transactionTemplate.execute(status -> balanceRepository.backfillLedgerRange(start, toId));
+                rows += inserted == null ? 0 : inserted;
+                fromId = toId;
+                stringRedisTemplate.opsForValue().set(CHECKPOINT_KEY, String.valueOf(fromId));
+            }
+            stringRedisTemplate.opsForValue().set(CHECKPOINT_KEY, DONE);
+
+            if (rows > 0) {
+                log.info(">>> 포인트 잔액 행 채우기 완료: {}행", rows);
+            }
+        } catch (Exception e) {
+            // 진행 위치까지는 남아 있으므로 다음 기동에서 이어서 채운다
+            log.error(">>> 포인트 잔액 행 채우기 실패: {}", e.getMessage(), e);
+        } finally {
+            stringRedisTemplate.delete(LOCK_KEY);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.udong.backend.shop.service;
+
+import com.udong.backend.shop.config.PointRewardProps;
+import com.udong.backend.shop.dto.UserPointLedgerRequest;
+import com.udong.backend.shop.entity.PointRewardEvent;
+import com.udong.backend.shop.repository.PointRewardEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 보상 대기열 소비
+ *
+ * - PENDING 보상을 id 순으로 배치로 읽어 (유저, 동아리) 별로 묶는다.
+ * - 묶음 하나를 한 트랜잭션에서 APPLIED 로 바꾸고 적립한다. 잔액/동아리 포인트는 합계로 한 번만 갱신된다.
+ * - APPLIED 전환이 묶음 전체에 성공할 때만 적립하므로 같은 보상이 두 번 들어가지 않는다.
+ * - 실패한 묶음은 시도 횟수를 올려 다음 실행에서 다시 처리하고, maxAttempts 에 닿으면 FAILED 로 둔다.
+ *   FAILED 행은 적립되지 않은 채 남으므로 수(point.reward.failed)와 로그로 드러내고,
+ *   원인을 해결한 뒤 PENDING 으로 되돌리면 다시 처리된다 (포팅 매뉴얼 8.2).
+ * - 적립된 보상은 appliedRetentionHours 가 지나면 정리한다. source_key 중복 방지는 그 기간 안에서만 보장된다.
+ * 여러 노드 중 한 곳에서만 실행된다 (Redis 잠금).
+ */
+@Slf4j
+@Component
+public class PointRewardConsumer {
+
+    private static final String LOCK_KEY = "point:reward:consumer:lock";
+    private static final String PURGE_LOCK_KEY = "point:reward:purge-lock";
+    private static final int PURGE_CHUNK = 1000;
+
+    private final PointRewardEventRepository rewardRepository;
+    private final PointService pointService;
+    private final PointRewardProps props;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Counter appliedCounter;
+    private final Counter groupCounter;
+    private final Counter failedCounter;
+
+    /** 적립 대상 (유저, 동아리) */
+    private record Owner(Integer userId, Integer clubId) {}
+
+    public PointRewardConsumer(PointRewardEventRepository rewardRepository,
+                               PointService pointService,
+                               PointRewardProps props,
+                               TransactionTemplate transactionTemplate,
+                               StringRedisTemplate stringRedisTemplate,
+                               MeterRegistry meterRegistry) {
+        this.rewardRepository = rewardRepository;
+        this.pointService = pointService;
+        this.props = props;
+        this.transactionTemplate = transactionTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.appliedCounter = meterRegistry.counter("point.reward.applied");
+        this.groupCounter = meterRegistry.counter("point.reward.groups");
+        this.failedCounter = meterRegistry.counter("point.reward.failures");
+        // 적립을 포기한 보상 수 (status, id) 인덱스로 센다
+        meterRegistry.gauge("point.reward.failed", rewardRepository,
+                repository -> repository.countByStatus(PointRewardEvent.Status.FAILED));
+    }
+
+    @Scheduled(fixedDelayString = "${app.point-reward.poll-interval-ms:1000}")
+    public void drain() {
+        try {
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", Duration.ofMinutes(5));
+            if (!Boolean.TRUE.equals(locked)) return;
+        } catch (Exception e) {
+            log.warn(">>> 포인트 보상 잠금 실패, 이번 실행 건너뜀: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            for (int i = 0; i < props.maxBatchesPerRun(); i++) {
+                List<PointRewardEvent> batch = rewardRepository.findPending(Limit.of(props.batchSize()));
+                if (batch.isEmpty()) break;
+
+                boolean allApplied = true;
+                for (Map.Entry<Owner, List<PointRewardEvent>> group : groupByOwner(batch).entrySet()) {
+                    allApplied &= apply(group.getKey(), group.getValue());
+                }
+
+                // 실패한 묶음은 다음 실행에서 다시 시도 (같은 실행에서 바로 반복하지 않음)
+                if (!allApplied || batch.size() < props.batchSize()) break;
+            }
+        } catch (Exception e) {
+            log.error(">>> 포인트 보상 처리 실패: {}", e.getMessage(), e);
+        } finally {
+            stringRedisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    /**
+     * 오래된 적립 완료 보상 정리, 적립을 포기한(FAILED) 보상 알림
+     */
+    @Scheduled(cron = "${app.point-reward.purge-cron:0 20 5 * * *}")
+    public void purgeApplied() {
+        try {
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(PURGE_LOCK_KEY, "1", Duration.ofMinutes(30));
+            if (!Boolean.TRUE.equals(locked)) return;
+        } catch (Exception e) {
+            log.warn(">>> 포인트 보상 정리 잠금 실패, 이번 실행 건너뜀: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            LocalDateTime before = LocalDateTime.now().minusHours(props.appliedRetentionHours());
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status -> rewardRepository.deleteAppliedBefore(before, PURGE_CHUNK));
+            } while (deleted == PURGE_CHUNK);
+
+            long failed = rewardRepository.countByStatus(PointRewardEvent.Status.FAILED);
+            if (failed > 0) {
+                log.error(">>> 적립하지 못한 포인트 보상 {}건 (status=FAILED), 수동 확인 필요", failed);
+            }
+        } catch (Exception e) {
+            log.warn(">>> 포인트 보상 정리 실패: {}", e.getMessage());
+        } finally {
+            stringRedisTemplate.delete(PURGE_LOCK_KEY);
+        }
+    }
+
+    private Map<Owner, List<PointRewardEvent>> groupByOwner(List<PointRewardEvent> batch) {
+        Map<Owner, List<PointRewardEvent>> groups = new LinkedHashMap<>();
+        for (PointRewardEvent event : batch) {
+            groups.computeIfAbsent(new Owner(event.getUserId(), event.getClubId()), k -> new ArrayList<>())
+                    .add(event);
+        }
+        return groups;
+    }
+
+    private boolean apply(Owner owner, List<PointRewardEvent> events) {
+        List<Long> ids = events.stream().map(PointRewardEvent::getId).toList();
+        try {
+            Boolean applied = transactionTemplate.execute(status -> {
+                if (rewardRepository.markApplied(ids, LocalDateTime.now()) != ids.size()) {
+                    // 다른 처리와 겹친 경우: 이번 묶음은 되돌리고 다음 실행에서 다시 읽는다
+                    status.setRollbackOnly();
+                    return false;
+                }
+                pointService.addPoints(owner.userId(), owner.clubId(), events.stream().map(this::toRequest).toList());
+                return true;
+            });
+            if (Boolean.TRUE.equals(applied)) {
+                appliedCounter.increment(events.size());
+                groupCounter.increment();
+            }
+            return true;
+        } catch (Exception e) {
+            failedCounter.increment(events.size());
+            log.warn(">>> 포인트 보상 적립 실패 (userId={}, clubId={}, {}건): {}",
+                    owner.userId(), owner.clubId(), events.size(), e.getMessage());
+            recordFailure(ids, e);
+            return false;
+        }
+    }
+
+    private void recordFailure(List<Long> ids, Exception cause) {
+        String message = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+        String error = message.length() > 255 ? message.substring(0, 255) : message;
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    rewardRepository.recordFailure(ids, error, props.maxAttempts()));
+        } catch (Exception e) {
+            log.warn(">>> 포인트 보상 실패 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    private UserPointLedgerRequest toRequest(PointRewardEvent event) {
+        return UserPointLedgerRequest.builder()
+                .clubId(event.getClubId())
+                .voteId(event.getVoteId())
+                .eventId(event.getEventId())
+                .codeName(event.getCodeName())
+                .delta(event.getDelta())
+                .memo(event.getMemo())
+                .build();
+    }
+}
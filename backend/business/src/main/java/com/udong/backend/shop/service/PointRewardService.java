@@ -0,0 +1,32 @@
+package com.udong.backend.shop.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.udong.backend.shop.dto.UserPointLedgerRequest;
+import com.udong.backend.shop.repository.PointRewardEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 포인트 보상 적재
+ * 호출한 트랜잭션 안에서 대기열에 한 행만 넣으므로 사용자 동작과 함께 커밋/롤백되고, 적립은 PointRewardConsumer 가 나중에 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PointRewardService {
+
+    private final PointRewardEventRepository rewardRepository;
+
+    /**
+     * @param sourceKey 보상을 만든 동작 (같은 키는 한 번만 적립)
+     */
+    @Transactional
+    public void reward(Integer userId, UserPointLedgerRequest req, String sourceKey) {
+        if (req.getDelta() == null || req.getDelta() <= 0) {
+            throw new IllegalArgumentException("증가 포인트는 0보다 커야 합니다.");
+        }
+        rewardRepository.enqueue(sourceKey, userId, req.getClubId(), req.getCodeName(), req.getDelta(),
+                req.getMemo(), req.getVoteId(), req.getEventId());
+    }
+}
@@ -1,35 +1,40 @@
 package com.udong.backend.shop.service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import com.udong.backend.clubs.entity.Club;
-import com.udong.backend.clubs.repository.ClubRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.udong.backend.shop.dto.UserPointLedgerRequest;
 import com.udong.backend.shop.dto.PointHistoryResponse;
 import com.udong.backend.shop.entity.UserPointLedger;
-import com.udong.backend.shop.entity.ClubPointsLedger;
 import com.udong.backend.shop.entity.Item;
 import com.udong.backend.shop.repository.PointRepository;
-import com.udong.backend.shop.repository.ClubPointsLedgerRepository;
+import com.udong.backend.shop.repository.ClubPointsStripeRepository;
+import com.udong.backend.shop.repository.UserPointBalanceRepository;
 import com.udong.backend.shop.repository.ItemRepository;
-import com.udong.backend.shop.service.InventoryService;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PointService {
+
+    /** 동아리 포인트 분할 행 수 */
+    private static final int CLUB_POINT_STRIPES = 16;
 	
 	private final PointRepository pointRepository;
-    private final ClubRepository clubRepository;
-    private final ClubPointsLedgerRepository clubPointsLedgerRepository;
+    private final UserPointBalanceRepository balanceRepository;
+    private final ClubPointsStripeRepository clubPointsStripeRepository;
+    private final ClubRerollTicketService clubRerollTicketService;
     private final ItemRepository itemRepository;
-    private final InventoryService inventoryService;
 	
 	public Optional<UserPointLedger> getLatest(Integer userId, Integer clubId) {
 		return pointRepository.findTopByUserIdAndClubIdOrderByCreatedAtDesc(userId, clubId);
@@ -41,49 +46,47 @@ public class PointService {
 
     @Transactional
     public UserPointLedger addPoints(Integer userId, UserPointLedgerRequest req) {
-        if (req.getDelta() <= 0) {
-            throw new IllegalArgumentException("증가 포인트는 0보다 커야 합니다.");
-        }
-
-        Integer currPoint = pointRepository.findTopByUserIdAndClubIdOrderByCreatedAtDesc(userId, req.getClubId())
-                .map(UserPointLedger::getCurrPoint)
-                .orElse(0);
-
-        int newPoint = currPoint + req.getDelta();
+        return addPoints(userId, req.getClubId(), List.of(req)).get(0);
+    }
 
-        UserPointLedger ledger = UserPointLedger.builder()
-                .userId(userId)
-                .clubId(req.getClubId())
-                .delta(req.getDelta())
-                .currPoint(newPoint)
-                .codeName(req.getCodeName())
-                .memo(req.getMemo())
-                .build();
+    /**
+     * 같은 유저/동아리의 적립 여러 건을 한 번에 반영 (보상 대기열 소비자가 묶어서 호출)
+     * 잔액과 동아리 포인트는 합계로 한 번만 갱신하고, 내역은 건별로 남긴다.
+     */
+    @Transactional
+    public List<UserPointLedger> addPoints(Integer userId, Integer clubId, List<UserPointLedgerRequest> reqs) {
+        int total = 0;
+        for (UserPointLedgerRequest req : reqs) {
+            if (req.getDelta() <= 0) {
+                throw new IllegalArgumentException("증가 포인트는 0보다 커야 합니다.");
+            }
+            total += req.getDelta();
+        }
 
-        // 동아리 포인트도 함께 증가
-        ClubPointsLedger clubPointsLedger = clubPointsLedgerRepository.findByClubId(req.getClubId().longValue())
-                .orElseGet(() -> {
-                    // 동아리 포인트 장부가 없으면 새로 생성
-                    ClubPointsLedger newClubLedger = ClubPointsLedger.createZero(req.getClubId().longValue());
-                    return clubPointsLedgerRepository.save(newClubLedger);
-                });
-
-        int previousPoints = clubPointsLedger.getPoint();
-        clubPointsLedger.addPoints(req.getDelta());
-        int newPoints = clubPointsLedger.getPoint();
-
-        // 1000의 자리가 변했는지 확인
-        int previousThousand = previousPoints / 1000;
-        int newThousand = newPoints / 1000;
-
-        if (newThousand > previousThousand) {
-            // 마스코트 리롤권 지급
-            giveRerollTicketToLeader(req.getClubId());
+        int running = changeBalance(userId, clubId, total) - total;
+
+        List<UserPointLedger> ledgers = new ArrayList<>(reqs.size());
+        for (UserPointLedgerRequest req : reqs) {
+            running += req.getDelta();
+            ledgers.add(UserPointLedger.builder()
+                    .userId(userId)
+                    .clubId(clubId)
+                    .voteId(req.getVoteId())
+                    .eventId(req.getEventId())
+                    .delta(req.getDelta())
+                    .currPoint(running)
+                    .codeName(req.getCodeName())
+                    .memo(req.getMemo())
+                    .build());
         }
 
-        clubPointsLedgerRepository.save(clubPointsLedger);
+        // 동아리 포인트는 유저별 분할 행에 더한다 (동아리 한 행에 잠금이 몰리지 않게)
+        clubPointsStripeRepository.add(clubId.longValue(), stripeOf(userId), total);
 
-        return pointRepository.save(ledger);
+        // 1000 단위 달성 여부는 커밋 후 전체 합계로 확인
+        afterCommit(() -> clubRerollTicketService.checkMilestone(clubId));
+
+        return pointRepository.saveAll(ledgers);
     }
 
     @Transactional
@@ -92,15 +95,7 @@ public class PointService {
             throw new IllegalArgumentException("차감 포인트는 0보다 커야 합니다.");
         }
 
-        Integer currPoint = pointRepository.findTopByUserIdAndClubIdOrderByCreatedAtDesc(userId, req.getClubId())
-                .map(UserPointLedger::getCurrPoint)
-                .orElse(0);
-
-        if (currPoint < req.getDelta()) {
-            throw new RuntimeException("포인트가 부족합니다.");
-        }
-
-        int newPoint = currPoint - req.getDelta();
+        int newPoint = changeBalance(userId, req.getClubId(), -req.getDelta());
 
         UserPointLedger ledger = UserPointLedger.builder()
                 .userId(userId)
@@ -114,26 +109,65 @@ public class PointService {
         return pointRepository.save(ledger);
     }
 
-    public Integer getClubPoints(Long clubId) {
-        return clubPointsLedgerRepository.findByClubId(clubId)
-                .map(ClubPointsLedger::getPoint)
-                .orElse(0);
+    /** 현재 잔액 (잔액 행이 아직 없으면 최신 내역 기준) */
+    public int getBalance(Integer userId, Integer clubId) {
+        return balanceRepository.findBalance(userId, clubId)
+                .orElseGet(() -> getLatest(userId, clubId).map(UserPointLedger::getCurrPoint).orElse(0));
+    }
+
+    /**
+     * 잔액 행을 원자적으로 갱신하고 갱신된 잔액을 돌려준다.
+     * 적립은 balance = balance + ?, 차감은 balance >= ? 일 때만 반영되므로 동시에 들어와도 유실/음수가 없다.
+     */
+    private int changeBalance(Integer userId, Integer clubId, int delta) {
+        int updated = applyDelta(userId, clubId, delta);
+        if (updated == 0) {
+            if (delta < 0 && balanceRepository.findBalance(userId, clubId).isPresent()) {
+                throw new RuntimeException("포인트가 부족합니다.");
+            }
+            // 잔액 행이 없는 기존 회원: 내역 합계로 만든 뒤 한 번 더
+            balanceRepository.seedFromLedger(userId, clubId);
+            updated = applyDelta(userId, clubId, delta);
+            if (updated == 0) {
+                throw new RuntimeException("포인트가 부족합니다.");
+            }
+        }
+        // 갱신한 행은 커밋까지 잠겨 있으므로 읽은 값이 이번 반영 결과다
+        return balanceRepository.findBalance(userId, clubId).orElseThrow();
     }
 
-    private void giveRerollTicketToLeader(Integer clubId) {
-        try {
-            // 클럽 정보에서 회장 ID 가져오기
-            Club club = clubRepository.findById(clubId)
-                    .orElseThrow(() -> new IllegalArgumentException("클럽을 찾을 수 없습니다."));
+    private int applyDelta(Integer userId, Integer clubId, int delta) {
+        return delta >= 0
+                ? balanceRepository.add(userId, clubId, delta)
+                : balanceRepository.trySpend(userId, clubId, -delta);
+    }
 
-            Integer leaderId = club.getLeaderUserId();
+    public Integer getClubPoints(Long clubId) {
+        return (int) clubPointsStripeRepository.totalOf(clubId);
+    }
+
+    private static int stripeOf(Integer userId) {
+        return Math.floorMod(userId.hashCode(), CLUB_POINT_STRIPES);
+    }
 
-            // 마스코트 리롤권(ID=3) 회장 인벤토리에 추가
-            inventoryService.addItem(leaderId, clubId, 3);
-        } catch (Exception e) {
-            // 리롤권 지급 실패 시 로그만 남기고 메인 로직은 계속 진행
-            System.err.println("Failed to give reroll ticket to leader: " + e.getMessage());
+    private void afterCommit(Runnable action) {
+        Runnable safe = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.warn("포인트 적립 후처리 실패: {}", e.getMessage());
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safe.run();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safe.run();
+            }
+        });
     }
 
     public List<PointHistoryResponse> getPointHistory(Integer userId, Integer clubId) {
@@ -23,9 +23,10 @@ public class ShopService {
     private final MascotRepository mascotRepository;
 
     /**
-     * 아이템 구매 처리
-     * - 유저 포인트 차감
-     * - 인벤토리에 아이템 추가
+     * 아이템 구매 처리 (한 트랜잭션)
+     * - 유저 포인트 차감: 잔액이 가격 이상일 때만 반영되는 조건부 UPDATE
+     * - 인벤토리에 아이템 추가: (유저, 동아리, 아이템) 유니크 키로 upsert
+     * 같은 유저가 동시에 여러 번 구매해도 잔액이 음수가 되거나 수량이 유실되지 않는다.
      */
     @Transactional
     public void purchaseItem(Integer clubId, Integer userId, Integer itemId) {
@@ -52,7 +53,7 @@ public class ShopService {
             createDongdolMascot(clubId);
         } else {
             // 일반 아이템은 인벤토리에 추가
-            inventoryService.addItem(userId, clubId, itemId);
+            inventoryService.giveItem(userId, clubId, itemId);
         }
     }
 
@@ -0,0 +1,30 @@
+package com.udong.backend.upload.controller;
+
+import com.udong.backend.global.dto.response.ApiResponse;
+import com.udong.backend.global.util.SecurityUtils;
+import com.udong.backend.upload.dto.UploadTicketRequest;
+import com.udong.backend.upload.dto.UploadTicketResponse;
+import com.udong.backend.upload.service.UploadTicketService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/uploads")
+public class UploadController {
+
+    private final UploadTicketService uploadTicketService;
+    private final SecurityUtils securityUtils;
+
+    /**
+     * 직접 업로드 티켓 발급: 응답의 uploadUrl 로 파일을 PUT 한 뒤,
+     * 정산/회비 영수증 연결 API 에 ticket 을 보낸다.
+     */
+    @PostMapping("/tickets")
+    public ResponseEntity<ApiResponse<UploadTicketResponse>> issueTicket(@Valid @RequestBody UploadTicketRequest req) {
+        Integer userId = securityUtils.currentUserId();
+        return ResponseEntity.ok(ApiResponse.ok(uploadTicketService.issue(userId, req)));
+    }
+}
@@ -0,0 +1,9 @@
+package com.udong.backend.upload.dto;
+
+/**
+ * 직접 업로드 용도 (저장 키 프리픽스와 연결 대상이 정해진다)
+ */
+public enum UploadPurpose {
+    DUTCHPAY_RECEIPT,
+    CLUB_FUND_RECEIPT
+}
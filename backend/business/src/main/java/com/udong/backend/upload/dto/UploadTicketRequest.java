@@ -0,0 +1,22 @@
+package com.udong.backend.upload.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class UploadTicketRequest {
+
+    @NotNull
+    private UploadPurpose purpose;
+
+    @NotBlank
+    private String contentType;   // image/jpeg | image/png | image/webp
+
+    @NotNull
+    @Positive
+    private Long contentLength;   // 바이트 수 (서명에 포함되어 다른 크기로는 올릴 수 없다)
+}
@@ -0,0 +1,19 @@
+package com.udong.backend.upload.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class UploadTicketResponse {
+    private String ticket;               // 연결(confirm) 때 보낼 업로드 티켓
+    private String uploadUrl;            // 이 URL 로 파일을 직접 PUT
+    private String method;               // "PUT"
+    private Map<String, String> headers; // PUT 요청에 그대로 붙일 헤더
+    private Instant expiresAt;           // uploadUrl 만료 시각
+}
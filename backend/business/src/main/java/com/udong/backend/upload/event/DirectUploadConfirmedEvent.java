@@ -0,0 +1,12 @@
+package com.udong.backend.upload.event;
+
+import com.udong.backend.upload.dto.UploadPurpose;
+
+/**
+ * 직접 업로드 확인 이벤트
+ * 확인한 트랜잭션이 커밋된 뒤 비동기로 원본을 변환해 연결 대상에 URL 을 채운다 (DirectUploadProcessor).
+ */
+public record DirectUploadConfirmedEvent(
+        UploadPurpose purpose,
+        String key
+) {}
@@ -0,0 +1,27 @@
+package com.udong.backend.upload.service;
+
+import com.udong.backend.global.image.ReceiptImageUploader;
+import com.udong.backend.upload.dto.UploadPurpose;
+
+import java.util.List;
+
+/**
+ * 직접 업로드 원본을 연결한 도메인 쪽 처리 (용도별 1개)
+ * 원본 키(.../direct/...)를 가진 행은 변환 전이라 URL 이 비어 있다.
+ */
+public interface DirectUploadHandler {
+
+    UploadPurpose purpose();
+
+    /** 아직 변환되지 않은 원본 키 (주기 재처리용) */
+    List<String> findUnprocessedKeys(int limit);
+
+    /**
+     * 원본 키를 변환본 키/URL 로 바꾼다
+     * @return 바뀐 행이 있으면 true
+     */
+    boolean onProcessed(String sourceKey, ReceiptImageUploader.StoredImage image);
+
+    /** 변환할 수 없는 원본: 영수증 연결을 지운다 */
+    void onRejected(String sourceKey);
+}
@@ -0,0 +1,101 @@
+package com.udong.backend.upload.service;
+
+import com.udong.backend.global.image.ReceiptImageUploader;
+import com.udong.backend.global.s3.ObjectStorage;
+import com.udong.backend.upload.dto.UploadPurpose;
+import com.udong.backend.upload.event.DirectUploadConfirmedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 직접 업로드 원본 변환
+ *
+ * - 확인한 트랜잭션이 커밋되면 별도 스레드에서 원본을 읽어 멀티파트 업로드와 같은 변환(축소 + 메타데이터 제거 + 썸네일)을 거친다.
+ * - 변환본을 {prefix}/receipts/ 아래에 올리고 연결 행의 키/URL 을 바꾼 뒤, EXIF 가 남은 원본은 지운다.
+ * - 연결 행은 원본 키(.../direct/...)를 가진 동안 URL 이 비어 있으므로 변환 전 원본이 노출되지 않는다.
+ * - 재시작이나 실패로 놓친 건은 주기 작업이 원본 키가 남은 행을 찾아 다시 처리한다 (여러 노드 중 한 곳, Redis 잠금).
+ * - 디코딩할 수 없는 원본은 다시 해도 같으므로 영수증 연결을 지운다.
+ */
+@Slf4j
+@Component
+public class DirectUploadProcessor {
+
+    private static final String LOCK_KEY = "upload:direct:process:lock";
+    private static final int BATCH = 20;
+
+    private final Map<UploadPurpose, DirectUploadHandler> handlers = new EnumMap<>(UploadPurpose.class);
+    private final ReceiptImageUploader receiptImageUploader;
+    private final ObjectStorage storage;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public DirectUploadProcessor(List<DirectUploadHandler> handlers,
+                                 ReceiptImageUploader receiptImageUploader,
+                                 ObjectStorage storage,
+                                 StringRedisTemplate stringRedisTemplate) {
+        handlers.forEach(h -> this.handlers.put(h.purpose(), h));
+        this.receiptImageUploader = receiptImageUploader;
+        this.storage = storage;
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Async("receiptImageExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onConfirmed(DirectUploadConfirmedEvent event) {
+        process(event.purpose(), event.key());
+    }
+
+    @Scheduled(fixedDelayString = "${app.upload.direct-process-interval-ms:300000}",
+            initialDelayString = "${app.upload.direct-process-interval-ms:300000}")
+    public void processPending() {
+        try {
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", Duration.ofMinutes(10));
+            if (!Boolean.TRUE.equals(locked)) return;
+        } catch (Exception e) {
+            log.warn(">>> 직접 업로드 변환 잠금 실패, 이번 실행 건너뜀: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            for (DirectUploadHandler handler : handlers.values()) {
+                for (String sourceKey : handler.findUnprocessedKeys(BATCH)) {
+                    process(handler.purpose(), sourceKey);
+                }
+            }
+        } finally {
+            stringRedisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    void process(UploadPurpose purpose, String sourceKey) {
+        DirectUploadHandler handler = handlers.get(purpose);
+        if (handler == null) {
+            log.warn(">>> 직접 업로드 처리기가 없습니다: {}", purpose);
+            return;
+        }
+
+        try {
+            ReceiptImageUploader.StoredImage image =
+                    receiptImageUploader.uploadFromStorage(sourceKey, UploadTicketService.processedKeyBase(sourceKey));
+            if (handler.onProcessed(sourceKey, image)) {
+                storage.delete(sourceKey);
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn(">>> 변환할 수 없는 직접 업로드, 영수증 연결 해제 (key={}): {}", sourceKey, e.getMessage());
+            handler.onRejected(sourceKey);
+            storage.delete(sourceKey);
+        } catch (Exception e) {
+            // 저장소 오류 등은 주기 작업에서 다시 시도
+            log.warn(">>> 직접 업로드 변환 실패 (key={}): {}", sourceKey, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.udong.backend.upload.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.f4b6a3.ulid.UlidCreator;
+import com.udong.backend.global.image.ImageFormat;
+import com.udong.backend.global.s3.ObjectStorage;
+import com.udong.backend.upload.dto.UploadPurpose;
+import com.udong.backend.upload.event.DirectUploadConfirmedEvent;
+import com.udong.backend.upload.dto.UploadTicketRequest;
+import com.udong.backend.upload.dto.UploadTicketResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 저장소 직접 업로드 (2단계)
+ *
+ * 1) issue: 저장 키를 서버가 정하고 presigned PUT URL 과 업로드 티켓을 발급한다.
+ *    티켓(키, 발급 유저, 용도, 형식, 크기)은 Redis 에 짧게 보관한다.
+ * 2) confirm: 티켓으로 키를 찾아 HEAD 로 업로드를, 앞부분 바이트로 실제 형식을 확인한 뒤 한 번만 사용 처리한다.
+ *    클라이언트가 임의의 키/URL 을 연결할 수 없고, 서버는 요청 중에 이미지 바이트를 중계하지 않는다.
+ *    원본은 EXIF(GPS 등)를 그대로 담고 있으므로 URL 을 돌려주지 않는다. 커밋 후 DirectUploadProcessor 가
+ *    멀티파트 업로드와 같은 변환(축소 + 메타데이터 제거 + 썸네일)을 거쳐 URL 을 채운다.
+ *
+ * 티켓은 확인하는 트랜잭션이 커밋된 뒤에 지운다. 확인 중에는 선점 키로 같은 티켓의 동시 확인을 막고,
+ * 롤백되면 선점만 풀어 같은 티켓으로 다시 확인할 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UploadTicketService {
+
+    private static final String KEY_PREFIX = "upload:ticket:";
+    private static final String CLAIM_PREFIX = "upload:ticket:claim:";
+    private static final Duration CLAIM_TTL = Duration.ofMinutes(5); // 확인 트랜잭션보다 충분히 길게
+    private static final int SNIFF_BYTES = 16;
+    private static final Duration URL_TTL = Duration.ofMinutes(5);
+    private static final Duration TICKET_TTL = Duration.ofMinutes(30);
+    private static final long MAX_BYTES = 5L * 1024 * 1024;
+    // 커밋 후 변환(ReceiptImageProcessor)이 디코딩할 수 있는 형식만
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png");
+    private static final Map<String, ImageFormat> FORMATS = Map.of(
+            "image/jpeg", ImageFormat.JPEG,
+            "image/png", ImageFormat.PNG);
+
+    private final ObjectStorage storage;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${S3_PREFIX_DUTCHPAY:dutchpay}")
+    private String dutchpayPrefix;
+
+    @Value("${S3_PREFIX_CLUBFUND:clubfund}")
+    private String clubfundPrefix;
+
+    /** Redis 에 보관하는 티켓 내용 */
+    record Ticket(Integer userId, UploadPurpose purpose, String key, String contentType, long contentLength) {}
+
+    /** 확인된 업로드 (원본 키, 변환 전이므로 URL 은 없다) */
+    public record ConfirmedUpload(String key) {}
+
+    public UploadTicketResponse issue(Integer userId, UploadTicketRequest req) {
+        String extension = EXTENSIONS.get(req.getContentType());
+        if (extension == null) {
+            throw new IllegalArgumentException("이미지 파일(JPEG, PNG)만 업로드 가능합니다.");
+        }
+        if (req.getContentLength() > MAX_BYTES) {
+            throw new IllegalArgumentException("영수증은 최대 5MB까지 가능합니다.");
+        }
+
+        String ulid = UlidCreator.getMonotonicUlid().toString().toLowerCase();
+        String key = "%s/direct/%s.%s".formatted(prefixOf(req.getPurpose()), ulid, extension);
+
+        ObjectStorage.PresignedUpload presigned =
+                storage.presignPut(key, req.getContentType(), req.getContentLength(), URL_TTL);
+
+        Ticket ticket = new Ticket(userId, req.getPurpose(), key, req.getContentType(), req.getContentLength());
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + ulid, write(ticket), TICKET_TTL);
+
+        return UploadTicketResponse.builder()
+                .ticket(ulid)
+                .uploadUrl(presigned.url())
+                .method("PUT")
+                .headers(Map.of("Content-Type", req.getContentType()))
+                .expiresAt(presigned.expiresAt())
+                .build();
+    }
+
+    /**
+     * 티켓 확인 + 업로드 검증 후 한 번만 사용 처리 (티켓 삭제는 커밋 후)
+     * 아직 업로드 전이거나 검증에 실패하면 티켓은 그대로 두므로 업로드 후 다시 확인할 수 있다.
+     * 커밋되면 원본 변환이 시작된다 (DirectUploadConfirmedEvent).
+     */
+    public ConfirmedUpload confirm(String ticketId, Integer userId, UploadPurpose purpose) {
+        if (ticketId == null || ticketId.isBlank()) {
+            throw new IllegalArgumentException("업로드 티켓이 없습니다.");
+        }
+        String redisKey = KEY_PREFIX + ticketId;
+        String claimKey = CLAIM_PREFIX + ticketId;
+
+        // 동시에 두 번 확인해도 한 번만 통과 (선점 후 티켓을 읽으므로 커밋 후 지워진 티켓은 다시 통과하지 못한다)
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(claimKey, userId.toString(), CLAIM_TTL))) {
+            throw new IllegalArgumentException("이미 사용 중이거나 사용된 업로드 티켓입니다.");
+        }
+
+        ConfirmedUpload confirmed;
+        try {
+            confirmed = verify(stringRedisTemplate.opsForValue().get(redisKey), userId, purpose);
+        } catch (RuntimeException e) {
+            stringRedisTemplate.delete(claimKey);
+            throw e;
+        }
+
+        eventPublisher.publishEvent(new DirectUploadConfirmedEvent(purpose, confirmed.key()));
+        afterCompletion(committed -> {
+            if (committed) {
+                stringRedisTemplate.delete(redisKey); // 티켓 먼저 지우고 선점을 푼다
+            }
+            stringRedisTemplate.delete(claimKey);
+        });
+        return confirmed;
+    }
+
+    private ConfirmedUpload verify(String raw, Integer userId, UploadPurpose purpose) {
+        if (raw == null) {
+            throw new IllegalArgumentException("만료되었거나 존재하지 않는 업로드 티켓입니다.");
+        }
+
+        Ticket ticket = read(raw);
+        if (!ticket.userId().equals(userId) || ticket.purpose() != purpose) {
+            throw new IllegalArgumentException("사용할 수 없는 업로드 티켓입니다.");
+        }
+
+        ObjectStorage.StoredObject stored = storage.head(ticket.key())
+                .orElseThrow(() -> new IllegalStateException("업로드된 파일을 찾을 수 없습니다. 업로드 후 다시 시도해주세요."));
+        if (stored.contentLength() != ticket.contentLength()
+                || (stored.contentType() != null && !stored.contentType().equals(ticket.contentType()))) {
+            throw new IllegalArgumentException("업로드된 파일이 요청한 형식/크기와 다릅니다.");
+        }
+
+        // Content-Type 은 클라이언트가 정한 값이므로 실제 바이트로 형식을 한 번 더 확인
+        byte[] head = storage.readHead(ticket.key(), SNIFF_BYTES)
+                .orElseThrow(() -> new IllegalStateException("업로드된 파일을 찾을 수 없습니다. 업로드 후 다시 시도해주세요."));
+        if (ImageFormat.sniff(head, head.length) != FORMATS.get(ticket.contentType())) {
+            throw new IllegalArgumentException("업로드된 파일이 이미지가 아니거나 요청한 형식과 다릅니다.");
+        }
+        return new ConfirmedUpload(ticket.key());
+    }
+
+    /**
+     * 변환본 키 (확장자 제외): {prefix}/direct/{ulid}.png -> {prefix}/receipts/{ulid}
+     */
+    public static String processedKeyBase(String sourceKey) {
+        int dot = sourceKey.lastIndexOf('.');
+        return sourceKey.substring(0, dot > 0 ? dot : sourceKey.length()).replace("/direct/", "/receipts/");
+    }
+
+    private String prefixOf(UploadPurpose purpose) {
+        return switch (purpose) {
+            case DUTCHPAY_RECEIPT -> dutchpayPrefix;
+            case CLUB_FUND_RECEIPT -> clubfundPrefix;
+        };
+    }
+
+    private String write(Ticket ticket) {
+        try {
+            return objectMapper.writeValueAsString(ticket);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("업로드 티켓 저장 실패", e);
+        }
+    }
+
+    private Ticket read(String raw) {
+        try {
+            return objectMapper.readValue(raw, Ticket.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("업로드 티켓 조회 실패", e);
+        }
+    }
+
+    private static void afterCompletion(Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(true);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+}
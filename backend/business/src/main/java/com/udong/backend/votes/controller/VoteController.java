@@ -4,6 +4,7 @@ import com.udong.backend.global.dto.response.ApiResponse;
 import com.udong.backend.global.util.SecurityUtils;
 import com.udong.backend.votes.dto.*;
 import com.udong.backend.votes.service.VoteService;
+import com.udong.backend.votes.service.VoteTallyService;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ import java.util.List;
 public class VoteController {
 
     private final VoteService voteService;
+    private final VoteTallyService voteTallyService;
     private final SecurityUtils securityUtils;
 
     /**
@@ -49,6 +51,22 @@ public class VoteController {
         return ResponseEntity.ok(ApiResponse.ok(vote));
     }
 
+    /**
+     * 투표 집계 결과 조회 (찬성/점수/선호 순위 투표 포함)
+     */
+    @GetMapping("/votes/{voteId}/tally")
+    public ResponseEntity<ApiResponse<VoteTallyResponse>> getVoteTally(
+            @Parameter(description = "투표 ID", required = true)
+            @PathVariable Integer voteId,
+            @Parameter(description = "재집계 검증 여부")
+            @RequestParam(defaultValue = "false") boolean verify) {
+
+        Integer userId = securityUtils.currentUserId();
+        VoteTallyResponse tally = voteTallyService.getTally(voteId, userId, verify);
+
+        return ResponseEntity.ok(ApiResponse.ok(tally));
+    }
+
     /**
      * 투표 생성
      */
@@ -1,5 +1,6 @@
 package com.udong.backend.votes.dto;
 
+import com.udong.backend.votes.entity.VoteTallyMode;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
@@ -30,6 +31,9 @@ public class VoteCreateRequest {
     @NotNull(message = "다중 선택 여부는 필수입니다")
     private Boolean multiSelect;
 
+    // 집계 방식 (미지정 시 WEIGHTED)
+    private VoteTallyMode tallyMode;
+
     @Valid
     @NotEmpty(message = "투표 옵션은 최소 2개 이상이어야 합니다")
     @Size(min = 2, max = 10, message = "투표 옵션은 2개 이상 10개 이하여야 합니다")
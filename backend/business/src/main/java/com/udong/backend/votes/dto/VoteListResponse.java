@@ -16,6 +16,7 @@ public class VoteListResponse {
     private String title;
     private LocalDateTime endsAt;
     private Boolean multiSelect;
+    private String tallyMode; // WEIGHTED / APPROVAL / SCORE / RANKED
     private Boolean isActive;
     private LocalDateTime createdAt;
     private Integer createdBy;
@@ -18,6 +18,7 @@ public class VoteResponse {
     private String description;
     private LocalDateTime endsAt;
     private Boolean multiSelect;
+    private String tallyMode; // WEIGHTED / APPROVAL / SCORE / RANKED
     private Boolean isActive;
     private LocalDateTime createdAt;
     private Integer createdBy;
@@ -0,0 +1,43 @@
+package com.udong.backend.votes.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VoteTallyResponse {
+    private Integer voteId;
+    private String tallyMode; // WEIGHTED / APPROVAL / SCORE / RANKED
+    private Integer ballots; // 집계된 투표지(참여자) 수
+    private Integer winnerOptionId; // 현재 1위 (RANKED는 결선 당선 옵션)
+    private List<OptionTotal> options;
+    private List<RoundResponse> rounds; // RANKED 에서만 사용
+    private Boolean verified; // verify 요청 시 재집계 결과와 일치 여부
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class OptionTotal {
+        private Integer optionId;
+        private Long total; // 방식별 집계값 (RANKED는 1순위 득표 수)
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RoundResponse {
+        private Integer round;
+        private Map<Integer, Long> counts; // 옵션 ID -> 라운드 득표 수
+        private Long exhausted; // 소진된 투표지 수
+        private Integer eliminatedOptionId;
+    }
+}
@@ -4,6 +4,7 @@ import com.udong.backend.chat.entity.ChatRoom;
 import com.udong.backend.clubs.entity.Club;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -35,6 +36,12 @@ public class Vote {
     @Column(nullable = false)
     private boolean multiSelect; // 다중 선택 가능 여부 (true: 다중, false: 단일)
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tally_mode", nullable = false, length = 20)
+    @ColumnDefault("'WEIGHTED'")
+    @Builder.Default
+    private VoteTallyMode tallyMode = VoteTallyMode.WEIGHTED; // 집계 방식
+
     @Column(name = "is_active", nullable = false)
     @Builder.Default
     private boolean isActive = true;
@@ -0,0 +1,14 @@
+package com.udong.backend.votes.entity;
+
+/**
+ * 투표 집계 방식
+ * VoteSelection.optionCount 의 의미가 방식마다 달라진다.
+ */
+public enum VoteTallyMode {
+    WEIGHTED,   // 기존 방식: optionCount = 해당 항목에 넣은 표 수
+    APPROVAL,   // 찬성 투표: optionCount = 1 (찬성한 항목만 선택)
+    SCORE,      // 점수 투표: optionCount = 1 ~ MAX_SCORE 점수
+    RANKED;     // 선호 순위 투표(즉시 결선): optionCount = 순위 (1 = 1순위)
+
+    public static final int MAX_SCORE = 5;
+}
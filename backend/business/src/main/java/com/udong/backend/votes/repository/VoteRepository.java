@@ -41,6 +41,22 @@ public interface VoteRepository extends JpaRepository<Vote, Integer> {
     @Query("SELECT v FROM Vote v LEFT JOIN FETCH v.options WHERE v.id = :voteId")
     Optional<Vote> findByIdWithOptionsForUpdate(@Param("voteId") Integer voteId);
 
+    /**
+     * 투표 참여 응답에 필요한 고정 정보 (락 획득 전에 조회)
+     * 채팅방/생성자 정보는 참여로 바뀌지 않으므로 락 범위 밖에서 한 번에 가져온다.
+     */
+    interface VoteHeaderProjection {
+        Integer getChatRoomId();
+        String getChatRoomName();
+        Integer getClubId();
+        String getCreatedByName();
+    }
+
+    @Query("SELECT cr.id AS chatRoomId, cr.name AS chatRoomName, v.club.id AS clubId, u.name AS createdByName " +
+           "FROM Vote v JOIN v.chatRoom cr LEFT JOIN User u ON u.id = v.createdBy " +
+           "WHERE v.id = :voteId")
+    Optional<VoteHeaderProjection> findHeaderById(@Param("voteId") Integer voteId);
+
     // 특정 사용자가 생성한 투표 목록
     List<Vote> findByCreatedByOrderByCreatedAtDesc(Integer createdBy);
 
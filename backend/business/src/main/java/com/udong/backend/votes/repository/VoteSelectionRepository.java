@@ -30,6 +30,29 @@ public interface VoteSelectionRepository extends JpaRepository<VoteSelection, In
     @Query("SELECT COUNT(DISTINCT vs.userId) FROM VoteSelection vs WHERE vs.vote.id = :voteId")
     Long countDistinctUsersByVoteId(@Param("voteId") Integer voteId);
 
+    // 옵션별 투표 수 집계 (옵션 엔티티 없이 ID와 합계만)
+    interface OptionVoteCountProjection {
+        Integer getOptionId();
+        Long getVoteCount();
+    }
+
+    @Query("SELECT vs.voteOption.id AS optionId, SUM(vs.optionCount) AS voteCount " +
+            "FROM VoteSelection vs WHERE vs.vote.id = :voteId " +
+            "GROUP BY vs.voteOption.id")
+    List<OptionVoteCountProjection> sumOptionCountGroupByOption(@Param("voteId") Integer voteId);
+
+    // 집계 엔진 적재용 투표지 항목 (사용자별로 묶이도록 정렬)
+    interface BallotEntryProjection {
+        Integer getUserId();
+        Integer getOptionId();
+        Integer getOptionCount();
+    }
+
+    @Query("SELECT vs.userId AS userId, vs.voteOption.id AS optionId, vs.optionCount AS optionCount " +
+            "FROM VoteSelection vs WHERE vs.vote.id = :voteId " +
+            "ORDER BY vs.userId, vs.id")
+    List<BallotEntryProjection> findBallotEntriesByVoteId(@Param("voteId") Integer voteId);
+
     // 옵션별 총 투표 수 (optionCount 합계)
     @Query("SELECT SUM(vs.optionCount) FROM VoteSelection vs WHERE vs.voteOption.id = :optionId")
     Long sumOptionCountByOptionId(@Param("optionId") Integer optionId);
@@ -11,13 +11,14 @@ import com.udong.backend.clubs.entity.Club;
 import com.udong.backend.clubs.repository.ClubRepository;
 import com.udong.backend.clubs.service.ClubService;
 import com.udong.backend.shop.dto.UserPointLedgerRequest;
-import com.udong.backend.shop.service.PointService;
+import com.udong.backend.shop.service.PointRewardService;
 import com.udong.backend.users.entity.User;
 import com.udong.backend.users.repository.UserRepository;
 import com.udong.backend.votes.dto.*;
 import com.udong.backend.votes.entity.Vote;
 import com.udong.backend.votes.entity.VoteOption;
 import com.udong.backend.votes.entity.VoteSelection;
+import com.udong.backend.votes.entity.VoteTallyMode;
 import com.udong.backend.votes.repository.VoteOptionRepository;
 import com.udong.backend.votes.repository.VoteRepository;
 import com.udong.backend.votes.repository.VoteSelectionRepository;
@@ -32,6 +33,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -53,7 +55,8 @@ public class VoteService {
     private final NotificationService notificationService;
     private final ChatWebSocketHandler chatWebSocketHandler;
 
-    private final PointService pointService;
+    private final PointRewardService pointRewardService;
+    private final VoteTallyService voteTallyService;
 
     /**
      * 동아리의 투표 목록 조회
@@ -83,6 +86,7 @@ public class VoteService {
                 .title(vote.getTitle())
                 .endsAt(vote.getEndsAt())
                 .multiSelect(vote.isMultiSelect())
+                .tallyMode(vote.getTallyMode().name())
                 .isActive(vote.isActive())
                 .createdAt(vote.getCreatedAt())
                 .createdBy(vote.getCreatedBy())
@@ -159,6 +163,7 @@ public class VoteService {
                 .description(vote.getDescription())
                 .endsAt(vote.getEndsAt())
                 .multiSelect(vote.isMultiSelect())
+                .tallyMode(vote.getTallyMode().name())
                 .isActive(vote.isActive())
                 .createdAt(vote.getCreatedAt())
                 .createdBy(vote.getCreatedBy())
@@ -207,6 +212,7 @@ public class VoteService {
                 .description(request.getDescription())
                 .endsAt(request.getEndsAt())
                 .multiSelect(request.getMultiSelect())
+                .tallyMode(request.getTallyMode() != null ? request.getTallyMode() : VoteTallyMode.WEIGHTED)
                 .chatRoom(chatRoom)
                 .createdBy(currentUserId)
                 .options(new ArrayList<>())
@@ -297,6 +303,7 @@ public class VoteService {
                 .description(savedVote.getDescription())
                 .endsAt(savedVote.getEndsAt())
                 .multiSelect(savedVote.isMultiSelect())
+                .tallyMode(savedVote.getTallyMode().name())
                 .isActive(vote.isActive())
                 .createdAt(savedVote.getCreatedAt())
                 .createdBy(savedVote.getCreatedBy())
@@ -317,14 +324,21 @@ public class VoteService {
 
     /**
      * 투표 참여 - 재투표 불가 버전
+     * 응답은 getVoteDetail 재조회 대신, 트랜잭션이 이미 알고 있는 값(락으로 읽은 투표/옵션, 방금 저장한 선택)과
+     * 현재 집계 카운터(옵션별 합계, 참여자 수)만으로 구성한다.
      */
     @Transactional
     public VoteResponse participateVote(Integer voteId, VoteParticipateRequest request, Integer currentUserId) {
+        // 락 획득 전: 참여로 바뀌지 않는 정보(채팅방/생성자)와 멤버 검증
+        VoteRepository.VoteHeaderProjection header = voteRepository.findHeaderById(voteId)
+                .orElseThrow(() -> new IllegalArgumentException("투표를 찾을 수 없습니다."));
+        validateChatMember(header.getChatRoomId(), currentUserId);
+        Long totalChatMembers = chatMemberRepository.countByChatId(header.getChatRoomId());
+
         // 비관적 락으로 투표 조회 (동시성 제어)
         Vote vote = voteRepository.findByIdWithOptionsForUpdate(voteId)
                 .orElseThrow(() -> new IllegalArgumentException("투표를 찾을 수 없습니다."));
 
-        validateChatMember(vote.getChatRoom().getId(), currentUserId);
         validateVoteParticipation(vote, currentUserId, request);
 
         // 재투표 불가 체크 (비관적 락으로 보호됨)
@@ -350,17 +364,101 @@ public class VoteService {
                 .collect(Collectors.toList());
 
         voteSelectionRepository.saveAll(newSelections);
+        voteTallyService.recordBallot(voteId, request.getSelections().stream()
+                .collect(Collectors.toMap(
+                        VoteParticipateRequest.VoteSelectionRequest::getVoteOptionId,
+                        VoteParticipateRequest.VoteSelectionRequest::getOptionCount,
+                        Integer::sum
+                )));
 
             UserPointLedgerRequest userPointLedgerRequest = UserPointLedgerRequest.builder()
                     .voteId(voteId)
-                    .clubId(vote.getClub().getId())
+                    .clubId(header.getClubId())
                     .codeName("VOTE")
                     .delta(100)
                     .memo("투표 참여 보상")
                     .build();
 
-            pointService.addPoints(currentUserId, userPointLedgerRequest);
-        return getVoteDetail(voteId, currentUserId);
+            // 적립은 보상 대기열에서 비동기로 (투표 트랜잭션에는 한 행 INSERT 만 남는다)
+            pointRewardService.reward(currentUserId, userPointLedgerRequest, "VOTE:" + voteId + ":" + currentUserId);
+
+        // 현재 카운터 (락 안에서 읽으므로 방금 저장한 선택까지 반영됨)
+        Map<Integer, Long> voteCountByOption = voteSelectionRepository.sumOptionCountGroupByOption(voteId).stream()
+                .collect(Collectors.toMap(
+                        VoteSelectionRepository.OptionVoteCountProjection::getOptionId,
+                        VoteSelectionRepository.OptionVoteCountProjection::getVoteCount
+                ));
+        Long totalParticipants = voteSelectionRepository.countDistinctUsersByVoteId(voteId);
+
+        // 내 선택은 방금 저장한 값 그대로 사용
+        Map<Integer, Integer> mySelections = newSelections.stream()
+                .collect(Collectors.toMap(
+                        selection -> selection.getVoteOption().getId(),
+                        VoteSelection::getOptionCount,
+                        Integer::sum
+                ));
+
+        return toParticipatedVoteResponse(vote, header, mySelections, voteCountByOption,
+                totalParticipants, totalChatMembers);
+    }
+
+    private VoteResponse toParticipatedVoteResponse(Vote vote,
+                                                    VoteRepository.VoteHeaderProjection header,
+                                                    Map<Integer, Integer> mySelections,
+                                                    Map<Integer, Long> voteCountByOption,
+                                                    Long totalParticipants,
+                                                    Long totalChatMembers) {
+        long totalVotes = voteCountByOption.values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+
+        Double participationRate = totalChatMembers > 0 ?
+                (totalParticipants * 100.0 / totalChatMembers) : 0.0;
+
+        // 옵션 순서는 getVoteDetail과 동일하게 생성 순
+        List<VoteResponse.VoteOptionResponse> optionResponses = vote.getOptions().stream()
+                .sorted(Comparator.comparing(VoteOption::getCreatedAt).thenComparing(VoteOption::getId))
+                .map(option -> {
+                    Long voteCount = voteCountByOption.getOrDefault(option.getId(), 0L);
+                    Double percentage = totalVotes > 0 ? (voteCount * 100.0 / totalVotes) : 0.0;
+
+                    return VoteResponse.VoteOptionResponse.builder()
+                            .id(option.getId())
+                            .text(option.getText())
+                            .voteCount(voteCount)
+                            .percentage(Math.round(percentage * 10) / 10.0)
+                            .isSelected(mySelections.containsKey(option.getId()))
+                            .myVoteCount(mySelections.getOrDefault(option.getId(), 0))
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        String creatorName = header.getCreatedByName() != null ? header.getCreatedByName() : "알 수 없음";
+
+        return VoteResponse.builder()
+                .id(vote.getId())
+                .title(vote.getTitle())
+                .description(vote.getDescription())
+                .endsAt(vote.getEndsAt())
+                .multiSelect(vote.isMultiSelect())
+                .tallyMode(vote.getTallyMode().name())
+                .isActive(vote.isActive())
+                .createdAt(vote.getCreatedAt())
+                .createdBy(vote.getCreatedBy())
+                .createdByName(creatorName)
+                .chatRoomId(header.getChatRoomId())
+                .chatRoomName(header.getChatRoomName())
+                .clubId(header.getClubId())
+                .isExpired(vote.getEndsAt().isBefore(now))
+                .canParticipate(vote.isActive() && !vote.getEndsAt().isBefore(now))
+                .hasParticipated(true)
+                .totalParticipants(totalParticipants)
+                .totalChatMembers(totalChatMembers)
+                .participationRate(Math.round(participationRate * 10) / 10.0)
+                .totalVotes(totalVotes)
+                .options(optionResponses)
+                .build();
     }
 
 
@@ -382,6 +480,7 @@ public class VoteService {
 
         vote.setActive(false);
         voteRepository.save(vote);
+        voteTallyService.evict(voteId);
 
         return getVoteDetail(voteId, currentUserId);
     }
@@ -400,6 +499,7 @@ public class VoteService {
         }
 
         voteRepository.delete(vote);
+        voteTallyService.evict(voteId);
     }
 
     // === 유틸리티 메서드 ===
@@ -421,11 +521,14 @@ public class VoteService {
             throw new IllegalArgumentException("마감된 투표입니다.");
         }
 
-        // 다중 선택 여부 확인
-        if (!vote.isMultiSelect() && request.getSelections().size() > 1) {
+        // 다중 선택 여부 확인 (WEIGHTED 방식에만 해당)
+        if (vote.getTallyMode() == VoteTallyMode.WEIGHTED
+                && !vote.isMultiSelect() && request.getSelections().size() > 1) {
             throw new IllegalArgumentException("단일 선택 투표에서는 하나의 옵션만 선택할 수 있습니다.");
         }
 
+        validateTallyModeValues(vote.getTallyMode(), request.getSelections());
+
         // 투표 옵션 유효성 검증
         List<Integer> voteOptionIds = vote.getOptions().stream()
                 .map(VoteOption::getId)
@@ -437,4 +540,46 @@ public class VoteService {
             }
         }
     }
+
+    // 집계 방식별 optionCount 값 검증
+    private void validateTallyModeValues(VoteTallyMode mode, List<VoteParticipateRequest.VoteSelectionRequest> selections) {
+        if (mode == VoteTallyMode.WEIGHTED) {
+            return;
+        }
+
+        long distinctOptions = selections.stream()
+                .map(VoteParticipateRequest.VoteSelectionRequest::getVoteOptionId)
+                .distinct()
+                .count();
+        if (distinctOptions != selections.size()) {
+            throw new IllegalArgumentException("같은 옵션을 중복해서 선택할 수 없습니다.");
+        }
+
+        switch (mode) {
+            case APPROVAL -> {
+                if (selections.stream().anyMatch(s -> s.getOptionCount() != 1)) {
+                    throw new IllegalArgumentException("찬성 투표는 옵션마다 1표만 가능합니다.");
+                }
+            }
+            case SCORE -> {
+                if (selections.stream().anyMatch(s -> s.getOptionCount() > VoteTallyMode.MAX_SCORE)) {
+                    throw new IllegalArgumentException("점수는 1점부터 " + VoteTallyMode.MAX_SCORE + "점까지 줄 수 있습니다.");
+                }
+            }
+            case RANKED -> {
+                // 순위는 1부터 선택 수까지 빠짐없이 한 번씩
+                List<Integer> ranks = selections.stream()
+                        .map(VoteParticipateRequest.VoteSelectionRequest::getOptionCount)
+                        .sorted()
+                        .toList();
+                for (int i = 0; i < ranks.size(); i++) {
+                    if (ranks.get(i) != i + 1) {
+                        throw new IllegalArgumentException("순위는 1부터 차례대로 지정해야 합니다.");
+                    }
+                }
+            }
+            default -> {
+            }
+        }
+    }
 }
@@ -0,0 +1,182 @@
+package com.udong.backend.votes.service;
+
+import com.udong.backend.chat.repository.ChatMemberRepository;
+import com.udong.backend.votes.dto.VoteTallyResponse;
+import com.udong.backend.votes.entity.Vote;
+import com.udong.backend.votes.entity.VoteOption;
+import com.udong.backend.votes.repository.VoteOptionRepository;
+import com.udong.backend.votes.repository.VoteRepository;
+import com.udong.backend.votes.repository.VoteSelectionRepository;
+import com.udong.backend.votes.tally.TallyResult;
+import com.udong.backend.votes.tally.VoteTallyEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 투표별 증분 집계 엔진 관리
+ *
+ * 엔진은 노드 메모리에만 있으므로, 조회 시 DB 참여자 수와 엔진의 투표지 수를 비교해
+ * 다르면(다른 노드에서 참여, 재시작 등) DB에서 다시 적재한다.
+ * 진행 중인 투표의 엔진만 보관한다. 마감/비활성화된 투표는 더 이상 투표지가 늘지 않으므로
+ * 조회 때마다 적재해서 쓰고 버리며, 보관 중에 마감된 엔진은 주기적으로 정리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class VoteTallyService {
+
+    private final VoteRepository voteRepository;
+    private final VoteOptionRepository voteOptionRepository;
+    private final VoteSelectionRepository voteSelectionRepository;
+    private final ChatMemberRepository chatMemberRepository;
+
+    private final Map<Integer, CachedEngine> engines = new ConcurrentHashMap<>();
+
+    /** 보관 중인 엔진과 투표 마감 일시 */
+    private record CachedEngine(VoteTallyEngine engine, LocalDateTime endsAt) {}
+
+    /**
+     * 투표 집계 결과 조회
+     * @param verify true 면 처음부터 재집계해서 증분 결과와 비교
+     */
+    public VoteTallyResponse getTally(Integer voteId, Integer currentUserId, boolean verify) {
+        Vote vote = voteRepository.findById(voteId)
+                .orElseThrow(() -> new IllegalArgumentException("투표를 찾을 수 없습니다."));
+
+        if (!chatMemberRepository.existsByChat_IdAndUser_Id(vote.getChatRoom().getId(), currentUserId)) {
+            throw new IllegalArgumentException("채팅방 멤버가 아닙니다.");
+        }
+
+        VoteTallyEngine engine = engineFor(vote);
+        TallyResult result = engine.snapshot();
+
+        Boolean verified = null;
+        if (verify) {
+            verified = engine.verify();
+            if (!verified) {
+                log.warn(">>> 투표 집계 불일치 (voteId={}), 엔진 재적재", voteId);
+                engines.remove(voteId);
+            }
+        }
+
+        return toResponse(voteId, result, verified);
+    }
+
+    /**
+     * 참여 트랜잭션 커밋 후 엔진에 투표지 반영
+     * 엔진이 아직 적재되지 않았으면 다음 조회 때 DB에서 함께 적재된다.
+     */
+    public void recordBallot(Integer voteId, Map<Integer, Integer> valueByOptionId) {
+        Runnable apply = () -> {
+            CachedEngine cached = engines.get(voteId);
+            if (cached != null) {
+                cached.engine().addBallot(valueByOptionId);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /** 투표 삭제/비활성화 시 엔진 제거 */
+    public void evict(Integer voteId) {
+        engines.remove(voteId);
+    }
+
+    /** 보관 중에 마감된 투표의 엔진 정리 */
+    @Scheduled(fixedDelay = 10 * 60 * 1000L)
+    public void evictClosed() {
+        LocalDateTime now = LocalDateTime.now();
+        engines.values().removeIf(cached -> cached.endsAt().isBefore(now));
+    }
+
+    private VoteTallyEngine engineFor(Vote vote) {
+        if (!vote.isActive() || vote.getEndsAt().isBefore(LocalDateTime.now())) {
+            engines.remove(vote.getId());
+            return load(vote);
+        }
+
+        Long participants = voteSelectionRepository.countDistinctUsersByVoteId(vote.getId());
+        CachedEngine cached = engines.get(vote.getId());
+        if (cached == null
+                || cached.engine().mode() != vote.getTallyMode()
+                || cached.engine().ballotCount() != Objects.requireNonNullElse(participants, 0L)) {
+            cached = new CachedEngine(load(vote), vote.getEndsAt());
+            engines.put(vote.getId(), cached);
+        }
+        return cached.engine();
+    }
+
+    private VoteTallyEngine load(Vote vote) {
+        List<Integer> optionIds = voteOptionRepository.findByVoteIdOrderByCreatedAt(vote.getId()).stream()
+                .map(VoteOption::getId)
+                .toList();
+        VoteTallyEngine engine = new VoteTallyEngine(vote.getTallyMode(), optionIds);
+
+        // 사용자 순으로 정렬되어 있으므로 사용자가 바뀔 때마다 투표지 1장
+        Integer currentUser = null;
+        Map<Integer, Integer> ballot = new LinkedHashMap<>();
+        for (VoteSelectionRepository.BallotEntryProjection entry : voteSelectionRepository.findBallotEntriesByVoteId(vote.getId())) {
+            if (currentUser != null && !currentUser.equals(entry.getUserId())) {
+                engine.addBallot(ballot);
+                ballot = new LinkedHashMap<>();
+            }
+            currentUser = entry.getUserId();
+            ballot.merge(entry.getOptionId(), entry.getOptionCount(), Integer::sum);
+        }
+        if (currentUser != null) {
+            engine.addBallot(ballot);
+        }
+        return engine;
+    }
+
+    private VoteTallyResponse toResponse(Integer voteId, TallyResult result, Boolean verified) {
+        List<VoteTallyResponse.OptionTotal> options = result.totals().entrySet().stream()
+                .map(e -> VoteTallyResponse.OptionTotal.builder()
+                        .optionId(e.getKey())
+                        .total(e.getValue())
+                        .build())
+                .collect(Collectors.toList());
+
+        List<VoteTallyResponse.RoundResponse> rounds = result.rounds().stream()
+                .map(round -> VoteTallyResponse.RoundResponse.builder()
+                        .round(round.round())
+                        .counts(round.counts())
+                        .exhausted(round.exhausted())
+                        .eliminatedOptionId(round.eliminatedOptionId())
+                        .build())
+                .collect(Collectors.toList());
+
+        return VoteTallyResponse.builder()
+                .voteId(voteId)
+                .tallyMode(result.mode().name())
+                .ballots(result.ballots())
+                .winnerOptionId(result.winnerOptionId())
+                .options(options)
+                .rounds(rounds)
+                .verified(verified)
+                .build();
+    }
+}
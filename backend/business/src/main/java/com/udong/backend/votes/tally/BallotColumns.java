@@ -0,0 +1,66 @@
+package com.udong.backend.votes.tally;
+
+import java.util.Arrays;
+
+/**
+ * 투표지(ballot)를 컬럼 형태로 보관하는 저장소
+ * 투표지마다 객체를 만들지 않고 (옵션 인덱스, 값) 두 배열에 이어 붙이며,
+ * ballotStart[b] ~ ballotStart[b + 1] 구간이 b번째 투표지의 항목이다.
+ */
+final class BallotColumns {
+
+    private int[] ballotStart = new int[65];
+    private short[] options = new short[256];
+    private int[] values = new int[256];
+    private int ballots;
+    private int entries;
+
+    /**
+     * 투표지 추가 후 투표지 인덱스 반환
+     */
+    int add(short[] optionIdx, int[] vals, int length) {
+        ensureEntryCapacity(entries + length);
+        ensureBallotCapacity(ballots + 2);
+
+        System.arraycopy(optionIdx, 0, options, entries, length);
+        System.arraycopy(vals, 0, values, entries, length);
+        entries += length;
+
+        ballotStart[++ballots] = entries;
+        return ballots - 1;
+    }
+
+    int size() {
+        return ballots;
+    }
+
+    int start(int ballot) {
+        return ballotStart[ballot];
+    }
+
+    int end(int ballot) {
+        return ballotStart[ballot + 1];
+    }
+
+    short option(int entry) {
+        return options[entry];
+    }
+
+    int value(int entry) {
+        return values[entry];
+    }
+
+    private void ensureEntryCapacity(int required) {
+        if (required > options.length) {
+            int newLength = Math.max(required, options.length * 2);
+            options = Arrays.copyOf(options, newLength);
+            values = Arrays.copyOf(values, newLength);
+        }
+    }
+
+    private void ensureBallotCapacity(int required) {
+        if (required > ballotStart.length) {
+            ballotStart = Arrays.copyOf(ballotStart, Math.max(required, ballotStart.length * 2));
+        }
+    }
+}
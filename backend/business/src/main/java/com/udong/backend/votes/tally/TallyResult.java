@@ -0,0 +1,26 @@
+package com.udong.backend.votes.tally;
+
+import com.udong.backend.votes.entity.VoteTallyMode;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 집계 결과 스냅샷
+ * totals: 옵션 ID -> 집계값 (RANKED 는 1순위 득표 수)
+ * rounds: RANKED 에서만 채워지는 라운드별 결과
+ */
+public record TallyResult(
+        VoteTallyMode mode,
+        int ballots,
+        Map<Integer, Long> totals,
+        List<Round> rounds,
+        Integer winnerOptionId
+) {
+    public record Round(
+            int round,
+            Map<Integer, Long> counts,     // 옵션 ID -> 해당 라운드 득표 수
+            long exhausted,                // 남은 선호가 없어 소진된 투표지 수
+            Integer eliminatedOptionId     // 라운드 종료 시 탈락 옵션 (당선/종료 라운드는 null)
+    ) {}
+}
@@ -0,0 +1,295 @@
+package com.udong.backend.votes.tally;
+
+import com.udong.backend.votes.entity.VoteTallyMode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 투표 1건에 대한 증분 집계 엔진
+ *
+ * - WEIGHTED / APPROVAL / SCORE: 옵션별 합계를 투표지 추가 시 바로 누적
+ * - RANKED: 라운드별 득표 수와 탈락 순서를 유지하고, 새 투표지는 각 라운드에 한 표씩만 더한다.
+ *   어떤 라운드의 결정(탈락/당선)이 바뀐 경우에만 그 이후 라운드를 다시 계산하므로
+ *   대부분의 투표지는 O(라운드 수)로 반영된다.
+ *
+ * recount()는 같은 투표지로 처음부터 다시 계산한 결과로, 증분 결과 검증에 사용한다.
+ * 모든 public 메서드는 인스턴스 단위로 동기화된다.
+ */
+public class VoteTallyEngine {
+
+    private static final int ALIVE = Integer.MAX_VALUE;
+    private static final int NO_DECISION = -1; // 유효 투표지가 없어 라운드 진행 불가
+
+    private final VoteTallyMode mode;
+    private final int[] optionIds;                    // 인덱스 -> 옵션 ID (생성 순)
+    private final Map<Integer, Short> indexByOptionId;
+    private final BallotColumns ballots = new BallotColumns();
+
+    // WEIGHTED / APPROVAL / SCORE
+    private final long[] totals;
+
+    // RANKED: counts[n] 은 소진된 투표지 수
+    private final List<long[]> roundCounts = new ArrayList<>();
+    // 결정값: >= 0 탈락 옵션 인덱스, <= -2 당선 (-(d + 2)), NO_DECISION
+    private final List<Integer> decisions = new ArrayList<>();
+    private final int[] eliminatedInRound;            // 옵션 인덱스 -> 탈락 라운드 (ALIVE = 생존)
+
+    public VoteTallyEngine(VoteTallyMode mode, List<Integer> optionIds) {
+        if (optionIds.size() > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("옵션 수가 너무 많습니다.");
+        }
+        this.mode = mode;
+        this.optionIds = optionIds.stream().mapToInt(Integer::intValue).toArray();
+        this.indexByOptionId = new HashMap<>();
+        for (short i = 0; i < this.optionIds.length; i++) {
+            indexByOptionId.put(this.optionIds[i], i);
+        }
+        this.totals = new long[this.optionIds.length];
+        this.eliminatedInRound = new int[this.optionIds.length];
+        Arrays.fill(eliminatedInRound, ALIVE);
+    }
+
+    /**
+     * 투표지 1장 추가
+     * @param valueByOptionId 옵션 ID -> optionCount (방식별 의미는 VoteTallyMode 참고)
+     */
+    public synchronized void addBallot(Map<Integer, Integer> valueByOptionId) {
+        int length = 0;
+        short[] opts = new short[valueByOptionId.size()];
+        int[] vals = new int[valueByOptionId.size()];
+        for (Map.Entry<Integer, Integer> e : valueByOptionId.entrySet()) {
+            Short idx = indexByOptionId.get(e.getKey());
+            if (idx == null || e.getValue() == null) continue; // 삭제된 옵션 등은 무시
+            opts[length] = idx;
+            vals[length] = e.getValue();
+            length++;
+        }
+
+        if (mode == VoteTallyMode.RANKED) {
+            sortByRank(opts, vals, length);
+        }
+
+        int ballot = ballots.add(opts, vals, length);
+
+        if (mode == VoteTallyMode.RANKED) {
+            applyRankedBallot(ballot);
+        } else {
+            for (int i = 0; i < length; i++) {
+                totals[opts[i]] += weight(vals[i]);
+            }
+        }
+    }
+
+    public synchronized int ballotCount() {
+        return ballots.size();
+    }
+
+    public VoteTallyMode mode() {
+        return mode;
+    }
+
+    /**
+     * 현재 증분 상태의 스냅샷
+     */
+    public synchronized TallyResult snapshot() {
+        if (mode != VoteTallyMode.RANKED) {
+            return flatResult(totals);
+        }
+        return rankedResult(roundCounts, decisions);
+    }
+
+    /**
+     * 보관 중인 투표지로 처음부터 다시 집계 (검증용)
+     */
+    public synchronized TallyResult recount() {
+        if (mode != VoteTallyMode.RANKED) {
+            long[] fresh = new long[optionIds.length];
+            for (int b = 0; b < ballots.size(); b++) {
+                for (int i = ballots.start(b); i < ballots.end(b); i++) {
+                    fresh[ballots.option(i)] += weight(ballots.value(i));
+                }
+            }
+            return flatResult(fresh);
+        }
+
+        int[] eliminated = new int[optionIds.length];
+        Arrays.fill(eliminated, ALIVE);
+        List<long[]> counts = new ArrayList<>();
+        List<Integer> decided = new ArrayList<>();
+        if (ballots.size() > 0) {
+            for (int round = 0; ; round++) {
+                long[] c = countRound(round, eliminated);
+                counts.add(c);
+                int d = decide(c, round, eliminated);
+                decided.add(d);
+                if (d < 0) break;
+                eliminated[d] = round;
+            }
+        }
+        return rankedResult(counts, decided);
+    }
+
+    /**
+     * 증분 결과와 재집계 결과가 같은지 확인
+     */
+    public synchronized boolean verify() {
+        return snapshot().equals(recount());
+    }
+
+    // === RANKED (즉시 결선) ===
+
+    private void applyRankedBallot(int ballot) {
+        if (decisions.isEmpty()) {
+            roundCounts.add(countRound(0, eliminatedInRound));
+            rebuildFrom(0);
+            return;
+        }
+
+        for (int round = 0; round < decisions.size(); round++) {
+            long[] counts = roundCounts.get(round);
+            int top = topChoice(ballot, round, eliminatedInRound);
+            counts[top >= 0 ? top : optionIds.length]++;
+
+            if (decide(counts, round, eliminatedInRound) != decisions.get(round)) {
+                // 이 라운드의 결정이 바뀌었으므로 이후 라운드는 다시 계산
+                rebuildFrom(round);
+                return;
+            }
+        }
+    }
+
+    /**
+     * round 의 득표 수는 유효하다고 보고, 그 결정부터 마지막 라운드까지 다시 계산
+     */
+    private void rebuildFrom(int round) {
+        while (roundCounts.size() > round + 1) roundCounts.remove(roundCounts.size() - 1);
+        while (decisions.size() > round) decisions.remove(decisions.size() - 1);
+        for (int i = 0; i < eliminatedInRound.length; i++) {
+            if (eliminatedInRound[i] != ALIVE && eliminatedInRound[i] >= round) {
+                eliminatedInRound[i] = ALIVE;
+            }
+        }
+
+        while (true) {
+            int d = decide(roundCounts.get(round), round, eliminatedInRound);
+            decisions.add(d);
+            if (d < 0) return;
+            eliminatedInRound[d] = round;
+            round++;
+            roundCounts.add(countRound(round, eliminatedInRound));
+        }
+    }
+
+    private long[] countRound(int round, int[] eliminated) {
+        long[] counts = new long[optionIds.length + 1];
+        for (int b = 0; b < ballots.size(); b++) {
+            int top = topChoice(b, round, eliminated);
+            counts[top >= 0 ? top : optionIds.length]++;
+        }
+        return counts;
+    }
+
+    /**
+     * round 시점에 살아있는 옵션 중 투표지의 최상위 선호 (없으면 -1)
+     */
+    private int topChoice(int ballot, int round, int[] eliminated) {
+        for (int i = ballots.start(ballot); i < ballots.end(ballot); i++) {
+            short opt = ballots.option(i);
+            if (eliminated[opt] >= round) return opt;
+        }
+        return -1;
+    }
+
+    /**
+     * 과반 득표자가 있거나 한 명만 남으면 당선, 아니면 최저 득표자 탈락
+     * 동점 처리: 당선은 먼저 생성된 옵션, 탈락은 나중에 생성된 옵션
+     */
+    private int decide(long[] counts, int round, int[] eliminated) {
+        long active = 0;
+        for (int i = 0; i < optionIds.length; i++) active += counts[i];
+        if (active == 0) return NO_DECISION;
+
+        int leader = -1, loser = -1, alive = 0;
+        long leaderCount = -1, loserCount = Long.MAX_VALUE;
+        for (int i = 0; i < optionIds.length; i++) {
+            if (eliminated[i] < round) continue;
+            alive++;
+            if (counts[i] > leaderCount) {
+                leader = i;
+                leaderCount = counts[i];
+            }
+            if (counts[i] <= loserCount) {
+                loser = i;
+                loserCount = counts[i];
+            }
+        }
+
+        if (leaderCount * 2 > active || alive == 1) {
+            return -(leader + 2);
+        }
+        return loser;
+    }
+
+    private static void sortByRank(short[] opts, int[] vals, int length) {
+        // 항목 수가 옵션 수(최대 10) 이하이므로 삽입 정렬
+        for (int i = 1; i < length; i++) {
+            short o = opts[i];
+            int v = vals[i];
+            int j = i - 1;
+            while (j >= 0 && (vals[j] > v || (vals[j] == v && opts[j] > o))) {
+                opts[j + 1] = opts[j];
+                vals[j + 1] = vals[j];
+                j--;
+            }
+            opts[j + 1] = o;
+            vals[j + 1] = v;
+        }
+    }
+
+    // === 결과 변환 ===
+
+    private long weight(int value) {
+        return mode == VoteTallyMode.APPROVAL ? 1L : value;
+    }
+
+    private TallyResult flatResult(long[] sums) {
+        Integer winner = null;
+        long best = 0;
+        for (int i = 0; i < sums.length; i++) {
+            if (sums[i] > best) {
+                best = sums[i];
+                winner = optionIds[i];
+            }
+        }
+        return new TallyResult(mode, ballots.size(), toOptionMap(sums), List.of(), winner);
+    }
+
+    private TallyResult rankedResult(List<long[]> counts, List<Integer> decided) {
+        List<TallyResult.Round> rounds = new ArrayList<>(counts.size());
+        Integer winner = null;
+        for (int r = 0; r < counts.size(); r++) {
+            int d = decided.get(r);
+            if (d <= -2) winner = optionIds[-d - 2];
+            rounds.add(new TallyResult.Round(
+                    r + 1,
+                    toOptionMap(counts.get(r)),
+                    counts.get(r)[optionIds.length],
+                    d >= 0 ? optionIds[d] : null));
+        }
+        long[] firstRound = counts.isEmpty() ? new long[optionIds.length] : counts.get(0);
+        return new TallyResult(mode, ballots.size(), toOptionMap(firstRound), rounds, winner);
+    }
+
+    private Map<Integer, Long> toOptionMap(long[] values) {
+        Map<Integer, Long> map = new LinkedHashMap<>();
+        for (int i = 0; i < optionIds.length; i++) {
+            map.put(optionIds[i], values[i]);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,172 @@
+package com.udong.backend.fin.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.udong.backend.fin.config.FinClientConfig;
+import com.udong.backend.fin.config.FinClientProps;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 서버로 금융 API 공통 호출(타임아웃, 동시 호출 제한, 서킷 브레이커)을 확인한다.
+ */
+class FinHttpClientTest {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> JSON = new ParameterizedTypeReference<>() {};
+
+    private HttpServer server;
+    private SimpleMeterRegistry registry;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/ok", ex -> respond(ex, 200, "{\"result\":\"ok\"}"));
+        server.createContext("/bad", ex -> respond(ex, 400, "{\"responseCode\":\"A1014\"}"));
+        server.createContext("/broken", ex -> respond(ex, 500, "error"));
+        server.createContext("/slow", ex -> {
+            sleep(500);
+            respond(ex, 200, "{}");
+        });
+        server.createContext("/hold", ex -> {
+            entered.countDown();
+            await(release);
+            respond(ex, 200, "{}");
+        });
+        server.start();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void success_returnsBody_andRecordsTimer() {
+        FinHttpClient client = client(props(Map.of(), 5, 10));
+
+        Map<String, Object> res = client.post("/ok", Map.of(), JSON);
+
+        assertThat(res).containsEntry("result", "ok");
+        assertThat(registry.get("fin.api.calls").tag("api", "ok").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void perApiTimeout_appliesToThatApiOnly() {
+        FinHttpClient client = client(props(Map.of("slow", 100L), 5, 10));
+
+        assertThatThrownBy(() -> client.post("/slow", Map.of(), JSON))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(registry.get("fin.api.calls").tag("api", "slow").tag("outcome", "timeout").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void serverErrors_openCircuit_andLaterCallsAreRejectedWithoutHittingServer() {
+        FinHttpClient client = client(props(Map.of(), 5, 4));
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.post("/broken", Map.of(), String.class))
+                    .isInstanceOf(FinApiStatusException.class);
+        }
+        int before = hits.get();
+
+        assertThatThrownBy(() -> client.post("/ok", Map.of(), JSON))
+                .isInstanceOf(FinApiUnavailableException.class);
+        assertThat(hits.get()).isEqualTo(before);
+        assertThat(registry.get("fin.api.rejected").tag("reason", "circuit_open").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void clientErrors_doNotOpenCircuit() {
+        FinHttpClient client = client(props(Map.of(), 5, 4));
+
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> client.post("/bad", Map.of(), String.class))
+                    .isInstanceOfSatisfying(FinApiStatusException.class, e -> assertThat(e.isClientError()).isTrue());
+        }
+
+        assertThat(client.post("/ok", Map.of(), JSON)).containsEntry("result", "ok");
+    }
+
+    @Test
+    void bulkhead_rejectsCallsBeyondLimit() throws Exception {
+        FinHttpClient client = client(props(Map.of(), 1, 10));
+
+        CompletableFuture<Map<String, Object>> inFlight =
+                CompletableFuture.supplyAsync(() -> client.post("/hold", Map.of(), JSON));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> client.post("/ok", Map.of(), JSON))
+                .isInstanceOf(FinApiUnavailableException.class);
+
+        release.countDown();
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(client.post("/ok", Map.of(), JSON)).containsEntry("result", "ok");
+    }
+
+    private FinHttpClient client(FinClientProps props) {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        WebClient webClient = FinClientConfig.build(WebClient.builder(), props, baseUrl);
+        return new FinHttpClient(webClient, props, registry);
+    }
+
+    private static FinClientProps props(Map<String, Long> timeouts, int maxConcurrent, int circuitMinimumCalls) {
+        return new FinClientProps(
+                10, 1000L, 30L, 1000,
+                2000L, timeouts,
+                maxConcurrent, 50L,
+                circuitMinimumCalls, circuitMinimumCalls, 50, 60L);
+    }
+
+    private void respond(HttpExchange ex, int status, String body) throws IOException {
+        hits.incrementAndGet();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().add("Content-Type", "application/json");
+        ex.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
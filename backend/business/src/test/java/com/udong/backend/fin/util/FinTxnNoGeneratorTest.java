@@ -0,0 +1,144 @@
+package com.udong.backend.fin.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FinTxnNoGeneratorTest {
+
+    private static final long T0 = LocalDateTime.of(2025, 9, 30, 23, 59, 59).toEpochSecond(ZoneOffset.ofHours(9));
+
+    @Test
+    void format_isKstTimestampNodeAndSequence() {
+        FinTxnNoGenerator gen = new FinTxnNoGenerator(7, () -> T0);
+
+        assertThat(gen.next()).isEqualTo("20250930235959070000");
+        assertThat(gen.next()).isEqualTo("20250930235959070001");
+    }
+
+    @Test
+    void sequenceOverflow_borrowsNextSecond() {
+        FinTxnNoGenerator gen = new FinTxnNoGenerator(1, () -> T0);
+
+        String last = null;
+        for (int i = 0; i < FinTxnNoGenerator.SEQ_PER_SECOND; i++) {
+            last = gen.next();
+        }
+        assertThat(last).isEqualTo("20250930235959019999");
+        assertThat(gen.next()).isEqualTo("20251001000000010000");
+    }
+
+    @Test
+    void clockGoingBackwards_neverRepeats() {
+        AtomicLong clock = new AtomicLong(T0);
+        FinTxnNoGenerator gen = new FinTxnNoGenerator(1, clock::get);
+
+        String before = gen.next();
+        clock.set(T0 - 5);
+        String after = gen.next();
+
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    void nodeId_mustFitTwoDigits() {
+        assertThatThrownBy(() -> new FinTxnNoGenerator(100)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FinTxnNoGenerator(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /** 여러 노드 x 여러 스레드가 같은 초에 몰려도 20자리 숫자이고 전부 다르다. */
+    @Test
+    void burstAcrossThreadsAndNodes_allUnique() throws Exception {
+        int nodes = 3;
+        int threadsPerNode = 8;
+        int perThread = 20_000;   // 노드당 초당 한도(10,000)를 넘겨 빌려 쓰기까지 포함
+        AtomicLong clock = new AtomicLong(T0);
+
+        List<FinTxnNoGenerator> generators = new ArrayList<>();
+        for (int n = 0; n < nodes; n++) {
+            generators.add(new FinTxnNoGenerator(n, clock::get));
+        }
+
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(nodes * threadsPerNode);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int n = 0; n < nodes; n++) {
+                FinTxnNoGenerator gen = generators.get(n);
+                for (int t = 0; t < threadsPerNode; t++) {
+                    results.add(pool.submit(() -> {
+                        start.await();
+                        String prev = "";
+                        for (int i = 0; i < perThread; i++) {
+                            if (ThreadLocalRandom.current().nextInt(5_000) == 0) {
+                                clock.incrementAndGet();
+                            }
+                            String id = gen.next();
+                            if (id.length() != 20 || !id.chars().allMatch(Character::isDigit)) return false;
+                            if (id.compareTo(prev) <= 0) return false;   // 스레드 안에서는 증가
+                            if (!seen.add(id)) return false;
+                            prev = id;
+                        }
+                        return true;
+                    }));
+                }
+            }
+            start.countDown();
+            for (Future<Boolean> r : results) {
+                assertThat(r.get(30, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(seen).hasSize(nodes * threadsPerNode * perThread);
+    }
+
+    /** 같은 초 안에서 랜덤 6자리 방식은 충돌하지만, 생성기는 한도까지 충돌이 없다. */
+    @Test
+    void singleSecond_upToCapacity_noCollision() {
+        FinTxnNoGenerator gen = new FinTxnNoGenerator(42, () -> T0);
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < FinTxnNoGenerator.SEQ_PER_SECOND; i++) {
+            assertThat(ids.add(gen.next())).isTrue();
+        }
+        assertThat(ids).allMatch(id -> id.startsWith("2025093023595942"));
+    }
+
+    @Test
+    void resolveNodeId_acceptsConfiguredValue() {
+        assertThat(FinTxnNoGenerator.resolveNodeId(" 7 ")).isEqualTo(7);
+        assertThat(FinTxnNoGenerator.resolveNodeId("99")).isEqualTo(99);
+        assertThat(FinTxnNoGenerator.resolveNodeId("")).isBetween(0, 99); // 호스트 이름 기준
+    }
+
+    @Test
+    void resolveNodeId_rejectsInvalidValueWithClearMessage() {
+        assertThatThrownBy(() -> FinTxnNoGenerator.resolveNodeId("node-1"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("FIN_NODE_ID")
+                .hasMessageContaining("node-1");
+        assertThatThrownBy(() -> FinTxnNoGenerator.resolveNodeId("100"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("0~99");
+        assertThatThrownBy(() -> FinTxnNoGenerator.resolveNodeId("-1"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
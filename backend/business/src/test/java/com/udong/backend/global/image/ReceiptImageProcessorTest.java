@@ -0,0 +1,166 @@
+package com.udong.backend.global.image;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 픽스처(src/test/resources/fixtures/receipt)
+ * - orientation-N.jpg: 40x20, 왼쪽 절반 빨강 / 오른쪽 절반 파랑 픽셀에 Orientation=N 인 APP1(Exif)을 붙인 것 (6, 8 은 리틀엔디안)
+ * - garbage-exif.jpg: 같은 픽셀에 IFD 항목 수가 0xFFFF 인 깨진 Exif 세그먼트
+ * - large-300x200.png: 왼쪽 절반 검정 / 오른쪽 절반 투명
+ */
+class ReceiptImageProcessorTest {
+
+    private final ReceiptImageProcessor processor = new ReceiptImageProcessor(new ReceiptImageProps(null, null, null, null));
+
+    @Test
+    void orientation1_keepsPixels() {
+        BufferedImage out = process("orientation-1.jpg");
+
+        assertThat(out.getWidth()).isEqualTo(40);
+        assertThat(out.getHeight()).isEqualTo(20);
+        assertThat(isRed(out.getRGB(10, 10))).isTrue();
+        assertThat(isBlue(out.getRGB(30, 10))).isTrue();
+    }
+
+    @Test
+    void orientation3_rotates180() {
+        BufferedImage out = process("orientation-3.jpg");
+
+        assertThat(out.getWidth()).isEqualTo(40);
+        assertThat(out.getHeight()).isEqualTo(20);
+        assertThat(isBlue(out.getRGB(10, 10))).isTrue();
+        assertThat(isRed(out.getRGB(30, 10))).isTrue();
+    }
+
+    @Test
+    void orientation6_rotatesClockwise() {
+        BufferedImage out = process("orientation-6.jpg");
+
+        assertThat(out.getWidth()).isEqualTo(20);
+        assertThat(out.getHeight()).isEqualTo(40);
+        assertThat(isRed(out.getRGB(10, 10))).isTrue();
+        assertThat(isBlue(out.getRGB(10, 30))).isTrue();
+    }
+
+    @Test
+    void orientation8_rotatesCounterClockwise() {
+        BufferedImage out = process("orientation-8.jpg");
+
+        assertThat(out.getWidth()).isEqualTo(20);
+        assertThat(out.getHeight()).isEqualTo(40);
+        assertThat(isBlue(out.getRGB(10, 10))).isTrue();
+        assertThat(isRed(out.getRGB(10, 30))).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 6, 8})
+    void exifOrientation_readsTag(int orientation) {
+        byte[] bytes = fixture("orientation-" + orientation + ".jpg");
+
+        assertThat(ReceiptImageProcessor.exifOrientation(bytes, bytes.length)).isEqualTo(orientation);
+    }
+
+    @Test
+    void truncatedExif_fallsBackToUpright() {
+        byte[] bytes = fixture("orientation-6.jpg");
+
+        // IFD 항목 중간에서 잘린 앞부분
+        for (int length = 0; length < 34; length++) {
+            assertThat(ReceiptImageProcessor.exifOrientation(bytes, length)).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void garbageExif_fallsBackToUpright() {
+        byte[] bytes = fixture("garbage-exif.jpg");
+        assertThat(ReceiptImageProcessor.exifOrientation(bytes, bytes.length)).isEqualTo(1);
+
+        BufferedImage out = process("garbage-exif.jpg");
+        assertThat(out.getWidth()).isEqualTo(40);
+        assertThat(isRed(out.getRGB(10, 10))).isTrue();
+    }
+
+    @Test
+    void nonImage_isRejected() {
+        assertThatThrownBy(() -> processor.process(new ByteArrayInputStream(fixture("not-an-image.txt"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("지원하지 않는 이미지 형식");
+        assertThatThrownBy(() -> processor.process(new ByteArrayInputStream(new byte[0])))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void tooManyPixels_isRejectedBeforeDecoding() {
+        ReceiptImageProcessor strict = new ReceiptImageProcessor(new ReceiptImageProps(null, null, null, 10_000L));
+
+        assertThatThrownBy(() -> strict.process(new ByteArrayInputStream(fixture("large-300x200.png"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("해상도");
+    }
+
+    @Test
+    void largeImage_isDownscaledAndFlattened() {
+        ReceiptImageProcessor small = new ReceiptImageProcessor(new ReceiptImageProps(100, 50, null, null));
+
+        ReceiptImageProcessor.ProcessedImage result = small.process(new ByteArrayInputStream(fixture("large-300x200.png")));
+        BufferedImage out = read(result.image());
+        BufferedImage thumbnail = read(result.thumbnail());
+
+        assertThat(result.width()).isEqualTo(100);
+        assertThat(result.height()).isEqualTo(67);
+        assertThat(out.getWidth()).isEqualTo(100);
+        assertThat(thumbnail.getWidth()).isEqualTo(50);
+        // 투명 영역은 흰색으로 채워진다
+        assertThat(brightness(out.getRGB(25, 33))).isLessThan(40);
+        assertThat(brightness(out.getRGB(75, 33))).isGreaterThan(215);
+    }
+
+    private BufferedImage process(String name) {
+        ReceiptImageProcessor.ProcessedImage result = processor.process(new ByteArrayInputStream(fixture(name)));
+        BufferedImage out = read(result.image());
+        assertThat(out.getWidth()).isEqualTo(result.width());
+        assertThat(out.getHeight()).isEqualTo(result.height());
+        return out;
+    }
+
+    static byte[] fixture(String name) {
+        try (InputStream in = ReceiptImageProcessorTest.class.getResourceAsStream("/fixtures/receipt/" + name)) {
+            assertThat(in).as(name).isNotNull();
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static BufferedImage read(byte[] jpeg) {
+        try {
+            return ImageIO.read(new ByteArrayInputStream(jpeg));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isRed(int rgb) {
+        return ((rgb >> 16) & 0xFF) > 180 && (rgb & 0xFF) < 80;
+    }
+
+    private static boolean isBlue(int rgb) {
+        return (rgb & 0xFF) > 180 && ((rgb >> 16) & 0xFF) < 80;
+    }
+
+    private static int brightness(int rgb) {
+        return (((rgb >> 16) & 0xFF) + ((rgb >> 8) & 0xFF) + (rgb & 0xFF)) / 3;
+    }
+}
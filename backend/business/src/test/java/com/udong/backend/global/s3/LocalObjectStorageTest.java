@@ -0,0 +1,125 @@
+package com.udong.backend.global.s3;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalObjectStorageTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void put_thenHeadAndRead_roundTrips() throws IOException {
+        LocalObjectStorage storage = new LocalObjectStorage(root.toString(), "http://localhost:8080/files", "test-key");
+        byte[] body = "receipt-bytes".getBytes(StandardCharsets.UTF_8);
+
+        String url = storage.put("receipts/1/a.jpg", "image/jpeg", new ByteArrayInputStream(body), body.length);
+
+        assertThat(url).isEqualTo("http://localhost:8080/files/receipts/1/a.jpg");
+        assertThat(Files.readAllBytes(root.resolve("receipts/1/a.jpg"))).isEqualTo(body);
+        assertThat(storage.head("receipts/1/a.jpg")).hasValueSatisfying(o -> assertThat(o.contentLength()).isEqualTo(body.length));
+        assertThat(storage.head("receipts/1/missing.jpg")).isEmpty();
+    }
+
+    @Test
+    void put_overwritesExistingKey() throws IOException {
+        LocalObjectStorage storage = new LocalObjectStorage(root.toString(), "http://localhost:8080/files", "test-key");
+        storage.put("k.jpg", "image/jpeg", new ByteArrayInputStream(new byte[]{1, 2, 3}), 3);
+
+        storage.put("k.jpg", "image/jpeg", new ByteArrayInputStream(new byte[]{9}), 1);
+
+        assertThat(Files.readAllBytes(root.resolve("k.jpg"))).containsExactly(9);
+    }
+
+    @Test
+    void failedPut_leavesNoPartialFile() throws IOException {
+        LocalObjectStorage storage = new LocalObjectStorage(root.toString(), "http://localhost:8080/files", "test-key");
+        InputStream broken = new InputStream() {
+            private int sent;
+
+            @Override
+            public int read() throws IOException {
+                if (sent++ < 10) return 'x';
+                throw new IOException("끊김");
+            }
+        };
+
+        assertThatThrownBy(() -> storage.put("dir/broken.jpg", "image/jpeg", broken, 100))
+                .isInstanceOf(UncheckedIOException.class);
+
+        try (Stream<Path> files = Files.list(root.resolve("dir"))) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void keyOutsideRoot_isRejected() {
+        LocalObjectStorage storage = new LocalObjectStorage(root.toString(), "http://localhost:8080/files", "test-key");
+
+        assertThatThrownBy(() -> storage.put("../escape.jpg", "image/jpeg", new ByteArrayInputStream(new byte[1]), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.head("a/../../escape.jpg"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void presignedPut_verifiesOnlyTheSignedKeyTypeAndSize() {
+        LocalObjectStorage storage = new LocalObjectStorage(root.toString(), "http://localhost:8080/files", "test-key");
+
+        ObjectStorage.PresignedUpload presigned = storage.presignPut("r/a.png", "image/png", 10, Duration.ofMinutes(5));
+        URI uri = URI.create(presigned.url());
+        long expires = Long.parseLong(query(uri, "expires"));
+        String signature = query(uri, "signature");
+
+        assertThat(uri.getPath()).isEqualTo("/files/r/a.png");
+        assertThat(storage.verifyPut("r/a.png", "image/png", 10, expires, signature)).isTrue();
+        assertThat(storage.verifyPut("r/b.png", "image/png", 10, expires, signature)).isFalse();
+        assertThat(storage.verifyPut("r/a.png", "image/jpeg", 10, expires, signature)).isFalse();
+        assertThat(storage.verifyPut("r/a.png", "image/png", 11, expires, signature)).isFalse();
+        assertThat(storage.verifyPut("r/a.png", "image/png", 10, expires + 60, signature)).isFalse();
+        assertThat(new LocalObjectStorage(root.toString(), "http://localhost:8080/files", "other-key")
+                .verifyPut("r/a.png", "image/png", 10, expires, signature)).isFalse();
+    }
+
+    @Test
+    void expiredPresignedPut_isRejected() {
+        LocalObjectStorage storage = new LocalObjectStorage(root.toString(), "http://localhost:8080/files", "test-key");
+
+        URI uri = URI.create(storage.presignPut("r/a.png", "image/png", 10, Duration.ofSeconds(-5)).url());
+
+        assertThat(storage.verifyPut("r/a.png", "image/png", 10,
+                Long.parseLong(query(uri, "expires")), query(uri, "signature"))).isFalse();
+    }
+
+    @Test
+    void readHead_returnsLeadingBytes() {
+        LocalObjectStorage storage = new LocalObjectStorage(root.toString(), "http://localhost:8080/files", "test-key");
+        storage.put("h.bin", "application/octet-stream", new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 5);
+
+        assertThat(storage.readHead("h.bin", 3)).hasValueSatisfying(b -> assertThat(b).containsExactly(1, 2, 3));
+        assertThat(storage.readHead("h.bin", 16)).hasValueSatisfying(b -> assertThat(b).hasSize(5));
+        assertThat(storage.readHead("none.bin", 3)).isEmpty();
+    }
+
+    private static String query(URI uri, String name) {
+        for (String pair : uri.getRawQuery().split("&")) {
+            String[] kv = pair.split("=", 2);
+            if (kv[0].equals(name)) return kv[1];
+        }
+        throw new AssertionError("no query param " + name);
+    }
+}
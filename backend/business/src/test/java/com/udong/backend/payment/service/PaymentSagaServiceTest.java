@@ -0,0 +1,280 @@
+package com.udong.backend.payment.service;
+
+import com.udong.backend.dutchpay.dto.FinTransferResponse;
+import com.udong.backend.fin.client.FinApiClient;
+import com.udong.backend.fin.client.FinApiStatusException;
+import com.udong.backend.fin.dto.InquireHistoryResponse;
+import com.udong.backend.fin.util.FinHeaderFactory;
+import com.udong.backend.fin.util.FinTxnNoGenerator;
+import com.udong.backend.global.config.AccountCrypto;
+import com.udong.backend.global.exception.TransferException;
+import com.udong.backend.payment.entity.PaymentTransfer;
+import com.udong.backend.payment.repository.PaymentTransferRepository;
+import com.udong.backend.users.entity.User;
+import com.udong.backend.users.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이체 사가 상태 전이: 은행 거절 / 타임아웃 후 복구 / 타임아웃 후 미확정 / 미확정 재확인
+ * 결과를 모르는 이체는 FAILED 가 되지 않아야 한다 (진행 중 잠금이 풀리면 같은 대상으로 다시 출금될 수 있다).
+ */
+class PaymentSagaServiceTest {
+
+    private static final long TRANSFER_ID = 1L;
+    private static final DateTimeFormatter D8 = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter T6 = DateTimeFormatter.ofPattern("HHmmss");
+
+    private final PaymentTransferRepository transferRepository = mock(PaymentTransferRepository.class);
+    private final FinApiClient finApiClient = mock(FinApiClient.class);
+    private final AccountCrypto accountCrypto = mock(AccountCrypto.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PaymentCompletionHandler handler = mock(PaymentCompletionHandler.class);
+
+    private PaymentSagaService saga;
+
+    @BeforeEach
+    void setUp() {
+        when(handler.type()).thenReturn(PaymentTransfer.Type.DUTCHPAY);
+        saga = new PaymentSagaService(transferRepository, List.of(handler), finApiClient,
+                new FinHeaderFactory(new FinTxnNoGenerator(1)), accountCrypto, userRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+        when(transferRepository.findByUserIdAndIdempotencyKey(any(), anyString())).thenReturn(Optional.empty());
+        when(transferRepository.saveAndFlush(any())).thenAnswer(inv -> {
+            PaymentTransfer t = inv.getArgument(0);
+            ReflectionTestUtils.setField(t, "id", TRANSFER_ID);
+            return t;
+        });
+        when(accountCrypto.encrypt(anyString())).thenAnswer(inv -> "enc:" + inv.getArgument(0));
+        when(accountCrypto.decrypt(anyString())).thenAnswer(inv -> ((String) inv.getArgument(0)).substring(4));
+    }
+
+    @Test
+    void bankRejects_marksFailed() {
+        when(finApiClient.post(contains("Transfer"), any(), eq(FinTransferResponse.class)))
+                .thenThrow(new FinApiStatusException(400, "금융 API 오류",
+                        "{\"responseCode\":\"A1014\",\"responseMessage\":\"잔액 부족\"}"));
+
+        assertThatThrownBy(() -> saga.execute(command("k1")))
+                .isInstanceOf(TransferException.class)
+                .hasMessage("계좌 잔액이 부족합니다.");
+
+        verify(transferRepository).fail(TRANSFER_ID, "계좌 잔액이 부족합니다.");
+        verify(transferRepository, never()).complete(anyLong(), any(), any(), any());
+        verify(handler, never()).onCompleted(any());
+    }
+
+    @Test
+    void bankErrorCode_marksFailed() {
+        when(finApiClient.post(contains("Transfer"), any(), eq(FinTransferResponse.class)))
+                .thenReturn(transferResponse("A1003", "계좌번호가 유효하지 않습니다."));
+
+        assertThatThrownBy(() -> saga.execute(command("k1")))
+                .isInstanceOf(TransferException.class)
+                .hasMessageContaining("계좌번호가 유효하지 않습니다.");
+
+        verify(transferRepository).fail(eq(TRANSFER_ID), anyString());
+    }
+
+    @Test
+    void success_returnsBankOutcome() {
+        when(finApiClient.post(contains("Transfer"), any(), eq(FinTransferResponse.class)))
+                .thenReturn(transferResponse("H0000", "정상처리 되었습니다."));
+        when(transferRepository.complete(eq(TRANSFER_ID), any(), eq("H0000"), eq("정상처리 되었습니다."))).thenReturn(1);
+        when(transferRepository.findById(TRANSFER_ID)).thenReturn(Optional.of(stored(PaymentTransfer.Status.COMPLETED, 0)));
+
+        PaymentTransfer result = saga.execute(command("k1"));
+
+        assertThat(result.getStatus()).isEqualTo(PaymentTransfer.Status.COMPLETED);
+        assertThat(result.getResponseCode()).isEqualTo("H0000");
+        verify(handler).onCompleted(any());
+        verify(handler).afterCompleted(any());
+    }
+
+    @Test
+    void timeout_thenRecoveredFromHistory() {
+        when(finApiClient.post(contains("Transfer"), any(), eq(FinTransferResponse.class)))
+                .thenThrow(new RuntimeException(new SocketTimeoutException("Read timed out")));
+
+        assertThatThrownBy(() -> saga.execute(command("k1")))
+                .isInstanceOf(TransferException.class)
+                .hasMessageContaining("확인하고 있습니다");
+        verify(transferRepository, never()).fail(anyLong(), any());
+
+        PaymentTransfer pending = stored(PaymentTransfer.Status.PENDING, 5);
+        givenHistory(withdrawal("B-77", pending.getAmount()));
+        when(transferRepository.complete(eq(TRANSFER_ID), eq("B-77"), isNull(), anyString())).thenReturn(1);
+
+        saga.reconcile(pending, LocalDateTime.now().minusMinutes(30));
+
+        verify(transferRepository).complete(eq(TRANSFER_ID), eq("B-77"), isNull(), anyString());
+        verify(handler).onCompleted(pending);
+        verify(transferRepository, never()).fail(anyLong(), any());
+        verify(transferRepository, never()).markUnknown(anyLong(), any());
+    }
+
+    @Test
+    void timeout_thenGivenUp_keepsLockAsUnknown() {
+        PaymentTransfer pending = stored(PaymentTransfer.Status.PENDING, 40);
+        givenHistory();
+        when(transferRepository.markUnknown(eq(TRANSFER_ID), anyString())).thenReturn(1);
+
+        saga.reconcile(pending, LocalDateTime.now().minusMinutes(30));
+
+        verify(transferRepository).markUnknown(eq(TRANSFER_ID), anyString());
+        verify(transferRepository, never()).fail(anyLong(), any());
+        verify(handler, never()).onCompleted(any());
+    }
+
+    @Test
+    void timeout_beforeGiveUp_staysPending() {
+        PaymentTransfer pending = stored(PaymentTransfer.Status.PENDING, 5);
+        givenHistory();
+
+        saga.reconcile(pending, LocalDateTime.now().minusMinutes(30));
+
+        verify(transferRepository, never()).markUnknown(anyLong(), any());
+        verify(transferRepository, never()).fail(anyLong(), any());
+        verify(transferRepository, never()).complete(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void otherWithdrawalOnHistory_isNotMatched() {
+        PaymentTransfer pending = stored(PaymentTransfer.Status.PENDING, 40);
+        InquireHistoryResponse.RecListItem otherAmount = withdrawal("B-1", pending.getAmount() + 1);
+        InquireHistoryResponse.RecListItem alreadyClaimed = withdrawal("B-2", pending.getAmount());
+        givenHistory(otherAmount, alreadyClaimed);
+        when(transferRepository.existsByUserIdAndBankTxnNo(pending.getUserId(), "B-2")).thenReturn(true);
+        when(transferRepository.markUnknown(eq(TRANSFER_ID), anyString())).thenReturn(1);
+
+        saga.reconcile(pending, LocalDateTime.now().minusMinutes(30));
+
+        verify(transferRepository, never()).complete(anyLong(), any(), any(), any());
+        verify(transferRepository).markUnknown(eq(TRANSFER_ID), anyString());
+    }
+
+    @Test
+    void unknown_laterFoundOnHistory_completes() {
+        PaymentTransfer unknown = stored(PaymentTransfer.Status.UNKNOWN, 90);
+        givenHistory(withdrawal("B-88", unknown.getAmount()));
+        when(transferRepository.complete(eq(TRANSFER_ID), eq("B-88"), isNull(), anyString())).thenReturn(1);
+        LocalDateTime nextCheckAt = LocalDateTime.now().plusMinutes(20);
+
+        saga.recheckUnknown(unknown, nextCheckAt);
+
+        verify(transferRepository).deferUnknown(TRANSFER_ID, nextCheckAt);
+        verify(transferRepository).complete(eq(TRANSFER_ID), eq("B-88"), isNull(), anyString());
+        verify(handler).onCompleted(unknown);
+    }
+
+    @Test
+    void unknown_stillMissing_staysUnknownAndBacksOff() {
+        PaymentTransfer unknown = stored(PaymentTransfer.Status.UNKNOWN, 90);
+        givenHistory();
+        LocalDateTime nextCheckAt = LocalDateTime.now().plusMinutes(20);
+
+        saga.recheckUnknown(unknown, nextCheckAt);
+
+        verify(transferRepository).deferUnknown(TRANSFER_ID, nextCheckAt);
+        verify(transferRepository, never()).complete(anyLong(), any(), any(), any());
+        verify(transferRepository, never()).fail(anyLong(), any());
+        assertThat(PaymentRecoveryJob.recheckDelay(0)).isEqualTo(Duration.ofMinutes(10));
+        assertThat(PaymentRecoveryJob.recheckDelay(2)).isEqualTo(Duration.ofMinutes(40));
+        assertThat(PaymentRecoveryJob.recheckDelay(30)).isEqualTo(Duration.ofHours(6));
+    }
+
+    @Test
+    void replayOfUnknown_doesNotTransferAgain() {
+        when(transferRepository.findByUserIdAndIdempotencyKey(10, "k1"))
+                .thenReturn(Optional.of(stored(PaymentTransfer.Status.UNKNOWN, 40)));
+
+        assertThatThrownBy(() -> saga.execute(command("k1")))
+                .isInstanceOf(TransferException.class)
+                .hasMessageContaining("관리자");
+
+        verify(finApiClient, never()).post(anyString(), any(), any());
+    }
+
+    // --------- helper ---------
+
+    private static PaymentSagaService.TransferCommand command(String idempotencyKey) {
+        return new PaymentSagaService.TransferCommand(
+                PaymentTransfer.Type.DUTCHPAY, 100, 7, 10, idempotencyKey, 5_000L,
+                "user-key", "111", "222", "출금", "입금");
+    }
+
+    private static PaymentTransfer stored(PaymentTransfer.Status status, int minutesAgo) {
+        return PaymentTransfer.builder()
+                .id(TRANSFER_ID)
+                .userId(10)
+                .clubId(7)
+                .type(PaymentTransfer.Type.DUTCHPAY)
+                .targetId(100)
+                .amount(5_000L)
+                .status(status)
+                .idempotencyKey("k1")
+                .institutionTxnNo("20250101000000000000")
+                .activeLock(status == PaymentTransfer.Status.PENDING || status == PaymentTransfer.Status.UNKNOWN ? true : null)
+                .withdrawalAccountCipher("enc:111")
+                .depositAccountCipher("enc:222")
+                .responseCode(status == PaymentTransfer.Status.COMPLETED ? "H0000" : null)
+                .createdAt(LocalDateTime.now().minusMinutes(minutesAgo))
+                .build();
+    }
+
+    private static FinTransferResponse transferResponse(String code, String message) {
+        return FinTransferResponse.builder()
+                .header(FinTransferResponse.Header.builder().responseCode(code).responseMessage(message).build())
+                .rec(List.of(FinTransferResponse.Record.builder().accountNo("111").transactionUniqueNo("B-1").build()))
+                .build();
+    }
+
+    private void givenHistory(InquireHistoryResponse.RecListItem... items) {
+        User user = mock(User.class);
+        when(user.getUserKeyCipher()).thenReturn("enc:user-key");
+        when(userRepository.findById(10)).thenReturn(Optional.of(user));
+
+        InquireHistoryResponse.Rec rec = new InquireHistoryResponse.Rec();
+        rec.setList(List.of(items));
+        InquireHistoryResponse res = new InquireHistoryResponse();
+        res.setRec(rec);
+        when(finApiClient.post(contains("History"), any(), eq(InquireHistoryResponse.class))).thenReturn(res);
+    }
+
+    private static InquireHistoryResponse.RecListItem withdrawal(String txnNo, long amount) {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        InquireHistoryResponse.RecListItem item = new InquireHistoryResponse.RecListItem();
+        item.setTransactionUniqueNo(txnNo);
+        item.setTransactionType("2");
+        item.setTransactionBalance(String.valueOf(amount));
+        item.setTransactionAccountNo("222");
+        item.setTransactionDate(now.format(D8));
+        item.setTransactionTime(now.format(T6));
+        return item;
+    }
+}
@@ -0,0 +1,125 @@
+package com.udong.backend.shop.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.udong.backend.shop.dto.UserPointLedgerRequest;
+import com.udong.backend.support.IntegrationTestSupport;
+
+/**
+ * 동시 적립이 1000 단위를 넘길 때 회장에게 리롤권이 정확히 한 장만 지급되는지,
+ * 지급이 실패하면 달성 기록도 남지 않아 다음에 다시 지급되는지 확인한다.
+ */
+class ClubRerollTicketConcurrencyTest extends IntegrationTestSupport {
+
+    private static final int REROLL_TICKET_ITEM_ID = 3;
+    private static final int START_POINT = 960;
+    private static final int DELTA = 5;
+    private static final int GRANTS = 20; // 960 + 100 = 1060 → 1000 단위 한 번
+
+    private static final Integer USER_ID = 1;
+    private static final Integer LEADER_ID = 2;
+    private static final Integer CLUB_ID = 1;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private ClubRerollTicketService clubRerollTicketService;
+
+    @BeforeEach
+    void setUp() {
+        // 빈 테스트 DB 에 리롤권 아이템을 넣어 둔다
+        jdbcTemplate.update("""
+                INSERT INTO items (id, name, description, price, created_at)
+                VALUES (?, '리롤권', '리롤권', 0, NOW(6))
+                """, REROLL_TICKET_ITEM_ID);
+    }
+
+    @Test
+    void parallelGrantsCrossingMilestone_giveExactlyOneTicket() throws Exception {
+        insertClub();
+        seedClubPoints(START_POINT);
+
+        ExecutorService pool = Executors.newFixedThreadPool(GRANTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < GRANTS; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                pointService.addPoints(USER_ID, UserPointLedgerRequest.builder()
+                        .clubId(CLUB_ID)
+                        .codeName("TEST")
+                        .delta(DELTA)
+                        .memo("동시 적립")
+                        .build());
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertThat(pointService.getClubPoints(CLUB_ID.longValue())).isEqualTo(START_POINT + DELTA * GRANTS);
+        assertThat(ticketsOfLeader()).isEqualTo(1);
+        assertThat(milestone()).isEqualTo(1);
+    }
+
+    @Test
+    void failedGrant_rollsBackMilestoneAndRetriesLater() {
+        seedClubPoints(1000);
+
+        // 동아리 행이 없으면 회장을 찾지 못해 지급 실패 → 달성 기록도 롤백
+        assertThatThrownBy(() -> clubRerollTicketService.checkMilestone(CLUB_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(milestone()).isZero();
+        assertThat(ticketsOfLeader()).isZero();
+
+        // 다음 확인에서 다시 지급
+        insertClub();
+        clubRerollTicketService.checkMilestone(CLUB_ID);
+        clubRerollTicketService.checkMilestone(CLUB_ID);
+
+        assertThat(ticketsOfLeader()).isEqualTo(1);
+        assertThat(milestone()).isEqualTo(1);
+    }
+
+    private void insertClub() {
+        jdbcTemplate.update("""
+                INSERT INTO clubs (id, name, category, code_url, created_at, account_cipher, account_key_ver, leader_user_id)
+                VALUES (?, '리롤권 테스트', '테스트', ?, NOW(6), '', 0, ?)
+                """, CLUB_ID, UUID.randomUUID().toString().substring(0, 10), LEADER_ID);
+    }
+
+    private void seedClubPoints(int point) {
+        jdbcTemplate.update("INSERT INTO club_points_stripes (club_id, stripe, point) VALUES (?, 0, ?)", CLUB_ID, point);
+    }
+
+    private int ticketsOfLeader() {
+        Integer qty = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(qty), 0) FROM inventories WHERE user_id = ? AND club_id = ? AND item_id = ?",
+                Integer.class, LEADER_ID, CLUB_ID, REROLL_TICKET_ITEM_ID);
+        return qty == null ? 0 : qty;
+    }
+
+    private int milestone() {
+        List<Integer> rows = jdbcTemplate.queryForList(
+                "SELECT COALESCE(reroll_milestone, 0) FROM club_points_ledger WHERE club_id = ?", Integer.class, CLUB_ID);
+        return rows.isEmpty() ? 0 : rows.get(0);
+    }
+}
@@ -0,0 +1,157 @@
+package com.udong.backend.shop.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.udong.backend.shop.dto.UserPointLedgerRequest;
+import com.udong.backend.support.IntegrationTestSupport;
+
+/**
+ * 포인트 보상 대기열: 같은 동작의 보상은 한 번만 쌓이고,
+ * (유저, 동아리) 묶음은 잔액 갱신 한 번 + 건별 내역으로 적립되며,
+ * 실패한 묶음은 다시 처리되어도 두 번 적립되지 않는지 확인한다.
+ */
+class PointRewardConsumerTest extends IntegrationTestSupport {
+
+    private static final List<Integer> DELTAS = List.of(3, 5, 7);
+
+    private static final Integer USER_ID = 1;
+    private static final Integer CLUB_ID = 1;
+
+    @Autowired
+    private PointRewardService pointRewardService;
+
+    @Autowired
+    private PointRewardConsumer pointRewardConsumer;
+
+    @MockitoSpyBean
+    private PointService pointService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void duplicateSourceKey_isQueuedAndAppliedOnce() throws Exception {
+        pointRewardService.reward(USER_ID, request(10), "TEST:" + USER_ID + ":1");
+        pointRewardService.reward(USER_ID, request(10), "TEST:" + USER_ID + ":1");
+
+        assertThat(countEvents()).isEqualTo(1);
+
+        drainUntilNoPending();
+
+        assertThat(countLedgers()).isEqualTo(1);
+        assertThat(pointService.getBalance(USER_ID, CLUB_ID)).isEqualTo(10);
+    }
+
+    @Test
+    void group_isAppliedWithOneBalanceUpdateAndLedgerPerEvent() throws Exception {
+        rewardAllInOneTransaction();
+
+        drainUntilNoPending();
+
+        // 묶음 하나가 한 번의 호출(잔액/동아리 포인트 갱신 한 번)로 적립된다
+        verify(pointService, times(1)).addPoints(eq(USER_ID), eq(CLUB_ID),
+                argThat(reqs -> reqs.size() == DELTAS.size()));
+
+        assertAllApplied(0);
+    }
+
+    @Test
+    void failedGroup_isRetriedWithoutDoubleApplying() throws Exception {
+        doThrow(new RuntimeException("테스트 실패")).doCallRealMethod()
+                .when(pointService).addPoints(eq(USER_ID), eq(CLUB_ID), anyList());
+
+        rewardAllInOneTransaction();
+
+        drainUntilNoPending();
+
+        // 첫 시도는 실패로 기록되고 (APPLIED 전환도 함께 롤백) 다음 시도에서 한 번만 적립된다
+        verify(pointService, times(2)).addPoints(eq(USER_ID), eq(CLUB_ID), anyList());
+        assertAllApplied(1);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT last_error FROM point_reward_events WHERE user_id = ? AND club_id = ?",
+                String.class, USER_ID, CLUB_ID)).containsOnly("테스트 실패");
+
+        // 이미 적립된 보상은 다시 돌려도 그대로
+        pointRewardConsumer.drain();
+
+        verify(pointService, times(2)).addPoints(eq(USER_ID), eq(CLUB_ID), anyList());
+        assertAllApplied(1);
+    }
+
+    private void rewardAllInOneTransaction() {
+        // 한 트랜잭션으로 넣어 소비자가 같은 배치에서 함께 읽게 한다
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < DELTAS.size(); i++) {
+                pointRewardService.reward(USER_ID, request(DELTAS.get(i)), "TEST:" + USER_ID + ":" + i);
+            }
+        });
+    }
+
+    private void drainUntilNoPending() throws InterruptedException {
+        // 주기 실행이 잠금을 잡고 있으면 이번 호출은 건너뛰므로 남은 보상이 없을 때까지 반복
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (countPending() > 0 && System.currentTimeMillis() < deadline) {
+            pointRewardConsumer.drain();
+            Thread.sleep(100);
+        }
+        assertThat(countPending()).isZero();
+    }
+
+    private void assertAllApplied(int attempts) {
+        int total = DELTAS.stream().mapToInt(Integer::intValue).sum();
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT status FROM point_reward_events WHERE user_id = ? AND club_id = ?",
+                String.class, USER_ID, CLUB_ID)).hasSize(DELTAS.size()).containsOnly("APPLIED");
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT attempts FROM point_reward_events WHERE user_id = ? AND club_id = ?",
+                Integer.class, USER_ID, CLUB_ID)).containsOnly(attempts);
+
+        // 내역은 건별로, curr_point 는 한 번 갱신한 잔액에서 차례로 이어진다
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT curr_point FROM user_points_ledger WHERE user_id = ? AND club_id = ? ORDER BY id",
+                Integer.class, USER_ID, CLUB_ID)).containsExactly(3, 8, 15);
+        assertThat(pointService.getBalance(USER_ID, CLUB_ID)).isEqualTo(total);
+        assertThat(pointService.getClubPoints(CLUB_ID.longValue())).isEqualTo(total);
+    }
+
+    private UserPointLedgerRequest request(int delta) {
+        return UserPointLedgerRequest.builder()
+                .clubId(CLUB_ID)
+                .codeName("TEST")
+                .delta(delta)
+                .memo("보상 대기열 테스트")
+                .build();
+    }
+
+    private int countEvents() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_reward_events WHERE user_id = ? AND club_id = ?",
+                Integer.class, USER_ID, CLUB_ID);
+    }
+
+    private int countPending() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_reward_events WHERE user_id = ? AND club_id = ? AND status = 'PENDING'",
+                Integer.class, USER_ID, CLUB_ID);
+    }
+
+    private int countLedgers() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_points_ledger WHERE user_id = ? AND club_id = ?",
+                Integer.class, USER_ID, CLUB_ID);
+    }
+}
@@ -0,0 +1,98 @@
+package com.udong.backend.shop.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.udong.backend.shop.dto.UserPointLedgerRequest;
+import com.udong.backend.support.IntegrationTestSupport;
+
+/**
+ * 한 유저/동아리에 적립이 동시에 여러 건 들어올 때
+ * 잔액 행에 모두 더해지고(유실 없음), 내역의 curr_point 가 겹치지 않는지 확인한다.
+ */
+class PointServiceConcurrencyTest extends IntegrationTestSupport {
+
+    private static final int DELTA = 5;
+    private static final int GRANTS = 20;
+
+    private static final Integer USER_ID = 1;
+    private static final Integer CLUB_ID = 1;
+
+    @Autowired
+    private PointService pointService;
+
+    @Test
+    void parallelGrantsWithoutBalanceRow_allLand() throws Exception {
+        // 잔액 행이 없는 상태에서 시작 (첫 적립들이 동시에 잔액 행을 만든다)
+        grantInParallel();
+
+        assertAllGrantsLanded(0);
+    }
+
+    @Test
+    void parallelGrantsOnExistingBalance_allLand() throws Exception {
+        jdbcTemplate.update("""
+                INSERT INTO user_point_balances (user_id, club_id, balance, updated_at)
+                VALUES (?, ?, ?, NOW(6))
+                """, USER_ID, CLUB_ID, 100);
+
+        grantInParallel();
+
+        assertAllGrantsLanded(100);
+    }
+
+    private void grantInParallel() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(GRANTS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < GRANTS; i++) {
+            int n = i;
+            futures.add(pool.submit(() -> {
+                start.await();
+                pointService.addPoints(USER_ID, UserPointLedgerRequest.builder()
+                        .clubId(CLUB_ID)
+                        .codeName("TEST")
+                        .delta(DELTA)
+                        .memo("동시 적립 " + n)
+                        .build());
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+    }
+
+    private void assertAllGrantsLanded(int initial) {
+        int expected = initial + DELTA * GRANTS;
+
+        Integer balance = jdbcTemplate.queryForObject(
+                "SELECT balance FROM user_point_balances WHERE user_id = ? AND club_id = ?",
+                Integer.class, USER_ID, CLUB_ID);
+        assertThat(balance).isEqualTo(expected);
+        assertThat(pointService.getBalance(USER_ID, CLUB_ID)).isEqualTo(expected);
+
+        // 각 적립이 잠긴 잔액 행에서 읽은 값이므로 curr_point 는 한 단계씩 모두 다르다
+        List<Integer> currPoints = jdbcTemplate.queryForList(
+                "SELECT curr_point FROM user_points_ledger WHERE user_id = ? AND club_id = ? ORDER BY curr_point",
+                Integer.class, USER_ID, CLUB_ID);
+        assertThat(currPoints).containsExactlyElementsOf(
+                IntStream.rangeClosed(1, GRANTS).map(i -> initial + DELTA * i).boxed().toList());
+
+        assertThat(pointService.getClubPoints(CLUB_ID.longValue())).isEqualTo(DELTA * GRANTS);
+    }
+}
@@ -0,0 +1,96 @@
+package com.udong.backend.shop.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.udong.backend.support.IntegrationTestSupport;
+
+/**
+ * 한 유저가 같은 아이템을 동시에 여러 번 구매할 때
+ * 잔액만큼만 구매되고, 인벤토리는 한 행에 구매 수량이 모두 쌓이는지 확인한다.
+ */
+class ShopServiceConcurrencyTest extends IntegrationTestSupport {
+
+    private static final int PRICE = 10;
+    private static final int AFFORDABLE = 5;
+    private static final int ATTEMPTS = 20;
+
+    private static final Integer USER_ID = 1;
+    private static final Integer CLUB_ID = 1;
+    // 4번은 동돌이 (인벤토리 대신 마스코트 생성)이므로 겹치지 않는 번호
+    private static final Integer ITEM_ID = 100;
+
+    @Autowired
+    private ShopService shopService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO items (id, name, description, price, created_at)
+                VALUES (?, '동시 구매 테스트', '동시 구매 테스트', ?, NOW(6))
+                """, ITEM_ID, PRICE);
+
+        jdbcTemplate.update("""
+                INSERT INTO user_point_balances (user_id, club_id, balance, updated_at)
+                VALUES (?, ?, ?, NOW(6))
+                """, USER_ID, CLUB_ID, PRICE * AFFORDABLE);
+    }
+
+    @Test
+    void parallelPurchasesNeverOverspendOrLoseQuantity() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(ATTEMPTS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    shopService.purchaseItem(CLUB_ID, USER_ID, ITEM_ID);
+                    succeeded.incrementAndGet();
+                } catch (RuntimeException e) {
+                    assertThat(e).hasMessage("포인트가 부족합니다.");
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertThat(succeeded.get()).isEqualTo(AFFORDABLE);
+        assertThat(rejected.get()).isEqualTo(ATTEMPTS - AFFORDABLE);
+
+        Integer balance = jdbcTemplate.queryForObject(
+                "SELECT balance FROM user_point_balances WHERE user_id = ? AND club_id = ?",
+                Integer.class, USER_ID, CLUB_ID);
+        assertThat(balance).isZero();
+
+        List<Integer> quantities = jdbcTemplate.queryForList(
+                "SELECT qty FROM inventories WHERE user_id = ? AND club_id = ? AND item_id = ?",
+                Integer.class, USER_ID, CLUB_ID, ITEM_ID);
+        assertThat(quantities).containsExactly(AFFORDABLE);
+
+        Integer ledgers = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_points_ledger WHERE user_id = ? AND club_id = ? AND code_name = 'PURCHASE'",
+                Integer.class, USER_ID, CLUB_ID);
+        assertThat(ledgers).isEqualTo(AFFORDABLE);
+    }
+}
@@ -0,0 +1,108 @@
+package com.udong.backend.upload.service;
+
+import com.udong.backend.global.image.ReceiptImageProcessor;
+import com.udong.backend.global.image.ReceiptImageProps;
+import com.udong.backend.global.image.ReceiptImageUploader;
+import com.udong.backend.global.s3.LocalObjectStorage;
+import com.udong.backend.upload.dto.UploadPurpose;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DirectUploadProcessorTest {
+
+    private static final String SOURCE_KEY = "dutchpay/7/direct/abc.png";
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStorage storage;
+    private final DirectUploadHandler handler = mock(DirectUploadHandler.class);
+    private DirectUploadProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalObjectStorage(root.toString(), "http://localhost:8080/files", "test-key");
+        ReceiptImageUploader uploader = new ReceiptImageUploader(
+                new ReceiptImageProcessor(new ReceiptImageProps(null, null, null, null)), storage);
+        when(handler.purpose()).thenReturn(UploadPurpose.DUTCHPAY_RECEIPT);
+        processor = new DirectUploadProcessor(List.of(handler), uploader, storage, mock(StringRedisTemplate.class));
+    }
+
+    @Test
+    void process_storesConvertedImageAndDeletesSource() throws IOException {
+        put(SOURCE_KEY, fixture("large-300x200.png"));
+        when(handler.onProcessed(anyString(), any())).thenReturn(true);
+
+        processor.process(UploadPurpose.DUTCHPAY_RECEIPT, SOURCE_KEY);
+
+        ArgumentCaptor<ReceiptImageUploader.StoredImage> stored = ArgumentCaptor.forClass(ReceiptImageUploader.StoredImage.class);
+        verify(handler).onProcessed(eq(SOURCE_KEY), stored.capture());
+        assertThat(stored.getValue().key()).isEqualTo("dutchpay/7/receipts/abc.jpg");
+        assertThat(stored.getValue().thumbnailKey()).isEqualTo("dutchpay/7/receipts/abc_thumb.jpg");
+        assertThat(storage.head("dutchpay/7/receipts/abc.jpg")).isPresent();
+        assertThat(storage.head("dutchpay/7/receipts/abc_thumb.jpg")).isPresent();
+        assertThat(storage.head(SOURCE_KEY)).isEmpty();
+    }
+
+    @Test
+    void process_keepsSourceWhenRowNoLongerPointsAtIt() throws IOException {
+        put(SOURCE_KEY, fixture("large-300x200.png"));
+        when(handler.onProcessed(anyString(), any())).thenReturn(false);
+
+        processor.process(UploadPurpose.DUTCHPAY_RECEIPT, SOURCE_KEY);
+
+        assertThat(storage.head(SOURCE_KEY)).isPresent();
+    }
+
+    @Test
+    void process_undecodableSource_detachesReceiptAndDeletesSource() throws IOException {
+        put(SOURCE_KEY, fixture("not-an-image.txt"));
+
+        processor.process(UploadPurpose.DUTCHPAY_RECEIPT, SOURCE_KEY);
+
+        verify(handler).onRejected(SOURCE_KEY);
+        verify(handler, never()).onProcessed(anyString(), any());
+        assertThat(storage.head(SOURCE_KEY)).isEmpty();
+    }
+
+    @Test
+    void process_missingSource_leavesRowForRetry() {
+        processor.process(UploadPurpose.DUTCHPAY_RECEIPT, SOURCE_KEY);
+
+        verify(handler, never()).onProcessed(anyString(), any());
+        verify(handler, never()).onRejected(anyString());
+    }
+
+    @Test
+    void processedKeyBase_movesDirectKeyUnderReceipts() {
+        assertThat(UploadTicketService.processedKeyBase("clubfund/3/direct/x.jpeg")).isEqualTo("clubfund/3/receipts/x");
+    }
+
+    private void put(String key, byte[] body) {
+        storage.put(key, "image/png", new ByteArrayInputStream(body), body.length);
+    }
+
+    private static byte[] fixture(String name) throws IOException {
+        try (InputStream in = DirectUploadProcessorTest.class.getResourceAsStream("/fixtures/receipt/" + name)) {
+            return in.readAllBytes();
+        }
+    }
+}
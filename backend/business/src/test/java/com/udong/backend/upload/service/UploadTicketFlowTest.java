@@ -0,0 +1,151 @@
+package com.udong.backend.upload.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.udong.backend.global.s3.ObjectStorage;
+import com.udong.backend.support.IntegrationTestSupport;
+import com.udong.backend.upload.dto.UploadPurpose;
+import com.udong.backend.upload.dto.UploadTicketRequest;
+import com.udong.backend.upload.dto.UploadTicketResponse;
+
+/**
+ * 직접 업로드 전체 흐름: 티켓 발급 → (로컬 저장소) 서명된 URL 로 PUT → 확인
+ * 티켓은 확인한 트랜잭션이 커밋된 뒤에만 사용 처리되는지도 확인한다.
+ */
+@AutoConfigureMockMvc
+class UploadTicketFlowTest extends IntegrationTestSupport {
+
+    private static final Integer USER_ID = 1;
+
+    @Autowired
+    private UploadTicketService uploadTicketService;
+
+    @Autowired
+    private ObjectStorage storage;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private byte[] png;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/fixtures/receipt/large-300x200.png")) {
+            png = in.readAllBytes();
+        }
+    }
+
+    @Test
+    void ticketPutConfirm_linksOnceAfterCommit() throws Exception {
+        UploadTicketResponse ticket = issue("image/png", png.length);
+        upload(ticket, "image/png", png);
+
+        UploadTicketService.ConfirmedUpload confirmed = transactionTemplate.execute(tx ->
+                uploadTicketService.confirm(ticket.getTicket(), USER_ID, UploadPurpose.DUTCHPAY_RECEIPT));
+
+        assertThat(confirmed.key()).startsWith("dutchpay/direct/").endsWith(".png");
+        assertThat(storage.head(confirmed.key())).hasValueSatisfying(o -> assertThat(o.contentLength()).isEqualTo(png.length));
+
+        assertThatThrownBy(() -> uploadTicketService.confirm(ticket.getTicket(), USER_ID, UploadPurpose.DUTCHPAY_RECEIPT))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("만료되었거나 존재하지 않는");
+    }
+
+    @Test
+    void rolledBackConfirm_keepsTicketForRetry() throws Exception {
+        UploadTicketResponse ticket = issue("image/png", png.length);
+        upload(ticket, "image/png", png);
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            uploadTicketService.confirm(ticket.getTicket(), USER_ID, UploadPurpose.DUTCHPAY_RECEIPT);
+            tx.setRollbackOnly(); // 연결 대상 저장 실패 등
+        });
+
+        UploadTicketService.ConfirmedUpload retried = transactionTemplate.execute(tx ->
+                uploadTicketService.confirm(ticket.getTicket(), USER_ID, UploadPurpose.DUTCHPAY_RECEIPT));
+        assertThat(retried).isNotNull();
+    }
+
+    @Test
+    void confirmBeforeUpload_keepsTicket() throws Exception {
+        UploadTicketResponse ticket = issue("image/png", png.length);
+
+        assertThatThrownBy(() -> uploadTicketService.confirm(ticket.getTicket(), USER_ID, UploadPurpose.DUTCHPAY_RECEIPT))
+                .isInstanceOf(IllegalStateException.class);
+
+        upload(ticket, "image/png", png);
+        assertThat(uploadTicketService.confirm(ticket.getTicket(), USER_ID, UploadPurpose.DUTCHPAY_RECEIPT)).isNotNull();
+    }
+
+    @Test
+    void nonImageBytes_areRejectedOnConfirm() throws Exception {
+        byte[] text = "이미지가 아닌 파일".getBytes(StandardCharsets.UTF_8);
+        UploadTicketResponse ticket = issue("image/png", text.length);
+        upload(ticket, "image/png", text);
+
+        assertThatThrownBy(() -> uploadTicketService.confirm(ticket.getTicket(), USER_ID, UploadPurpose.DUTCHPAY_RECEIPT))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("이미지가 아니거나");
+    }
+
+    @Test
+    void putWithDifferentTypeOrSize_isForbidden() throws Exception {
+        UploadTicketResponse ticket = issue("image/png", png.length);
+        URI uri = URI.create(ticket.getUploadUrl());
+
+        mockMvc.perform(put(uri).contentType("image/jpeg").content(png))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put(uri).contentType("image/png").content(new byte[png.length + 1]))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put(URI.create(ticket.getUploadUrl().replaceAll("signature=.{4}", "signature=0000")))
+                        .contentType("image/png").content(png))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void otherUserOrPurpose_cannotConfirm() throws Exception {
+        UploadTicketResponse ticket = issue("image/png", png.length);
+        upload(ticket, "image/png", png);
+
+        assertThatThrownBy(() -> uploadTicketService.confirm(ticket.getTicket(), USER_ID + 1, UploadPurpose.DUTCHPAY_RECEIPT))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> uploadTicketService.confirm(ticket.getTicket(), USER_ID, UploadPurpose.CLUB_FUND_RECEIPT))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 거절된 확인은 티켓을 쓰지 않는다
+        assertThat(uploadTicketService.confirm(ticket.getTicket(), USER_ID, UploadPurpose.DUTCHPAY_RECEIPT)).isNotNull();
+    }
+
+    private UploadTicketResponse issue(String contentType, long contentLength) throws IOException {
+        UploadTicketRequest req = objectMapper.readValue("""
+                {"purpose":"DUTCHPAY_RECEIPT","contentType":"%s","contentLength":%d}
+                """.formatted(contentType, contentLength), UploadTicketRequest.class);
+        return uploadTicketService.issue(USER_ID, req);
+    }
+
+    private void upload(UploadTicketResponse ticket, String contentType, byte[] body) throws Exception {
+        mockMvc.perform(put(URI.create(ticket.getUploadUrl())).contentType(contentType).content(body))
+                .andExpect(status().isOk());
+    }
+}
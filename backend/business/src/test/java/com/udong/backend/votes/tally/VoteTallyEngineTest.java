@@ -0,0 +1,108 @@
+package com.udong.backend.votes.tally;
+
+import com.udong.backend.votes.entity.VoteTallyMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoteTallyEngineTest {
+
+    private static final List<Integer> OPTIONS = List.of(11, 12, 13, 14, 15);
+
+    @ParameterizedTest
+    @EnumSource(VoteTallyMode.class)
+    void incrementalSnapshot_matchesRecountAfterEveryBallot(VoteTallyMode mode) {
+        for (long seed = 1; seed <= 20; seed++) {
+            Random random = new Random(seed);
+            VoteTallyEngine engine = new VoteTallyEngine(mode, OPTIONS);
+
+            for (int i = 0; i < 300; i++) {
+                engine.addBallot(randomBallot(mode, random));
+
+                assertThat(engine.snapshot())
+                        .as("mode=%s seed=%d ballot=%d", mode, seed, i)
+                        .isEqualTo(engine.recount());
+            }
+            assertThat(engine.ballotCount()).isEqualTo(300);
+        }
+    }
+
+    @Test
+    void weighted_sumsVotesAndApproval_countsOnePerBallot() {
+        Map<Integer, Integer> ballot = Map.of(11, 3, 12, 1);
+
+        VoteTallyEngine weighted = new VoteTallyEngine(VoteTallyMode.WEIGHTED, OPTIONS);
+        weighted.addBallot(ballot);
+        weighted.addBallot(Map.of(12, 2));
+        assertThat(weighted.snapshot().totals()).containsEntry(11, 3L).containsEntry(12, 3L);
+        assertThat(weighted.snapshot().winnerOptionId()).isEqualTo(11);
+
+        VoteTallyEngine approval = new VoteTallyEngine(VoteTallyMode.APPROVAL, OPTIONS);
+        approval.addBallot(ballot);
+        approval.addBallot(Map.of(12, 1));
+        assertThat(approval.snapshot().totals()).containsEntry(11, 1L).containsEntry(12, 2L);
+        assertThat(approval.snapshot().winnerOptionId()).isEqualTo(12);
+    }
+
+    @Test
+    void ranked_eliminatesLowestAndTransfersVotes() {
+        VoteTallyEngine engine = new VoteTallyEngine(VoteTallyMode.RANKED, List.of(1, 2, 3));
+        for (int i = 0; i < 3; i++) engine.addBallot(ranking(1));
+        for (int i = 0; i < 2; i++) engine.addBallot(ranking(2, 1));
+        for (int i = 0; i < 2; i++) engine.addBallot(ranking(3, 2));
+
+        TallyResult result = engine.snapshot();
+
+        // 1라운드 3:2:2 과반 없음 → 동점 중 나중 옵션(3) 탈락, 2라운드 2 가 3표를 넘겨받아 4:3 당선
+        assertThat(result.rounds()).hasSize(2);
+        assertThat(result.rounds().get(0).eliminatedOptionId()).isEqualTo(3);
+        assertThat(result.rounds().get(1).counts()).containsEntry(1, 3L).containsEntry(2, 4L);
+        assertThat(result.winnerOptionId()).isEqualTo(2);
+        assertThat(result).isEqualTo(engine.recount());
+    }
+
+    @Test
+    void emptyEngine_hasNoWinner() {
+        for (VoteTallyMode mode : VoteTallyMode.values()) {
+            VoteTallyEngine engine = new VoteTallyEngine(mode, OPTIONS);
+            assertThat(engine.snapshot().winnerOptionId()).isNull();
+            assertThat(engine.snapshot()).isEqualTo(engine.recount());
+        }
+    }
+
+    private static Map<Integer, Integer> randomBallot(VoteTallyMode mode, Random random) {
+        List<Integer> shuffled = new ArrayList<>(OPTIONS);
+        Collections.shuffle(shuffled, random);
+        // 빈 투표지(RANKED 소진)도 섞이도록 0개부터
+        List<Integer> chosen = shuffled.subList(0, random.nextInt(OPTIONS.size() + 1));
+
+        Map<Integer, Integer> ballot = new LinkedHashMap<>();
+        for (int i = 0; i < chosen.size(); i++) {
+            int value = switch (mode) {
+                case WEIGHTED -> 1 + random.nextInt(3);
+                case APPROVAL -> 1;
+                case SCORE -> 1 + random.nextInt(VoteTallyMode.MAX_SCORE);
+                case RANKED -> i + 1;
+            };
+            ballot.put(chosen.get(i), value);
+        }
+        return ballot;
+    }
+
+    private static Map<Integer, Integer> ranking(int... optionIds) {
+        Map<Integer, Integer> ballot = new LinkedHashMap<>();
+        for (int i = 0; i < optionIds.length; i++) {
+            ballot.put(optionIds[i], i + 1);
+        }
+        return ballot;
+    }
+}
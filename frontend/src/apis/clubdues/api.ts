@@ -7,6 +7,7 @@ import type {
   UpdatePaymentStatusResponse,
   CurrentDuesResponse,
   DuesSummaryResponse,
+  DuesOverviewResponse,
   MyUnpaidDuesResponse,
   PayDuesResponse
 } from './response';
@@ -82,6 +83,16 @@ export const ClubDuesApi = {
     return response.data;
   },
 
+  // 6-1. 전체 회차 납부 현황 조회
+  getDuesOverview: async (clubId: number): Promise<DuesOverviewResponse> => {
+    const url = `${BASE_URL}${API_PREFIX}/clubs/${clubId}/clubdues/overview`;
+    const response = await fetchClient<{success: boolean, data: DuesOverviewResponse}>(url, {
+      method: 'GET',
+      auth: true
+    });
+    return response.data;
+  },
+
   // 7. 미납자 알림 전송
   notifyUnpaidMembers: async (clubId: number, duesId: number): Promise<void> => {
     const url = `${BASE_URL}${API_PREFIX}/clubs/${clubId}/clubdues/${duesId}/notify-unpaid`;
@@ -101,11 +112,12 @@ export const ClubDuesApi = {
     return response.data;
   },
 
-  // 9. 회비 결제
-  payDues: async (clubId: number, duesId: number, payload: PayDuesRequest): Promise<PayDuesResponse> => {
+  // 9. 회비 결제 (같은 idempotencyKey 로 재시도하면 서버가 다시 이체하지 않음)
+  payDues: async (clubId: number, duesId: number, payload: PayDuesRequest, idempotencyKey?: string): Promise<PayDuesResponse> => {
     const url = `${BASE_URL}${API_PREFIX}/clubs/${clubId}/clubdues/${duesId}/pay`;
     const response = await fetchClient<{success: boolean, data: PayDuesResponse}>(url, {
       method: 'POST',
+      headers: idempotencyKey ? { 'Idempotency-Key': idempotencyKey } : undefined,
       body: JSON.stringify(payload),
       auth: true
     });
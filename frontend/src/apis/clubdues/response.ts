@@ -63,6 +63,22 @@ export interface DuesSummaryResponse {
   membershipDues: number;
 }
 
+// 전체 회차 납부 현황 응답 타입
+export interface DuesOverviewResponse {
+  totalRounds: number;
+  rounds: DuesOverviewRound[];
+}
+
+export interface DuesOverviewRound {
+  duesId: number;
+  duesNo: number;
+  membershipDues: number;
+  createdAt: string;
+  totalMembers: number;
+  completedCount: number;
+  unpaidCount: number;
+}
+
 // 현재 사용자의 미납 회비 목록 응답 타입
 export interface MyUnpaidDuesResponse {
   unpaidDuesList: MyUnpaidDuesItem[];
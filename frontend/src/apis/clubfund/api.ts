@@ -67,6 +67,16 @@ export const ClubFundApi = {
     return body;
   },
 
+  /**
+   * 거래내역/잔액 지금 다시 받기
+   * POST /v1/clubs/{clubId}/funds/sync
+   */
+  async sync(clubId: number): Promise<BalanceResponse> {
+    const url = withBase(`/clubs/${clubId}/funds/sync`);
+    const raw = await fetchClient<any>(url, { method: 'POST' });
+    return unwrap<BalanceResponse>(raw);
+  },
+
   /**
    * 거래내역 조회
    * POST /v1/clubs/{clubId}/funds/transactions
@@ -99,7 +109,11 @@ export const ClubFundApi = {
       throw new Error('INVALID_RESPONSE_TRANSACTIONS');
     }
 
-    return { transactions };
+    return {
+      transactions,
+      syncedAt: (body as any)?.syncedAt ?? null,
+      stale: (body as any)?.stale ?? false,
+    };
   },
 
   /**
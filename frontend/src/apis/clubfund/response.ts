@@ -58,11 +58,15 @@ export interface TransactionItem {
 /** 거래내역 응답 (ApiResponse<data>) */
 export interface TransactionsResponse {
   transactions: TransactionItem[];
+  syncedAt?: string | null; // 서버 사본을 마지막으로 받은 시각
+  stale?: boolean;          // true 면 서버가 백그라운드로 갱신 중
 }
 
 /** 잔액 응답 (ApiResponse<data>) */
 export interface BalanceResponse {
   balance: number;
+  syncedAt?: string | null;
+  stale?: boolean;
 }
 
 /** 영수증 업로드(멀티파트) 응답 (ApiResponse<data>) */
@@ -4,8 +4,16 @@ import type { ApiResponse, DutchpayDetailResponse, DutchpayListResponse } from "
 
 export const DutchpayApi = {
   /** 내 정산 목록 조회 */
-  getMyDutchpays: async (clubId: number): Promise<DutchpayListResponse[]> => {
-    const url = `${BASE_URL}${API_PREFIX}/dutchpay/${clubId}`;
+  getMyDutchpays: async (
+    clubId: number,
+    params?: { status?: "open" | "completed"; cursor?: number; size?: number }
+  ): Promise<DutchpayListResponse[]> => {
+    const query = new URLSearchParams();
+    if (params?.status) query.append("status", params.status);
+    if (params?.cursor) query.append("cursor", String(params.cursor));
+    if (params?.size) query.append("size", String(params.size));
+    const qs = query.toString();
+    const url = `${BASE_URL}${API_PREFIX}/dutchpay/${clubId}${qs ? `?${qs}` : ""}`;
     const response = await fetchClient<ApiResponse<DutchpayListResponse[]>>(url, {
       method: "GET",
       auth: true,
@@ -22,12 +30,13 @@ export const DutchpayApi = {
     return response.data;
   },
 
-  /** 정산하기 API */
-  pay: async (dutchpayId: number, req: PayRequest): Promise<string> => {
+  /** 정산하기 API (같은 idempotencyKey 로 재시도하면 서버가 다시 이체하지 않음) */
+  pay: async (dutchpayId: number, req: PayRequest, idempotencyKey?: string): Promise<string> => {
     const url = `${BASE_URL}${API_PREFIX}/dutchpay/${dutchpayId}/pay`;
     const response = await fetchClient<ApiResponse<string>>(url, {
       method: "POST",
       auth: true,
+      headers: idempotencyKey ? { "Idempotency-Key": idempotencyKey } : undefined,
       body: JSON.stringify(req),
     });
     return response.data; // 응답이 문자열로 반환됩니다.
@@ -11,9 +11,11 @@ export interface DutchpayListResponse {
   note: string;
   amount: number;
   participantCount: number;
+  paidCount: number;
   eventId: number;
   eventTitle: string;
   isDone: boolean;
+  myPaid: boolean;
 }
 
 // Dutchpay 상세 응답 인터페이스
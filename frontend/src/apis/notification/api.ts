@@ -1,7 +1,8 @@
-import fetchClient from '../fetchClient';
+import fetchClient, { getToken } from '../fetchClient';
 import type {
   NotificationRequest,
   NotificationPageResponse,
+  NotificationPushEvent,
   ApiResponse
 } from './types';
 
@@ -52,12 +53,86 @@ export const NotificationApi = {
     return response.data;
   },
 
+  /**
+   * 알림 실시간 구독 (SSE)
+   * GET /api/v1/me/notifications/stream?clubId={clubId}&token={accessToken}
+   * EventSource 는 헤더를 붙일 수 없어 토큰을 쿼리로 전달한다. 반환값은 구독 해제 함수.
+   *
+   * 연결이 끊기면 EventSource 의 자동 재연결(이전 토큰 URL 그대로)을 쓰지 않고 직접 다시 연결한다.
+   * 재연결 전에 미읽음 개수를 일반 API 로 조회하는데, 토큰이 만료됐으면 이 요청에서 갱신되고
+   * 끊긴 동안의 배지 값도 맞춰진다. 실패하면 간격을 늘려 가며(최대 60초) 반복한다.
+   */
+  subscribe: (
+    clubId: number,
+    handlers: {
+      onNotification?: (event: NotificationPushEvent) => void;
+      onUnreadCount?: (event: NotificationPushEvent) => void;
+    }
+  ): (() => void) => {
+    let source: EventSource | null = null;
+    let retryTimer: ReturnType<typeof setTimeout> | null = null;
+    let retryDelay = 1000;
+    let closed = false;
+
+    const open = () => {
+      const token = getToken();
+      const url = `${BASE_URL}${API_PREFIX}/me/notifications/stream?clubId=${clubId}${
+        token ? `&token=${encodeURIComponent(token)}` : ''
+      }`;
+      source = new EventSource(url);
+
+      source.addEventListener('open', () => {
+        retryDelay = 1000;
+      });
+      source.addEventListener('notification', (e) => {
+        handlers.onNotification?.(JSON.parse((e as MessageEvent).data));
+      });
+      source.addEventListener('unread-count', (e) => {
+        handlers.onUnreadCount?.(JSON.parse((e as MessageEvent).data));
+      });
+      source.addEventListener('error', () => {
+        source?.close();
+        source = null;
+        scheduleReconnect();
+      });
+    };
+
+    const scheduleReconnect = () => {
+      if (closed || retryTimer) return;
+      const delay = retryDelay;
+      retryDelay = Math.min(retryDelay * 2, 60000); // 연결되면 'open' 에서 초기화
+      retryTimer = setTimeout(async () => {
+        retryTimer = null;
+        try {
+          // 토큰 갱신 + 끊긴 동안의 미읽음 개수 반영
+          const unreadCount = await NotificationApi.getUnreadNotificationCount(clubId);
+          if (closed) return;
+          handlers.onUnreadCount?.({ clubId, unreadCount });
+          open();
+        } catch (error) {
+          if (closed) return;
+          console.warn('알림 스트림 재연결 실패, 다시 시도합니다:', error);
+          scheduleReconnect();
+        }
+      }, delay);
+    };
+
+    open();
+
+    return () => {
+      closed = true;
+      if (retryTimer) clearTimeout(retryTimer);
+      source?.close();
+    };
+  },
+
   /**
    * 알림 읽음 표시
    * PUT /api/v1/me/notifications/{notificationId}
+   * PUT /api/v1/me/notifications/broadcasts/{notificationId} (동아리 전체 알림)
    */
-  markAsRead: async (notificationDeliveryId: number): Promise<string> => {
-    const url = `${BASE_URL}${API_PREFIX}/me/notifications/${notificationDeliveryId}`;
+  markAsRead: async (id: number, broadcast = false): Promise<string> => {
+    const url = `${BASE_URL}${API_PREFIX}/me/notifications/${broadcast ? 'broadcasts/' : ''}${id}`;
     const response = await fetchClient<ApiResponse<string>>(url, {
       method: 'PUT',
       auth: true
@@ -81,9 +156,10 @@ export const NotificationApi = {
   /**
    * 단일 알림 삭제
    * DELETE /api/v1/me/notifications/{notificationId}
+   * DELETE /api/v1/me/notifications/broadcasts/{notificationId} (동아리 전체 알림)
    */
-  deleteNotification: async (notificationDeliveryId: number): Promise<string> => {
-    const url = `${BASE_URL}${API_PREFIX}/me/notifications/${notificationDeliveryId}`;
+  deleteNotification: async (id: number, broadcast = false): Promise<string> => {
+    const url = `${BASE_URL}${API_PREFIX}/me/notifications/${broadcast ? 'broadcasts/' : ''}${id}`;
     const response = await fetchClient<ApiResponse<string>>(url, {
       method: 'DELETE',
       auth: true
@@ -3,5 +3,6 @@ export type {
   NotificationResponse,
   NotificationRequest,
   NotificationPageResponse,
+  NotificationPushEvent,
   ApiResponse
 } from './types';
\ No newline at end of file
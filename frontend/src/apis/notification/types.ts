@@ -1,13 +1,24 @@
 // 백엔드 NotificationResponse DTO와 매핑
 export interface NotificationResponse {
-  notificationDeliveryId: number; // 읽음 처리를 위한 delivery ID
+  notificationDeliveryId: number | null; // 읽음 처리를 위한 delivery ID (브로드캐스트는 null)
+  notificationId: number;
+  broadcast: boolean;             // 동아리 전체 알림 (notificationId 로 읽음/삭제)
   payload: string;                // 알림 내용
   type: string;                   // 알림 타입
   targetId: number;               // 클릭 시 이동할 대상 ID
   hasRead: boolean;               // 읽음 여부
+  digestCount: number;            // 묶인 알림 수 (2 이상이면 payload 는 최신 알림)
   createdAt: string;              // ISO 문자열 형태
 }
 
+// SSE 푸시 이벤트 데이터 (GET /me/notifications/stream)
+export interface NotificationPushEvent {
+  clubId: number | null;                // null 이면 전체 동아리 대상
+  notification?: Omit<NotificationResponse, 'notificationDeliveryId'>; // 새 알림 (notification 이벤트)
+  unreadDelta?: number;                 // 미읽음 개수 변화량
+  unreadCount?: number;                 // 미읽음 개수 절대값
+}
+
 // 백엔드 NotificationRequest DTO와 매핑
 export interface NotificationRequest {
   payload: string;
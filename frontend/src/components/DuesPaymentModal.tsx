@@ -1,4 +1,4 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import type { MyUnpaidDuesItem } from '../apis/clubdues/response';
 import { UserApi } from '../apis/user/api';
 import { ClubDuesApi } from '../apis/clubdues/api';
@@ -61,6 +61,15 @@ const DuesPaymentModal: React.FC<DuesPaymentModalProps> = ({
     setFeedbackOpen(true);
   };
 
+  // 모달을 열 때마다 새 결제 키 (실패 후 재시도는 같은 키로 보내 중복 이체를 막는다)
+  const idempotencyKeyRef = useRef<string>('');
+
+  useEffect(() => {
+    if (isOpen) {
+      idempotencyKeyRef.current = crypto.randomUUID();
+    }
+  }, [isOpen]);
+
   useEffect(() => {
     if (isOpen && clubId) {
       // 계좌 정보와 인벤토리 정보를 병렬로 조회
@@ -125,7 +134,7 @@ const DuesPaymentModal: React.FC<DuesPaymentModalProps> = ({
         paymentPassword: paymentPassword
       };
 
-      const result = await ClubDuesApi.payDues(clubId, duesInfo.duesId, paymentRequest);
+      const result = await ClubDuesApi.payDues(clubId, duesInfo.duesId, paymentRequest, idempotencyKeyRef.current);
 
       showFeedback(
         '결제 완료',
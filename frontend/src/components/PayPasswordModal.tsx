@@ -1,4 +1,4 @@
-import React, { useState, useEffect } from "react";
+import React, { useState, useEffect, useRef } from "react";
 import { UserApi } from "../apis/user/api";
 import AccountChangeModal from "./AccountChangeModal";
 import type { DutchpayDetailResponse } from "../pages/Settlement";
@@ -29,9 +29,12 @@ const PayPasswordModal: React.FC<PayPasswordModalProps> = ({
     useState(false);
   const [paymentPassword, setPaymentPassword] = useState("");
   const [showPasswordInput, setShowPasswordInput] = useState(false);
+  // 모달을 열 때마다 새 결제 키 (실패 후 재시도는 같은 키로 보내 중복 이체를 막는다)
+  const idempotencyKeyRef = useRef<string>("");
 
   useEffect(() => {
     if (isOpen) {
+      idempotencyKeyRef.current = crypto.randomUUID();
       // 계좌 정보와 인벤토리 정보를 병렬로 조회
       Promise.all([UserApi.getMyAccount()])
         .then(([accountData]) => {
@@ -73,7 +76,7 @@ const PayPasswordModal: React.FC<PayPasswordModalProps> = ({
       console.log(payRequest);
 
       // 3. '정산하기' API 호출
-      await DutchpayApi.pay(settlementId, payRequest); // API 호출
+      await DutchpayApi.pay(settlementId, payRequest, idempotencyKeyRef.current); // API 호출
 
       alert("정상적으로 처리되었습니다."); // 알림
       onConfirm(); // 부모 컴포넌트의 후속 작업 호출 (모달 닫기 및 UI 업데이트)
@@ -24,17 +24,6 @@ const Sidebar: React.FC<SidebarProps> = ({
   const [isLoading, setIsLoading] = useState(false);
   const [unreadCount, setUnreadCount] = useState(0);
 
-  // 미읽음 알림 개수 가져오기
-  const loadUnreadCount = async () => {
-    if (!clubId) return;
-    try {
-      const count = await NotificationApi.getUnreadNotificationCount(clubId);
-      setUnreadCount(count);
-    } catch (error) {
-      console.error('미읽음 개수 로드 실패:', error);
-    }
-  };
-
   // 동아리 정보와 마스코트 정보 가져오기
   useEffect(() => {
     if (!clubId) return;
@@ -43,7 +32,7 @@ const Sidebar: React.FC<SidebarProps> = ({
       try {
         setIsLoading(true);
 
-        // 동아리 정보, 마스코트 정보, 미읽음 개수를 병렬로 가져오기
+        // 동아리 정보, 마스코트 정보를 병렬로 가져오기 (미읽음 개수는 SSE 로 수신)
         const [clubData, mascotData] = await Promise.all([
           ClubApi.getClubDetails(clubId),
           ClubApi.getActiveMascot(clubId)
@@ -51,9 +40,6 @@ const Sidebar: React.FC<SidebarProps> = ({
 
         setClubInfo(clubData);
         setMascotInfo(mascotData);
-
-        // 미읽음 개수도 로드
-        await loadUnreadCount();
       } catch (error) {
         console.error('Failed to fetch club data:', error);
       } finally {
@@ -63,6 +49,25 @@ const Sidebar: React.FC<SidebarProps> = ({
 
     fetchClubData();
   }, [clubId]);
+
+  // 미읽음 개수 실시간 반영 (SSE) - 연결 시 초기값, 이후 변화량 수신
+  useEffect(() => {
+    if (!clubId) return;
+
+    const applyUnread = (event: { clubId: number | null; unreadDelta?: number; unreadCount?: number }) => {
+      if (event.clubId !== null && event.clubId !== clubId) return;
+      if (event.unreadCount !== undefined) {
+        setUnreadCount(event.unreadCount);
+      } else if (event.unreadDelta !== undefined) {
+        setUnreadCount((prev) => Math.max(0, prev + event.unreadDelta!));
+      }
+    };
+
+    return NotificationApi.subscribe(clubId, {
+      onNotification: applyUnread,
+      onUnreadCount: applyUnread,
+    });
+  }, [clubId]);
   return (
     <div className="w-20 bg-white shadow-lg min-h-screen">
       <div className="flex flex-col items-center py-4 space-y-4 h-screen overflow-y-auto sidebar-scrollbar">
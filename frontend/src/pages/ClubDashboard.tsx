@@ -101,7 +101,7 @@ const ClubDashboard: React.FC<ClubDashboardProps> = ({
 
         // 정산 목록 정보는 별도로 가져오기 (실패해도 다른 데이터에 영향 없음)
         try {
-          const dutchpayData = await DutchpayApi.getMyDutchpays(clubId);
+          const dutchpayData = await DutchpayApi.getMyDutchpays(clubId, { status: 'open' });
           // 진행 중인 정산만 필터링하고 중복 제거
           const ongoingDutchpays = (dutchpayData || [])
             .filter(dutchpay => !dutchpay.isDone)
@@ -22,6 +22,7 @@ interface NotificationProps {
 // 백엔드 타입을 프론트엔드 UI용으로 변환하는 헬퍼 타입
 interface UINotification {
   id: number;
+  broadcast: boolean; // 동아리 전체 알림이면 id 는 notificationId
   type: "dues" | "dutchpay" | "event" | "vote";
   title: string;
   message: string;
@@ -73,10 +74,14 @@ const transformNotification = (
   const typeInfo = getTypeInfo(notification.type);
 
   return {
-    id: notification.notificationDeliveryId,
+    id: notification.notificationDeliveryId ?? notification.notificationId,
+    broadcast: notification.broadcast,
     type: typeInfo.uiType,
     title: typeInfo.title,
-    message: notification.payload,
+    message:
+      notification.digestCount > 1
+        ? `${notification.payload} 외 ${notification.digestCount - 1}건`
+        : notification.payload,
     timestamp: notification.createdAt,
     isRead: notification.hasRead,
     priority: typeInfo.priority,
@@ -192,11 +197,13 @@ const Notification: React.FC<NotificationProps> = () => {
     }
   }, [clubId]);
 
-  const markAsRead = async (id: number) => {
+  const markAsRead = async (id: number, broadcast: boolean) => {
     try {
-      await NotificationApi.markAsRead(id);
+      await NotificationApi.markAsRead(id, broadcast);
       setNotifications((prev) =>
-        prev.map((n) => (n.id === id ? { ...n, isRead: true } : n))
+        prev.map((n) =>
+          n.id === id && n.broadcast === broadcast ? { ...n, isRead: true } : n
+        )
       );
       // 읽음 처리 후 미읽음 개수 업데이트
       await loadUnreadCount();
@@ -219,10 +226,12 @@ const Notification: React.FC<NotificationProps> = () => {
     }
   };
 
-  const deleteNotification = async (id: number) => {
+  const deleteNotification = async (id: number, broadcast: boolean) => {
     try {
-      await NotificationApi.deleteNotification(id);
-      setNotifications((prev) => prev.filter((n) => n.id !== id));
+      await NotificationApi.deleteNotification(id, broadcast);
+      setNotifications((prev) =>
+        prev.filter((n) => !(n.id === id && n.broadcast === broadcast))
+      );
       // 삭제 후 미읽음 개수 업데이트 (미읽음 알림이 삭제될 수 있으므로)
       await loadUnreadCount();
     } catch (err) {
@@ -444,7 +453,7 @@ const Notification: React.FC<NotificationProps> = () => {
               )}
               {filteredNotifications.map((notification) => (
                 <div
-                  key={notification.id}
+                  key={`${notification.broadcast ? "b" : "d"}-${notification.id}`}
                   className={`flex items-start gap-4 p-6 rounded-2xl bg-white shadow-lg hover:shadow-xl transition-all duration-200 border-l-4 border border-orange-100 hover:border-orange-200 ${
                     !notification.isRead
                       ? "border-l-orange-500"
@@ -495,14 +504,18 @@ const Notification: React.FC<NotificationProps> = () => {
                   <div className="flex flex-col gap-2">
                     {!notification.isRead && (
                       <button
-                        onClick={() => markAsRead(notification.id)}
+                        onClick={() =>
+                          markAsRead(notification.id, notification.broadcast)
+                        }
                         className="px-3 py-1 text-sm text-orange-700 transition-all duration-200 border border-orange-200 shadow-sm hover:bg-orange-50 rounded-xl font-jua hover:border-orange-300 hover:shadow-md"
                       >
                         읽음 처리
                       </button>
                     )}
                     <button
-                      onClick={() => deleteNotification(notification.id)}
+                      onClick={() =>
+                        deleteNotification(notification.id, notification.broadcast)
+                      }
                       className="px-3 py-1 text-sm text-gray-400 transition-all duration-200 border border-gray-200 shadow-sm hover:bg-gray-50 rounded-xl font-jua hover:border-gray-300 hover:shadow-md hover:text-red-500"
                     >
                       삭제